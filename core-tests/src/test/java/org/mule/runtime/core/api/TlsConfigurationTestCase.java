@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -31,6 +32,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocket;
@@ -38,7 +42,10 @@ import javax.net.ssl.SSLServerSocketFactory;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class TlsConfigurationTestCase extends AbstractMuleTestCase {
 
@@ -46,6 +53,9 @@ public class TlsConfigurationTestCase extends AbstractMuleTestCase {
   private static final String SUPPORTED_PROTOCOL = "TLSv1.1";
   private static final String TEST_SECURITY_MODEL = "test";
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void testEmptyConfiguration() throws Exception {
     TlsConfiguration configuration = new TlsConfiguration(DEFAULT_KEYSTORE);
@@ -222,6 +232,108 @@ public class TlsConfigurationTestCase extends AbstractMuleTestCase {
     }
   }
 
+  @Test
+  public void sslContextShared() throws Exception {
+    TlsConfiguration tlsConfiguration = new TlsConfiguration(DEFAULT_KEYSTORE);
+    tlsConfiguration.initialise(true, JSSE_NAMESPACE);
+
+    assertThat(tlsConfiguration.getSslContext(), is(sameInstance(tlsConfiguration.getSslContext())));
+  }
+
+  @Test
+  public void sessionCacheSettings() throws Exception {
+    TlsConfiguration tlsConfiguration = new TlsConfiguration(DEFAULT_KEYSTORE);
+    tlsConfiguration.setClientSessionCacheSize(10);
+    tlsConfiguration.setClientSessionTimeout(60);
+    tlsConfiguration.setServerSessionCacheSize(20);
+    tlsConfiguration.setServerSessionTimeout(120);
+    tlsConfiguration.initialise(true, JSSE_NAMESPACE);
+
+    SSLContext sslContext = tlsConfiguration.getSslContext();
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(10));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(60));
+    assertThat(sslContext.getServerSessionContext().getSessionCacheSize(), is(20));
+    assertThat(sslContext.getServerSessionContext().getSessionTimeout(), is(120));
+  }
+
+  @Test
+  public void sessionSettingsInEquality() throws Exception {
+    TlsConfiguration tlsConfiguration = new TlsConfiguration(DEFAULT_KEYSTORE);
+    TlsConfiguration other = new TlsConfiguration(DEFAULT_KEYSTORE);
+    assertThat(tlsConfiguration, is(other));
+    assertThat(tlsConfiguration.hashCode(), is(other.hashCode()));
+
+    other.setClientSessionCacheSize(10);
+    assertThat(tlsConfiguration, is(not(other)));
+    other = new TlsConfiguration(DEFAULT_KEYSTORE);
+    other.setServerSessionTimeout(120);
+    assertThat(tlsConfiguration, is(not(other)));
+    other = new TlsConfiguration(DEFAULT_KEYSTORE);
+    other.setStoresReloadInterval(1000);
+    assertThat(tlsConfiguration, is(not(other)));
+  }
+
+  @Test
+  public void sslContextReloadedWhenKeyStoreChanges() throws Exception {
+    File keyStore = temporaryFolder.newFile("keystore");
+    FileUtils.copyURLToFile(getClass().getClassLoader().getResource("serverKeystore"), keyStore);
+
+    TlsConfiguration tlsConfiguration = new TlsConfiguration(keyStore.getAbsolutePath());
+    tlsConfiguration.setKeyStorePassword("mulepassword");
+    tlsConfiguration.setKeyPassword("mulepassword");
+    tlsConfiguration.setStoresReloadInterval(1);
+    tlsConfiguration.initialise(false, JSSE_NAMESPACE);
+
+    SSLContext sslContext = tlsConfiguration.getSslContext();
+    Thread.sleep(5);
+    assertThat(tlsConfiguration.getSslContext(), is(sameInstance(sslContext)));
+
+    keyStore.setLastModified(keyStore.lastModified() + 10000);
+    Thread.sleep(5);
+    assertThat(tlsConfiguration.getSslContext(), is(not(sameInstance(sslContext))));
+    assertThat(tlsConfiguration.getHandshakeStatistics().getContextReloads(), is(1L));
+  }
+
+  @Test
+  public void sessionsResumedWithSharedContext() throws Exception {
+    TlsConfiguration serverConfiguration = new TlsConfiguration(DEFAULT_KEYSTORE);
+    serverConfiguration.setKeyStore("serverKeystore");
+    serverConfiguration.setKeyStorePassword("mulepassword");
+    serverConfiguration.setKeyPassword("mulepassword");
+    serverConfiguration.initialise(false, JSSE_NAMESPACE);
+
+    TlsConfiguration clientConfiguration = new TlsConfiguration(DEFAULT_KEYSTORE);
+    clientConfiguration.setTrustStore("trustStore");
+    clientConfiguration.setTrustStorePassword("mulepassword");
+    clientConfiguration.initialise(true, JSSE_NAMESPACE);
+
+    final int connections = 3;
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (SSLServerSocket serverSocket = (SSLServerSocket) serverConfiguration.getServerSocketFactory().createServerSocket(0)) {
+      Future<?> server = executor.submit(() -> {
+        for (int i = 0; i < connections; ++i) {
+          try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+            socket.getOutputStream().write(socket.getInputStream().read());
+          }
+        }
+        return null;
+      });
+
+      for (int i = 0; i < connections; ++i) {
+        try (SSLSocket socket =
+            (SSLSocket) clientConfiguration.getSocketFactory().createSocket("localhost", serverSocket.getLocalPort())) {
+          socket.getOutputStream().write(1);
+          assertThat(socket.getInputStream().read(), is(1));
+        }
+      }
+      server.get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(clientConfiguration.getHandshakeStatistics().getClientFullHandshakes(), is(1L));
+  }
+
   private File createDefaultProtocolConfigFile() throws IOException {
     return createConfigFile(DEFAULT_SECURITY_MODEL, format("defaultProtocol=%s", SUPPORTED_PROTOCOL));
   }
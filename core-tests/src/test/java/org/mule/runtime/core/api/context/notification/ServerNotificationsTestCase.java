@@ -128,6 +128,7 @@ public class ServerNotificationsTestCase extends AbstractMuleContextTestCase imp
     when(muleContext.getSchedulerService()).thenReturn(schedulerService);
     when(schedulerService.cpuLightScheduler()).thenReturn(scheduler);
     when(scheduler.submit(any(Callable.class))).thenThrow(new RejectedExecutionException());
+    doThrow(new RejectedExecutionException()).when(scheduler).execute(any(Runnable.class));
 
     Notification notification = mock(CustomNotification.class);
     when(notification.isSynchronous()).thenReturn(false);
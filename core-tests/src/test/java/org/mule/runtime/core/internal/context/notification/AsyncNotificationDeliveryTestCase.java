@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationDelivery.OverflowPolicy.CALLER_RUNS;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationDelivery.OverflowPolicy.DROP_NEWEST;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationDelivery.OverflowPolicy.DROP_OLDEST;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+import org.mule.runtime.core.internal.context.notification.AsyncNotificationDelivery.OverflowPolicy;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+@SmallTest
+public class AsyncNotificationDeliveryTestCase extends AbstractMuleTestCase {
+
+  private final List<Runnable> liteTasks = new ArrayList<>();
+  private final List<Runnable> ioTasks = new ArrayList<>();
+  private final List<Notification> received = new ArrayList<>();
+
+  @Test
+  public void deliversInBatches() {
+    AsyncNotificationDelivery delivery = createDelivery(16, 2, CALLER_RUNS);
+    NotificationListener listener = createListener(false);
+    List<Notification> notifications = fire(delivery, listener, 5);
+
+    assertThat(liteTasks, hasSize(1));
+    assertThat(ioTasks, is(empty()));
+
+    runPendingTasks();
+
+    assertThat(received, is(notifications));
+    assertThat(delivery.getDroppedNotifications(), is(0L));
+  }
+
+  @Test
+  public void blockingListenerDeliveredInIoExecutor() {
+    AsyncNotificationDelivery delivery = createDelivery(16, 2, CALLER_RUNS);
+    fire(delivery, createListener(true), 1);
+
+    assertThat(liteTasks, is(empty()));
+    assertThat(ioTasks, hasSize(1));
+  }
+
+  @Test
+  public void callerRunsWhenFull() {
+    AsyncNotificationDelivery delivery = createDelivery(2, 16, CALLER_RUNS);
+    List<Notification> notifications = fire(delivery, createListener(false), 3);
+
+    assertThat(received, contains(notifications.get(2)));
+
+    runPendingTasks();
+
+    assertThat(received, contains(notifications.get(2), notifications.get(0), notifications.get(1)));
+    assertThat(delivery.getDroppedNotifications(), is(0L));
+  }
+
+  @Test
+  public void blockingListenerNotRunByCallerWhenFull() {
+    AsyncNotificationDelivery delivery = createDelivery(2, 16, CALLER_RUNS);
+    NotificationListener listener = createListener(true);
+    List<Notification> notifications = fire(delivery, listener, 3);
+
+    assertThat(received, is(empty()));
+
+    runPendingTasks();
+
+    assertThat(received, contains(notifications.get(0), notifications.get(1)));
+    assertThat(delivery.getDroppedNotifications(listener), is(1L));
+  }
+
+  @Test
+  public void dropNewestWhenFull() {
+    AsyncNotificationDelivery delivery = createDelivery(2, 16, DROP_NEWEST);
+    NotificationListener listener = createListener(false);
+    List<Notification> notifications = fire(delivery, listener, 4);
+
+    runPendingTasks();
+
+    assertThat(received, contains(notifications.get(0), notifications.get(1)));
+    assertThat(delivery.getDroppedNotifications(), is(2L));
+    assertThat(delivery.getDroppedNotifications(listener), is(2L));
+  }
+
+  @Test
+  public void dropOldestWhenFull() {
+    AsyncNotificationDelivery delivery = createDelivery(2, 16, DROP_OLDEST);
+    NotificationListener listener = createListener(false);
+    List<Notification> notifications = fire(delivery, listener, 4);
+
+    runPendingTasks();
+
+    assertThat(received, contains(notifications.get(2), notifications.get(3)));
+    assertThat(delivery.getDroppedNotifications(), is(2L));
+    assertThat(delivery.getDroppedNotifications(listener), is(2L));
+  }
+
+  @Test
+  public void disposeDiscardsPendingNotifications() {
+    AsyncNotificationDelivery delivery = createDelivery(16, 16, CALLER_RUNS);
+    fire(delivery, createListener(false), 3);
+
+    delivery.dispose();
+    runPendingTasks();
+
+    assertThat(received, is(empty()));
+  }
+
+  @Test
+  public void pendingNotificationsDeliveredAfterRejection() {
+    List<Runnable> acceptedTasks = new ArrayList<>();
+    AtomicBoolean reject = new AtomicBoolean(true);
+    AsyncNotificationDelivery delivery = new AsyncNotificationDelivery(task -> {
+      if (reject.get()) {
+        throw new RejectedExecutionException();
+      }
+      acceptedTasks.add(task);
+    }, ioTasks::add, 16, 16, CALLER_RUNS);
+    NotificationListener listener = createListener(false);
+
+    List<Notification> notifications = fire(delivery, listener, 2);
+    reject.set(false);
+    notifications.addAll(fire(delivery, listener, 1));
+    acceptedTasks.forEach(Runnable::run);
+
+    assertThat(received, is(notifications));
+  }
+
+  private AsyncNotificationDelivery createDelivery(int queueSize, int batchSize, OverflowPolicy overflowPolicy) {
+    return new AsyncNotificationDelivery(liteTasks::add, ioTasks::add, queueSize, batchSize, overflowPolicy);
+  }
+
+  private NotificationListener createListener(boolean blocking) {
+    return new NotificationListener<Notification>() {
+
+      @Override
+      public boolean isBlocking() {
+        return blocking;
+      }
+
+      @Override
+      public void onNotification(Notification notification) {
+        received.add(notification);
+      }
+    };
+  }
+
+  private List<Notification> fire(AsyncNotificationDelivery delivery, NotificationListener listener, int count) {
+    List<Notification> notifications = new ArrayList<>();
+    for (int i = 0; i < count; ++i) {
+      Notification notification = mock(Notification.class);
+      notifications.add(notification);
+      delivery.deliver(listener, notification);
+    }
+    return notifications;
+  }
+
+  private void runPendingTasks() {
+    while (!liteTasks.isEmpty() || !ioTasks.isEmpty()) {
+      List<Runnable> tasks = new ArrayList<>(liteTasks);
+      tasks.addAll(ioTasks);
+      liteTasks.clear();
+      ioTasks.clear();
+      tasks.forEach(Runnable::run);
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JAVA;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+
+import org.mule.runtime.api.el.BindingContext;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class SelectorExpressionEvaluatorTestCase extends AbstractMuleTestCase {
+
+  private final SelectorExpressionEvaluator evaluator = new SelectorExpressionEvaluator();
+  private final Map<String, TypedValue<?>> variables = new HashMap<>();
+
+  private CoreEvent event;
+  private Message message;
+
+  @Before
+  public void before() {
+    event = mock(CoreEvent.class);
+    message = mock(Message.class);
+    when(event.getMessage()).thenReturn(message);
+    when(event.getVariables()).thenReturn(variables);
+    when(event.getCorrelationId()).thenReturn("correlation");
+    when(event.getError()).thenReturn(empty());
+  }
+
+  @Test
+  public void variable() {
+    TypedValue foo = new TypedValue<>("bar", STRING);
+    variables.put("foo", foo);
+
+    assertThat(evaluate("vars.foo"), is(sameInstance(foo)));
+    assertThat(evaluate("#[vars.foo]"), is(sameInstance(foo)));
+    assertThat(evaluate("#[dw:vars.foo]"), is(sameInstance(foo)));
+  }
+
+  @Test
+  public void missingVariableFallsBack() {
+    assertThat(evaluate("vars.foo"), is(nullValue()));
+  }
+
+  @Test
+  public void correlationId() {
+    assertThat(evaluate("correlationId").getValue(), is("correlation"));
+  }
+
+  @Test
+  public void mapPayloadKey() {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("id", 10);
+    doReturn(new TypedValue<>(payload, fromType(Map.class))).when(message).getPayload();
+
+    TypedValue<?> result = evaluate("payload.id");
+    assertThat(result.getValue(), is(10));
+    assertThat(result.getDataType().getType(), is((Object) Integer.class));
+  }
+
+  @Test
+  public void selectedValueKeepsMediaType() {
+    MediaType mediaType = APPLICATION_JAVA.withCharset(UTF_16);
+    DataType javaMap = DataType.builder().type(Map.class).mediaType(mediaType).build();
+    doReturn(new TypedValue<>(singletonMap("id", "10"), javaMap)).when(message).getPayload();
+
+    TypedValue<?> result = evaluate("payload.id");
+    assertThat(result.getValue(), is("10"));
+    assertThat(result.getDataType().getType(), is((Object) String.class));
+    assertThat(result.getDataType().getMediaType(), is(mediaType));
+  }
+
+  @Test
+  public void failingGetterCalledOnce() {
+    FailingBean payload = new FailingBean();
+    doReturn(new TypedValue<>(payload, fromType(FailingBean.class))).when(message).getPayload();
+
+    try {
+      evaluate("payload.value");
+      fail("Expected the getter failure to be reported");
+    } catch (ExpressionRuntimeException e) {
+      assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+    assertThat(payload.calls, is(1));
+  }
+
+  @Test
+  public void nonJavaPayloadFallsBack() {
+    DataType jsonMap = DataType.builder().type(Map.class).mediaType(APPLICATION_JSON).build();
+    doReturn(new TypedValue<>(singletonMap("id", 10), jsonMap)).when(message).getPayload();
+
+    assertThat(evaluate("payload.id"), is(nullValue()));
+  }
+
+  @Test
+  public void beanAttributesMultiMapHeader() {
+    MultiMap<String, String> headers = new MultiMap<>();
+    headers.put("x-id", "first");
+    headers.put("x-id", "second");
+    doReturn(new TypedValue<>(new TestAttributes(headers), fromType(TestAttributes.class))).when(message).getAttributes();
+
+    assertThat(evaluate("attributes.headers.'x-id'").getValue(), is("first"));
+    assertThat(evaluate("attributes.headers.'X-Id'"), is(nullValue()));
+  }
+
+  @Test
+  public void contextBindingFallsBack() {
+    variables.put("foo", new TypedValue<>("bar", STRING));
+    BindingContext context = BindingContext.builder().addBinding("vars", new TypedValue<>(null, STRING)).build();
+
+    assertThat(evaluator.evaluate("vars.foo", event, context), is(nullValue()));
+  }
+
+  @Test
+  public void notSelectors() {
+    variables.put("foo", new TypedValue<>("bar", STRING));
+
+    assertThat(evaluate("vars.foo ++ 'x'"), is(nullValue()));
+    assertThat(evaluate("vars['foo']"), is(nullValue()));
+    assertThat(evaluate("vars.*foo"), is(nullValue()));
+    assertThat(evaluate("vars"), is(nullValue()));
+    assertThat(evaluate("#[mel:flowVars.foo]"), is(nullValue()));
+    assertThat(evaluate("payload.default"), is(nullValue()));
+    assertThat(evaluate("other.foo"), is(nullValue()));
+  }
+
+  private TypedValue<?> evaluate(String expression) {
+    return evaluator.evaluate(expression, event, NULL_BINDING_CONTEXT);
+  }
+
+  public static class FailingBean {
+
+    private int calls;
+
+    public String getValue() {
+      ++calls;
+      throw new IllegalStateException("Expected");
+    }
+  }
+
+  public static class TestAttributes {
+
+    private final MultiMap<String, String> headers;
+
+    public TestAttributes(MultiMap<String, String> headers) {
+      this.headers = headers;
+    }
+
+    public MultiMap<String, String> getHeaders() {
+      return headers;
+    }
+  }
+}
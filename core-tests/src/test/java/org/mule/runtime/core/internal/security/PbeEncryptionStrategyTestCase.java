@@ -6,12 +6,34 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
+import org.mule.runtime.core.api.security.CryptoFailureException;
 import org.mule.runtime.core.internal.security.PasswordBasedEncryptionStrategy;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Cipher;
+
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
@@ -28,4 +50,128 @@ public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
     String s = new String(pbe.decrypt(b, null), "UTF-8");
     assertEquals("hello", s);
   }
+
+  @Test
+  public void streamingRoundTripEncryption() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(true);
+    byte[] data = randomBytes(1024 * 1024);
+
+    assertStreamingRoundTrip(pbe, data);
+  }
+
+  @Test
+  public void streamingRoundTripEncryptionWithoutBase64() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(false);
+    byte[] data = randomBytes(1024 * 1024);
+
+    assertStreamingRoundTrip(pbe, data);
+  }
+
+  @Test
+  public void streamingCompatibleWithBytes() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(true);
+    byte[] data = randomBytes(4096);
+
+    byte[] streamEncrypted = read(pbe.encrypt(new ByteArrayInputStream(data), null));
+    assertArrayEquals(data, pbe.decrypt(streamEncrypted, null));
+
+    byte[] bytesEncrypted = pbe.encrypt(data, null);
+    assertArrayEquals(data, read(pbe.decrypt(new ByteArrayInputStream(bytesEncrypted), null)));
+  }
+
+  @Test
+  public void failedDecryptionDoesNotAffectFollowingOnes() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(false);
+    byte[] data = randomBytes(100);
+    byte[] encrypted = pbe.encrypt(data, null);
+
+    try {
+      pbe.decrypt(new byte[] {1, 2, 3}, null);
+      fail("Decryption should have failed");
+    } catch (CryptoFailureException e) {
+      // expected
+    }
+    try {
+      read(pbe.decrypt(new ByteArrayInputStream(new byte[] {1, 2, 3}), null));
+      fail("Decryption should have failed");
+    } catch (CryptoFailureIOException e) {
+      assertThat(e.getCause().getEncryptionStrategy(), is(sameInstance(pbe)));
+    }
+
+    assertArrayEquals(data, pbe.decrypt(encrypted, null));
+    assertArrayEquals(data, read(pbe.decrypt(new ByteArrayInputStream(encrypted), null)));
+  }
+
+  @Test
+  public void pooledCiphersCreatedWithCreateCipher() throws Exception {
+    AtomicInteger cipherCreations = new AtomicInteger();
+    PasswordBasedEncryptionStrategy pbe = new PasswordBasedEncryptionStrategy() {
+
+      @Override
+      protected Cipher createCipher(int mode) throws GeneralSecurityException {
+        cipherCreations.incrementAndGet();
+        return super.createCipher(mode);
+      }
+    };
+    pbe.setPassword("test");
+    pbe.initialise();
+    assertThat(cipherCreations.get(), is(2));
+    Cipher encryptCipher = pbe.encryptCipher;
+    Cipher decryptCipher = pbe.decryptCipher;
+
+    byte[] data = randomBytes(100);
+    assertArrayEquals(data, pbe.decrypt(pbe.encrypt(data, null), null));
+    assertStreamingRoundTrip(pbe, data);
+    assertThat(cipherCreations.get(), is(4));
+    assertThat(pbe.encryptCipher, is(sameInstance(encryptCipher)));
+    assertThat(pbe.decryptCipher, is(sameInstance(decryptCipher)));
+  }
+
+  @Test
+  public void concurrentRoundTrips() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(true);
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 40; ++i) {
+        final byte[] data = randomBytes(10000 + i);
+        results.add(executor.submit(() -> {
+          byte[] fromBytes = pbe.decrypt(pbe.encrypt(data, null), null);
+          byte[] fromStream = read(pbe.decrypt(pbe.encrypt(new ByteArrayInputStream(data), null), null));
+          return Arrays.equals(data, fromBytes) && Arrays.equals(data, fromStream);
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(), is(true));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void assertStreamingRoundTrip(PasswordBasedEncryptionStrategy pbe, byte[] data) throws Exception {
+    byte[] encrypted = read(pbe.encrypt(new ByteArrayInputStream(data), null));
+    assertArrayEquals(data, read(pbe.decrypt(new ByteArrayInputStream(encrypted), null)));
+  }
+
+  private PasswordBasedEncryptionStrategy createStrategy(boolean base64Encoding) throws Exception {
+    PasswordBasedEncryptionStrategy pbe = new PasswordBasedEncryptionStrategy();
+    pbe.setPassword("test");
+    pbe.setBase64Encoding(base64Encoding);
+    pbe.initialise();
+    return pbe;
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] data = new byte[length];
+    new Random(length).nextBytes(data);
+    return data;
+  }
+
+  private static byte[] read(InputStream stream) throws IOException {
+    try (InputStream in = stream) {
+      return IOUtils.toByteArray(in);
+    }
+  }
 }
@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.streaming;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 
 import org.junit.After;
 import org.junit.Before;
@@ -60,6 +62,7 @@ public class CursorManagerTestCase extends AbstractMuleTestCase {
   public void before() {
     cursorManager = new CursorManager(statistics, ghostBuster);
     when(ghostBuster.track(any())).thenAnswer(inv -> new WeakReference<>(inv.getArgument(0)));
+    when(ctx.getId()).thenReturn("eventId");
   }
 
   @After
@@ -109,13 +112,48 @@ public class CursorManagerTestCase extends AbstractMuleTestCase {
     CursorStreamProvider provider = mock(CursorStreamProvider.class);
     when(ghostBuster.track(any())).thenReturn(new WeakReference<>(null));
 
-    cursorManager.manage(provider, ctx);
+    CursorProvider first = cursorManager.manage(provider, ctx);
+    CursorProvider second = cursorManager.manage(provider, ctx);
 
     ArgumentCaptor<ManagedCursorProvider> managedDecoratorCaptor = forClass(ManagedCursorProvider.class);
     verify(ghostBuster, times(2)).track(managedDecoratorCaptor.capture());
 
     List<ManagedCursorProvider> captured = managedDecoratorCaptor.getAllValues();
     assertThat(captured, hasSize(2));
-    assertThat(captured.get(0), is(sameInstance(captured.get(1))));
+    assertThat(captured.get(0), is(sameInstance(first)));
+    assertThat(captured.get(1), is(sameInstance(second)));
+    assertThat(((ManagedCursorProvider) second).getDelegate(), is(sameInstance(provider)));
+  }
+
+  @Test
+  public void releaseProvidersOnTermination() {
+    CursorStreamProvider provider = mock(CursorStreamProvider.class);
+    CursorStreamProvider otherProvider = mock(CursorStreamProvider.class);
+
+    CursorProvider managed = cursorManager.manage(provider, ctx);
+    CursorProvider otherManaged = cursorManager.manage(otherProvider, ctx);
+
+    ArgumentCaptor<BiConsumer> terminationCaptor = forClass(BiConsumer.class);
+    verify(ctx).onTerminated(terminationCaptor.capture());
+    terminationCaptor.getValue().accept(null, null);
+
+    verify(provider).releaseResources();
+    verify(otherProvider).releaseResources();
+    assertThat(((ManagedCursorProvider) managed).getDelegate(), is(sameInstance(provider)));
+    assertThat(((ManagedCursorProvider) otherManaged).getDelegate(), is(sameInstance(otherProvider)));
+  }
+
+  @Test
+  public void manageAfterTermination() {
+    CursorStreamProvider provider = mock(CursorStreamProvider.class);
+    CursorProvider managed = cursorManager.manage(provider, ctx);
+
+    ArgumentCaptor<BiConsumer> terminationCaptor = forClass(BiConsumer.class);
+    verify(ctx).onTerminated(terminationCaptor.capture());
+    terminationCaptor.getValue().accept(null, null);
+
+    CursorProvider remanaged = cursorManager.manage(provider, ctx);
+    assertThat(remanaged, is(not(sameInstance(managed))));
+    verify(ctx, times(2)).onTerminated(any());
   }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class EventStreamingStateRegistryTestCase extends AbstractMuleTestCase {
+
+  private static final int EVENTS = 1000;
+
+  private final EventStreamingStateRegistry<String> registry = new EventStreamingStateRegistry<>();
+
+  @Test
+  public void putIfAbsent() {
+    assertThat(registry.putIfAbsent("event", "state"), is(nullValue()));
+    assertThat(registry.putIfAbsent("event", "other state"), is("state"));
+    assertThat(registry.get("event"), is("state"));
+    assertThat(registry.size(), is(1));
+  }
+
+  @Test
+  public void remove() {
+    registry.putIfAbsent("event", "state");
+
+    assertThat(registry.remove("event"), is("state"));
+    assertThat(registry.remove("event"), is(nullValue()));
+    assertThat(registry.get("event"), is(nullValue()));
+    assertThat(registry.size(), is(0));
+  }
+
+  @Test
+  public void growAndShrink() {
+    for (int i = 0; i < EVENTS; ++i) {
+      registry.putIfAbsent("event" + i, "state" + i);
+    }
+    assertThat(registry.size(), is(EVENTS));
+
+    for (int i = 0; i < EVENTS; i += 2) {
+      assertThat(registry.remove("event" + i), is("state" + i));
+    }
+    assertThat(registry.size(), is(EVENTS / 2));
+    for (int i = 0; i < EVENTS; i += 2) {
+      assertThat(registry.get("event" + i), is(nullValue()));
+      assertThat(registry.get("event" + (i + 1)), is("state" + (i + 1)));
+    }
+
+    for (int i = 1; i < EVENTS; i += 2) {
+      assertThat(registry.remove("event" + i), is("state" + i));
+    }
+    assertThat(registry.size(), is(0));
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.streaming.bytes.QuotaByteBufferManager.UNKNOWN_FLOW;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.core.api.streaming.FlowStreamingStatistics;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.nio.ByteBuffer;
+
+import io.qameta.allure.Feature;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+@Feature(STREAMING)
+public class QuotaByteBufferManagerTestCase extends AbstractMuleTestCase {
+
+  private static final int CAPACITY = 100;
+  private static final String FLOW = "flow";
+  private static final String OTHER_FLOW = "otherFlow";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private ByteBufferManager delegate = mock(ByteBufferManager.class);
+  private QuotaByteBufferManager bufferManager = new QuotaByteBufferManager(delegate, 3 * CAPACITY, 2 * CAPACITY);
+
+  @Before
+  public void before() {
+    when(delegate.allocate(anyInt())).thenAnswer(inv -> ByteBuffer.allocate(inv.getArgument(0)));
+  }
+
+  @Test
+  public void attributesBuffersToRootFlow() {
+    ByteBufferManager flowBufferManager = bufferManager.forEvent(childOf(eventContext(FLOW)));
+    ByteBuffer buffer = flowBufferManager.allocate(CAPACITY);
+    flowBufferManager.allocate(CAPACITY);
+    flowBufferManager.deallocate(buffer);
+
+    FlowStreamingStatistics statistics = bufferManager.getFlowStatistics().get(FLOW);
+    assertThat(statistics.getFlowName(), is(FLOW));
+    assertThat(statistics.getBufferedBytes(), is(2L * CAPACITY));
+    assertThat(statistics.getReleasedBytes(), is((long) CAPACITY));
+    assertThat(statistics.getMemoryInUse(), is((long) CAPACITY));
+    verify(delegate).deallocate(buffer);
+  }
+
+  @Test
+  public void sameManagerForSameFlow() {
+    assertThat(bufferManager.forEvent(eventContext(FLOW)), is(sameInstance(bufferManager.forEvent(eventContext(FLOW)))));
+  }
+
+  @Test
+  public void unknownFlow() {
+    bufferManager.forEvent(eventContext(null)).allocate(CAPACITY);
+
+    assertThat(bufferManager.getFlowStatistics().get(UNKNOWN_FLOW).getMemoryInUse(), is((long) CAPACITY));
+  }
+
+  @Test
+  public void flowQuotaExceeded() {
+    ByteBufferManager flowBufferManager = bufferManager.forEvent(eventContext(FLOW));
+    flowBufferManager.allocate(CAPACITY);
+    flowBufferManager.allocate(CAPACITY);
+
+    expectedException.expect(MaxStreamingMemoryExceededException.class);
+    flowBufferManager.allocate(CAPACITY);
+  }
+
+  @Test
+  public void flowQuotaDoesNotAffectOtherFlows() {
+    ByteBufferManager flowBufferManager = bufferManager.forEvent(eventContext(FLOW));
+    flowBufferManager.allocate(CAPACITY);
+    flowBufferManager.allocate(CAPACITY);
+    try {
+      flowBufferManager.allocate(CAPACITY);
+      fail("Flow quota was not enforced");
+    } catch (MaxStreamingMemoryExceededException e) {
+      // expected
+    }
+
+    bufferManager.forEvent(eventContext(OTHER_FLOW)).allocate(CAPACITY);
+    assertThat(bufferManager.getFlowStatistics().get(FLOW).getMemoryInUse(), is(2L * CAPACITY));
+    assertThat(bufferManager.getFlowStatistics().get(OTHER_FLOW).getMemoryInUse(), is((long) CAPACITY));
+  }
+
+  @Test
+  public void applicationQuotaExceeded() {
+    bufferManager.forEvent(eventContext(FLOW)).allocate(2 * CAPACITY);
+    ByteBufferManager otherFlowBufferManager = bufferManager.forEvent(eventContext(OTHER_FLOW));
+    otherFlowBufferManager.allocate(CAPACITY);
+
+    try {
+      otherFlowBufferManager.allocate(CAPACITY);
+    } catch (MaxStreamingMemoryExceededException e) {
+      assertThat(bufferManager.getFlowStatistics().get(OTHER_FLOW).getMemoryInUse(), is((long) CAPACITY));
+      return;
+    }
+    throw new AssertionError("Application quota was not enforced");
+  }
+
+  @Test
+  public void statisticsDoNotExposeBufferManagers() {
+    bufferManager.forEvent(eventContext(FLOW)).allocate(CAPACITY);
+
+    FlowStreamingStatistics statistics = bufferManager.getFlowStatistics().get(FLOW);
+    assertThat(statistics, is(not(instanceOf(ByteBufferManager.class))));
+  }
+
+  @Test
+  public void releasedMemoryCanBeReused() {
+    ByteBufferManager flowBufferManager = bufferManager.forEvent(eventContext(FLOW));
+    ByteBuffer buffer = flowBufferManager.allocate(2 * CAPACITY);
+    flowBufferManager.deallocate(buffer);
+
+    flowBufferManager.allocate(2 * CAPACITY);
+    assertThat(bufferManager.getFlowStatistics().get(FLOW).getMemoryInUse(), is(2L * CAPACITY));
+  }
+
+  private static BaseEventContext eventContext(String flowName) {
+    BaseEventContext eventContext = mock(BaseEventContext.class);
+    when(eventContext.getRootContext()).thenReturn(eventContext);
+    if (flowName != null) {
+      ComponentLocation location = mock(ComponentLocation.class);
+      when(location.getRootContainerName()).thenReturn(flowName);
+      when(eventContext.getOriginatingLocation()).thenReturn(location);
+    }
+    return eventContext;
+  }
+
+  private static BaseEventContext childOf(BaseEventContext root) {
+    BaseEventContext child = mock(BaseEventContext.class);
+    when(child.getRootContext()).thenReturn(root);
+    return child;
+  }
+}
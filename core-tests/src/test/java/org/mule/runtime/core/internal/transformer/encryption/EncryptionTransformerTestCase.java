@@ -6,16 +6,26 @@
  */
 package org.mule.runtime.core.internal.transformer.encryption;
 
+import static java.util.Arrays.copyOf;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.security.CryptoFailureException;
 import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.api.util.Base64;
+import org.mule.runtime.core.internal.security.CryptoFailureIOException;
 import org.mule.runtime.core.internal.security.PasswordBasedEncryptionStrategy;
 import org.mule.tck.core.transformer.AbstractTransformerTestCase;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
 
+import org.junit.Test;
+
 public class EncryptionTransformerTestCase extends AbstractTransformerTestCase {
 
   private static final String TEST_DATA =
@@ -30,6 +40,22 @@ public class EncryptionTransformerTestCase extends AbstractTransformerTestCase {
     strat.initialise();
   }
 
+  @Test
+  public void decryptionFailureThrownWhenReadingResult() throws Exception {
+    byte[] encrypted = Base64.decode(new String(strat.encrypt(TEST_DATA.getBytes(), null)));
+    byte[] truncated = Base64.encodeBytes(copyOf(encrypted, encrypted.length - 1)).getBytes();
+
+    InputStream decrypted = (InputStream) getRoundTripTransformer().transform(new ByteArrayInputStream(truncated));
+    try {
+      toByteArray(decrypted);
+      fail("Decryption should have failed");
+    } catch (CryptoFailureIOException e) {
+      assertThat(e.getCause().getEncryptionStrategy(), is(sameInstance(strat)));
+    } finally {
+      decrypted.close();
+    }
+  }
+
   @Override
   public Object getResultData() {
     try {
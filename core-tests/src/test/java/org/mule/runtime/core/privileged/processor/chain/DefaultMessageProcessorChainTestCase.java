@@ -800,6 +800,52 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     }
   }
 
+  @Test
+  public void notificationListenerErrorDoesNotTerminateStream() throws Exception {
+    muleContext.getNotificationManager().addInterfaceToType(MessageProcessorNotificationListener.class,
+                                                            MessageProcessorNotification.class);
+    muleContext.getNotificationManager().addListener((MessageProcessorNotificationListener) notification -> {
+      if (((MessageProcessorNotification) notification).getEvent().getMessage().getPayload().getValue().equals("a")) {
+        throw illegalStateException;
+      }
+    });
+    Processor chain = new DefaultMessageProcessorChainBuilder().chain(getAppendingMP("1"), getAppendingMP("2")).build();
+    initialiseIfNeeded(chain, muleContext);
+
+    try {
+      List<CoreEvent> results = Flux.just(getTestEventUsingFlow("a"), getTestEventUsingFlow("b"))
+          .transform(chain)
+          .collectList()
+          .block();
+
+      assertThat(results.stream().map(event -> event.getMessage().getPayload().getValue()).collect(toList()),
+                 equalTo(asList("b12")));
+    } finally {
+      disposeIfNeeded(chain, getLogger(DefaultMessageProcessorChainTestCase.class));
+    }
+  }
+
+  @Test
+  public void nullReturnDoesNotTerminateStream() throws Exception {
+    ReturnNullMP nullmp = new ReturnNullMP();
+    AppendingMP mp2 = getAppendingMP("2");
+    Processor chain = new DefaultMessageProcessorChainBuilder().chain(getAppendingMP("1"), nullmp, mp2).build();
+    initialiseIfNeeded(chain, muleContext);
+
+    try {
+      List<CoreEvent> results = Flux.just(getTestEventUsingFlow("a"), getTestEventUsingFlow("b"))
+          .transform(chain)
+          .collectList()
+          .block();
+
+      assertThat(results, hasSize(0));
+      assertEquals("b1", nullmp.event.getMessage().getPayload().getValue());
+      assertNull(mp2.event);
+    } finally {
+      disposeIfNeeded(chain, getLogger(DefaultMessageProcessorChainTestCase.class));
+    }
+  }
+
   @Test
   public void subscriptionContextPropagation() throws Exception {
     final ProcessingStrategy processingStrategy = processingStrategyFactory.create(muleContext, "");
@@ -455,6 +455,41 @@ public class TemplateParserTestCase extends AbstractMuleTestCase {
     assertEquals(expectedResult, result);
   }
 
+  @Test
+  public void compiledMuleTemplateEvaluatesExpressionsOnly() {
+    TemplateParser tp = createMuleStyleParser();
+    TemplateParser.CompiledTemplate template = tp.compile("Hello #[name], you are #[age] \\#[not]");
+    List<String> evaluated = new ArrayList<>();
+
+    String result = template.evaluate(token -> {
+      evaluated.add(token);
+      return token.equals("name") ? "John" : 30;
+    });
+
+    assertEquals("Hello John, you are 30 #[not]", result);
+    assertEquals(2, evaluated.size());
+    assertEquals(result, tp.parse(token -> token.equals("name") ? "John" : 30, "Hello #[name], you are #[age] \\#[not]"));
+  }
+
+  @Test
+  public void compiledMuleTemplateWithoutExpressions() {
+    TemplateParser.CompiledTemplate template = createMuleStyleParser().compile("Just # text");
+
+    assertFalse(template.hasExpressions());
+    assertEquals("Just # text", template.evaluate(token -> {
+      throw new AssertionError("No expression to evaluate");
+    }));
+  }
+
+  @Test
+  public void compiledMuleTemplateParsesValues() {
+    TemplateParser.CompiledTemplate template = createMuleStyleParser().compile("#[value] and #[other]");
+
+    String result = template.evaluate(token -> token.equals("value") ? "#[other]" : null);
+
+    assertEquals("#[other] and null", result);
+  }
+
   private Map<String, Object> buildMap() {
     Map<String, Object> props = new HashMap<String, Object>();
     props.put("prop1", "value1");
@@ -48,6 +48,7 @@ import org.mule.runtime.api.util.concurrent.Latch;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.ClassUtils;
+import org.mule.runtime.core.internal.context.notification.AsyncNotificationDelivery;
 import org.mule.runtime.core.internal.context.notification.Configuration;
 import org.mule.runtime.core.internal.context.notification.Policy;
 import org.mule.runtime.core.privileged.context.notification.OptimisedNotificationHandler;
@@ -100,6 +101,7 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
   private MuleContext muleContext;
   private Scheduler notificationsLiteScheduler;
   private Scheduler notificationsIoScheduler;
+  private volatile AsyncNotificationDelivery asyncNotificationDelivery;
 
   @Override
   public boolean isNotificationDynamic() {
@@ -120,8 +122,26 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    * object to send notifications.
    */
   public void initialise() throws InitialisationException {
-    notificationsLiteScheduler = muleContext.getSchedulerService().cpuLightScheduler();
-    notificationsIoScheduler = muleContext.getSchedulerService().ioScheduler();
+    getAsyncNotificationDelivery();
+  }
+
+  /*
+   * Created lazily as well, since asynchronous notifications may be fired before this is initialised.
+   */
+  private AsyncNotificationDelivery getAsyncNotificationDelivery() {
+    AsyncNotificationDelivery delivery = asyncNotificationDelivery;
+    if (delivery == null) {
+      synchronized (this) {
+        delivery = asyncNotificationDelivery;
+        if (delivery == null) {
+          notificationsLiteScheduler = muleContext.getSchedulerService().cpuLightScheduler();
+          notificationsIoScheduler = muleContext.getSchedulerService().ioScheduler();
+          delivery = new AsyncNotificationDelivery(notificationsLiteScheduler, notificationsIoScheduler);
+          asyncNotificationDelivery = delivery;
+        }
+      }
+    }
+    return delivery;
   }
 
   public void addInterfaceToType(Class<? extends NotificationListener> iface,
@@ -152,6 +172,9 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    */
   public void removeListener(NotificationListener<?> listener) {
     configuration.removeListener(listener);
+    if (asyncNotificationDelivery != null) {
+      asyncNotificationDelivery.removeListener(listener);
+    }
   }
 
   public void disableInterface(Class<? extends NotificationListener> iface) {
@@ -192,13 +215,7 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       if (notification.isSynchronous()) {
         notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
       } else {
-        notifyListeners(notification, (listener, nfn) -> {
-          if (listener.isBlocking()) {
-            notificationsIoScheduler.submit(() -> listener.onNotification(nfn));
-          } else {
-            notificationsLiteScheduler.submit(() -> listener.onNotification(nfn));
-          }
-        });
+        notifyListeners(notification, getAsyncNotificationDelivery()::deliver);
       }
     } finally {
       if (0 == activeFires.decrementAndGet() && disposed.get()) {
@@ -223,6 +240,14 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
     return enabled;
   }
 
+  /**
+   * @return the number of asynchronous notifications that were dropped because their listener could not keep up with them
+   * @since 4.3.0
+   */
+  public long getDroppedAsyncNotifications() {
+    return asyncNotificationDelivery == null ? 0 : asyncNotificationDelivery.getDroppedNotifications();
+  }
+
   /**
    * Do not make this object {@link org.mule.runtime.api.lifecycle.Disposable}. It needs to be alive after everything else has
    * died
@@ -239,6 +264,9 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       }
     }
 
+    if (asyncNotificationDelivery != null) {
+      asyncNotificationDelivery.dispose();
+    }
     if (notificationsLiteScheduler != null) {
       notificationsLiteScheduler.stop();
       notificationsLiteScheduler = null;
@@ -8,6 +8,8 @@ package org.mule.runtime.core.api.streaming;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.System.getProperty;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static java.util.Collections.emptyMap;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_ENABLE_STREAMING_STATISTICS;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -31,19 +33,26 @@ import org.mule.runtime.core.api.streaming.bytes.ByteStreamingManager;
 import org.mule.runtime.core.api.streaming.object.ObjectStreamingManager;
 import org.mule.runtime.core.internal.streaming.AtomicStreamingStatistics;
 import org.mule.runtime.core.internal.streaming.CursorManager;
+import org.mule.runtime.core.internal.streaming.JmxStreamingStatistics;
 import org.mule.runtime.core.internal.streaming.ManagedCursorProvider;
 import org.mule.runtime.core.internal.streaming.MutableStreamingStatistics;
 import org.mule.runtime.core.internal.streaming.NullStreamingStatistics;
 import org.mule.runtime.core.internal.streaming.StreamingGhostBuster;
+import org.mule.runtime.core.internal.streaming.StreamingStatisticsMXBean;
 import org.mule.runtime.core.internal.streaming.bytes.DefaultByteStreamingManager;
 import org.mule.runtime.core.internal.streaming.bytes.PoolingByteBufferManager;
+import org.mule.runtime.core.internal.streaming.bytes.QuotaByteBufferManager;
 import org.mule.runtime.core.internal.streaming.object.DefaultObjectStreamingManager;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
 import java.io.Closeable;
 import java.io.InputStream;
+import java.util.Map;
 
 import javax.inject.Inject;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 
 import org.slf4j.Logger;
 
@@ -57,6 +66,7 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
   private ObjectStreamingManager objectStreamingManager;
   private CursorManager cursorManager;
   private MutableStreamingStatistics statistics;
+  private ObjectName statisticsObjectName;
   private boolean initialised = false;
 
   private Scheduler allocationScheduler;
@@ -82,7 +92,7 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
           schedulerService.ioScheduler(muleContext.getSchedulerBaseConfig().withName("StreamingManager-allocate"));
 
       cursorManager = new CursorManager(statistics, ghostBuster);
-      bufferManager = new PoolingByteBufferManager(allocationScheduler);
+      bufferManager = createBufferManager();
       byteStreamingManager = createByteStreamingManager();
       objectStreamingManager = createObjectStreamingManager();
 
@@ -93,8 +103,53 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
   }
 
   private MutableStreamingStatistics createStatistics() {
-    return parseBoolean(getProperty(MULE_ENABLE_STREAMING_STATISTICS)) ? new AtomicStreamingStatistics()
-        : new NullStreamingStatistics();
+    if (parseBoolean(getProperty(MULE_ENABLE_STREAMING_STATISTICS))) {
+      AtomicStreamingStatistics atomicStatistics = new AtomicStreamingStatistics(this::getFlowStatistics);
+      registerStatisticsMBean(atomicStatistics);
+      return atomicStatistics;
+    }
+    return new NullStreamingStatistics();
+  }
+
+  /**
+   * Buffers are only attributed to flows when there are quotas to enforce or statistics to report, so that there's no overhead
+   * otherwise.
+   */
+  private ByteBufferManager createBufferManager() {
+    ByteBufferManager poolingBufferManager = new PoolingByteBufferManager(allocationScheduler);
+    return QuotaByteBufferManager.isQuotaConfigured() || statistics instanceof AtomicStreamingStatistics
+        ? new QuotaByteBufferManager(poolingBufferManager)
+        : poolingBufferManager;
+  }
+
+  private Map<String, FlowStreamingStatistics> getFlowStatistics() {
+    return bufferManager instanceof QuotaByteBufferManager ? ((QuotaByteBufferManager) bufferManager).getFlowStatistics()
+        : emptyMap();
+  }
+
+  private void registerStatisticsMBean(StreamingStatistics statistics) {
+    try {
+      statisticsObjectName = new ObjectName("org.mule.runtime:type=StreamingStatistics,artifact="
+          + ObjectName.quote(String.valueOf(muleContext.getConfiguration().getId())));
+      getPlatformMBeanServer()
+          .registerMBean(new StandardMBean(new JmxStreamingStatistics(statistics), StreamingStatisticsMXBean.class, true),
+                         statisticsObjectName);
+    } catch (JMException e) {
+      LOGGER.warn("Could not register streaming statistics MBean", e);
+      statisticsObjectName = null;
+    }
+  }
+
+  private void unregisterStatisticsMBean() {
+    if (statisticsObjectName != null) {
+      try {
+        getPlatformMBeanServer().unregisterMBean(statisticsObjectName);
+      } catch (JMException e) {
+        LOGGER.warn("Could not unregister streaming statistics MBean", e);
+      } finally {
+        statisticsObjectName = null;
+      }
+    }
   }
 
   protected ByteStreamingManager createByteStreamingManager() {
@@ -114,6 +169,7 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
     disposeIfNeeded(objectStreamingManager, LOGGER);
     disposeIfNeeded(bufferManager, LOGGER);
     disposeIfNeeded(cursorManager, LOGGER);
+    unregisterStatisticsMBean();
 
     allocationScheduler.stop();
 
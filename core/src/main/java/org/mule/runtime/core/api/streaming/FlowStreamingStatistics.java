@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.streaming;
+
+import org.mule.api.annotation.NoImplement;
+
+/**
+ * Statistics about the streaming memory used by the events of one flow, attributed by the root location of each event.
+ *
+ * @since 4.3.0
+ */
+@NoImplement
+public interface FlowStreamingStatistics {
+
+  /**
+   * @return the name of the flow
+   */
+  String getFlowName();
+
+  /**
+   * @return how many bytes of streaming buffers were allocated for the events of the flow so far
+   */
+  long getBufferedBytes();
+
+  /**
+   * @return how many bytes of streaming buffers were released by the events of the flow so far
+   */
+  long getReleasedBytes();
+
+  /**
+   * @return how many bytes of streaming buffers are currently held by the events of the flow
+   */
+  long getMemoryInUse();
+}
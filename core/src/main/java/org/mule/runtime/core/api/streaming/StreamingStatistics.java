@@ -10,6 +10,8 @@ import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.streaming.bytes.CursorStream;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 
+import java.util.Map;
+
 /**
  * Statistics about current streaming assets
  *
@@ -27,4 +29,10 @@ public interface StreamingStatistics {
    * @return How many {@link CursorStream} instances are currently open
    */
   int getOpenCursorsCount();
+
+  /**
+   * @return the streaming memory statistics of each flow which events have buffered streams, keyed by flow name
+   * @since 4.3.0
+   */
+  Map<String, FlowStreamingStatistics> getFlowStatistics();
 }
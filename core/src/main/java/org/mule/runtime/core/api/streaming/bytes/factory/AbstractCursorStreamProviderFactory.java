@@ -18,6 +18,7 @@ import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
 import org.mule.runtime.core.api.streaming.bytes.CursorStreamProviderFactory;
 import org.mule.runtime.core.internal.streaming.CursorManager;
+import org.mule.runtime.core.internal.streaming.bytes.QuotaByteBufferManager;
 
 import java.io.InputStream;
 
@@ -71,6 +72,18 @@ public abstract class AbstractCursorStreamProviderFactory extends AbstractCompon
     return bufferManager;
   }
 
+  /**
+   * @param eventContext the context of the event on which the stream was opened
+   * @return the {@link ByteBufferManager} that <b>MUST</b> to be used to allocate the byte buffers of a stream of the given
+   *         event, so that they count towards the streaming memory of its flow
+   * @since 4.3.0
+   */
+  protected ByteBufferManager getBufferManager(EventContext eventContext) {
+    return bufferManager instanceof QuotaByteBufferManager
+        ? ((QuotaByteBufferManager) bufferManager).forEvent(eventContext)
+        : bufferManager;
+  }
+
   /**
    * Implementations should use this method to actually create the output value
    *
@@ -44,7 +44,7 @@ public class InMemoryCursorStreamProviderFactory extends AbstractCursorStreamPro
 
   @Override
   protected Object resolve(InputStream inputStream, EventContext eventContext) {
-    return doResolve(inputStream);
+    return doResolve(inputStream, eventContext);
   }
 
   /**
@@ -54,10 +54,10 @@ public class InMemoryCursorStreamProviderFactory extends AbstractCursorStreamPro
    */
   @Override
   protected Object resolve(InputStream inputStream, CoreEvent event) {
-    return doResolve(inputStream);
+    return doResolve(inputStream, event != null ? event.getContext() : null);
   }
 
-  private Object doResolve(InputStream inputStream) {
-    return new InMemoryCursorStreamProvider(inputStream, config, getBufferManager());
+  private Object doResolve(InputStream inputStream, EventContext eventContext) {
+    return new InMemoryCursorStreamProvider(inputStream, config, getBufferManager(eventContext));
   }
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.System.getProperty;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * Delivers asynchronous notifications to their listeners.
+ * <p>
+ * Each listener has its own bounded queue of pending notifications, drained by a single task at a time that hands the
+ * notifications to the listener in batches. This way, firing a notification only enqueues it, and a scheduler task is submitted
+ * only when the listener has no pending drain. Notifications are delivered to each listener in the order they were fired.
+ * <p>
+ * What to do when the queue of a listener is full is defined by an {@link OverflowPolicy}, {@link OverflowPolicy#CALLER_RUNS}
+ * by default, so notifications are only dropped for blocking listeners unless a dropping policy is chosen. Dropped notifications
+ * are counted, and the first one dropped for each listener is logged.
+ *
+ * @since 4.3.0
+ */
+public class AsyncNotificationDelivery {
+
+  /**
+   * Maximum number of pending notifications for each listener.
+   */
+  public static final String QUEUE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.queueSize";
+
+  /**
+   * Maximum number of notifications delivered to a listener before yielding its thread to other tasks.
+   */
+  public static final String BATCH_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.batchSize";
+
+  /**
+   * Name of the {@link OverflowPolicy} to apply when the queue of a listener is full. Defaults to
+   * {@link OverflowPolicy#CALLER_RUNS}.
+   */
+  public static final String OVERFLOW_POLICY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.overflowPolicy";
+
+  private static final Logger LOGGER = getLogger(AsyncNotificationDelivery.class);
+
+  private static final int DEFAULT_QUEUE_SIZE = 8192;
+  private static final int DEFAULT_BATCH_SIZE = 64;
+
+  /**
+   * What to do with a notification when the queue of its listener is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Delivers the notification in the thread firing it. Notifications for blocking listeners are dropped instead, since the
+     * firing thread may not be allowed to block.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Drops the notification being fired.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Drops the oldest pending notification, enqueuing the one being fired.
+     */
+    DROP_OLDEST
+  }
+
+  private final Executor liteExecutor;
+  private final Executor ioExecutor;
+  private final int queueSize;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+
+  private final Map<NotificationListener, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+  private final LongAdder droppedNotifications = new LongAdder();
+
+  /**
+   * Creates a delivery configured through the {@link #QUEUE_SIZE_PROPERTY}, {@link #BATCH_SIZE_PROPERTY} and
+   * {@link #OVERFLOW_POLICY_PROPERTY} system properties.
+   *
+   * @param liteExecutor where notifications for non blocking listeners are delivered
+   * @param ioExecutor where notifications for blocking listeners are delivered
+   */
+  public AsyncNotificationDelivery(Executor liteExecutor, Executor ioExecutor) {
+    this(liteExecutor, ioExecutor, getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE),
+         getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+         OverflowPolicy.valueOf(getProperty(OVERFLOW_POLICY_PROPERTY, OverflowPolicy.CALLER_RUNS.name())));
+  }
+
+  /**
+   * Creates a delivery.
+   *
+   * @param liteExecutor where notifications for non blocking listeners are delivered
+   * @param ioExecutor where notifications for blocking listeners are delivered
+   * @param queueSize maximum number of pending notifications for each listener
+   * @param batchSize maximum number of notifications delivered to a listener before yielding its thread
+   * @param overflowPolicy what to do when the queue of a listener is full
+   */
+  public AsyncNotificationDelivery(Executor liteExecutor, Executor ioExecutor, int queueSize, int batchSize,
+                                   OverflowPolicy overflowPolicy) {
+    checkArgument(queueSize > 0, "queueSize must be positive");
+    checkArgument(batchSize > 0, "batchSize must be positive");
+    this.liteExecutor = liteExecutor;
+    this.ioExecutor = ioExecutor;
+    this.queueSize = queueSize;
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Enqueues the notification to be delivered to the given listener.
+   *
+   * @param listener the listener to deliver the notification to
+   * @param notification the notification to deliver
+   */
+  public void deliver(NotificationListener listener, Notification notification) {
+    listenerQueues.computeIfAbsent(listener, ListenerQueue::new).offer(notification);
+  }
+
+  /**
+   * Forgets the queue of the given listener. Notifications already enqueued for it are still delivered.
+   *
+   * @param listener the listener no longer receiving notifications
+   */
+  public void removeListener(NotificationListener listener) {
+    listenerQueues.remove(listener);
+  }
+
+  /**
+   * Discards the notifications pending to be delivered and forgets the queues of every listener.
+   */
+  public void dispose() {
+    listenerQueues.values().forEach(ListenerQueue::clear);
+    listenerQueues.clear();
+  }
+
+  /**
+   * @return the number of notifications dropped because the queue of its listener was full, for all listeners
+   */
+  public long getDroppedNotifications() {
+    return droppedNotifications.sum();
+  }
+
+  /**
+   * @param listener a listener
+   * @return the number of notifications dropped because the queue of the given listener was full
+   */
+  public long getDroppedNotifications(NotificationListener listener) {
+    ListenerQueue listenerQueue = listenerQueues.get(listener);
+    return listenerQueue == null ? 0 : listenerQueue.dropped.sum();
+  }
+
+  private final class ListenerQueue implements Runnable {
+
+    private final NotificationListener listener;
+    private final boolean blocking;
+    private final Executor executor;
+    private final Queue<Notification> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicBoolean dropLogged = new AtomicBoolean();
+    private final AtomicBoolean rejectionLogged = new AtomicBoolean();
+
+    private ListenerQueue(NotificationListener listener) {
+      this.listener = listener;
+      this.blocking = listener.isBlocking();
+      this.executor = blocking ? ioExecutor : liteExecutor;
+    }
+
+    private void offer(Notification notification) {
+      if (size.incrementAndGet() > queueSize) {
+        switch (overflowPolicy) {
+          case CALLER_RUNS:
+            // The firing thread may be a non blocking one, so blocking listeners are never run in it
+            if (!blocking) {
+              size.decrementAndGet();
+              notifyListener(notification);
+              return;
+            }
+            // Otherwise, falls through to be dropped
+          case DROP_NEWEST:
+            size.decrementAndGet();
+            onDropped();
+            return;
+          case DROP_OLDEST:
+            // The reserved slot is kept for the notification being fired
+            if (pending.poll() != null) {
+              size.decrementAndGet();
+              onDropped();
+            }
+            break;
+          default:
+            throw new IllegalStateException("Unsupported overflow policy " + overflowPolicy);
+        }
+      }
+
+      pending.offer(notification);
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          // Pending notifications will be drained when the next one is fired for this listener
+          draining.set(false);
+          if (rejectionLogged.compareAndSet(false, true)) {
+            LOGGER.warn("Unable to schedule the delivery of notifications to listener {}, they will be delivered when another one"
+                + " is fired for it. Further rejections will only be logged at debug level: {}", listener, e.getMessage());
+          } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Unable to schedule the delivery of notifications to listener {}: {}", listener, e.getMessage());
+          }
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      Notification notification;
+      int delivered = 0;
+      while (delivered < batchSize && (notification = pending.poll()) != null) {
+        size.decrementAndGet();
+        notifyListener(notification);
+        ++delivered;
+      }
+
+      draining.set(false);
+      // Either new notifications arrived after the last poll, or the batch is done and the thread is yielded to other tasks
+      if (!pending.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+
+    private void notifyListener(Notification notification) {
+      try {
+        listener.onNotification(notification);
+      } catch (Throwable e) {
+        LOGGER.info("NotificationListener {} was unable to fire notification {} due to an exception: {}.", listener,
+                    notification, e);
+      }
+    }
+
+    private void onDropped() {
+      dropped.increment();
+      droppedNotifications.increment();
+      if (dropLogged.compareAndSet(false, true)) {
+        LOGGER.warn("Notifications to listener {} are being dropped because it can't keep up with them ({} overflow policy)."
+            + " Further drops are only counted.", listener, overflowPolicy);
+      }
+    }
+
+    private void clear() {
+      pending.clear();
+      size.set(0);
+    }
+  }
+}
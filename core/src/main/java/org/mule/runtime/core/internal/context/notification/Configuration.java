@@ -28,6 +28,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This acts as a synchronized collection. No call blocks and all are synchronized.
+ * <p>
+ * The {@link Policy} is an immutable snapshot of the configuration, rebuilt after it changes. Getting it does not lock unless
+ * the configuration changed since the last snapshot.
  */
 public class Configuration {
 
@@ -38,12 +41,11 @@ public class Configuration {
   private Set<ListenerSubscriptionPair> listenerSubscriptionPairs = new HashSet<>();
   private Set<Class<? extends NotificationListener>> disabledInterfaces = new HashSet<>();
   private Set<Class<? extends Notification>> disabledNotificationTypes = new HashSet<>();
-  private volatile boolean dirty = true;
-  private Policy policy;
+  private volatile Policy policy;
 
   public synchronized void addInterfaceToType(Class<? extends NotificationListener> iface,
                                               Class<? extends Notification> type) {
-    dirty = true;
+    policy = null;
     if (!Notification.class.isAssignableFrom(type)) {
       throw new IllegalArgumentException(propertyIsNotSupportedType("type", Notification.class, type)
           .getMessage());
@@ -65,7 +67,7 @@ public class Configuration {
    */
   public synchronized void addAllInterfaceToTypes(Map<Class<? extends NotificationListener>, Set<Class<? extends Notification>>> interfaceToTypes)
       throws ClassNotFoundException {
-    dirty = true;
+    policy = null;
 
     for (Object iface : interfaceToTypes.keySet()) {
       addInterfaceToType(toClass(iface), toClass(interfaceToTypes.get(iface)));
@@ -73,14 +75,14 @@ public class Configuration {
   }
 
   public synchronized void addListenerSubscriptionPair(ListenerSubscriptionPair pair) {
-    dirty = true;
+    policy = null;
     if (!listenerSubscriptionPairs.add(pair)) {
       logger.warn(notificationListenerSubscriptionAlreadyRegistered(pair).toString());
     }
   }
 
   public synchronized void removeListener(NotificationListener listener) {
-    dirty = true;
+    policy = null;
     Set<ListenerSubscriptionPair> toRemove = new HashSet<>();
     for (Object element : listenerSubscriptionPairs) {
       ListenerSubscriptionPair pair = (ListenerSubscriptionPair) element;
@@ -92,47 +94,49 @@ public class Configuration {
   }
 
   synchronized void removeAllListeners(Collection listeners) {
-    dirty = true;
+    policy = null;
     for (Iterator listener = listeners.iterator(); listener.hasNext();) {
       removeListener((NotificationListener) listener.next());
     }
   }
 
   public synchronized void disableInterface(Class<? extends NotificationListener> iface) {
-    dirty = true;
+    policy = null;
     disabledInterfaces.add(iface);
   }
 
   public synchronized void disabledAllInterfaces(Collection<Class<? extends NotificationListener>> interfaces)
       throws ClassNotFoundException {
-    dirty = true;
+    policy = null;
     for (Object element : interfaces) {
       disableInterface(toClass(element));
     }
   }
 
   public synchronized void disableType(Class<? extends Notification> type) {
-    dirty = true;
+    policy = null;
     disabledNotificationTypes.add(type);
   }
 
   synchronized void disableAllTypes(Collection types) throws ClassNotFoundException {
-    dirty = true;
+    policy = null;
     for (Iterator event = types.iterator(); event.hasNext();) {
       disableType(toClass(event.next()));
     }
   }
 
   public Policy getPolicy() {
-    if (dirty) {
+    Policy current = policy;
+    if (current == null) {
       synchronized (this) {
-        if (dirty) {
-          policy = new Policy(interfaceToTypes, listenerSubscriptionPairs, disabledInterfaces, disabledNotificationTypes);
-          dirty = false;
+        current = policy;
+        if (current == null) {
+          current = new Policy(interfaceToTypes, listenerSubscriptionPairs, disabledInterfaces, disabledNotificationTypes);
+          policy = current;
         }
       }
     }
-    return policy;
+    return current;
   }
 
   // for tests -------------------------------
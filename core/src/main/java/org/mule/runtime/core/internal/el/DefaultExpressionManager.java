@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.el;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
@@ -15,6 +17,7 @@ import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.metadata.DataType.STRING;
 import static org.mule.runtime.core.api.config.MuleProperties.COMPATIBILITY_PLUGIN_INSTALLED;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_EXPRESSION_LANGUAGE;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.MuleProperties.isMelDefault;
 import static org.mule.runtime.core.api.util.ClassUtils.isInstance;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateTypedValueForStreaming;
@@ -47,6 +50,8 @@ import org.mule.runtime.core.internal.el.mvel.MVELExpressionLanguage;
 import org.mule.runtime.core.internal.util.OneTimeWarning;
 import org.mule.runtime.core.privileged.el.GlobalBindingContextProvider;
 import org.mule.runtime.core.privileged.util.TemplateParser;
+import org.mule.runtime.core.privileged.util.TemplateParser.CompiledTemplate;
+import org.mule.runtime.core.privileged.util.TemplateParser.TemplateCallback;
 
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,13 +60,26 @@ import javax.inject.Inject;
 
 import org.slf4j.Logger;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
 public class DefaultExpressionManager implements ExtendedExpressionManager, Initialisable {
 
   public static final String DW_PREFIX = "dw";
   public static final String MEL_PREFIX = "mel";
   public static final String PREFIX_EXPR_SEPARATOR = ":";
   public static final int DW_PREFIX_LENGTH = (DW_PREFIX + PREFIX_EXPR_SEPARATOR).length();
+
+  /**
+   * Disables the evaluation of simple selector expressions, like {@code vars.foo}, directly against the event, always going to
+   * the expression language for them.
+   *
+   * @since 4.3.0
+   */
+  public static final String DISABLE_SELECTOR_FAST_PATH_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "expressions.disableSelectorFastPath";
+
   private static final Logger LOGGER = getLogger(DefaultExpressionManager.class);
+  private static final int COMPILED_TEMPLATES_CACHE_SIZE = 1000;
 
   private final OneTimeWarning parseWarning = new OneTimeWarning(LOGGER,
                                                                  "Expression parsing is deprecated, regular expressions should be used instead.");
@@ -75,7 +93,11 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
   private ExtendedExpressionLanguageAdaptor expressionLanguage;
   // Default style parser
   private final TemplateParser parser = TemplateParser.createMuleStyleParser();
+  // Templates used by components are usually fixed, so these are scanned only once
+  private final LoadingCache<String, CompiledTemplate> compiledTemplates =
+      newBuilder().maximumSize(COMPILED_TEMPLATES_CACHE_SIZE).build(parser::compile);
   private boolean melDefault;
+  private SelectorExpressionEvaluator selectorEvaluator;
 
   @Override
   public void initialise() throws InitialisationException {
@@ -105,6 +127,10 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
       this.expressionLanguage = dwExpressionLanguage;
     }
 
+    if (dwExpressionLanguage != null && !melDefault && !getBoolean(DISABLE_SELECTOR_FAST_PATH_PROPERTY)) {
+      selectorEvaluator = new SelectorExpressionEvaluator();
+    }
+
     BindingContext.Builder contextBuilder = BindingContext.builder();
 
     registry.lookupAllByType(GlobalBindingContextProvider.class).stream()
@@ -165,8 +191,14 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
   private TypedValue evaluate(String expression, CoreEvent event, CoreEvent.Builder eventBuilder,
                               ComponentLocation componentLocation,
                               BindingContext context) {
-    return updateTypedValueForStreaming(expressionLanguage.evaluate(expression, event, eventBuilder, componentLocation, context),
-                                        event, streamingManager);
+    TypedValue result = null;
+    if (selectorEvaluator != null && event != null) {
+      result = selectorEvaluator.evaluate(expression, event, context);
+    }
+    if (result == null) {
+      result = expressionLanguage.evaluate(expression, event, eventBuilder, componentLocation, context);
+    }
+    return updateTypedValueForStreaming(result, event, streamingManager);
   }
 
   @Override
@@ -257,13 +289,11 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
   @Override
   public String parse(String expression, CoreEvent event, ComponentLocation componentLocation)
       throws ExpressionRuntimeException {
-    Builder eventBuilder = CoreEvent.builder(event);
-
     if ((!hasDwExpression(expression) && !hasMelExpression(expression) && melDefault) || hasMelExpression(expression)) {
       parseWarning.warn();
-      return parser.parse(token -> melParseEvaluation(event, componentLocation, eventBuilder, token), expression);
+      return parseMelTemplate(expression, event, componentLocation);
     } else if (isExpression(expression)) {
-      TypedValue evaluation = evaluate(expression, event, eventBuilder, componentLocation);
+      TypedValue evaluation = evaluate(expression, event, CoreEvent.builder(event), componentLocation);
       try {
         return (String) transform(evaluation, evaluation.getDataType(), STRING).getValue();
       } catch (TransformerException e) {
@@ -298,10 +328,9 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
       throws ExpressionRuntimeException {
 
     if ((!hasDwExpression(template) && !hasMelExpression(template) && melDefault) || hasMelExpression(template)) {
-      Builder eventBuilder = CoreEvent.builder(event);
-      return parser.parse(token -> melParseEvaluation(event, componentLocation, eventBuilder, token), template);
+      return parseMelTemplate(template, event, componentLocation);
     } else {
-      return parser.parse(token -> {
+      return parseTemplate(template, token -> {
         TypedValue<?> evaluation = expressionLanguage.evaluateLogExpression(token, event, componentLocation, bindingContext);
         if (evaluation.getValue() instanceof Message) {
           // Do not apply transformation to Message since payload will be considered then
@@ -316,8 +345,22 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
                                                                           STRING)),
                                                e);
         }
-      }, template);
+      });
+    }
+  }
+
+  private String parseMelTemplate(String template, CoreEvent event, ComponentLocation componentLocation) {
+    CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+    if (!compiledTemplate.hasExpressions()) {
+      return compiledTemplate.evaluate(null);
     }
+
+    Builder eventBuilder = CoreEvent.builder(event);
+    return compiledTemplate.evaluate(token -> melParseEvaluation(event, componentLocation, eventBuilder, token));
+  }
+
+  private String parseTemplate(String template, TemplateCallback callback) {
+    return compiledTemplates.get(template).evaluate(callback);
   }
 
   private Object melParseEvaluation(CoreEvent event, ComponentLocation componentLocation, Builder eventBuilder, String token) {
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.mule.runtime.api.el.BindingContextUtils.ATTRIBUTES;
+import static org.mule.runtime.api.el.BindingContextUtils.CORRELATION_ID;
+import static org.mule.runtime.api.el.BindingContextUtils.ERROR;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
+import static org.mule.runtime.api.el.BindingContextUtils.VARS;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.metadata.MediaType.ANY;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JAVA;
+import static org.mule.runtime.core.api.config.i18n.CoreMessages.expressionEvaluationFailed;
+import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_POSTFIX;
+import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_PREFIX;
+import static org.mule.runtime.core.internal.el.DefaultExpressionManager.DW_PREFIX;
+import static org.mule.runtime.core.internal.el.DefaultExpressionManager.PREFIX_EXPR_SEPARATOR;
+
+import org.mule.runtime.api.el.BindingContext;
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Evaluates expressions that are just a selection path over the bindings of an event, like {@code vars.foo},
+ * {@code payload.id} or {@code attributes.headers.'x-id'}, directly against the event instead of going to the expression
+ * language.
+ * <p>
+ * The root of the path may be {@code payload}, {@code attributes}, {@code vars}, {@code correlationId} or {@code error}. The rest
+ * of the path is only resolved over Java {@link Map}s and beans. Whenever the selection is not that simple, for instance because
+ * a value along the path is missing, is {@code null} or has to be read with a format other than Java, the evaluation is left to
+ * the expression language so its semantics are kept.
+ *
+ * @since 4.3.0
+ */
+final class SelectorExpressionEvaluator {
+
+  private static final int CACHE_SIZE = 1000;
+
+  // Marks the expressions that are not a simple selector
+  private static final String[] NOT_A_SELECTOR = new String[0];
+
+  private static final Set<String> ROOTS = new HashSet<>(asList(PAYLOAD, ATTRIBUTES, VARS, CORRELATION_ID, ERROR));
+
+  // Selecting these requires quoting them in the expression language
+  private static final Set<String> KEYWORDS =
+      new HashSet<>(asList("and", "as", "case", "default", "do", "else", "false", "fun", "if", "import", "is", "match", "not",
+                           "ns", "null", "or", "output", "true", "type", "unless", "update", "using", "var"));
+
+  private final LoadingCache<String, String[]> selectors =
+      newBuilder().maximumSize(CACHE_SIZE).build(SelectorExpressionEvaluator::parse);
+  private final LoadingCache<Class<?>, Map<String, Method>> beanGetters =
+      newBuilder().maximumSize(CACHE_SIZE).build(SelectorExpressionEvaluator::introspect);
+
+  /**
+   * Evaluates the given expression if it is a simple selector.
+   *
+   * @param expression the expression to evaluate
+   * @param event the event to evaluate the expression against
+   * @param context the bindings given for the evaluation
+   * @return the result of the evaluation, or {@code null} if the expression has to be evaluated by the expression language
+   * @throws ExpressionRuntimeException if a getter along the path fails
+   */
+  TypedValue<?> evaluate(String expression, CoreEvent event, BindingContext context) {
+    String[] path = selectors.get(expression);
+    if (path == NOT_A_SELECTOR
+        || (context != null && context != NULL_BINDING_CONTEXT && context.identifiers().contains(path[0]))) {
+      return null;
+    }
+
+    TypedValue<?> root;
+    int selected;
+    switch (path[0]) {
+      case PAYLOAD:
+        root = event.getMessage().getPayload();
+        selected = 1;
+        break;
+      case ATTRIBUTES:
+        root = event.getMessage().getAttributes();
+        selected = 1;
+        break;
+      case CORRELATION_ID:
+        return new TypedValue<>(event.getCorrelationId(), STRING);
+      case VARS:
+        root = event.getVariables().get(path[1]);
+        selected = 2;
+        break;
+      case ERROR:
+        Optional<Error> error = event.getError();
+        root = error.isPresent() ? new TypedValue<>(error.get(), DataType.fromObject(error.get())) : null;
+        selected = 1;
+        break;
+      default:
+        return null;
+    }
+
+    if (root == null || selected == path.length) {
+      return root;
+    }
+
+    if (!isJava(root.getDataType().getMediaType())) {
+      return null;
+    }
+    Object value = root.getValue();
+    for (int i = selected; i < path.length && value != null; ++i) {
+      value = select(value, path[i], expression);
+    }
+
+    return value == null ? null
+        : new TypedValue<>(value, DataType.builder().fromObject(value).mediaType(root.getDataType().getMediaType()).build());
+  }
+
+  private boolean isJava(MediaType mediaType) {
+    return APPLICATION_JAVA.matches(mediaType) || ANY.matches(mediaType);
+  }
+
+  private Object select(Object value, String key, String expression) {
+    if (value instanceof Map) {
+      return selectFromMap((Map<?, ?>) value, key);
+    }
+
+    Class<?> type = value.getClass();
+    if (type.isArray() || type.getName().startsWith("java.")) {
+      return null;
+    }
+    Method getter = beanGetters.get(type).get(key);
+    if (getter == null) {
+      return null;
+    }
+    try {
+      return getter.invoke(value);
+    } catch (InvocationTargetException e) {
+      // The getter was already called, so it is not called again by the expression language just to fail the same way
+      Throwable cause = e.getCause();
+      throw new ExpressionRuntimeException(expressionEvaluationFailed(cause.getMessage(), expression), cause);
+    } catch (IllegalAccessException e) {
+      // Let the expression language report it
+      return null;
+    }
+  }
+
+  private Object selectFromMap(Map<?, ?> map, String key) {
+    if (map.getClass().getName().startsWith("java.util.")) {
+      return map.get(key);
+    }
+
+    // Other maps may be case insensitive, while the expression language selects keys by their exact name
+    for (Object mapKey : map.keySet()) {
+      if (key.equals(mapKey)) {
+        if (map instanceof MultiMap) {
+          List<?> values = ((MultiMap) map).getAll(mapKey);
+          return values.isEmpty() ? null : values.get(0);
+        }
+        return map.get(mapKey);
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, Method> introspect(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return emptyMap();
+    }
+
+    try {
+      Map<String, Method> getters = new HashMap<>();
+      for (PropertyDescriptor property : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+        Method getter = property.getReadMethod();
+        if (getter != null && !"class".equals(property.getName())) {
+          getters.put(property.getName(), getter);
+        }
+      }
+      return getters;
+    } catch (IntrospectionException e) {
+      return emptyMap();
+    }
+  }
+
+  /**
+   * Splits a selector expression in the root binding and the keys selected from it.
+   *
+   * @param expression the expression to parse
+   * @return the path of the selector, or {@link #NOT_A_SELECTOR} if the expression is not a simple selector
+   */
+  private static String[] parse(String expression) {
+    String selector = expression;
+    if (selector.startsWith(DEFAULT_EXPRESSION_PREFIX)) {
+      if (!selector.endsWith(DEFAULT_EXPRESSION_POSTFIX)) {
+        return NOT_A_SELECTOR;
+      }
+      selector = selector.substring(DEFAULT_EXPRESSION_PREFIX.length(), selector.length() - DEFAULT_EXPRESSION_POSTFIX.length());
+    }
+    if (selector.startsWith(DW_PREFIX + PREFIX_EXPR_SEPARATOR)
+        && !selector.startsWith(DW_PREFIX + PREFIX_EXPR_SEPARATOR + PREFIX_EXPR_SEPARATOR)) {
+      selector = selector.substring(DW_PREFIX.length() + PREFIX_EXPR_SEPARATOR.length());
+    }
+
+    List<String> path = new ArrayList<>();
+    int position = readIdentifier(selector, 0);
+    if (position <= 0) {
+      return NOT_A_SELECTOR;
+    }
+    path.add(selector.substring(0, position));
+
+    while (position < selector.length()) {
+      if (selector.charAt(position) != '.' || ++position == selector.length()) {
+        return NOT_A_SELECTOR;
+      }
+
+      char c = selector.charAt(position);
+      if (c == '\'' || c == '"') {
+        int closing = selector.indexOf(c, position + 1);
+        String key = closing < 0 ? "" : selector.substring(position + 1, closing);
+        if (key.isEmpty() || key.indexOf('\\') >= 0 || key.indexOf('$') >= 0) {
+          return NOT_A_SELECTOR;
+        }
+        path.add(key);
+        position = closing + 1;
+      } else {
+        int end = readIdentifier(selector, position);
+        if (end < 0 || KEYWORDS.contains(selector.substring(position, end))) {
+          return NOT_A_SELECTOR;
+        }
+        path.add(selector.substring(position, end));
+        position = end;
+      }
+    }
+
+    String root = path.get(0);
+    if (!ROOTS.contains(root)
+        || (root.equals(CORRELATION_ID) && path.size() > 1)
+        || ((root.equals(VARS) || root.equals(ERROR)) && path.size() < 2)) {
+      return NOT_A_SELECTOR;
+    }
+    return path.toArray(new String[path.size()]);
+  }
+
+  /**
+   * @return the position after the identifier starting at the given one, or {@code -1} if there is no identifier there
+   */
+  private static int readIdentifier(String selector, int start) {
+    if (start >= selector.length() || !Character.isJavaIdentifierStart(selector.charAt(start))
+        || selector.charAt(start) == '$') {
+      return -1;
+    }
+    int position = start + 1;
+    while (position < selector.length() && Character.isJavaIdentifierPart(selector.charAt(position))
+        && selector.charAt(position) != '$') {
+      ++position;
+    }
+    return position;
+  }
+}
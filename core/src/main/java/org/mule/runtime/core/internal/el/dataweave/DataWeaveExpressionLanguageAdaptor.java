@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.el.dataweave;
 
 import static java.lang.String.format;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
 import static org.mule.runtime.api.el.BindingContextUtils.addEventBuindingsToBuilder;
 import static org.mule.runtime.api.el.BindingContextUtils.addFlowNameBindingsToBuilder;
@@ -205,7 +206,13 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
     }
 
     Builder contextBuilder;
-    if (event != null) {
+    if (event != null && (context == null || context == NULL_BINDING_CONTEXT)) {
+      // The event already keeps its own bindings, built only once no matter how many expressions are evaluated against it
+      if (componentLocation == null) {
+        return event.asBindingContext();
+      }
+      contextBuilder = BindingContext.builder(event.asBindingContext());
+    } else if (event != null) {
       contextBuilder = addEventBuindingsToBuilder(event, context);
     } else {
       contextBuilder = BindingContext.builder(context);
@@ -6,23 +6,29 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static javax.crypto.Cipher.DECRYPT_MODE;
+import static javax.crypto.Cipher.ENCRYPT_MODE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToCreate;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
+import static org.mule.runtime.core.api.util.Base64.DECODE;
+import static org.mule.runtime.core.api.util.Base64.ENCODE;
 
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.security.CryptoFailureException;
 import org.mule.runtime.core.api.util.Base64;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.GeneralSecurityException;
+import java.security.Key;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.KeySpec;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -30,6 +36,11 @@ import javax.crypto.SecretKey;
 /**
  * A JCE based encryption strategy. It also provides base64 encoding of encrypted/decrypted data by setting the base64encoding
  * attribute.
+ * <p>
+ * Since a {@link Cipher} is not thread safe, each operation takes its own instance from a pool, so that the strategy can be used
+ * concurrently. The pooled ciphers are created through {@link #createCipher(int)}. Streams are encrypted and decrypted as
+ * they are read, without loading their whole content in memory. A failure of the cipher while reading such a stream is thrown
+ * as a {@link CryptoFailureIOException}.
  */
 public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncryptionStrategy {
 
@@ -38,11 +49,18 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
    */
   protected transient Logger logger = LoggerFactory.getLogger(getClass());
 
+  private static final int BUFFER_SIZE = 8192;
+
   protected KeySpec keySpec;
   protected SecretKey secretKey;
+  // Set by createAndInitCiphers. Kept for subclasses, the operations of this class use the pooled ciphers
   protected Cipher encryptCipher;
   protected Cipher decryptCipher;
 
+  // Ciphers ready to be used, only those which finished their last operation successfully are returned
+  private final Queue<Cipher> encryptCiphers = new ConcurrentLinkedQueue<>();
+  private final Queue<Cipher> decryptCiphers = new ConcurrentLinkedQueue<>();
+
   protected String algorithm = null;
 
   protected boolean base64Encoding = true;
@@ -66,43 +84,57 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
   }
 
   protected void createAndInitCiphers() throws GeneralSecurityException {
-    encryptCipher = Cipher.getInstance(getAlgorithm());
-    decryptCipher = Cipher.getInstance(getAlgorithm());
+    encryptCipher = createCipher(ENCRYPT_MODE);
+    decryptCipher = createCipher(DECRYPT_MODE);
+  }
+
+  /**
+   * Creates a new {@link Cipher} initialised in the given {@code mode}. Used to fill the pools of ciphers, so it must not have side
+   * effects on this strategy.
+   *
+   * @param mode either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+   * @return a new {@link Cipher}
+   * @throws GeneralSecurityException if the cipher could not be created
+   * @since 4.3.0
+   */
+  protected Cipher createCipher(int mode) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(getAlgorithm());
 
     AlgorithmParameterSpec paramSpec = createAlgorithmParameterSpec();
     if (paramSpec != null) {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, paramSpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, paramSpec);
+      cipher.init(mode, getCipherKey(), paramSpec);
     } else {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey);
+      cipher.init(mode, getCipherKey());
     }
+    return cipher;
+  }
+
+  /**
+   * @return the {@link Key} with which the ciphers are initialised
+   * @since 4.3.0
+   */
+  protected Key getCipherKey() {
+    return secretKey;
   }
 
   protected abstract SecretKey getSecretKey() throws GeneralSecurityException;
 
   @Override
   public InputStream encrypt(InputStream data, Object info) throws CryptoFailureException {
-    try {
-      return new ByteArrayInputStream(this.encrypt(IOUtils.toByteArray(data), info));
-    } catch (IOException e) {
-      throw new CryptoFailureException(this, e);
-    }
+    InputStream encrypted = new PooledCipherInputStream(data, borrowCipher(encryptCiphers, ENCRYPT_MODE), encryptCiphers);
+    return base64Encoding ? new Base64.InputStream(encrypted, ENCODE) : encrypted;
   }
 
   @Override
   public InputStream decrypt(InputStream data, Object info) throws CryptoFailureException {
-    try {
-      return new ByteArrayInputStream(this.decrypt(IOUtils.toByteArray(data), info));
-    } catch (IOException e) {
-      throw new CryptoFailureException(this, e);
-    }
+    InputStream encrypted = base64Encoding ? new Base64.InputStream(data, DECODE) : data;
+    return new PooledCipherInputStream(encrypted, borrowCipher(decryptCiphers, DECRYPT_MODE), decryptCiphers);
   }
 
   @Override
   public byte[] encrypt(byte[] data, Object info) throws CryptoFailureException {
     try {
-      byte[] buf = encryptCipher.doFinal(data);
+      byte[] buf = doFinal(encryptCiphers, ENCRYPT_MODE, data);
       if (base64Encoding) {
         return Base64.encodeBytes(buf).getBytes();
       } else {
@@ -120,12 +152,32 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
       if (base64Encoding) {
         dec = Base64.decode(new String(data));
       }
-      return decryptCipher.doFinal(dec);
+      return doFinal(decryptCiphers, DECRYPT_MODE, dec);
     } catch (Exception e) {
       throw new CryptoFailureException(this, e);
     }
   }
 
+  private byte[] doFinal(Queue<Cipher> pool, int mode, byte[] data) throws GeneralSecurityException, CryptoFailureException {
+    Cipher cipher = borrowCipher(pool, mode);
+    byte[] result = cipher.doFinal(data);
+    pool.offer(cipher);
+    return result;
+  }
+
+  private Cipher borrowCipher(Queue<Cipher> pool, int mode) throws CryptoFailureException {
+    Cipher cipher = pool.poll();
+    if (cipher != null) {
+      return cipher;
+    }
+
+    try {
+      return createCipher(mode);
+    } catch (GeneralSecurityException e) {
+      throw new CryptoFailureException(this, e);
+    }
+  }
+
   public String getAlgorithm() {
     return algorithm;
   }
@@ -153,4 +205,125 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   protected abstract AlgorithmParameterSpec createAlgorithmParameterSpec();
 
+  /**
+   * A stream which encrypts or decrypts the data of another one as it is read, and returns its {@link Cipher} to the pool it was
+   * taken from once it is closed, provided that the whole data was processed without errors, since only then the cipher is reset
+   * to its initial state.
+   * <p>
+   * Unlike {@link javax.crypto.CipherInputStream}, failures of the cipher are told apart from the ones of the underlying stream by
+   * throwing them as a {@link CryptoFailureIOException}.
+   */
+  private final class PooledCipherInputStream extends FilterInputStream {
+
+    private final Cipher cipher;
+    private final Queue<Cipher> pool;
+    private final byte[] input = new byte[BUFFER_SIZE];
+    private byte[] output;
+    private int outputPosition = 0;
+    private int outputLength = 0;
+    private boolean finished = false;
+    private boolean failed = false;
+    private boolean released = false;
+
+    private PooledCipherInputStream(InputStream in, Cipher cipher, Queue<Cipher> pool) {
+      super(in);
+      this.cipher = cipher;
+      this.pool = pool;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!fill()) {
+        return -1;
+      }
+      return output[outputPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      int read = Math.min(len, outputLength - outputPosition);
+      System.arraycopy(output, outputPosition, b, off, read);
+      outputPosition += read;
+      return read;
+    }
+
+    /**
+     * Processes more data until there is some output available.
+     *
+     * @return {@code false} if all the data was processed and read
+     */
+    private boolean fill() throws IOException {
+      while (outputPosition >= outputLength) {
+        if (finished) {
+          return false;
+        }
+
+        int read;
+        try {
+          read = in.read(input);
+        } catch (IOException | RuntimeException e) {
+          failed = true;
+          throw e;
+        }
+
+        try {
+          output = read == -1 ? cipher.doFinal() : cipher.update(input, 0, read);
+        } catch (GeneralSecurityException | RuntimeException e) {
+          failed = true;
+          throw new CryptoFailureIOException(new CryptoFailureException(AbstractJCEEncryptionStrategy.this, e));
+        }
+        finished = read == -1;
+        outputPosition = 0;
+        outputLength = output == null ? 0 : output.length;
+      }
+      return true;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // The data has to go through the cipher, so it can't be skipped in the underlying stream
+      long skipped = 0;
+      while (skipped < n && fill()) {
+        int skip = (int) Math.min(n - skipped, outputLength - outputPosition);
+        outputPosition += skip;
+        skipped += skip;
+      }
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return outputLength - outputPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+      // Not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+      super.close();
+      if (finished && !failed && !released) {
+        released = true;
+        pool.offer(cipher);
+      }
+    }
+  }
 }
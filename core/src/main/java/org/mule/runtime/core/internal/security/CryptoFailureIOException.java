@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import org.mule.runtime.core.api.security.CryptoFailureException;
+
+import java.io.IOException;
+
+/**
+ * <code>CryptoFailureIOException</code> is thrown when reading a stream returned by an {@link AbstractJCEEncryptionStrategy}
+ * fails because of the encryption or decryption, rather than because of the underlying stream. It wraps the
+ * {@link CryptoFailureException} the strategy would have thrown if the stream was processed eagerly.
+ *
+ * @since 4.3.0
+ */
+public final class CryptoFailureIOException extends IOException {
+
+  /**
+   * Serial version
+   */
+  private static final long serialVersionUID = -2883510465102466457L;
+
+  public CryptoFailureIOException(CryptoFailureException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  @Override
+  public synchronized CryptoFailureException getCause() {
+    return (CryptoFailureException) super.getCause();
+  }
+}
@@ -12,10 +12,10 @@ import org.mule.runtime.core.api.util.StringMessageUtils;
 import org.mule.runtime.core.api.security.SecretKeyFactory;
 
 import java.security.GeneralSecurityException;
+import java.security.Key;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.KeySpec;
 
-import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -57,18 +57,8 @@ public class SecretKeyEncryptionStrategy extends AbstractJCEEncryptionStrategy {
   }
 
   @Override
-  protected void createAndInitCiphers() throws GeneralSecurityException {
-    encryptCipher = Cipher.getInstance(getAlgorithm());
-    decryptCipher = Cipher.getInstance(getAlgorithm());
-
-    AlgorithmParameterSpec paramSpec = createAlgorithmParameterSpec();
-    if (paramSpec != null) {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, (SecretKeySpec) keySpec, paramSpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, (SecretKeySpec) keySpec, paramSpec);
-    } else {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, (SecretKeySpec) keySpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, (SecretKeySpec) keySpec);
-    }
+  protected Key getCipherKey() {
+    return (SecretKeySpec) keySpec;
   }
 
   protected KeySpec createKeySpec() {
@@ -6,7 +6,13 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
+import static java.util.Collections.emptyMap;
+
+import org.mule.runtime.core.api.streaming.FlowStreamingStatistics;
+
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Implementation of {@link MutableStreamingStatistics} based on {@link AtomicInteger}
@@ -17,6 +23,24 @@ public class AtomicStreamingStatistics implements MutableStreamingStatistics {
 
   private final AtomicInteger openProviders = new AtomicInteger(0);
   private final AtomicInteger openCursors = new AtomicInteger(0);
+  private final Supplier<Map<String, FlowStreamingStatistics>> flowStatistics;
+
+  /**
+   * Creates a new instance which reports no flow statistics
+   */
+  public AtomicStreamingStatistics() {
+    this(() -> emptyMap());
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param flowStatistics supplies the statistics of each flow
+   * @since 4.3.0
+   */
+  public AtomicStreamingStatistics(Supplier<Map<String, FlowStreamingStatistics>> flowStatistics) {
+    this.flowStatistics = flowStatistics;
+  }
 
   @Override
   public int incrementOpenProviders() {
@@ -53,4 +77,12 @@ public class AtomicStreamingStatistics implements MutableStreamingStatistics {
   public int getOpenCursorsCount() {
     return openCursors.get();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, FlowStreamingStatistics> getFlowStatistics() {
+    return flowStatistics.get();
+  }
 }
@@ -6,7 +6,7 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
-import static java.lang.System.identityHashCode;
+import static java.util.Arrays.copyOf;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
@@ -19,26 +19,20 @@ import org.mule.runtime.core.internal.streaming.object.ManagedCursorIteratorProv
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.atomic.AtomicBoolean;
-
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 
 /**
  * Keeps track of active {@link Cursor cursors} and their {@link CursorProvider providers}
+ * <p>
+ * The providers of each event are kept until the event is terminated, when their resources are released. Each provider is also
+ * tracked through the {@link StreamingGhostBuster}, which releases it if it is collected before that.
  *
  * @since 4.0
  */
 public class CursorManager {
 
-  private final LoadingCache<BaseEventContext, EventStreamingState> registry =
-      Caffeine.newBuilder()
-          .removalListener((context, state, cause) -> ((EventStreamingState) state).dispose())
-          .build(context -> {
-            hookEventTermination(context);
-            return new EventStreamingState();
-          });
+  private static final int INITIAL_PROVIDERS = 4;
+
+  private final EventStreamingStateRegistry<EventStreamingState> registry = new EventStreamingStateRegistry<>();
 
   private final MutableStreamingStatistics statistics;
   private final StreamingGhostBuster ghostBuster;
@@ -71,56 +65,115 @@ public class CursorManager {
       throw new MuleRuntimeException(createStaticMessage("Unknown cursor provider type: " + provider.getClass().getName()));
     }
 
-    return registry.get(ownerContext).addProvider(managedProvider);
+    return getState(ownerContext).addProvider(managedProvider);
   }
 
-  private void terminated(BaseEventContext context) {
-    registry.invalidate(context);
+  private EventStreamingState getState(BaseEventContext ownerContext) {
+    final String eventId = ownerContext.getId();
+    EventStreamingState state = registry.get(eventId);
+    if (state == null) {
+      EventStreamingState newState = new EventStreamingState();
+      state = registry.putIfAbsent(eventId, newState);
+      if (state == null) {
+        state = newState;
+        ownerContext.onTerminated((response, throwable) -> terminated(eventId));
+      }
+    }
+    return state;
   }
 
-  private void hookEventTermination(BaseEventContext ownerContext) {
-    ownerContext.onTerminated((response, throwable) -> terminated(ownerContext));
+  private void terminated(String eventId) {
+    EventStreamingState state = registry.remove(eventId);
+    if (state != null) {
+      state.dispose();
+    }
   }
 
   private class EventStreamingState {
 
-    private final AtomicBoolean disposed = new AtomicBoolean(false);
-    private final Cache<Integer, WeakReference<ManagedCursorProvider>> providers = Caffeine.newBuilder().build();
-
-    private ManagedCursorProvider addProvider(ManagedCursorProvider provider) {
-      final int hash = identityHashCode(provider.getDelegate());
-      ManagedCursorProvider managedProvider = getOrAddManagedProvider(provider, hash);
-
-      // This can happen when a foreach component splits a text document using a stream.
-      // Iteration N might try to manage the same root provider that was already managed in iteration N-1, but the
-      // managed decorator from that previous iteration has been collected, which causes the weak reference to yield
-      // a null value. In which case we simply track it again.
-      if (managedProvider == null) {
-        synchronized (provider.getDelegate()) {
-          managedProvider = getOrAddManagedProvider(provider, hash);
-          if (managedProvider == null) {
-            providers.invalidate(hash);
-            managedProvider = getOrAddManagedProvider(provider, hash);
+    private CursorProvider[] delegates = new CursorProvider[INITIAL_PROVIDERS];
+    private WeakReference<ManagedCursorProvider>[] providers = new WeakReference[INITIAL_PROVIDERS];
+    private int size;
+    private boolean disposed;
+
+    private synchronized ManagedCursorProvider addProvider(ManagedCursorProvider provider) {
+      final CursorProvider delegate = provider.getDelegate();
+      for (int i = 0; i < size; ++i) {
+        if (delegates[i] == delegate) {
+          ManagedCursorProvider managedProvider = providers[i].get();
+          if (managedProvider != null) {
+            return managedProvider;
           }
+
+          // This can happen when a foreach component splits a text document using a stream.
+          // Iteration N might try to manage the same root provider that was already managed in iteration N-1, but the
+          // managed decorator from that previous iteration has been collected, which causes the weak reference to yield
+          // a null value. In which case we simply track it again.
+          providers[i] = ghostBuster.track(provider);
+          return provider;
         }
       }
 
-      return managedProvider;
+      WeakReference<ManagedCursorProvider> reference = ghostBuster.track(provider);
+      if (disposed) {
+        // the event was terminated while the provider was being managed, so only the ghost buster will release it
+        return provider;
+      }
+
+      if (size == delegates.length) {
+        expunge();
+        if (size == delegates.length) {
+          delegates = copyOf(delegates, size * 2);
+          providers = copyOf(providers, size * 2);
+        }
+      }
+      delegates[size] = delegate;
+      providers[size] = reference;
+      ++size;
+      return provider;
     }
 
-    private ManagedCursorProvider getOrAddManagedProvider(ManagedCursorProvider provider, int hash) {
-      return providers.get(hash, k -> ghostBuster.track(provider)).get();
+    /**
+     * Forgets the providers that were already collected and released by the {@link StreamingGhostBuster}
+     */
+    private void expunge() {
+      int live = 0;
+      for (int i = 0; i < size; ++i) {
+        if (providers[i].get() != null) {
+          delegates[live] = delegates[i];
+          providers[live] = providers[i];
+          ++live;
+        }
+      }
+      for (int i = live; i < size; ++i) {
+        delegates[i] = null;
+        providers[i] = null;
+      }
+      size = live;
     }
 
     private void dispose() {
-      if (disposed.compareAndSet(false, true)) {
-        providers.asMap().forEach((hash, weakReference) -> {
-          ManagedCursorProvider provider = weakReference.get();
-          if (provider != null) {
-            weakReference.clear();
-            provider.releaseResources();
-          }
-        });
+      WeakReference<ManagedCursorProvider>[] toRelease;
+      int count;
+      synchronized (this) {
+        if (disposed) {
+          return;
+        }
+        disposed = true;
+        toRelease = providers;
+        count = size;
+        delegates = null;
+        providers = null;
+        size = 0;
+      }
+
+      for (int i = 0; i < count; ++i) {
+        WeakReference<ManagedCursorProvider> weakReference = toRelease[i];
+        ManagedCursorProvider provider = weakReference.get();
+        if (provider != null) {
+          weakReference.clear();
+          provider.releaseResources();
+        }
       }
     }
   }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+/**
+ * Keeps the streaming state of each event being processed, keyed by the id of its root context.
+ * <p>
+ * The states are kept in flat open addressing tables, split in stripes so that concurrent events don't contend on a single lock.
+ * Removed entries are compacted right away instead of being marked, and each stripe shrinks back once most of its events are
+ * completed, so the memory used is bounded by the amount of events in flight rather than by the highest load seen.
+ *
+ * @param <S> the type of the state of each event
+ * @since 4.3.0
+ */
+final class EventStreamingStateRegistry<S> {
+
+  private static final int STRIPE_BITS = 4;
+  private static final int STRIPES = 1 << STRIPE_BITS;
+  private static final int MIN_CAPACITY = 16;
+
+  private final Stripe<S>[] stripes = new Stripe[STRIPES];
+
+  EventStreamingStateRegistry() {
+    for (int i = 0; i < STRIPES; ++i) {
+      stripes[i] = new Stripe<>();
+    }
+  }
+
+  /**
+   * @param eventId the id of the root context of an event
+   * @return the state of the event, or {@code null} if there is none
+   */
+  S get(String eventId) {
+    int hash = hash(eventId);
+    return stripeFor(hash).get(eventId, hash);
+  }
+
+  /**
+   * Adds the {@code state} of an event, unless there is one already.
+   *
+   * @param eventId the id of the root context of an event
+   * @param state   the state to add
+   * @return the state of the event that was already present, or {@code null} if the given one was added
+   */
+  S putIfAbsent(String eventId, S state) {
+    int hash = hash(eventId);
+    return stripeFor(hash).putIfAbsent(eventId, hash, state);
+  }
+
+  /**
+   * @param eventId the id of the root context of an event
+   * @return the removed state of the event, or {@code null} if there was none
+   */
+  S remove(String eventId) {
+    int hash = hash(eventId);
+    return stripeFor(hash).remove(eventId, hash);
+  }
+
+  /**
+   * @return the amount of events which state is kept
+   */
+  int size() {
+    int size = 0;
+    for (Stripe<S> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private Stripe<S> stripeFor(int hash) {
+    return stripes[hash & (STRIPES - 1)];
+  }
+
+  private static int hash(String eventId) {
+    int hash = eventId.hashCode() * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Stripe<S> {
+
+    private String[] keys = new String[MIN_CAPACITY];
+    private int[] hashes = new int[MIN_CAPACITY];
+    private Object[] values = new Object[MIN_CAPACITY];
+    private int size;
+
+    private synchronized S get(String key, int hash) {
+      int slot = find(key, hash);
+      return slot >= 0 ? (S) values[slot] : null;
+    }
+
+    private synchronized S putIfAbsent(String key, int hash, S value) {
+      int mask = keys.length - 1;
+      int slot = slotOf(hash, mask);
+      for (; keys[slot] != null; slot = (slot + 1) & mask) {
+        if (hashes[slot] == hash && keys[slot].equals(key)) {
+          return (S) values[slot];
+        }
+      }
+
+      keys[slot] = key;
+      hashes[slot] = hash;
+      values[slot] = value;
+      if (++size * 2 > keys.length) {
+        resize(keys.length * 2);
+      }
+      return null;
+    }
+
+    private synchronized S remove(String key, int hash) {
+      int slot = find(key, hash);
+      if (slot < 0) {
+        return null;
+      }
+      S value = (S) values[slot];
+
+      // shift back the following entries of the same run, so that no removal marks are needed
+      int mask = keys.length - 1;
+      int hole = slot;
+      for (int next = (hole + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+        int ideal = slotOf(hashes[next], mask);
+        if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+          keys[hole] = keys[next];
+          hashes[hole] = hashes[next];
+          values[hole] = values[next];
+          hole = next;
+        }
+      }
+      keys[hole] = null;
+      values[hole] = null;
+
+      if (--size * 8 < keys.length && keys.length > MIN_CAPACITY) {
+        resize(keys.length / 2);
+      }
+      return value;
+    }
+
+    private synchronized int size() {
+      return size;
+    }
+
+    private int find(String key, int hash) {
+      int mask = keys.length - 1;
+      for (int slot = slotOf(hash, mask); keys[slot] != null; slot = (slot + 1) & mask) {
+        if (hashes[slot] == hash && keys[slot].equals(key)) {
+          return slot;
+        }
+      }
+      return -1;
+    }
+
+    private void resize(int capacity) {
+      String[] oldKeys = keys;
+      int[] oldHashes = hashes;
+      Object[] oldValues = values;
+
+      keys = new String[capacity];
+      hashes = new int[capacity];
+      values = new Object[capacity];
+      int mask = capacity - 1;
+      for (int i = 0; i < oldKeys.length; ++i) {
+        if (oldKeys[i] != null) {
+          int slot = slotOf(oldHashes[i], mask);
+          while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = oldKeys[i];
+          hashes[slot] = oldHashes[i];
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+
+    // the lowest bits are already used to pick the stripe
+    private static int slotOf(int hash, int mask) {
+      return (hash >>> STRIPE_BITS) & mask;
+    }
+  }
+}
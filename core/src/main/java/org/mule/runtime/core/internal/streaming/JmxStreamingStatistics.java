@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import org.mule.runtime.core.api.streaming.FlowStreamingStatistics;
+import org.mule.runtime.core.api.streaming.StreamingStatistics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes {@link StreamingStatistics} as a {@link StreamingStatisticsMXBean}.
+ *
+ * @since 4.3.0
+ */
+public class JmxStreamingStatistics implements StreamingStatisticsMXBean {
+
+  private final StreamingStatistics statistics;
+
+  public JmxStreamingStatistics(StreamingStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public int getOpenCursorProvidersCount() {
+    return statistics.getOpenCursorProvidersCount();
+  }
+
+  @Override
+  public int getOpenCursorsCount() {
+    return statistics.getOpenCursorsCount();
+  }
+
+  @Override
+  public long getMemoryInUse() {
+    long memoryInUse = 0;
+    for (FlowStreamingStatistics flowStatistics : statistics.getFlowStatistics().values()) {
+      memoryInUse += flowStatistics.getMemoryInUse();
+    }
+    return memoryInUse;
+  }
+
+  @Override
+  public Map<String, Long> getFlowMemoryInUse() {
+    return perFlow(FlowStreamingStatistics::getMemoryInUse);
+  }
+
+  @Override
+  public Map<String, Long> getFlowBufferedBytes() {
+    return perFlow(FlowStreamingStatistics::getBufferedBytes);
+  }
+
+  @Override
+  public Map<String, Long> getFlowReleasedBytes() {
+    return perFlow(FlowStreamingStatistics::getReleasedBytes);
+  }
+
+  private Map<String, Long> perFlow(ToLongFunction<FlowStreamingStatistics> value) {
+    Map<String, Long> values = new TreeMap<>();
+    statistics.getFlowStatistics().forEach((flowName, flowStatistics) -> values.put(flowName, value.applyAsLong(flowStatistics)));
+    return values;
+  }
+}
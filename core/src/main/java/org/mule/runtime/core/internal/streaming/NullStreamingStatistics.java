@@ -6,8 +6,14 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
+import static java.util.Collections.emptyMap;
+
+import org.mule.runtime.core.api.streaming.FlowStreamingStatistics;
+
+import java.util.Map;
+
 /**
- * Null implementation of {@link MutableStreamingStatistics}. All methods simply return zero.
+ * Null implementation of {@link MutableStreamingStatistics}. All methods simply return zero, or no flow statistics.
  *
  * @since 4.2.0
  */
@@ -42,4 +48,9 @@ public class NullStreamingStatistics implements MutableStreamingStatistics {
   public int getOpenCursorsCount() {
     return 0;
   }
+
+  @Override
+  public Map<String, FlowStreamingStatistics> getFlowStatistics() {
+    return emptyMap();
+  }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import org.mule.runtime.core.api.streaming.StreamingStatistics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link StreamingStatistics} of an application. The per flow attributes are keyed by flow name, and the memory
+ * in use is the sum of that of every flow.
+ *
+ * @since 4.3.0
+ */
+public interface StreamingStatisticsMXBean {
+
+  int getOpenCursorProvidersCount();
+
+  int getOpenCursorsCount();
+
+  long getMemoryInUse();
+
+  Map<String, Long> getFlowMemoryInUse();
+
+  Map<String, Long> getFlowBufferedBytes();
+
+  Map<String, Long> getFlowReleasedBytes();
+}
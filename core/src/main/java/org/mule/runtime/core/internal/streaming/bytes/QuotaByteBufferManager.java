@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.lang.String.format;
+import static java.lang.System.getProperty;
+import static java.util.Collections.unmodifiableMap;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.core.api.streaming.FlowStreamingStatistics;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link ByteBufferManager} decorator which limits how much streaming memory the application, and each of its flows, can hold.
+ * <p>
+ * The buffers allocated through the manager returned by {@link #forEvent(EventContext)} are attributed to the flow in the root
+ * location of the event, so that a flow which exceeds {@link #MAX_FLOW_MEMORY_PROPERTY} fails without starving the other
+ * flows. Every buffer counts towards {@link #MAX_APPLICATION_MEMORY_PROPERTY}. Unlike the overall limit of the decorated
+ * manager, these quotas don't wait for memory to be released: a {@link MaxStreamingMemoryExceededException} is thrown right away.
+ * <p>
+ * The bytes allocated and released by each flow are kept, so they can be reported as {@link FlowStreamingStatistics}.
+ *
+ * @since 4.3.0
+ */
+public class QuotaByteBufferManager implements ByteBufferManager, Disposable {
+
+  /**
+   * System property to set the maximum amount of bytes of streaming buffers that the application can hold at a time. If not set,
+   * only the limit of the decorated manager applies.
+   */
+  public static final String MAX_APPLICATION_MEMORY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.maxApplicationMemory";
+
+  /**
+   * System property to set the maximum amount of bytes of streaming buffers that the events of each flow can hold at a time. If
+   * not set, flows are only limited by the memory of the application.
+   */
+  public static final String MAX_FLOW_MEMORY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.maxFlowMemory";
+
+  static final String UNKNOWN_FLOW = "unknown";
+
+  private static final Logger LOGGER = getLogger(QuotaByteBufferManager.class);
+  private static final long NO_LIMIT = -1;
+
+  private final ByteBufferManager delegate;
+  private final long maxApplicationMemory;
+  private final long maxFlowMemory;
+  private final AtomicLong applicationMemory = new AtomicLong(0);
+  private final Map<String, FlowBufferManager> flows = new ConcurrentHashMap<>();
+  private final Map<String, FlowStreamingStatistics> flowStatistics = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance with the quotas set through {@link #MAX_APPLICATION_MEMORY_PROPERTY} and
+   * {@link #MAX_FLOW_MEMORY_PROPERTY}
+   *
+   * @param delegate the manager to actually allocate the buffers
+   */
+  public QuotaByteBufferManager(ByteBufferManager delegate) {
+    this(delegate, memoryProperty(MAX_APPLICATION_MEMORY_PROPERTY), memoryProperty(MAX_FLOW_MEMORY_PROPERTY));
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate             the manager to actually allocate the buffers
+   * @param maxApplicationMemory the max bytes the application can hold, or a negative value for no limit
+   * @param maxFlowMemory        the max bytes the events of each flow can hold, or a negative value for no limit
+   */
+  public QuotaByteBufferManager(ByteBufferManager delegate, long maxApplicationMemory, long maxFlowMemory) {
+    this.delegate = delegate;
+    this.maxApplicationMemory = maxApplicationMemory;
+    this.maxFlowMemory = maxFlowMemory;
+  }
+
+  /**
+   * @return whether any of the quotas is set through system properties
+   */
+  public static boolean isQuotaConfigured() {
+    return memoryProperty(MAX_APPLICATION_MEMORY_PROPERTY) >= 0 || memoryProperty(MAX_FLOW_MEMORY_PROPERTY) >= 0;
+  }
+
+  private static long memoryProperty(String propertyName) {
+    String value = getProperty(propertyName);
+    if (value == null) {
+      return NO_LIMIT;
+    }
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(format("Invalid value for system property '%s'. A memory size (in bytes) was "
+          + "expected, got '%s' instead", propertyName, value));
+    }
+  }
+
+  /**
+   * Returns a {@link ByteBufferManager} which attributes its buffers to the flow in the root location of the given event.
+   *
+   * @param eventContext the context of the event the buffers are allocated for
+   * @return a {@link ByteBufferManager} for the flow of the event
+   */
+  public ByteBufferManager forEvent(EventContext eventContext) {
+    String flowName = flowName(eventContext);
+    FlowBufferManager flow = flows.get(flowName);
+    return flow != null ? flow : flows.computeIfAbsent(flowName, this::createFlowBufferManager);
+  }
+
+  private FlowBufferManager createFlowBufferManager(String flowName) {
+    FlowBufferManager flow = new FlowBufferManager(flowName);
+    flowStatistics.put(flowName, flow.statistics);
+    return flow;
+  }
+
+  private static String flowName(EventContext eventContext) {
+    if (eventContext instanceof BaseEventContext && ((BaseEventContext) eventContext).getRootContext() != null) {
+      eventContext = ((BaseEventContext) eventContext).getRootContext();
+    }
+    ComponentLocation location = eventContext != null ? eventContext.getOriginatingLocation() : null;
+    return location != null ? location.getRootContainerName() : UNKNOWN_FLOW;
+  }
+
+  /**
+   * @return a read-only view of the statistics of each flow which allocated buffers, keyed by flow name
+   */
+  public Map<String, FlowStreamingStatistics> getFlowStatistics() {
+    return unmodifiableMap(flowStatistics);
+  }
+
+  /**
+   * Allocates a buffer which is not attributed to any flow.
+   * <p>
+   * {@inheritDoc}
+   */
+  @Override
+  public ByteBuffer allocate(int capacity) {
+    reserveApplicationMemory(capacity);
+    try {
+      return delegate.allocate(capacity);
+    } catch (RuntimeException e) {
+      applicationMemory.addAndGet(-capacity);
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void deallocate(ByteBuffer byteBuffer) {
+    try {
+      delegate.deallocate(byteBuffer);
+    } finally {
+      applicationMemory.addAndGet(-byteBuffer.capacity());
+    }
+  }
+
+  @Override
+  public void dispose() {
+    disposeIfNeeded(delegate, LOGGER);
+  }
+
+  private void reserveApplicationMemory(int capacity) {
+    if (!reserve(applicationMemory, maxApplicationMemory, capacity)) {
+      throw new MaxStreamingMemoryExceededException(createStaticMessage(format("Max streaming memory limit of %d bytes "
+          + "for the application was exceeded", maxApplicationMemory)));
+    }
+  }
+
+  private static boolean reserve(AtomicLong memory, long maxMemory, int capacity) {
+    if (maxMemory < 0) {
+      memory.addAndGet(capacity);
+      return true;
+    }
+
+    long current;
+    do {
+      current = memory.get();
+      if (current + capacity > maxMemory) {
+        return false;
+      }
+    } while (!memory.compareAndSet(current, current + capacity));
+    return true;
+  }
+
+  private class FlowBufferManager implements ByteBufferManager {
+
+    private final String flowName;
+    private final FlowStatistics statistics;
+
+    private FlowBufferManager(String flowName) {
+      this.flowName = flowName;
+      this.statistics = new FlowStatistics(flowName);
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+      if (!reserve(statistics.memoryInUse, maxFlowMemory, capacity)) {
+        throw new MaxStreamingMemoryExceededException(createStaticMessage(format("Max streaming memory limit of %d bytes "
+            + "for flow '%s' was exceeded", maxFlowMemory, flowName)));
+      }
+
+      try {
+        ByteBuffer buffer = QuotaByteBufferManager.this.allocate(capacity);
+        statistics.bufferedBytes.add(capacity);
+        return buffer;
+      } catch (RuntimeException e) {
+        statistics.memoryInUse.addAndGet(-capacity);
+        throw e;
+      }
+    }
+
+    @Override
+    public void deallocate(ByteBuffer byteBuffer) {
+      int capacity = byteBuffer.capacity();
+      try {
+        QuotaByteBufferManager.this.deallocate(byteBuffer);
+      } finally {
+        statistics.memoryInUse.addAndGet(-capacity);
+        statistics.releasedBytes.add(capacity);
+      }
+    }
+  }
+
+  /**
+   * The counters of a {@link FlowBufferManager}, exposed apart from it so that its buffers can't be handled through the
+   * statistics.
+   */
+  private static final class FlowStatistics implements FlowStreamingStatistics {
+
+    private final String flowName;
+    private final AtomicLong memoryInUse = new AtomicLong(0);
+    private final LongAdder bufferedBytes = new LongAdder();
+    private final LongAdder releasedBytes = new LongAdder();
+
+    private FlowStatistics(String flowName) {
+      this.flowName = flowName;
+    }
+
+    @Override
+    public String getFlowName() {
+      return flowName;
+    }
+
+    @Override
+    public long getBufferedBytes() {
+      return bufferedBytes.sum();
+    }
+
+    @Override
+    public long getReleasedBytes() {
+      return releasedBytes.sum();
+    }
+
+    @Override
+    public long getMemoryInUse() {
+      return memoryInUse.get();
+    }
+  }
+}
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.internal.transformer.encryption;
 
+import static org.mule.runtime.core.api.util.StreamingUtils.streamingContent;
+import static org.mule.runtime.core.privileged.event.PrivilegedEvent.getCurrentEvent;
+
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.security.EncryptionStrategy;
@@ -15,20 +18,30 @@ import org.mule.runtime.core.api.lifecycle.LifecycleUtils;
 import org.mule.runtime.core.api.security.CryptoFailureException;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.api.config.i18n.CoreMessages;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.api.transformer.AbstractTransformer;
+import org.mule.runtime.core.internal.security.CryptoFailureIOException;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 
+import javax.inject.Inject;
+
 /**
  * <code>EncryptionTransformer</code> will transform an array of bytes or string into an encrypted array of bytes
- *
+ * <p>
+ * The content is transformed lazily as the resulting stream is read. When transforming within an event, that stream is handed to
+ * the {@link StreamingManager}, so the result is repeatable according to its default streaming strategy. Failures of the
+ * {@link EncryptionStrategy} while reading the result are thrown by the consumer of the stream as a
+ * {@link CryptoFailureIOException}, whose cause is the {@link CryptoFailureException}.
  */
 public abstract class AbstractEncryptionTransformer extends AbstractTransformer implements MuleContextAware {
 
   private EncryptionStrategy strategy = null;
   private String strategyName = null;
+  private StreamingManager streamingManager;
 
   public AbstractEncryptionTransformer() {
     registerSourceType(DataType.BYTE_ARRAY);
@@ -50,6 +63,21 @@ public abstract class AbstractEncryptionTransformer extends AbstractTransformer
     return clone;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The transformed stream is checked against the return type, and then handed to the {@link StreamingManager}.
+   */
+  @Override
+  public Object transform(Object src, Charset enc) throws TransformerException {
+    Object transformed = super.transform(src, enc);
+    CoreEvent event = getCurrentEvent();
+    if (streamingManager == null || event == null) {
+      return transformed;
+    }
+    return streamingContent(transformed, streamingManager.forBytes().getDefaultCursorProviderFactory(), event);
+  }
+
   @Override
   public Object doTransform(Object src, Charset outputEncoding) throws TransformerException {
     InputStream input;
@@ -110,4 +138,9 @@ public abstract class AbstractEncryptionTransformer extends AbstractTransformer
     this.strategyName = strategyName;
   }
 
+  @Inject
+  public void setStreamingManager(StreamingManager streamingManager) {
+    this.streamingManager = streamingManager;
+  }
+
 }
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.privileged.processor.chain;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
 import static org.apache.commons.lang3.StringUtils.replace;
@@ -16,6 +17,7 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.setMuleContextIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateEventForStreaming;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -23,7 +25,9 @@ import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentM
 import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.setCurrentEvent;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
+import static org.mule.runtime.core.privileged.processor.chain.DefaultMessageProcessorChainBuilder.FUSE_NON_BLOCKING_PROCESSORS_PROPERTY;
 import static org.slf4j.LoggerFactory.getLogger;
+import static reactor.core.Exceptions.throwIfJvmFatal;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Operators.lift;
 import org.mule.runtime.api.component.Component;
@@ -69,6 +73,7 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
 import reactor.util.context.Context;
 
 /**
@@ -120,6 +125,8 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private ThreadNotificationService threadNotificationService;
   private ThreadNotificationLogger threadNotificationLogger;
 
+  private volatile List<List<Processor>> stages;
+
   AbstractMessageProcessorChain(String name, Optional<ProcessingStrategy> processingStrategyOptional,
                                 List<Processor> processors) {
     this.name = name;
@@ -136,7 +143,18 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
     List<BiFunction<Processor, ReactiveProcessor, ReactiveProcessor>> interceptors = resolveInterceptors();
     Flux<CoreEvent> stream = from(publisher);
-    for (Processor processor : getProcessorsToExecute()) {
+    for (List<Processor> stage : getStages()) {
+      if (stage.size() > 1) {
+        final Processor first = stage.get(0);
+        // Same error handling as for the non fused processors, for the errors raised outside of the processors themselves
+        stream = stream.transform(fuse(stage))
+            .subscriberContext(context -> context.put(REACTOR_ON_OPERATOR_ERROR_LOCAL, getLocalOperatorErrorHook(first)))
+            .onErrorContinue(exception -> !(exception instanceof LifecycleException),
+                             getContinueStrategyErrorHandler(first));
+        continue;
+      }
+
+      Processor processor = stage.get(0);
       // Perform assembly for processor chain by transforming the existing publisher with a publisher function for each processor
       // along with the interceptors that decorate it.
       stream = stream.transform(applyInterceptors(interceptors, processor))
@@ -159,6 +177,125 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     });
   }
 
+  /*
+   * The stages are resolved once, since apply is called for every event on nested chains.
+   */
+  private List<List<Processor>> getStages() {
+    List<List<Processor>> resolvedStages = stages;
+    if (resolvedStages == null) {
+      resolvedStages = resolveStages(getProcessorsToExecute());
+      stages = resolvedStages;
+    }
+    return resolvedStages;
+  }
+
+  /*
+   * Groups the processors in the stages to assemble. Maximal runs of processors that can be fused are grouped in a single stage,
+   * every other processor has its own stage.
+   */
+  private List<List<Processor>> resolveStages(List<Processor> processors) {
+    final List<List<Processor>> stages = new ArrayList<>();
+    final boolean fusionEnabled = getBoolean(FUSE_NON_BLOCKING_PROCESSORS_PROPERTY) && additionalInterceptors.isEmpty()
+        && !muleContext.getConfiguration().isThreadLoggingEnabled() && !isProcessorNotificationPossible();
+
+    List<Processor> fusedStage = null;
+    for (Processor processor : processors) {
+      if (fusionEnabled && isFusable(processor)) {
+        if (fusedStage == null) {
+          fusedStage = new ArrayList<>();
+          stages.add(fusedStage);
+        }
+        fusedStage.add(processor);
+      } else {
+        fusedStage = null;
+        List<Processor> stage = new ArrayList<>(1);
+        stage.add(processor);
+        stages.add(stage);
+      }
+    }
+    return stages;
+  }
+
+  /*
+   * The notifications of each processor are fired on the flow thread, before the processing strategy. That can't be done for the
+   * processors in the middle of a fused stage, so there is no fusion when those notifications may be fired.
+   */
+  private boolean isProcessorNotificationPossible() {
+    final ServerNotificationManager notificationManager = muleContext.getNotificationManager();
+    return notificationManager != null && (notificationManager.isNotificationDynamic()
+        || notificationManager.isNotificationEnabled(MessageProcessorNotification.class));
+  }
+
+  /*
+   * A processor can be fused if it does not switch threads and its reactive behavior is the default one, which just delegates to
+   * its blocking process method.
+   */
+  private static boolean isFusable(Processor processor) {
+    if (processor.getProcessingType() != CPU_LITE) {
+      return false;
+    }
+    try {
+      return processor.getClass().getMethod("apply", Publisher.class).getDeclaringClass() == Processor.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /*
+   * Builds a single stage for the given processors, equivalent to the one assembled for each processor individually by the
+   * interceptors resolved in resolveInterceptors, but calling each processor in a loop with a single TCCL switch.
+   *
+   * No processor notifications are fired, since there is no fusion when they may be.
+   */
+  private ReactiveProcessor fuse(List<Processor> processors) {
+    final ReactiveProcessor loop = publisher -> from(publisher)
+        .<CoreEvent>handle((event, sink) -> processFused(processors, event, sink));
+    final ReactiveProcessor fused = stream -> from(stream)
+        .transform(doOnNextOrErrorWithContext(TCCL_REACTOR_CTX_CONSUMER)
+            .andThen(loop)
+            .andThen(doOnNextOrErrorWithContext(TCCL_ORIGINAL_REACTOR_CTX_CONSUMER)));
+
+    if (processingStrategy != null) {
+      // Every fused processor is CPU_LITE, so the processing strategy treats the stage as it would treat each of them
+      return processingStrategy.onProcessor(new InterceptedReactiveProcessor(processors.get(0), fused, null));
+    } else {
+      return fused;
+    }
+  }
+
+  private void processFused(List<Processor> processors, CoreEvent event, SynchronousSink<CoreEvent> sink) {
+    CoreEvent current = event;
+    for (Processor processor : processors) {
+      CoreEvent failedEvent = current;
+      try {
+        currentMuleContext.set(muleContext);
+        setCurrentEvent((PrivilegedEvent) current);
+
+        final CoreEvent result = processor.process(current);
+        if (result == null) {
+          // Dropped, as done by the default Processor#apply
+          return;
+        }
+
+        failedEvent = result;
+        setCurrentEvent((PrivilegedEvent) result);
+        // If the processor returns a CursorProvider, then have the StreamingManager manage it
+        current = updateEventForStreaming(streamingManager).apply(result);
+      } catch (Throwable t) {
+        throwIfJvmFatal(t);
+        // Same handling as the local error hook followed by the continue error strategy of non fused processors
+        Throwable throwable = unwrap(t);
+        MessagingException messagingException = throwable instanceof MessagingException
+            ? resolveMessagingException(processor).apply((MessagingException) throwable)
+            : resolveException(processor, failedEvent, throwable);
+        notifyError(processor, (BaseEventContext) failedEvent.getContext(),
+                    resolveMessagingException(processor).apply(messagingException));
+        return;
+      }
+    }
+    sink.next(current);
+  }
+
   /*
    * Used to catch exceptions emitted by reactor operators and wrap these in a MessagingException while conserving a reference to
    * the failed Event.
@@ -426,6 +563,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
 
   @Override
   public void initialise() throws InitialisationException {
+    stages = null;
     processorInterceptorManager.getInterceptorFactories().stream().forEach(interceptorFactory -> {
       ReactiveInterceptorAdapter reactiveInterceptorAdapter = new ReactiveInterceptorAdapter(interceptorFactory);
       try {
@@ -10,6 +10,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -51,6 +52,19 @@ import java.util.function.Supplier;
  */
 public class DefaultMessageProcessorChainBuilder extends AbstractMessageProcessorChainBuilder {
 
+  /**
+   * Enables the fusion of consecutive {@link Processor}s of the built chains that are {@code CPU_LITE} and do not customize
+   * {@link Processor#apply(Publisher)} into a single stage, calling {@link Processor#process(CoreEvent)} for each of them in a
+   * loop instead of assembling the reactive operators of every processor.
+   * <p>
+   * Fusion is not done when processor interceptors are registered, thread logging is enabled or
+   * {@link org.mule.runtime.api.notification.MessageProcessorNotification}s may be fired.
+   *
+   * @since 4.3.0
+   */
+  public static final String FUSE_NON_BLOCKING_PROCESSORS_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "processorChain.fuseNonBlockingProcessors";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultMessageProcessorChainBuilder.class);
 
   /**
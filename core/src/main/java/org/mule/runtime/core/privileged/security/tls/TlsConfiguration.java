@@ -6,9 +6,13 @@
  */
 package org.mule.runtime.core.privileged.security.tls;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.cannotLoadFromClasspath;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToLoad;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -30,9 +34,12 @@ import org.mule.runtime.core.privileged.security.TlsDirectTrustStore;
 import org.mule.runtime.core.privileged.security.TlsIndirectKeyStore;
 import org.mule.runtime.core.privileged.security.TlsIndirectTrustStore;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
@@ -53,6 +60,7 @@ import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.ManagerFactoryParameters;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
@@ -141,6 +149,26 @@ public final class TlsConfiguration extends AbstractComponent
   public static final String PROPERTIES_FILE_PATTERN = "tls-%s.conf";
   public static final String DEFAULT_SECURITY_MODEL = "default";
 
+  /**
+   * System property to set the default size of the client and server session caches of the {@link SSLContext}s. A value of
+   * zero means no limit. If not set, the JVM default applies.
+   */
+  public static final String SESSION_CACHE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.sessionCacheSize";
+
+  /**
+   * System property to set the default timeout in seconds of the client and server sessions of the {@link SSLContext}s. A value
+   * of zero means no timeout. If not set, the JVM default applies.
+   */
+  public static final String SESSION_TIMEOUT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.sessionTimeout";
+
+  /**
+   * System property to set the default interval in milliseconds at which the key store and trust store files are checked for
+   * changes. If not set, they are not checked.
+   */
+  public static final String STORES_RELOAD_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.storesReloadInterval";
+
+  private static final int JVM_DEFAULT = -1;
+
   private Logger logger = LoggerFactory.getLogger(getClass());
 
   private String sslType;
@@ -179,6 +207,24 @@ public final class TlsConfiguration extends AbstractComponent
   // certificate revocation checking
   private RevocationCheck revocationCheck = null;
 
+  // trust managers to use instead of those from the trust store
+  private TrustManager[] trustManagers = null;
+
+  private int clientSessionCacheSize = getInteger(SESSION_CACHE_SIZE_PROPERTY, JVM_DEFAULT);
+  private int clientSessionTimeout = getInteger(SESSION_TIMEOUT_PROPERTY, JVM_DEFAULT);
+  private int serverSessionCacheSize = getInteger(SESSION_CACHE_SIZE_PROPERTY, JVM_DEFAULT);
+  private int serverSessionTimeout = getInteger(SESSION_TIMEOUT_PROPERTY, JVM_DEFAULT);
+  private long storesReloadInterval = getLong(STORES_RELOAD_INTERVAL_PROPERTY, -1L);
+
+  // the context shared by all the socket factories and clients created from this configuration, so that they can resume each
+  // other's sessions. It is replaced as a whole when the stores change.
+  private final Object sslContextLock = new Object();
+  private volatile SSLContext sslContext;
+  private volatile long lastStoresCheck;
+  private long keyStoreLastModified;
+  private long trustStoreLastModified;
+  private final TlsHandshakeStatistics handshakeStatistics = new TlsHandshakeStatistics();
+
   /**
    * Support for TLS connections with a given initial value for the key store
    *
@@ -214,6 +260,8 @@ public final class TlsConfiguration extends AbstractComponent
     if (sslType == null) {
       sslType = resolveSslType();
     }
+
+    invalidateSslContext();
   }
 
   private String resolveSslType() {
@@ -247,8 +295,9 @@ public final class TlsConfiguration extends AbstractComponent
     }
 
     try {
-      keyManagerFactory = KeyManagerFactory.getInstance(getKeyManagerAlgorithm());
-      keyManagerFactory.init(tempKeyStore, keyPassword.toCharArray());
+      KeyManagerFactory factory = KeyManagerFactory.getInstance(getKeyManagerAlgorithm());
+      factory.init(tempKeyStore, keyPassword.toCharArray());
+      keyManagerFactory = factory;
     } catch (Exception e) {
       throw new CreateException(failedToLoad("Key Manager"), e, this);
     }
@@ -323,14 +372,15 @@ public final class TlsConfiguration extends AbstractComponent
 
     try {
       KeyStore trustStore = trustStoreName != null ? createTrustStore() : null;
-      trustManagerFactory = TrustManagerFactory.getInstance(trustManagerAlgorithm);
+      TrustManagerFactory factory = TrustManagerFactory.getInstance(trustManagerAlgorithm);
 
       if (revocationEnabled) {
         ManagerFactoryParameters tmfParams = revocationCheck.configFor(trustStore, getDefaultCaCerts());
-        trustManagerFactory.init(tmfParams);
+        factory.init(tmfParams);
       } else {
-        trustManagerFactory.init(trustStore);
+        factory.init(trustStore);
       }
+      trustManagerFactory = factory;
     } catch (Exception e) {
       throw new CreateException(
                                 failedToLoad("Trust Manager (" + trustManagerAlgorithm + ")"), e, this);
@@ -406,21 +456,150 @@ public final class TlsConfiguration extends AbstractComponent
     return tlsProperties.getEnabledProtocols();
   }
 
+  /**
+   * Returns the {@link SSLContext} for this configuration. The same instance is returned on each call, so that the sessions
+   * established through any of the sockets or engines created from it may be resumed by the others.
+   * <p>
+   * If a {@link #setStoresReloadInterval(long) reload interval} is set, the key store and trust store files are checked for
+   * changes at most once per interval, and a new context is created from them when they change. Connections established with
+   * the previous context are not affected.
+   *
+   * @return the shared {@link SSLContext}
+   */
   public SSLContext getSslContext() throws NoSuchAlgorithmException, KeyManagementException {
-    TrustManager[] trustManagers = null == getTrustManagerFactory() ? null : getTrustManagerFactory().getTrustManagers();
+    SSLContext context = sslContext;
+    if (context != null && !isStoresCheckDue()) {
+      return context;
+    }
 
-    return getSslContext(trustManagers);
+    synchronized (sslContextLock) {
+      if (sslContext == null) {
+        recordStoresLastModified();
+        sslContext = createSslContext();
+      } else if (isStoresCheckDue()) {
+        reloadIfStoresChanged();
+      }
+      return sslContext;
+    }
   }
 
+  /**
+   * Creates a new {@link SSLContext} which uses the given {@code trustManagers} instead of the configured trust store.
+   *
+   * @param trustManagers the trust managers for the new context
+   * @return a new {@link SSLContext}
+   */
   public SSLContext getSslContext(TrustManager[] trustManagers) throws NoSuchAlgorithmException, KeyManagementException {
     KeyManager[] keyManagers = null == getKeyManagerFactory() ? null : getKeyManagerFactory().getKeyManagers();
 
     SSLContext context = SSLContext.getInstance(getSslType());
     // TODO - nice to have a configurable random number source set here
     context.init(keyManagers, trustManagers, null);
+    configureSessionContext(context.getClientSessionContext(), clientSessionCacheSize, clientSessionTimeout);
+    configureSessionContext(context.getServerSessionContext(), serverSessionCacheSize, serverSessionTimeout);
     return context;
   }
 
+  private SSLContext createSslContext() throws NoSuchAlgorithmException, KeyManagementException {
+    TrustManager[] contextTrustManagers = trustManagers;
+    if (contextTrustManagers == null) {
+      TrustManagerFactory factory = getTrustManagerFactory();
+      if (factory == null) {
+        // the same ones the JVM uses when none is given
+        factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        try {
+          factory.init((KeyStore) null);
+        } catch (KeyStoreException e) {
+          throw new KeyManagementException(e);
+        }
+      }
+      contextTrustManagers = handshakeStatistics.track(factory.getTrustManagers());
+    }
+
+    return getSslContext(contextTrustManagers);
+  }
+
+  private void configureSessionContext(SSLSessionContext sessionContext, int cacheSize, int timeout) {
+    if (sessionContext == null) {
+      return;
+    }
+    if (cacheSize >= 0) {
+      sessionContext.setSessionCacheSize(cacheSize);
+    }
+    if (timeout >= 0) {
+      sessionContext.setSessionTimeout(timeout);
+    }
+  }
+
+  private boolean isStoresCheckDue() {
+    return storesReloadInterval > 0 && currentTimeMillis() - lastStoresCheck >= storesReloadInterval;
+  }
+
+  private void reloadIfStoresChanged() {
+    lastStoresCheck = currentTimeMillis();
+
+    long keyStoreModified = lastModified(keyStoreName);
+    long trustStoreModified = lastModified(trustStoreName);
+    if (keyStoreModified == keyStoreLastModified && trustStoreModified == trustStoreLastModified) {
+      return;
+    }
+
+    try {
+      if (keyManagerFactory != null) {
+        initKeyManagerFactory();
+      }
+      initTrustManagerFactory();
+      sslContext = createSslContext();
+
+      keyStoreLastModified = keyStoreModified;
+      trustStoreLastModified = trustStoreModified;
+      handshakeStatistics.contextReloaded();
+      logger.info("Reloaded TLS context after changes in its key store or trust store");
+    } catch (Exception e) {
+      // the stores may be half written, they will be checked again on the next interval
+      logger.warn("Could not reload TLS context after changes in its key store or trust store, keeping the previous one", e);
+    }
+  }
+
+  private void recordStoresLastModified() {
+    lastStoresCheck = currentTimeMillis();
+    keyStoreLastModified = lastModified(keyStoreName);
+    trustStoreLastModified = lastModified(trustStoreName);
+  }
+
+  /**
+   * @return the last modification time of the given store, or zero if it is not a file
+   */
+  private long lastModified(String storeName) {
+    if (storeName == null) {
+      return 0;
+    }
+
+    URL url = IOUtils.getResourceAsUrl(storeName, getClass());
+    if (url == null || !"file".equals(url.getProtocol())) {
+      return 0;
+    }
+    try {
+      return new File(url.toURI()).lastModified();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return 0;
+    }
+  }
+
+  private void invalidateSslContext() {
+    synchronized (sslContextLock) {
+      sslContext = null;
+    }
+  }
+
+  /**
+   * @return the statistics of the handshakes performed with the context returned by {@link #getSslContext()}
+   * @since 4.3.0
+   */
+  public TlsHandshakeStatistics getHandshakeStatistics() {
+    return handshakeStatistics;
+  }
+
   public String getSslType() {
     return sslType;
   }
@@ -433,6 +612,7 @@ public final class TlsConfiguration extends AbstractComponent
     }
 
     this.sslType = sslType;
+    invalidateSslContext();
   }
 
   // access to the explicit key store variables
@@ -592,6 +772,7 @@ public final class TlsConfiguration extends AbstractComponent
   @Override
   public void setTrustManagerFactory(TrustManagerFactory trustManagerFactory) {
     this.trustManagerFactory = trustManagerFactory;
+    invalidateSslContext();
   }
 
   @Override
@@ -628,6 +809,86 @@ public final class TlsConfiguration extends AbstractComponent
     this.revocationCheck = revocationCheck;
   }
 
+  /**
+   * Sets the trust managers to use in the context returned by {@link #getSslContext()} instead of those from the trust store.
+   *
+   * @param trustManagers the trust managers to use, or {@code null} to use those from the trust store
+   * @since 4.3.0
+   */
+  public void setTrustManagers(TrustManager[] trustManagers) {
+    this.trustManagers = trustManagers;
+    invalidateSslContext();
+  }
+
+  public int getClientSessionCacheSize() {
+    return clientSessionCacheSize;
+  }
+
+  /**
+   * @param clientSessionCacheSize the maximum amount of client sessions to keep for resumption. Zero means no limit and a
+   *        negative value leaves the JVM default.
+   * @since 4.3.0
+   */
+  public void setClientSessionCacheSize(int clientSessionCacheSize) {
+    this.clientSessionCacheSize = clientSessionCacheSize;
+    invalidateSslContext();
+  }
+
+  public int getClientSessionTimeout() {
+    return clientSessionTimeout;
+  }
+
+  /**
+   * @param clientSessionTimeout the seconds after which client sessions can no longer be resumed. Zero means no timeout and a
+   *        negative value leaves the JVM default.
+   * @since 4.3.0
+   */
+  public void setClientSessionTimeout(int clientSessionTimeout) {
+    this.clientSessionTimeout = clientSessionTimeout;
+    invalidateSslContext();
+  }
+
+  public int getServerSessionCacheSize() {
+    return serverSessionCacheSize;
+  }
+
+  /**
+   * @param serverSessionCacheSize the maximum amount of server sessions to keep for resumption. Zero means no limit and a
+   *        negative value leaves the JVM default.
+   * @since 4.3.0
+   */
+  public void setServerSessionCacheSize(int serverSessionCacheSize) {
+    this.serverSessionCacheSize = serverSessionCacheSize;
+    invalidateSslContext();
+  }
+
+  public int getServerSessionTimeout() {
+    return serverSessionTimeout;
+  }
+
+  /**
+   * @param serverSessionTimeout the seconds after which server sessions can no longer be resumed. Zero means no timeout and a
+   *        negative value leaves the JVM default.
+   * @since 4.3.0
+   */
+  public void setServerSessionTimeout(int serverSessionTimeout) {
+    this.serverSessionTimeout = serverSessionTimeout;
+    invalidateSslContext();
+  }
+
+  public long getStoresReloadInterval() {
+    return storesReloadInterval;
+  }
+
+  /**
+   * @param storesReloadInterval the milliseconds between checks for changes in the key store and trust store files. Zero or a
+   *        negative value disables the checks.
+   * @since 4.3.0
+   */
+  public void setStoresReloadInterval(long storesReloadInterval) {
+    this.storesReloadInterval = storesReloadInterval;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -645,6 +906,21 @@ public final class TlsConfiguration extends AbstractComponent
     if (requireClientAuthentication != that.requireClientAuthentication) {
       return false;
     }
+    if (clientSessionCacheSize != that.clientSessionCacheSize) {
+      return false;
+    }
+    if (clientSessionTimeout != that.clientSessionTimeout) {
+      return false;
+    }
+    if (serverSessionCacheSize != that.serverSessionCacheSize) {
+      return false;
+    }
+    if (serverSessionTimeout != that.serverSessionTimeout) {
+      return false;
+    }
+    if (storesReloadInterval != that.storesReloadInterval) {
+      return false;
+    }
     if (clientKeyStoreName != null ? !clientKeyStoreName.equals(that.clientKeyStoreName) : that.clientKeyStoreName != null) {
       return false;
     }
@@ -701,6 +977,9 @@ public final class TlsConfiguration extends AbstractComponent
     if (revocationCheck != null ? !revocationCheck.equals(that.revocationCheck) : that.revocationCheck != null) {
       return false;
     }
+    if (!Arrays.equals(trustManagers, that.trustManagers)) {
+      return false;
+    }
 
     return true;
   }
@@ -728,6 +1007,12 @@ public final class TlsConfiguration extends AbstractComponent
     result = hashcodePrimeNumber * result + (requireClientAuthentication ? 1 : 0);
     result = hashcodePrimeNumber * result + (tlsProperties != null ? tlsProperties.hashCode() : 0);
     result = hashcodePrimeNumber * result + (revocationCheck != null ? revocationCheck.hashCode() : 0);
+    result = hashcodePrimeNumber * result + Arrays.hashCode(trustManagers);
+    result = hashcodePrimeNumber * result + clientSessionCacheSize;
+    result = hashcodePrimeNumber * result + clientSessionTimeout;
+    result = hashcodePrimeNumber * result + serverSessionCacheSize;
+    result = hashcodePrimeNumber * result + serverSessionTimeout;
+    result = hashcodePrimeNumber * result + Long.hashCode(storesReloadInterval);
     return result;
   }
 }
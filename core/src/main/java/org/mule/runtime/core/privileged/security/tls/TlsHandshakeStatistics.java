@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.privileged.security.tls;
+
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+/**
+ * Counts the full handshakes performed with the {@link SSLContext} cached by a {@link TlsConfiguration}, along with the times
+ * that context was reloaded.
+ * <p>
+ * A full handshake is detected when the certificates of the peer are verified, which doesn't happen when a previous session is
+ * resumed. So, comparing the full handshakes against the connections established shows how many of them resumed a session.
+ * Server side handshakes are only detected when client authentication is requested.
+ *
+ * @since 4.3.0
+ */
+public final class TlsHandshakeStatistics {
+
+  private final LongAdder clientFullHandshakes = new LongAdder();
+  private final LongAdder serverFullHandshakes = new LongAdder();
+  private final LongAdder contextReloads = new LongAdder();
+
+  /**
+   * @return the amount of full handshakes in which the certificates of a server were verified
+   */
+  public long getClientFullHandshakes() {
+    return clientFullHandshakes.sum();
+  }
+
+  /**
+   * @return the amount of full handshakes in which the certificates of a client were verified
+   */
+  public long getServerFullHandshakes() {
+    return serverFullHandshakes.sum();
+  }
+
+  /**
+   * @return the amount of times the {@link SSLContext} was recreated because its key store or trust store changed
+   */
+  public long getContextReloads() {
+    return contextReloads.sum();
+  }
+
+  void contextReloaded() {
+    contextReloads.increment();
+  }
+
+  /**
+   * Wraps the given trust managers so that the verifications they perform are counted. Only
+   * {@link X509ExtendedTrustManager}s are wrapped, since wrapping any other kind would make JSSE skip the additional checks it
+   * performs on them.
+   */
+  TrustManager[] track(TrustManager[] trustManagers) {
+    TrustManager[] tracked = new TrustManager[trustManagers.length];
+    for (int i = 0; i < trustManagers.length; ++i) {
+      TrustManager trustManager = trustManagers[i];
+      tracked[i] = trustManager instanceof X509ExtendedTrustManager
+          ? new TrackingTrustManager((X509ExtendedTrustManager) trustManager)
+          : trustManager;
+    }
+    return tracked;
+  }
+
+  private final class TrackingTrustManager extends X509ExtendedTrustManager {
+
+    private final X509ExtendedTrustManager delegate;
+
+    private TrackingTrustManager(X509ExtendedTrustManager delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      serverFullHandshakes.increment();
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+      serverFullHandshakes.increment();
+      delegate.checkClientTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+      serverFullHandshakes.increment();
+      delegate.checkClientTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+      clientFullHandshakes.increment();
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+      clientFullHandshakes.increment();
+      delegate.checkServerTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+      clientFullHandshakes.increment();
+      delegate.checkServerTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return delegate.getAcceptedIssuers();
+    }
+  }
+}
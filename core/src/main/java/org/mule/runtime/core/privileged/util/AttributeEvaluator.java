@@ -92,6 +92,14 @@ public final class AttributeEvaluator {
     return remainingString.contains(DEFAULT_EXPRESSION_POSTFIX);
   }
 
+  /**
+   * @return {@code true} if the attribute can be resolved with {@link #resolveTypedValue(ExpressionManagerSession)}
+   * @since 4.3.0
+   */
+  public boolean isSessionSupported() {
+    return !(evaluator instanceof ParseAttributeEvaluatorDelegate);
+  }
+
   /**
    * @deprecated use the {@link #resolveTypedValue(ExpressionManagerSession)}) with a proper created session}
    */
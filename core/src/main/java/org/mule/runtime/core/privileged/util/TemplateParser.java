@@ -118,6 +118,26 @@ public final class TemplateParser {
   }
 
   private String parseMule(Map<?, ?> props, String template, TemplateCallback callback, boolean insideExpression) {
+    return compileMule(template, insideExpression).evaluate(callback);
+  }
+
+  /**
+   * Scans the given mule style template once, splitting it in its literal and expression segments so it can be evaluated many
+   * times without scanning it again.
+   *
+   * @param template the string containing the template place holders i.e. My name is #[vars.name]
+   * @return the compiled template
+   * @throws IllegalArgumentException if the template is not valid
+   * @since 4.3.0
+   */
+  public CompiledTemplate compile(String template) {
+    if (!styleIs(WIGGLY_MULE_TEMPLATE_STYLE)) {
+      throw new UnsupportedOperationException("Only mule style templates can be compiled");
+    }
+    return compileMule(template, false);
+  }
+
+  private CompiledTemplate compileMule(String template, boolean insideExpression) {
     validateBalanceMuleStyle(template);
 
     boolean lastIsBackSlash = false;
@@ -125,13 +145,15 @@ public final class TemplateParser {
     boolean inExpression = insideExpression;
     boolean openSingleQuotes = false;
 
-    StringBuilder result = new StringBuilder();
+    List<String> literals = new ArrayList<>();
+    List<String> expressions = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
     int currentPosition = 0;
     while (currentPosition < template.length()) {
       char c = template.charAt(currentPosition);
 
       if (lastStartedExpression && c != OPEN_EXPRESSION) {
-        result.append(START_EXPRESSION);
+        literal.append(START_EXPRESSION);
       }
       if (lastStartedExpression && c == OPEN_EXPRESSION) {
         inExpression = true;
@@ -142,7 +164,7 @@ public final class TemplateParser {
 
       if (lastIsBackSlash) {
         if ((inExpression ? c != '\'' && c != '"' : true) && c != START_EXPRESSION) {
-          result.append("\\");
+          literal.append("\\");
         }
       } else {
         if (c == '\'') {
@@ -152,30 +174,23 @@ public final class TemplateParser {
 
       if (c == OPEN_EXPRESSION && lastStartedExpression && (!insideExpression || !openSingleQuotes)) {
         int closing = closingBracesPosition(template, currentPosition);
-        String enclosingTemplate = template.substring(currentPosition + 1, closing);
-
-        Object value = enclosingTemplate;
-        if (callback != null) {
-          value = callback.match(enclosingTemplate);
-          if (value == null) {
-            value = NULL_AS_STRING;
-          } else {
-            value = parseMule(props, escapeValue(enclosingTemplate, value.toString()), callback, value.equals(enclosingTemplate));
-          }
-        }
-        result.append(value);
+        literals.add(literal.toString());
+        literal.setLength(0);
+        expressions.add(template.substring(currentPosition + 1, closing));
 
         currentPosition = closing;
       } else if ((c != START_EXPRESSION || lastIsBackSlash) && c != '\\') {
-        result.append(c);
+        literal.append(c);
       }
 
       lastStartedExpression = !lastIsBackSlash && c == START_EXPRESSION;
       lastIsBackSlash = c == '\\';
       currentPosition++;
     }
+    literals.add(literal.toString());
 
-    return result.toString();
+    return new CompiledTemplate(literals.toArray(new String[literals.size()]),
+                                expressions.toArray(new String[expressions.size()]));
   }
 
   private int closingBracesPosition(String template, int startingPosition) {
@@ -425,6 +440,75 @@ public final class TemplateParser {
     style.validate(expression);
   }
 
+  /**
+   * A mule style template already split in its literal and expression segments. Evaluating it only resolves the expressions and
+   * concatenates their values with the literals, without scanning the template again.
+   *
+   * @since 4.3.0
+   */
+  public final class CompiledTemplate {
+
+    // There is always one more literal than expressions, an empty string if there is nothing between them
+    private final String[] literals;
+    private final String[] expressions;
+    private final int literalsLength;
+
+    private CompiledTemplate(String[] literals, String[] expressions) {
+      this.literals = literals;
+      this.expressions = expressions;
+      int length = 0;
+      for (String literal : literals) {
+        length += literal.length();
+      }
+      this.literalsLength = length;
+    }
+
+    /**
+     * @return {@code true} if the template has expressions to evaluate
+     */
+    public boolean hasExpressions() {
+      return expressions.length > 0;
+    }
+
+    /**
+     * Evaluates the template, resolving its expressions with the given callback.
+     *
+     * @param callback a callback used to resolve the expressions
+     * @return the parsed String
+     */
+    public String evaluate(TemplateCallback callback) {
+      if (expressions.length == 0) {
+        return literals[0];
+      }
+
+      StringBuilder result = new StringBuilder(literalsLength + 16 * expressions.length);
+      result.append(literals[0]);
+      for (int i = 0; i < expressions.length; ++i) {
+        result.append(evaluateExpression(expressions[i], callback));
+        result.append(literals[i + 1]);
+      }
+      return result.toString();
+    }
+
+    private Object evaluateExpression(String expression, TemplateCallback callback) {
+      if (callback == null) {
+        return expression;
+      }
+
+      Object value = callback.match(expression);
+      if (value == null) {
+        return NULL_AS_STRING;
+      }
+
+      String valueString = value.toString();
+      if (valueString.indexOf(START_EXPRESSION) == -1 && valueString.indexOf('\\') == -1) {
+        // Nothing to escape or to parse in the value
+        return valueString;
+      }
+      return parseMule(null, escapeValue(expression, valueString), callback, value.equals(expression));
+    }
+  }
+
   @FunctionalInterface
   public interface TemplateCallback {
 
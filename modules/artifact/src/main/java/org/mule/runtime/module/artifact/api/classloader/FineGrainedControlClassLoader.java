@@ -6,11 +6,16 @@
  */
 package org.mule.runtime.module.artifact.api.classloader;
 
+import static java.lang.Boolean.TRUE;
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Boolean.valueOf;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedMap;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_LOG_VERBOSE_CLASSLOADING;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.api.annotation.NoInstantiate;
@@ -27,7 +32,9 @@ import java.net.URLStreamHandler;
 import java.net.URLStreamHandlerFactory;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 
@@ -38,6 +45,11 @@ import sun.net.www.protocol.jar.Handler;
  * <p/>
  * By using a {@link ClassLoaderLookupPolicy} this classLoader can use parent-first, parent-only or child-first classloading
  * lookup mode per package.
+ * <p/>
+ * The names of the classes that could not be found are remembered, so further attempts to load them fail without looking for
+ * them again on every class loader of the {@link LookupStrategy}. Frameworks probing for optional classes repeatedly ask for the
+ * same missing classes. Only the most recently requested ones are remembered, and this can be disabled using the
+ * {@link #DISABLE_NEGATIVE_LOOKUP_CACHE_PROPERTY} system property.
  */
 @NoInstantiate
 public class FineGrainedControlClassLoader extends URLClassLoader
@@ -47,16 +59,27 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     registerAsParallelCapable();
   }
 
+  /**
+   * Disables the cache of classes known to be missing, looking for them on every attempt to load them.
+   *
+   * @since 4.3.0
+   */
+  public static final String DISABLE_NEGATIVE_LOOKUP_CACHE_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "classloader.disableNegativeLookupCache";
+
   private static final Logger LOGGER = getLogger(FineGrainedControlClassLoader.class);
+  private static final int MAX_NOT_FOUND_CLASSES = 1000;
 
   private final ClassLoaderLookupPolicy lookupPolicy;
   private final boolean verboseLogging;
+  private final Map<String, Boolean> notFoundClasses;
 
   public FineGrainedControlClassLoader(URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy) {
     super(urls, parent, new NonCachingURLStreamHandlerFactory());
     checkArgument(lookupPolicy != null, "Lookup policy cannot be null");
     this.lookupPolicy = lookupPolicy;
     verboseLogging = LOGGER.isDebugEnabled() || isVerboseLoggingEnabled();
+    notFoundClasses = getBoolean(DISABLE_NEGATIVE_LOOKUP_CACHE_PROPERTY) ? null : synchronizedMap(new NotFoundClasses());
   }
 
   private boolean isVerboseLoggingEnabled() {
@@ -76,6 +99,12 @@ public class FineGrainedControlClassLoader extends URLClassLoader
       throw new NullPointerException(format("Unable to find a lookup strategy for '%s' from %s", name, this));
     }
 
+    if (notFoundClasses != null && notFoundClasses.get(name) != null) {
+      ClassNotFoundException notFound =
+          new ClassNotFoundException(format("Class '%s' was not found on a previous attempt to load it", name));
+      throw new CompositeClassNotFoundException(name, lookupStrategy, singletonList(notFound));
+    }
+
     if (verboseLogging) {
       logLoadingClass(name, lookupStrategy, "Loading class '%s' with '%s' on '%s'", this);
     }
@@ -99,6 +128,7 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     }
 
     if (result == null) {
+      rememberNotFoundClass(name);
       throw new CompositeClassNotFoundException(name, lookupStrategy, exceptions);
     }
 
@@ -113,6 +143,25 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     return result;
   }
 
+  private void rememberNotFoundClass(String name) {
+    if (notFoundClasses != null) {
+      // Only the name is kept, the exceptions of each class loader would retain their stack traces
+      notFoundClasses.put(name, TRUE);
+    }
+  }
+
+  /**
+   * Forgets the classes that were not found, so they are looked for again on the next attempt to load them. Must be called when
+   * the classes reachable from this class loader change.
+   *
+   * @since 4.3.0
+   */
+  protected void clearNotFoundClasses() {
+    if (notFoundClasses != null) {
+      notFoundClasses.clear();
+    }
+  }
+
   private void logLoadingClass(String name, LookupStrategy lookupStrategy, String format,
                                FineGrainedControlClassLoader fineGrainedControlClassLoader) {
     final String message = format(format, name, lookupStrategy, fineGrainedControlClassLoader);
@@ -185,6 +234,8 @@ public class FineGrainedControlClassLoader extends URLClassLoader
    */
   @Override
   public void dispose() {
+    clearNotFoundClasses();
+
     try {
       // Java 7 added support for closing a URLClassLoader, it will close any resources opened by this classloader
       close();
@@ -204,6 +255,24 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     }
   }
 
+  /**
+   * Keeps the most recently requested classes that were not found, evicting the least recently requested one when full, so
+   * probing lots of different classes doesn't grow it without bounds.
+   */
+  private static final class NotFoundClasses extends LinkedHashMap<String, Boolean> {
+
+    private static final long serialVersionUID = 1L;
+
+    private NotFoundClasses() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+      return size() > MAX_NOT_FOUND_CLASSES;
+    }
+  }
+
   protected static class NonCachingURLStreamHandlerFactory implements URLStreamHandlerFactory {
 
     @Override
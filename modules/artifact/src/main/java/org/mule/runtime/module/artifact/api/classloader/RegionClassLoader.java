@@ -60,6 +60,9 @@ import org.slf4j.Logger;
  * <p/>
  * Only a region member can export a given package, but same resources can be exported by many members. The order in which the
  * resources are found will depend on the order in which the class loaders were added to the region.
+ * <p/>
+ * Exported resources are indexed by each of their parent folders, so looking up the resources of a folder does not require
+ * scanning every exported resource.
  */
 public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
 
@@ -78,6 +81,7 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
   private final List<RegionMemberClassLoader> registeredClassLoaders = new ArrayList<>();
   private final Map<String, ArtifactClassLoader> packageMapping = new HashMap<>();
   private final Map<String, List<ArtifactClassLoader>> resourceMapping = new HashMap<>();
+  private final Map<String, List<ArtifactClassLoader>> resourceFolderMapping = new HashMap<>();
   private final Object descriptorMappingLock = new Object();
   private final Map<BundleDescriptor, URLClassLoader> descriptorMapping = new HashMap<>();
 
@@ -165,28 +169,46 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
       });
 
       for (String exportedResource : filter.getExportedResources()) {
-        List<ArtifactClassLoader> classLoaders =
-            resourceMapping.computeIfAbsent(normalize(exportedResource, true), k -> new ArrayList<>());
-
-        classLoaders.add(artifactClassLoader);
+        addResourceMapping(normalize(exportedResource, true), artifactClassLoader);
       }
 
       // *.class files may be requested as resources.
       for (String exportedClassPackage : filter.getExportedClassPackages()) {
         String packageAsDirectory =
             DOT_REPLACEMENT_PATTERN.matcher(exportedClassPackage).replaceAll(PATH_SEPARATOR);
-        List<ArtifactClassLoader> classLoaders =
-            resourceMapping.computeIfAbsent(packageAsDirectory, k -> new ArrayList<>());
-        classLoaders.add(artifactClassLoader);
-        classLoaders =
-            resourceMapping.computeIfAbsent(packageAsDirectory + PATH_SEPARATOR, k -> new ArrayList<>());
-        classLoaders.add(artifactClassLoader);
+        addResourceMapping(packageAsDirectory, artifactClassLoader);
+        addResourceMapping(packageAsDirectory + PATH_SEPARATOR, artifactClassLoader);
+      }
+
+      // The new member may provide classes that were previously not found, either by the region or by its members
+      clearNotFoundClasses();
+      clearNotFoundClasses(ownerClassLoader);
+      for (RegionMemberClassLoader registeredClassLoader : registeredClassLoaders) {
+        clearNotFoundClasses(registeredClassLoader.unfilteredClassLoader);
       }
     } finally {
       innerStateWriteLock.unlock();
     }
   }
 
+  private void clearNotFoundClasses(ArtifactClassLoader artifactClassLoader) {
+    if (artifactClassLoader != null && artifactClassLoader.getClassLoader() instanceof FineGrainedControlClassLoader) {
+      ((FineGrainedControlClassLoader) artifactClassLoader.getClassLoader()).clearNotFoundClasses();
+    }
+  }
+
+  private void addResourceMapping(String resource, ArtifactClassLoader artifactClassLoader) {
+    resourceMapping.computeIfAbsent(resource, k -> new ArrayList<>()).add(artifactClassLoader);
+
+    // Indexes the resource on each of its parent folders, including itself when it is a folder
+    int folderEnd = resource.indexOf(PATH_SEPARATOR);
+    while (folderEnd != -1) {
+      resourceFolderMapping.computeIfAbsent(resource.substring(0, folderEnd + 1), k -> new ArrayList<>())
+          .add(artifactClassLoader);
+      folderEnd = resource.indexOf(PATH_SEPARATOR, folderEnd + 1);
+    }
+  }
+
   static String illegalPackageMappingError(String p, LookupStrategy packageLookupStrategy) {
     return format("Attempt to map package '%s' which was already defined on the region lookup policy with '%s'",
                   p, packageLookupStrategy.getClass().getName());
@@ -374,12 +396,9 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
     String normalizedName = normalize(name, true);
     List<Enumeration<URL>> enumerations = new ArrayList<>(registeredClassLoaders.size());
     if (normalizedName.endsWith("/")) {
-      List<Map.Entry<String, List<ArtifactClassLoader>>> entries = resourceMapping.entrySet()
-          .stream()
-          .filter(entry -> entry.getKey().startsWith(name))
-          .collect(toList());
-      for (Map.Entry<String, List<ArtifactClassLoader>> entry : entries) {
-        List<ArtifactClassLoader> artifactClassLoaders = entry.getValue();
+      // Every exported resource contained in the folder, no matter how deep, was indexed by it
+      final List<ArtifactClassLoader> artifactClassLoaders = resourceFolderMapping.get(name);
+      if (artifactClassLoaders != null) {
         for (ArtifactClassLoader artifactClassLoader : artifactClassLoaders) {
           enumerations.add(artifactClassLoader.findResources(name));
         }
@@ -411,6 +430,7 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
       }
     });
     descriptorMapping.clear();
+    resourceFolderMapping.clear();
     disposeClassLoader(ownerClassLoader);
     super.dispose();
 
@@ -7,14 +7,21 @@
 package org.mule.runtime.module.artifact.api.classloader;
 
 import static java.lang.System.lineSeparator;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.module.artifact.api.classloader.ChildFirstLookupStrategy.CHILD_FIRST;
 import static org.mule.runtime.module.artifact.api.classloader.ChildOnlyLookupStrategy.CHILD_ONLY;
@@ -191,6 +198,100 @@ public class FineGrainedControlClassLoaderTestCase extends AbstractMuleTestCase
     invokeTestClassMethod(ext);
   }
 
+  @Test
+  public void remembersNotFoundClasses() throws Exception {
+    ClassLoader parent = mock(ClassLoader.class);
+    when(parent.loadClass(TEST_CLASS_NAME)).thenThrow(new ClassNotFoundException("ERROR"));
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    assertClassNotFound(ext);
+    assertClassNotFound(ext);
+
+    verify(parent, times(1)).loadClass(TEST_CLASS_NAME);
+  }
+
+  @Test
+  public void doesNotKeepFailuresOfRememberedNotFoundClasses() throws Exception {
+    ClassNotFoundException parentFailure = new ClassNotFoundException("ERROR");
+    ClassLoader parent = mock(ClassLoader.class);
+    when(parent.loadClass(TEST_CLASS_NAME)).thenThrow(parentFailure);
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    assertClassNotFound(ext);
+    try {
+      ext.loadClass(TEST_CLASS_NAME);
+      fail("Class should not be found");
+    } catch (CompositeClassNotFoundException e) {
+      assertThat(e.getExceptions(), contains(not(sameInstance(parentFailure))));
+      assertThat(e.getMessage(), containsString(TEST_CLASS_NAME));
+    }
+  }
+
+  @Test
+  public void forgetsLeastRecentlyRequestedNotFoundClasses() throws Exception {
+    ClassLoader parent = mock(ClassLoader.class);
+    when(parent.loadClass(anyString())).thenThrow(new ClassNotFoundException("ERROR"));
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(anyString())).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    assertClassNotFound(ext, TEST_CLASS_NAME);
+    assertClassNotFound(ext, TEST_CLASS_PACKAGE + ".Other");
+    for (int i = 0; i < 999; ++i) {
+      assertClassNotFound(ext, TEST_CLASS_PACKAGE + ".Missing" + i);
+      // keeps the first class as the most recently requested one
+      assertClassNotFound(ext, TEST_CLASS_NAME);
+    }
+
+    verify(parent, times(1)).loadClass(TEST_CLASS_NAME);
+    assertClassNotFound(ext, TEST_CLASS_PACKAGE + ".Other");
+    verify(parent, times(2)).loadClass(TEST_CLASS_PACKAGE + ".Other");
+  }
+
+  @Test
+  public void forgetsNotFoundClassesOnDispose() throws Exception {
+    ClassLoader parent = mock(ClassLoader.class);
+    when(parent.loadClass(TEST_CLASS_NAME)).thenThrow(new ClassNotFoundException("ERROR"));
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    assertClassNotFound(ext);
+    ext.dispose();
+    assertClassNotFound(ext);
+
+    verify(parent, times(2)).loadClass(TEST_CLASS_NAME);
+  }
+
+  private void assertClassNotFound(ClassLoader classLoader) {
+    assertClassNotFound(classLoader, TEST_CLASS_NAME);
+  }
+
+  private void assertClassNotFound(ClassLoader classLoader, String className) {
+    try {
+      classLoader.loadClass(className);
+      fail("Class should not be found");
+    } catch (ClassNotFoundException e) {
+      assertThat(e, is(instanceOf(CompositeClassNotFoundException.class)));
+    }
+  }
+
   protected FineGrainedControlClassLoader buildFineGrainedControlClassLoader(ClassLoader parent,
                                                                              final ClassLoaderLookupPolicy lookupPolicy) {
     return new FineGrainedControlClassLoader(new URL[0], parent, lookupPolicy) {
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -29,6 +30,7 @@ import static org.mockito.Mockito.when;
 import static org.mule.runtime.module.artifact.api.classloader.ChildFirstLookupStrategy.CHILD_FIRST;
 import static org.mule.runtime.module.artifact.api.classloader.DefaultArtifactClassLoaderFilter.NULL_CLASSLOADER_FILTER;
 import static org.mule.runtime.module.artifact.api.classloader.ParentFirstLookupStrategy.PARENT_FIRST;
+import static org.mule.runtime.module.artifact.api.classloader.ParentOnlyLookupStrategy.PARENT_ONLY;
 import static org.mule.runtime.module.artifact.api.classloader.RegionClassLoader.REGION_OWNER_CANNOT_BE_REMOVED_ERROR;
 import static org.mule.runtime.module.artifact.api.classloader.RegionClassLoader.createCannotRemoveClassLoaderError;
 import static org.mule.runtime.module.artifact.api.classloader.RegionClassLoader.createClassLoaderAlreadyInRegionError;
@@ -645,6 +647,61 @@ public class RegionClassLoaderTestCase extends AbstractMuleTestCase {
                                                 new URL("http://com.mycompany/SomeOtherClass.class")));
   }
 
+  @Test
+  public void findExportedResourcesInParentFolder() throws Exception {
+    ClassLoader parentClassLoader = mock(ClassLoader.class);
+    createClassLoaders(parentClassLoader);
+    URL appResource = new URL("http://com.mycompany/app/");
+    URL pluginResource = new URL("http://com.mycompany/plugin/");
+    appClassLoader.addResource("com/", appResource);
+    pluginClassLoader.addResource("com/", pluginResource);
+
+    when(lookupPolicy.getPackageLookupStrategy("com.mycompany.app")).thenReturn(CHILD_FIRST);
+    RegionClassLoader regionClassLoader = new RegionClassLoader(ARTIFACT_ID, artifactDescriptor, parentClassLoader, lookupPolicy);
+    regionClassLoader.addClassLoader(appClassLoader,
+                                     new DefaultArtifactClassLoaderFilter(ImmutableSet.of("com.mycompany.app"), emptySet()));
+    regionClassLoader.addClassLoader(pluginClassLoader,
+                                     new DefaultArtifactClassLoaderFilter(emptySet(), ImmutableSet.of("com/mycompany/config.xml")));
+
+    assertThat(list(regionClassLoader.findResources("com/")), hasItems(appResource, pluginResource));
+    assertThat(list(regionClassLoader.findResources("org/")), is(empty()));
+  }
+
+  @Test
+  public void addingMemberForgetsClassesNotFoundByMembers() throws Exception {
+    final ClassLoader parentClassLoader = mock(ClassLoader.class);
+    when(parentClassLoader.loadClass(CLASS_NAME)).thenThrow(new ClassNotFoundException());
+    when(lookupPolicy.getClassLookupStrategy(CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader memberClassLoader =
+        new FineGrainedControlClassLoader(new URL[0], parentClassLoader, lookupPolicy);
+    ArtifactClassLoader member = mock(ArtifactClassLoader.class);
+    when(member.getArtifactId()).thenReturn("member");
+    when(member.getClassLoader()).thenReturn(memberClassLoader);
+
+    RegionClassLoader regionClassLoader = new RegionClassLoader(ARTIFACT_ID, artifactDescriptor, parentClassLoader, lookupPolicy);
+    createClassLoaders(regionClassLoader);
+    regionClassLoader.addClassLoader(appClassLoader, NULL_CLASSLOADER_FILTER);
+    regionClassLoader.addClassLoader(member, NULL_CLASSLOADER_FILTER);
+
+    assertClassNotFound(memberClassLoader);
+    assertClassNotFound(memberClassLoader);
+    verify(parentClassLoader, times(1)).loadClass(CLASS_NAME);
+
+    regionClassLoader.addClassLoader(pluginClassLoader, NULL_CLASSLOADER_FILTER);
+    assertClassNotFound(memberClassLoader);
+    verify(parentClassLoader, times(2)).loadClass(CLASS_NAME);
+  }
+
+  private void assertClassNotFound(ClassLoader classLoader) {
+    try {
+      classLoader.loadClass(CLASS_NAME);
+      Assert.fail("Class should not be found");
+    } catch (ClassNotFoundException e) {
+      // Expected
+    }
+  }
+
   private void findExportedPackageAsResource(String resource, URL resourceExpectedUrl, String resourcePackage) {
     ClassLoader parentClassLoader = mock(ClassLoader.class);
     createClassLoaders(parentClassLoader);
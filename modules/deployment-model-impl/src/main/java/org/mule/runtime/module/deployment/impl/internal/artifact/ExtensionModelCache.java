@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.stream.Collectors.toSet;
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps the {@link ExtensionModel}s built for artifact plugins so they are not rebuilt each time an {@link ExtensionModel} for
+ * the same plugin is requested.
+ * <p>
+ * Models built by the Java loader reference classes of the plugin's {@link ClassLoader}, so an entry is only reused for the very
+ * same {@link ArtifactClassLoader} instance it was built with, and is evicted once that class loader is disposed. Concurrent
+ * requests for the same entry are resolved by building the model only once.
+ *
+ * @since 4.3.0
+ */
+public class ExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelCache.class);
+
+  private final Map<String, ArtifactExtensionModels> modelsByArtifact = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Returns the {@link ExtensionModel} for the given plugin, building it with the given {@code loader} if it is not already
+   * cached.
+   *
+   * @param pluginDescriptor the descriptor of the plugin that provides the extension
+   * @param pluginClassLoader the class loader of the plugin
+   * @param loaderDescriber the describer used to build the extension
+   * @param dependencies the {@link ExtensionModel}s available when building the extension
+   * @param loader builds the {@link ExtensionModel} if it is not cached
+   * @return the cached or newly built {@link ExtensionModel}
+   */
+  public ExtensionModel get(ArtifactPluginDescriptor pluginDescriptor, ArtifactClassLoader pluginClassLoader,
+                            LoaderDescriber loaderDescriber, Set<ExtensionModel> dependencies,
+                            Supplier<ExtensionModel> loader) {
+    final Map<ExtensionModelKey, CompletableFuture<ExtensionModel>> entries = entriesFor(pluginClassLoader);
+    final ExtensionModelKey key = new ExtensionModelKey(pluginDescriptor, loaderDescriber, dependencies);
+
+    final CompletableFuture<ExtensionModel> future = new CompletableFuture<>();
+    final CompletableFuture<ExtensionModel> existing = entries.putIfAbsent(key, future);
+    if (existing != null) {
+      hits.increment();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Reusing ExtensionModel for plugin '{}'", pluginDescriptor.getName());
+      }
+      return join(existing);
+    }
+
+    misses.increment();
+    try {
+      final ExtensionModel extensionModel = loader.get();
+      future.complete(extensionModel);
+      return extensionModel;
+    } catch (RuntimeException | Error e) {
+      entries.remove(key, future);
+      future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Removes all the cached entries.
+   */
+  public void clear() {
+    modelsByArtifact.clear();
+  }
+
+  /**
+   * @return the amount of requests that were resolved with a cached {@link ExtensionModel}
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the amount of requests that required building an {@link ExtensionModel}
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  private Map<ExtensionModelKey, CompletableFuture<ExtensionModel>> entriesFor(ArtifactClassLoader pluginClassLoader) {
+    final String artifactId = pluginClassLoader.getArtifactId();
+    final ClassLoader classLoader = pluginClassLoader.getClassLoader();
+
+    final ArtifactExtensionModels current = modelsByArtifact.get(artifactId);
+    if (current != null && current.classLoader == classLoader) {
+      return current.entries;
+    }
+
+    final ArtifactExtensionModels created = new ArtifactExtensionModels(classLoader);
+    final ArtifactExtensionModels models = modelsByArtifact
+        .compute(artifactId, (id, existing) -> existing != null && existing.classLoader == classLoader ? existing : created);
+    if (models == created) {
+      // registered out of the mapping function, which must not call into the class loader while holding the map lock
+      pluginClassLoader.addShutdownListener(() -> modelsByArtifact.remove(artifactId, created));
+    }
+    return models.entries;
+  }
+
+  private ExtensionModel join(CompletableFuture<ExtensionModel> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new MuleRuntimeException(e.getCause());
+    }
+  }
+
+  private static final class ArtifactExtensionModels {
+
+    private final ClassLoader classLoader;
+    private final Map<ExtensionModelKey, CompletableFuture<ExtensionModel>> entries = new ConcurrentHashMap<>();
+
+    private ArtifactExtensionModels(ClassLoader classLoader) {
+      this.classLoader = classLoader;
+    }
+  }
+
+  private static final class ExtensionModelKey {
+
+    private final String pluginName;
+    private final BundleDescriptor bundleDescriptor;
+    private final String loaderId;
+    private final Map<String, Object> loaderAttributes;
+    private final Set<String> dependencies;
+    private final int hashCode;
+
+    private ExtensionModelKey(ArtifactPluginDescriptor pluginDescriptor, LoaderDescriber loaderDescriber,
+                              Set<ExtensionModel> dependencies) {
+      this.pluginName = pluginDescriptor.getName();
+      this.bundleDescriptor = pluginDescriptor.getBundleDescriptor();
+      this.loaderId = loaderDescriber.getId();
+      this.loaderAttributes = new HashMap<>(loaderDescriber.getAttributes());
+      this.dependencies = dependencies.stream()
+          .map(extensionModel -> extensionModel.getName() + ":" + extensionModel.getVersion())
+          .collect(toSet());
+      this.hashCode = Objects.hash(pluginName, bundleDescriptor, loaderId, loaderAttributes, this.dependencies);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      ExtensionModelKey that = (ExtensionModelKey) o;
+      return hashCode == that.hashCode
+          && pluginName.equals(that.pluginName)
+          && Objects.equals(bundleDescriptor, that.bundleDescriptor)
+          && loaderId.equals(that.loaderId)
+          && loaderAttributes.equals(that.loaderAttributes)
+          && dependencies.equals(that.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -7,28 +7,47 @@
 
 package org.mule.runtime.module.deployment.impl.internal.artifact;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
+import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.extension.MuleExtensionModelProvider;
 import org.mule.runtime.core.api.registry.SpiServiceRegistry;
 import org.mule.runtime.core.api.extension.RuntimeExtensionModelProvider;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDependency;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
 
 import com.google.common.collect.ImmutableSet;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Discover the {@link ExtensionModel} based on the {@link ExtensionModelLoader} type.
@@ -37,6 +56,40 @@ import java.util.Set;
  */
 public class ExtensionModelDiscoverer {
 
+  /**
+   * When {@code true}, the {@link ExtensionModel}s of plugins that do not depend on each other are discovered concurrently.
+   */
+  public static final String PARALLEL_EXTENSION_MODEL_DISCOVERY_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "extensionModel.parallelDiscovery";
+
+  private static final String DISCOVERY_THREAD_NAME = "extension-model-discovery";
+
+  private static final ExtensionModelCache SHARED_EXTENSION_MODEL_CACHE = new ExtensionModelCache();
+
+  private final ExtensionModelCache extensionModelCache;
+  private final boolean parallelDiscovery;
+
+  /**
+   * Creates a new discoverer that shares its {@link ExtensionModelCache} with every other discoverer in the runtime.
+   */
+  public ExtensionModelDiscoverer() {
+    this(SHARED_EXTENSION_MODEL_CACHE);
+  }
+
+  /**
+   * Creates a new discoverer.
+   *
+   * @param extensionModelCache cache where the discovered {@link ExtensionModel}s are kept. Non null.
+   */
+  public ExtensionModelDiscoverer(ExtensionModelCache extensionModelCache) {
+    this(extensionModelCache, getBoolean(PARALLEL_EXTENSION_MODEL_DISCOVERY_PROPERTY));
+  }
+
+  ExtensionModelDiscoverer(ExtensionModelCache extensionModelCache, boolean parallelDiscovery) {
+    this.extensionModelCache = extensionModelCache;
+    this.parallelDiscovery = parallelDiscovery;
+  }
+
   /**
    * For each artifactPlugin discovers the {@link ExtensionModel}.
    *
@@ -64,26 +117,131 @@ public class ExtensionModelDiscoverer {
   public Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discoverPluginsExtensionModels(ExtensionModelLoaderRepository loaderRepository,
                                                                                             List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
                                                                                             Set<ExtensionModel> parentArtifactExtensions) {
+    if (parallelDiscovery) {
+      return discoverPluginsExtensionModelsInParallel(loaderRepository, artifactPlugins, parentArtifactExtensions);
+    }
+
     final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> descriptorsWithExtensions = new HashSet<>();
     artifactPlugins.forEach(artifactPlugin -> {
       Set<ExtensionModel> extensions = descriptorsWithExtensions.stream().map(Pair::getSecond).collect(toSet());
       extensions.addAll(parentArtifactExtensions);
-      final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
-      Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
-      ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
-      String artifactName = artifactPluginDescriptor.getName();
-      ExtensionModel extension = loaderDescriber
-          .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
-          .orElse(null);
+      ExtensionModel extension = discoverPluginExtensionModel(loaderRepository, artifactPlugin, extensions);
       if (extension != null) {
-        descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
+        descriptorsWithExtensions.add(new Pair<>(artifactPlugin.getFirst(), extension));
       }
     });
     return descriptorsWithExtensions;
   }
 
+  /**
+   * Discovers the {@link ExtensionModel}s of the given plugins, building the ones of plugins that do not depend on each other
+   * concurrently.
+   * <p>
+   * Plugins are grouped in layers where each plugin only depends on plugins from previous layers. Every layer is discovered in
+   * parallel once all the {@link ExtensionModel}s of the previous layers are available.
+   * <p>
+   * Unlike the sequential discovery, where each plugin sees the {@link ExtensionModel}s of every plugin before it in the list, a
+   * plugin only sees the ones of the previous layers, which include all of its dependencies. An extension can only reference
+   * types and components from extensions its class loader depends on, so the models of the plugins in its same layer are not
+   * needed to build it.
+   */
+  private Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discoverPluginsExtensionModelsInParallel(ExtensionModelLoaderRepository loaderRepository,
+                                                                                                     List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
+                                                                                                     Set<ExtensionModel> parentArtifactExtensions) {
+    final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> descriptorsWithExtensions = new HashSet<>();
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    final List<List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>>> layers = dependencyLayers(artifactPlugins);
+    final int widestLayer = layers.stream().mapToInt(List::size).max().orElse(1);
+    final ExecutorService executor = newFixedThreadPool(min(widestLayer, getRuntime().availableProcessors()),
+                                                        new NamedThreadFactory(DISCOVERY_THREAD_NAME));
+
+    try {
+      for (List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> layer : layers) {
+        final Set<ExtensionModel> extensions = descriptorsWithExtensions.stream().map(Pair::getSecond).collect(toSet());
+        extensions.addAll(parentArtifactExtensions);
+
+        final List<CompletableFuture<ExtensionModel>> discoveries = new ArrayList<>(layer.size());
+        for (Pair<ArtifactPluginDescriptor, ArtifactClassLoader> artifactPlugin : layer) {
+          discoveries.add(supplyAsync(() -> withContextClassLoader(contextClassLoader,
+                                                                   () -> discoverPluginExtensionModel(loaderRepository,
+                                                                                                      artifactPlugin,
+                                                                                                      extensions)),
+                                      executor));
+        }
+
+        for (int i = 0; i < layer.size(); ++i) {
+          ExtensionModel extension = join(discoveries.get(i));
+          if (extension != null) {
+            descriptorsWithExtensions.add(new Pair<>(layer.get(i).getFirst(), extension));
+          }
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return descriptorsWithExtensions;
+  }
+
+  private ExtensionModel join(CompletableFuture<ExtensionModel> discovery) {
+    try {
+      return discovery.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new MuleRuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Groups the plugins in layers, keeping the original order of the plugins, where each plugin only depends on plugins from
+   * previous layers.
+   */
+  private List<List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>>> dependencyLayers(List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins) {
+    final List<List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>>> layers = new ArrayList<>();
+    final Map<String, Integer> layerByPlugin = new HashMap<>();
+
+    for (Pair<ArtifactPluginDescriptor, ArtifactClassLoader> artifactPlugin : artifactPlugins) {
+      int layer = 0;
+      for (BundleDependency dependency : artifactPlugin.getFirst().getClassLoaderModel().getDependencies()) {
+        Integer dependencyLayer = layerByPlugin.get(pluginKey(dependency.getDescriptor()));
+        if (dependencyLayer != null) {
+          layer = max(layer, dependencyLayer + 1);
+        }
+      }
+
+      if (layer == layers.size()) {
+        layers.add(new ArrayList<>());
+      }
+      layers.get(layer).add(artifactPlugin);
+
+      BundleDescriptor bundleDescriptor = artifactPlugin.getFirst().getBundleDescriptor();
+      if (bundleDescriptor != null) {
+        layerByPlugin.put(pluginKey(bundleDescriptor), layer);
+      }
+    }
+    return layers;
+  }
+
+  private String pluginKey(BundleDescriptor bundleDescriptor) {
+    return bundleDescriptor.getGroupId() + ":" + bundleDescriptor.getArtifactId();
+  }
+
+  private ExtensionModel discoverPluginExtensionModel(ExtensionModelLoaderRepository loaderRepository,
+                                                      Pair<ArtifactPluginDescriptor, ArtifactClassLoader> artifactPlugin,
+                                                      Set<ExtensionModel> extensions) {
+    final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
+    Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
+    ArtifactClassLoader artifactClassLoader = artifactPlugin.getSecond();
+    String artifactName = artifactPluginDescriptor.getName();
+    return loaderDescriber
+        .map(describer -> extensionModelCache
+            .get(artifactPluginDescriptor, artifactClassLoader, describer, extensions,
+                 () -> discoverExtensionThroughJsonDescriber(loaderRepository, describer, extensions,
+                                                             artifactClassLoader.getClassLoader(), artifactName)))
+        .orElse(null);
+  }
+
   /**
    * Discover the extension models provided by the runtime.
    *
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.classloader.ShutdownListener;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class ExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String PLUGIN_ARTIFACT_ID = "application/app/plugin/test-plugin";
+
+  private final ExtensionModelCache cache = new ExtensionModelCache();
+  private final ArtifactPluginDescriptor pluginDescriptor = new ArtifactPluginDescriptor("test-plugin");
+  private final LoaderDescriber loaderDescriber = new LoaderDescriber("java");
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private ArtifactClassLoader pluginClassLoader;
+
+  @Before
+  public void before() {
+    pluginClassLoader = createPluginClassLoader();
+  }
+
+  @Test
+  public void reusesModelForSameClassLoader() {
+    ExtensionModel first = cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+    ExtensionModel second = cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  public void doesNotReuseModelForOtherClassLoaderInstance() {
+    ExtensionModel first = cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+    ExtensionModel second =
+        cache.get(pluginDescriptor, createPluginClassLoader(), loaderDescriber, emptySet(), this::loadExtensionModel);
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void doesNotReuseModelForDifferentDependencies() {
+    ExtensionModel dependency = mock(ExtensionModel.class);
+    when(dependency.getName()).thenReturn("dependency");
+    when(dependency.getVersion()).thenReturn("1.0.0");
+
+    cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+    cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, singleton(dependency), this::loadExtensionModel);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void evictsModelsOnClassLoaderDisposal() {
+    cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+
+    ArgumentCaptor<ShutdownListener> listenerCaptor = forClass(ShutdownListener.class);
+    verify(pluginClassLoader).addShutdownListener(listenerCaptor.capture());
+    listenerCaptor.getValue().execute();
+
+    cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void doesNotCacheFailures() {
+    try {
+      cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), () -> {
+        throw new IllegalStateException("Expected");
+      });
+      fail("Expected the load to fail");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+
+    cache.get(pluginDescriptor, pluginClassLoader, loaderDescriber, emptySet(), this::loadExtensionModel);
+    assertThat(loads.get(), is(1));
+  }
+
+  private ExtensionModel loadExtensionModel() {
+    loads.incrementAndGet();
+    return mock(ExtensionModel.class);
+  }
+
+  private ArtifactClassLoader createPluginClassLoader() {
+    ArtifactClassLoader artifactClassLoader = mock(ArtifactClassLoader.class);
+    when(artifactClassLoader.getArtifactId()).thenReturn(PLUGIN_ARTIFACT_ID);
+    when(artifactClassLoader.getClassLoader()).thenReturn(new ClassLoader() {});
+    return artifactClassLoader;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDependency;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModel.ClassLoaderModelBuilder;
+import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+@SmallTest
+public class ExtensionModelDiscovererTestCase extends AbstractMuleTestCase {
+
+  private final Map<String, Set<String>> visibleExtensionsByPlugin = new ConcurrentHashMap<>();
+  private final ExtensionModelLoaderRepository loaderRepository = mock(ExtensionModelLoaderRepository.class);
+
+  private final Pair<ArtifactPluginDescriptor, ArtifactClassLoader> first = plugin("first");
+  private final Pair<ArtifactPluginDescriptor, ArtifactClassLoader> second = plugin("second");
+  private final Pair<ArtifactPluginDescriptor, ArtifactClassLoader> dependant = plugin("dependant", "first");
+
+  @Test
+  public void sequentialDiscoverySeesEveryPreviousPlugin() {
+    discover(false);
+
+    assertThat(visibleExtensionsByPlugin.get("first"), is(empty()));
+    assertThat(visibleExtensionsByPlugin.get("second"), contains("first"));
+    assertThat(visibleExtensionsByPlugin.get("dependant"), containsInAnyOrder("first", "second"));
+  }
+
+  @Test
+  public void parallelDiscoverySeesPreviousLayers() {
+    Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discovered = discover(true);
+
+    assertThat(discovered.size(), is(3));
+    assertThat(visibleExtensionsByPlugin.get("first"), is(empty()));
+    assertThat(visibleExtensionsByPlugin.get("second"), is(empty()));
+    assertThat(visibleExtensionsByPlugin.get("dependant"), containsInAnyOrder("first", "second"));
+  }
+
+  @Test
+  public void parallelDiscoverySeesParentExtensions() {
+    ExtensionModel parentExtension = extensionModel("parent");
+
+    new ExtensionModelDiscoverer(new RecordingExtensionModelCache(), true)
+        .discoverPluginsExtensionModels(loaderRepository, asList(first, second), new HashSet<>(singleton(parentExtension)));
+
+    assertThat(visibleExtensionsByPlugin.get("first"), contains("parent"));
+    assertThat(visibleExtensionsByPlugin.get("second"), contains("parent"));
+  }
+
+  private Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discover(boolean parallel) {
+    List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> plugins = asList(first, second, dependant);
+    return new ExtensionModelDiscoverer(new RecordingExtensionModelCache(), parallel)
+        .discoverPluginsExtensionModels(loaderRepository, plugins);
+  }
+
+  private static Pair<ArtifactPluginDescriptor, ArtifactClassLoader> plugin(String name, String... dependencies) {
+    ArtifactPluginDescriptor descriptor = new ArtifactPluginDescriptor(name);
+    descriptor.setBundleDescriptor(bundleDescriptor(name));
+    descriptor.setExtensionModelDescriptorProperty(new LoaderDescriber("java"));
+
+    Set<BundleDependency> bundleDependencies = new HashSet<>();
+    for (String dependency : dependencies) {
+      bundleDependencies.add(new BundleDependency.Builder().setDescriptor(bundleDescriptor(dependency)).build());
+    }
+    descriptor.setClassLoaderModel(new ClassLoaderModelBuilder().dependingOn(bundleDependencies).build());
+
+    return new Pair<>(descriptor, mock(ArtifactClassLoader.class));
+  }
+
+  private static BundleDescriptor bundleDescriptor(String name) {
+    return new BundleDescriptor.Builder().setGroupId("org.mule.test").setArtifactId(name).setVersion("1.0.0").build();
+  }
+
+  private static ExtensionModel extensionModel(String name) {
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    when(extensionModel.getName()).thenReturn(name);
+    return extensionModel;
+  }
+
+  private class RecordingExtensionModelCache extends ExtensionModelCache {
+
+    @Override
+    public ExtensionModel get(ArtifactPluginDescriptor pluginDescriptor, ArtifactClassLoader pluginClassLoader,
+                              LoaderDescriber loaderDescriber, Set<ExtensionModel> dependencies,
+                              Supplier<ExtensionModel> loader) {
+      Set<String> visibleExtensions = new HashSet<>();
+      dependencies.forEach(extensionModel -> visibleExtensions.add(extensionModel.getName()));
+      visibleExtensionsByPlugin.put(pluginDescriptor.getName(), visibleExtensions);
+      return extensionModel(pluginDescriptor.getName());
+    }
+  }
+}
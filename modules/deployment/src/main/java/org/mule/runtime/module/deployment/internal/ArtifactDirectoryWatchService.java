@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptor.MULE_ARTIFACT_FOLDER;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.ARTIFACT_ANCHOR_SUFFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+
+/**
+ * Watches the artifact deployment directories using a {@link WatchService}, triggering a deployment check when something changes
+ * on them.
+ * <p/>
+ * Besides the deployment directories, the root folder of every exploded artifact and the folder containing its descriptor are
+ * watched, so changes on the artifact's configuration files are detected too. Changes in deeper folders are not watched in order
+ * to keep the number of watched folders bounded, those are detected by the periodic scan done by
+ * {@link DeploymentDirectoryWatcher}.
+ * <p/>
+ * Events are debounced: the check runs once no new event was received during the debounce interval, so copying or exploding an
+ * artifact triggers a single check. A continuous stream of events doesn't postpone the check for longer than the max delay.
+ *
+ * @since 4.3.0
+ */
+class ArtifactDirectoryWatchService {
+
+  private static final Logger LOGGER = getLogger(ArtifactDirectoryWatchService.class);
+
+  private final List<File> deploymentDirs;
+  private final Runnable changesCheck;
+  private final long debounceIntervalMs;
+  private final long maxDelayMs;
+  private final ScheduledExecutorService checkExecutor;
+  private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+
+  private WatchService watchService;
+  private Thread watchThread;
+  private ScheduledFuture<?> pendingCheck;
+  private long pendingCheckGeneration;
+  private long pendingSinceNanos;
+
+  /**
+   * Creates a new watch service.
+   *
+   * @param deploymentDirs the directories where artifacts are deployed
+   * @param changesCheck the task to run when a change is detected
+   * @param debounceIntervalMs time without new events to wait before running the {@code changesCheck}
+   * @param maxDelayMs max time to wait since the first event before running the {@code changesCheck}, even if events keep
+   *        arriving
+   * @param checkExecutor where the {@code changesCheck} is run
+   */
+  ArtifactDirectoryWatchService(List<File> deploymentDirs, Runnable changesCheck, long debounceIntervalMs, long maxDelayMs,
+                                ScheduledExecutorService checkExecutor) {
+    this.deploymentDirs = deploymentDirs;
+    this.changesCheck = changesCheck;
+    this.debounceIntervalMs = debounceIntervalMs;
+    this.maxDelayMs = maxDelayMs;
+    this.checkExecutor = checkExecutor;
+  }
+
+  /**
+   * Registers the watched directories and starts listening for events on them.
+   *
+   * @throws IOException if the watch service cannot be created or the deployment directories cannot be watched
+   */
+  void start() throws IOException {
+    watchService = FileSystems.getDefault().newWatchService();
+    for (File deploymentDir : deploymentDirs) {
+      register(deploymentDir.toPath());
+      File[] artifactDirs = deploymentDir.listFiles(File::isDirectory);
+      if (artifactDirs != null) {
+        for (File artifactDir : artifactDirs) {
+          registerArtifactDir(artifactDir.toPath());
+        }
+      }
+    }
+
+    watchThread = new ArtifactDeployerMonitorThreadFactory().newThread(this::processEvents);
+    watchThread.start();
+  }
+
+  /**
+   * Stops listening for events and cancels any pending check.
+   */
+  void stop() {
+    if (watchService == null) {
+      return;
+    }
+
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOGGER.warn("Error closing deployment directories watch service", e);
+    }
+    watchThread.interrupt();
+    synchronized (this) {
+      if (pendingCheck != null) {
+        pendingCheck.cancel(false);
+      }
+    }
+    watchedDirs.clear();
+  }
+
+  private void processEvents() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = watchService.take();
+        Path dir = watchedDirs.get(key);
+
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+          relevant |= processEvent(dir, event);
+        }
+
+        if (!key.reset()) {
+          watchedDirs.remove(key);
+        }
+        if (relevant) {
+          scheduleCheck();
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      // Watch service stopped
+    } catch (InterruptedException e) {
+      // preserve the flag for the thread
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean processEvent(Path dir, WatchEvent<?> event) {
+    if (event.kind() == OVERFLOW || dir == null) {
+      return true;
+    }
+
+    Path child = dir.resolve((Path) event.context());
+    boolean isDeploymentDir = deploymentDirs.stream().anyMatch(deploymentDir -> deploymentDir.toPath().equals(dir));
+
+    if (isDeploymentDir && event.kind() == ENTRY_CREATE && child.toFile().isDirectory()) {
+      registerArtifactDir(child);
+    }
+
+    // Anchors are created by the deployment itself, only its removal requires an action
+    return !(isDeploymentDir && child.getFileName().toString().endsWith(ARTIFACT_ANCHOR_SUFFIX) && event.kind() != ENTRY_DELETE);
+  }
+
+  private synchronized void scheduleCheck() {
+    final long now = nanoTime();
+    if (pendingCheck == null) {
+      pendingSinceNanos = now;
+    } else {
+      pendingCheck.cancel(false);
+    }
+
+    final long generation = ++pendingCheckGeneration;
+    final long delayMs = max(0, min(debounceIntervalMs, maxDelayMs - NANOSECONDS.toMillis(now - pendingSinceNanos)));
+    try {
+      pendingCheck = checkExecutor.schedule(() -> runCheck(generation), delayMs, MILLISECONDS);
+    } catch (RuntimeException e) {
+      // Executor is already shutting down
+      LOGGER.debug("Unable to schedule deployment directories check", e);
+    }
+  }
+
+  private void runCheck(long generation) {
+    synchronized (this) {
+      // a check scheduled after this one started running is still pending
+      if (generation == pendingCheckGeneration) {
+        pendingCheck = null;
+      }
+    }
+    changesCheck.run();
+  }
+
+  private void registerArtifactDir(Path artifactDir) {
+    register(artifactDir);
+    Path descriptorDir = artifactDir.resolve(MULE_ARTIFACT_FOLDER);
+    if (descriptorDir.toFile().isDirectory()) {
+      register(descriptorDir);
+    }
+  }
+
+  private void register(Path dir) {
+    try {
+      watchedDirs.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+    } catch (ClosedWatchServiceException e) {
+      // Watch service stopped
+    } catch (IOException e) {
+      LOGGER.warn("Unable to watch directory '{}' for changes, those will be detected on the next periodic scan", dir, e);
+    }
+  }
+}
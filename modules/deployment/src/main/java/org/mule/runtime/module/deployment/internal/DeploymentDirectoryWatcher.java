@@ -6,7 +6,10 @@
  */
 package org.mule.runtime.module.deployment.internal;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Arrays.sort;
 import static java.util.Optional.empty;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
@@ -39,6 +42,7 @@ import org.mule.runtime.module.deployment.internal.util.ObservableList;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -65,11 +69,39 @@ import org.slf4j.LoggerFactory;
  * It will deploy the applications at the container startup process. It will periodically scan the artifact directories in order
  * to process new deployments, remove artifacts that were previously deployed but the anchor file was removed and redeploy those
  * applications which configuration has changed.
+ * <p/>
+ * When {@link #CHANGE_WATCH_SERVICE_PROPERTY} is enabled, the artifact directories are watched for file system events instead,
+ * running the scan once the changes settle. The periodic scan is kept as a safety net for the changes not notified by the file
+ * system, using the {@link #SAFETY_NET_CHECK_INTERVAL_PROPERTY} interval.
  */
 public class DeploymentDirectoryWatcher implements Runnable {
 
   public static final String ARTIFACT_ANCHOR_SUFFIX = "-anchor.txt";
   public static final String CHANGE_CHECK_INTERVAL_PROPERTY = "mule.launcher.changeCheckInterval";
+
+  /**
+   * Property used to enable the detection of changes on the artifact directories using file system events, instead of scanning
+   * them every {@link #CHANGE_CHECK_INTERVAL_PROPERTY}.
+   */
+  public static final String CHANGE_WATCH_SERVICE_PROPERTY = "mule.launcher.changeWatchService";
+
+  /**
+   * Property used to change the time, in milliseconds, to wait for the file system events to settle before checking for changes
+   * when {@link #CHANGE_WATCH_SERVICE_PROPERTY} is enabled.
+   */
+  public static final String CHANGE_DEBOUNCE_INTERVAL_PROPERTY = "mule.launcher.changeDebounceInterval";
+
+  /**
+   * Property used to change the max time, in milliseconds, to wait since the first file system event before checking for changes
+   * when {@link #CHANGE_WATCH_SERVICE_PROPERTY} is enabled, even if the events don't settle.
+   */
+  public static final String CHANGE_MAX_DEBOUNCE_DELAY_PROPERTY = "mule.launcher.changeMaxDebounceDelay";
+
+  /**
+   * Property used to change the interval, in milliseconds, of the periodic scan done when {@link #CHANGE_WATCH_SERVICE_PROPERTY}
+   * is enabled.
+   */
+  public static final String SAFETY_NET_CHECK_INTERVAL_PROPERTY = "mule.launcher.safetyNetCheckInterval";
   public static final IOFileFilter JAR_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(JAR_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
   public static final IOFileFilter ZIP_ARTIFACT_FILTER =
@@ -84,6 +116,9 @@ public class DeploymentDirectoryWatcher implements Runnable {
   public static final String DEPLOYMENT_APPLICATION_PROPERTY = "mule.deploy.applications";
 
   protected static final int DEFAULT_CHANGES_CHECK_INTERVAL_MS = 5000;
+  protected static final int DEFAULT_CHANGE_DEBOUNCE_INTERVAL_MS = 500;
+  protected static final int DEFAULT_CHANGE_MAX_DEBOUNCE_DELAY_MS = 5000;
+  protected static final int DEFAULT_SAFETY_NET_CHECK_INTERVAL_MS = 60000;
 
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -99,6 +134,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
   private final File appsDir;
   private final File domainsDir;
   private ScheduledExecutorService artifactDirMonitorTimer;
+  private ArtifactDirectoryWatchService artifactDirWatchService;
 
   protected volatile boolean dirty;
 
@@ -226,13 +262,50 @@ public class DeploymentDirectoryWatcher implements Runnable {
   }
 
   private void scheduleChangeMonitor() {
-    final int reloadIntervalMs = getChangesCheckIntervalMs();
     // TODO MULE-12337 migrate this to an scheduler
     artifactDirMonitorTimer = newSingleThreadScheduledExecutor(new ArtifactDeployerMonitorThreadFactory());
 
-    artifactDirMonitorTimer.scheduleWithFixedDelay(this, reloadIntervalMs, reloadIntervalMs, MILLISECONDS);
+    if (getBoolean(CHANGE_WATCH_SERVICE_PROPERTY) && startWatchService()) {
+      final int safetyNetIntervalMs = getInteger(SAFETY_NET_CHECK_INTERVAL_PROPERTY, DEFAULT_SAFETY_NET_CHECK_INTERVAL_MS);
+      artifactDirMonitorTimer.scheduleWithFixedDelay(this, safetyNetIntervalMs, safetyNetIntervalMs, MILLISECONDS);
 
-    log(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+      log(miniSplash(format("Mule is up and kicking (watching for changes, full scan every %dms)", safetyNetIntervalMs)));
+    } else {
+      final int reloadIntervalMs = getChangesCheckIntervalMs();
+      artifactDirMonitorTimer.scheduleWithFixedDelay(this, reloadIntervalMs, reloadIntervalMs, MILLISECONDS);
+
+      log(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+    }
+  }
+
+  private boolean startWatchService() {
+    final int debounceIntervalMs = getInteger(CHANGE_DEBOUNCE_INTERVAL_PROPERTY, DEFAULT_CHANGE_DEBOUNCE_INTERVAL_MS);
+    final int maxDebounceDelayMs = getInteger(CHANGE_MAX_DEBOUNCE_DELAY_PROPERTY, DEFAULT_CHANGE_MAX_DEBOUNCE_DELAY_MS);
+    artifactDirWatchService = new ArtifactDirectoryWatchService(asList(domainsDir, appsDir),
+                                                                () -> checkChanges(debounceIntervalMs), debounceIntervalMs,
+                                                                maxDebounceDelayMs, artifactDirMonitorTimer);
+    try {
+      artifactDirWatchService.start();
+      return true;
+    } catch (IOException e) {
+      logger.warn("Unable to watch the artifact directories for changes, falling back to periodic scanning", e);
+      artifactDirWatchService.stop();
+      artifactDirWatchService = null;
+      return false;
+    }
+  }
+
+  private void checkChanges(int retryDelayMs) {
+    if (deploymentLock.isLocked()) {
+      // Another deployment operation is in progress, retry later instead of skipping the cycle so the change is not missed
+      try {
+        artifactDirMonitorTimer.schedule(() -> checkChanges(retryDelayMs), retryDelayMs, MILLISECONDS);
+      } catch (RuntimeException e) {
+        // Monitor is already stopped
+      }
+    } else {
+      run();
+    }
   }
 
   protected void deployPackedApps(String[] zips) {
@@ -487,6 +560,9 @@ public class DeploymentDirectoryWatcher implements Runnable {
   }
 
   private void stopAppDirMonitorTimer() {
+    if (artifactDirWatchService != null) {
+      artifactDirWatchService.stop();
+    }
     if (artifactDirMonitorTimer != null) {
       artifactDirMonitorTimer.shutdown();
       try {
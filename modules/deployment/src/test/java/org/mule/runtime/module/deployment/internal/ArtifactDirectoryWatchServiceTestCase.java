@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.ARTIFACT_ANCHOR_SUFFIX;
+import static org.mule.tck.probe.PollingProber.check;
+import static org.mule.tck.probe.PollingProber.checkNot;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ArtifactDirectoryWatchServiceTestCase extends AbstractMuleTestCase {
+
+  private static final int DEBOUNCE_INTERVAL_MS = 200;
+  private static final int MAX_DELAY_MS = 1000;
+  private static final int PROBER_TIMEOUT_MS = 10000;
+  private static final int PROBER_POLLING_INTERVAL_MS = 50;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ScheduledExecutorService checkExecutor = newSingleThreadScheduledExecutor();
+  private final AtomicInteger checks = new AtomicInteger();
+
+  private File appsDir;
+  private ArtifactDirectoryWatchService watchService;
+
+  @Before
+  public void before() throws Exception {
+    appsDir = temporaryFolder.newFolder("apps");
+    new File(appsDir, "app").mkdir();
+
+    watchService = new ArtifactDirectoryWatchService(singletonList(appsDir), checks::incrementAndGet, DEBOUNCE_INTERVAL_MS,
+                                                     MAX_DELAY_MS, checkExecutor);
+    watchService.start();
+  }
+
+  @After
+  public void after() {
+    watchService.stop();
+    checkExecutor.shutdownNow();
+  }
+
+  @Test
+  public void checksOnceForBurstOfChanges() throws Exception {
+    for (int i = 0; i < 10; ++i) {
+      writeStringToFile(new File(appsDir, "app" + i + ".jar"), "content");
+    }
+
+    check(PROBER_TIMEOUT_MS, PROBER_POLLING_INTERVAL_MS, () -> checks.get() == 1);
+    checkNot(DEBOUNCE_INTERVAL_MS * 3, PROBER_POLLING_INTERVAL_MS, () -> checks.get() > 1);
+  }
+
+  @Test
+  public void checksOnArtifactConfigChange() throws Exception {
+    writeStringToFile(new File(new File(appsDir, "app"), "mule-config.xml"), "<mule/>");
+
+    check(PROBER_TIMEOUT_MS, PROBER_POLLING_INTERVAL_MS, () -> checks.get() == 1);
+  }
+
+  @Test
+  public void ignoresAnchorCreation() throws Exception {
+    File anchor = new File(appsDir, "app" + ARTIFACT_ANCHOR_SUFFIX);
+    writeStringToFile(anchor, "anchor");
+
+    checkNot(DEBOUNCE_INTERVAL_MS * 3, PROBER_POLLING_INTERVAL_MS, () -> checks.get() > 0);
+
+    anchor.delete();
+    check(PROBER_TIMEOUT_MS, PROBER_POLLING_INTERVAL_MS, () -> checks.get() == 1);
+  }
+
+  @Test
+  public void continuousChangesDoNotPostponeCheckForever() throws Exception {
+    final File config = new File(new File(appsDir, "app"), "mule-config.xml");
+    final long deadline = currentTimeMillis() + PROBER_TIMEOUT_MS;
+
+    // keep changing the artifact more often than the debounce interval
+    for (int i = 0; checks.get() == 0 && currentTimeMillis() < deadline; ++i) {
+      writeStringToFile(config, "<mule>" + i + "</mule>");
+      Thread.sleep(DEBOUNCE_INTERVAL_MS / 4);
+    }
+
+    assertThat(checks.get(), greaterThan(0));
+  }
+}
@@ -35,6 +35,7 @@ import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.tx.OperationTransactionalAction;
 import org.mule.runtime.extension.internal.property.TransactionalActionModelProperty;
 import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.runtime.module.extension.internal.runtime.resolver.IndexedParameterMap;
 import org.mule.runtime.module.extension.internal.runtime.transaction.ExtensionTransactionFactory;
 
 import java.util.HashMap;
@@ -145,7 +146,7 @@ public class DefaultExecutionContext<M extends ComponentModel> implements Execut
    */
   @Override
   public Map<String, Object> getParameters() {
-    return unmodifiableMap(parameters);
+    return parameters instanceof IndexedParameterMap ? parameters : unmodifiableMap(parameters);
   }
 
   /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.config;
+
+import static java.util.Arrays.deepEquals;
+import static java.util.Arrays.deepHashCode;
+
+import org.mule.runtime.module.extension.internal.runtime.resolver.IndexedParameterMap;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
+
+import java.util.Map;
+
+/**
+ * Identifies the {@link org.mule.runtime.extension.api.runtime.config.ConfigurationInstance} that a
+ * {@link DynamicConfigurationProvider} returns for the resolved values of the configuration and connection parameters.
+ * <p>
+ * When the values were resolved by an initialised {@link ResolverSet}, only the ones which may change from one event to the next
+ * are kept, since the rest are the same for every result of that set. Otherwise, the whole {@link ResolverSetResult} is used.
+ * The hash is calculated only once, when the key is created.
+ *
+ * @since 4.3.0
+ */
+final class DynamicConfigurationKey {
+
+  private final Object[] values;
+  private final int hashCode;
+
+  /**
+   * Creates a new key
+   *
+   * @param configValues   the resolved configuration parameters
+   * @param providerValues the resolved connection provider parameters, or {@code null} if there are none
+   * @return a new {@link DynamicConfigurationKey}
+   */
+  static DynamicConfigurationKey of(ResolverSetResult configValues, ResolverSetResult providerValues) {
+    return new DynamicConfigurationKey(new Object[] {keyValues(configValues), keyValues(providerValues)});
+  }
+
+  private static Object keyValues(ResolverSetResult result) {
+    if (result == null) {
+      return null;
+    }
+
+    Map<String, Object> values = result.asMap();
+    return values instanceof IndexedParameterMap ? ((IndexedParameterMap) values).getVariableValues() : result;
+  }
+
+  private DynamicConfigurationKey(Object[] values) {
+    this.values = values;
+    this.hashCode = deepHashCode(values);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DynamicConfigurationKey)) {
+      return false;
+    }
+    DynamicConfigurationKey that = (DynamicConfigurationKey) obj;
+    return hashCode == that.hashCode && deepEquals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+}
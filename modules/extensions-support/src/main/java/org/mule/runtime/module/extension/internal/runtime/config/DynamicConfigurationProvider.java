@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static com.github.benmanes.caffeine.cache.RemovalCause.REPLACED;
+import static java.lang.Long.getLong;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
-import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -19,7 +21,6 @@ import static org.mule.runtime.extension.api.values.ValueResolvingException.UNKN
 import static org.mule.runtime.module.extension.internal.value.ValueProviderUtils.valuesWithClassLoader;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.event.Event;
 import org.mule.runtime.api.exception.MuleException;
@@ -30,6 +31,8 @@ import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.time.Time;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.api.value.Value;
 import org.mule.runtime.core.api.MuleContext;
@@ -52,11 +55,20 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvin
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.runtime.module.extension.internal.value.ValueProviderMediator;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import org.slf4j.Logger;
 
 /**
@@ -66,7 +78,19 @@ import org.slf4j.Logger;
  * Although each invocation to {@link #get(Event)} is guaranteed to end up in an invocation to
  * {@link #resolverSet#resolve(Object)}, the resulting {@link ResolverSetResult} might not end up generating a new instance. This
  * is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
- * {@code resolverSet} return the same instance.
+ * {@code resolverSet} return the same instance. Cache keys are built only from the values which may change from one event to
+ * the next (see {@link DynamicConfigurationKey}).
+ * <p>
+ * Idle instances are expired after the {@link ExpirationPolicy} max idle time. While started, the cached instances are
+ * periodically checked so that expired ones are disposed even if no more events use this provider. The amount of cached instances
+ * can also be bounded through the {@link #MAX_INSTANCES_PROPERTY} system property, in which case the least recently used idle
+ * instances are evicted when the bound is exceeded.
+ * <p>
+ * Instances which are in use are never expired nor evicted, so the bound may be temporarily exceeded. Looking up an instance marks
+ * it as used, and instances are only removed through an atomic check of that same mark. An instance previously used so recently
+ * that it could be neither expired nor evicted is returned by a plain read of the cache, checking that it is still cached after
+ * marking it. Otherwise, it is marked atomically with the lookup of its cache entry. This way, an instance just returned by
+ * {@link #get(Event)} is not removed before the operation using it registers itself as in flight.
  *
  * @since 4.0.0
  */
@@ -75,16 +99,38 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
+  /**
+   * System property to set the maximum amount of configuration instances each dynamic configuration keeps. Unbounded by default.
+   *
+   * @since 4.3.0
+   */
+  public static final String MAX_INSTANCES_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicConfig.maxInstances";
+
+  static final long UNBOUNDED = -1;
+
+  // How long an instance is kept after being used before it can be evicted because the max instances are exceeded
+  private static final long EVICTION_GRACE_MILLIS = 1000;
+
+  // How many instances are checked at most each time the max instances are exceeded
+  private static final int EVICTION_CANDIDATES = 64;
+
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
 
-  private final com.github.benmanes.caffeine.cache.LoadingCache<ResolverResultAndEvent, ConfigurationInstance> cache;
+  private final Cache<DynamicConfigurationKey, ConfigurationInstance> cache;
+  private final long maxInstances;
+  private final Lock evictionLock = new ReentrantLock();
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
   private final ReflectionCache reflectionCache;
   private final ExpressionManager expressionManager;
   private final ExtensionManager extensionManager;
 
+  private Scheduler expirationScheduler;
+
   /**
    * Creates a new instance
    *
@@ -107,6 +153,20 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
                                       ReflectionCache reflectionCache,
                                       ExpressionManager expressionManager,
                                       MuleContext muleContext) {
+    this(name, extension, config, resolverSet, connectionProviderResolver, expirationPolicy, reflectionCache, expressionManager,
+         muleContext, getLong(MAX_INSTANCES_PROPERTY, UNBOUNDED));
+  }
+
+  DynamicConfigurationProvider(String name,
+                               ExtensionModel extension,
+                               ConfigurationModel config,
+                               ResolverSet resolverSet,
+                               ConnectionProviderValueResolver connectionProviderResolver,
+                               ExpirationPolicy expirationPolicy,
+                               ReflectionCache reflectionCache,
+                               ExpressionManager expressionManager,
+                               MuleContext muleContext,
+                               long maxInstances) {
     super(name, extension, config, muleContext);
     this.configurationInstanceFactory = new ConfigurationInstanceFactory<>(extension, config, resolverSet, reflectionCache,
                                                                            expressionManager, muleContext);
@@ -116,12 +176,19 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
     this.extensionManager = muleContext.getExtensionManager();
-
-    cache = Caffeine.newBuilder().expireAfterAccess(expirationPolicy.getMaxIdleTime(), expirationPolicy.getTimeUnit())
-        .removalListener((key, value, cause) -> extensionManager
-            .disposeConfiguration(((ResolverResultAndEvent) key).getResolverSetResult().toString(),
-                                  (ConfigurationInstance) value))
-        .build(key -> createConfiguration(key.getResolverSetResult(), key.getEvent()));
+    this.maxInstances = maxInstances;
+
+    // Caffeine's own expiration is not used since it can't skip the instances in use
+    cache = Caffeine.newBuilder()
+        .removalListener((DynamicConfigurationKey key, ConfigurationInstance value, RemovalCause cause) -> {
+          if (cause == REPLACED) {
+            // Lookups put back the same instance
+            return;
+          }
+          unRegisterConfiguration(value);
+          extensionManager.disposeConfiguration(getName(), value);
+        })
+        .build();
   }
 
   /**
@@ -141,29 +208,150 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
         if (connectionProviderResolver.getResolverSet().isPresent()) {
           providerResult = ((ResolverSet) connectionProviderResolver.getResolverSet().get()).resolve(resolvingContext);
         }
-        return getConfiguration(new Pair<>(result, providerResult), (CoreEvent) event);
+        return getConfiguration(result, providerResult, (CoreEvent) event);
+      }
+    });
+  }
+
+  private ConfigurationInstance getConfiguration(ResolverSetResult configValues, ResolverSetResult providerValues,
+                                                 CoreEvent event) {
+    DynamicConfigurationKey key = DynamicConfigurationKey.of(configValues, providerValues);
+    requestCount.increment();
+
+    ConfigurationInstance cached = cache.getIfPresent(key);
+    if (cached != null) {
+      long previouslyUsed = cached.getStatistics().getLastUsedMillis();
+      long lastUsed = markUsed(cached);
+      // A removal which checked the previous mark before it was replaced may still be in progress, but only if that mark was
+      // old enough for the instance to be evicted or expired. Otherwise, no removal takes the instance once marked, so it only
+      // has to still be cached.
+      if (isRecentlyUsed(previouslyUsed, lastUsed) && cache.getIfPresent(key) == cached) {
+        evictIfNeeded(key, lastUsed);
+        return cached;
+      }
+    }
+
+    long[] lastUsed = new long[1];
+    ConfigurationInstance configuration = cache.asMap().compute(key, (k, current) -> {
+      if (current == null) {
+        missCount.increment();
+        try {
+          current = createConfiguration(configValues, providerValues, event);
+        } catch (MuleException e) {
+          throw new MuleRuntimeException(e);
+        }
       }
+      lastUsed[0] = markUsed(current);
+      return current;
     });
+
+    evictIfNeeded(key, lastUsed[0]);
+    return configuration;
+  }
+
+  /*
+   * Whether an instance previously used at the given time could be neither evicted nor expired at the current one.
+   */
+  private boolean isRecentlyUsed(long previouslyUsed, long now) {
+    return now - previouslyUsed < EVICTION_GRACE_MILLIS && !expirationPolicy.isExpired(previouslyUsed, MILLISECONDS);
+  }
+
+  private void evictIfNeeded(DynamicConfigurationKey key, long lastUsed) {
+    if (maxInstances != UNBOUNDED && cache.estimatedSize() > maxInstances) {
+      evictIdleInstances(key, lastUsed);
+    }
   }
 
-  private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, CoreEvent event) {
-    return cache.get(new ResolverResultAndEvent(resolverSetResult, event));
+  private long markUsed(ConfigurationInstance configuration) {
+    ConfigurationStats stats = configuration.getStatistics();
+    return stats instanceof MutableConfigurationStats ? ((MutableConfigurationStats) stats).updateLastUsed()
+        : stats.getLastUsedMillis();
   }
 
-  private ConfigurationInstance createConfiguration(Pair<ResolverSetResult, ResolverSetResult> values, CoreEvent event)
+  /**
+   * Evicts the least recently used idle instances until there are no more than {@link #maxInstances}, checking at most
+   * {@link #EVICTION_CANDIDATES} of them. Instances used in the last {@link #EVICTION_GRACE_MILLIS} are kept, as is the one for
+   * the given {@code currentKey}, since it is about to be used. If another thread is already evicting, this one doesn't wait for
+   * it.
+   *
+   * @param currentKey the key of the instance being returned
+   * @param now        when the instance being returned was marked as used
+   */
+  private void evictIdleInstances(DynamicConfigurationKey currentKey, long now) {
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+
+    try {
+      long excess = cache.estimatedSize() - maxInstances;
+      if (excess <= 0) {
+        return;
+      }
+
+      Predicate<ConfigurationInstance> evictable =
+          configuration -> isIdle(configuration)
+              && configuration.getStatistics().getLastUsedMillis() <= now - EVICTION_GRACE_MILLIS;
+
+      // The last used time is copied, since it may change while sorting
+      List<Pair<DynamicConfigurationKey, Long>> candidates = new ArrayList<>();
+      Iterator<Entry<DynamicConfigurationKey, ConfigurationInstance>> entries = cache.asMap().entrySet().iterator();
+      for (int i = 0; i < EVICTION_CANDIDATES && entries.hasNext(); ++i) {
+        Entry<DynamicConfigurationKey, ConfigurationInstance> entry = entries.next();
+        if (!entry.getKey().equals(currentKey) && evictable.test(entry.getValue())) {
+          candidates.add(new Pair<>(entry.getKey(), entry.getValue().getStatistics().getLastUsedMillis()));
+        }
+      }
+      candidates.sort((a, b) -> Long.compare(a.getSecond(), b.getSecond()));
+
+      for (Pair<DynamicConfigurationKey, Long> candidate : candidates) {
+        if (excess <= 0) {
+          break;
+        }
+        if (removeIf(candidate.getFirst(), evictable) != null) {
+          excess--;
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Removes the instance for the given {@code key} if it matches the given {@code condition}. The check is atomic with lookups of
+   * the same key.
+   *
+   * @return the removed instance, or {@code null} if none was removed
+   */
+  private ConfigurationInstance removeIf(DynamicConfigurationKey key, Predicate<ConfigurationInstance> condition) {
+    ConfigurationInstance[] removed = new ConfigurationInstance[1];
+    cache.asMap().computeIfPresent(key, (k, configuration) -> {
+      if (!condition.test(configuration)) {
+        return configuration;
+      }
+      removed[0] = configuration;
+      return null;
+    });
+
+    if (removed[0] != null) {
+      evictionCount.increment();
+    }
+    return removed[0];
+  }
+
+  private ConfigurationInstance createConfiguration(ResolverSetResult configValues, ResolverSetResult connectionProviderValues,
+                                                    CoreEvent event)
       throws MuleException {
 
     ConfigurationInstance configuration;
-    ResolverSetResult connectionProviderValues = values.getSecond();
     if (connectionProviderValues != null) {
       configuration = configurationInstanceFactory.createConfiguration(getName(),
-                                                                       values.getFirst(),
+                                                                       configValues,
                                                                        event,
                                                                        connectionProviderResolver,
                                                                        connectionProviderValues);
     } else {
       configuration = configurationInstanceFactory.createConfiguration(getName(),
-                                                                       values.getFirst(),
+                                                                       configValues,
                                                                        event,
                                                                        ofNullable(connectionProviderResolver));
     }
@@ -212,17 +400,53 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   @Override
   public List<ConfigurationInstance> getExpired() {
-    return cache.asMap().entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-      cache.invalidate(entry.getKey());
-      unRegisterConfiguration(entry.getValue());
-      return entry.getValue();
-    }).collect(toImmutableList());
+    return removeExpired();
+  }
+
+  private List<ConfigurationInstance> removeExpired() {
+    List<ConfigurationInstance> expired = new ArrayList<>();
+    for (DynamicConfigurationKey key : cache.asMap().keySet()) {
+      ConfigurationInstance configuration = removeIf(key, this::isExpired);
+      if (configuration != null) {
+        unRegisterConfiguration(configuration);
+        expired.add(configuration);
+      }
+    }
+    return expired;
   }
 
   private boolean isExpired(ConfigurationInstance configuration) {
+    return isIdle(configuration)
+        && expirationPolicy.isExpired(configuration.getStatistics().getLastUsedMillis(), MILLISECONDS);
+  }
+
+  private boolean isIdle(ConfigurationInstance configuration) {
     ConfigurationStats stats = configuration.getStatistics();
-    return stats.getRunningSources() == 0 && stats.getInflightOperations() == 0
-        && expirationPolicy.isExpired(stats.getLastUsedMillis(), MILLISECONDS);
+    return stats.getRunningSources() == 0 && stats.getInflightOperations() == 0;
+  }
+
+  /**
+   * @return how many times a cached instance was returned
+   * @since 4.3.0
+   */
+  public long getHitCount() {
+    return requestCount.sum() - missCount.sum();
+  }
+
+  /**
+   * @return how many times a new instance had to be created
+   * @since 4.3.0
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return how many instances were removed because they expired or the maximum amount of instances was exceeded
+   * @since 4.3.0
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
   }
 
   @Override
@@ -239,6 +463,20 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   public void start() throws MuleException {
     super.start();
     startIfNeeded(connectionProviderResolver);
+
+    Time frequency = muleContext.getConfiguration().getDynamicConfigExpiration().getFrequency();
+    expirationScheduler = muleContext.getSchedulerService().cpuLightScheduler();
+    expirationScheduler.scheduleWithFixedDelay(this::removeExpired, frequency.getTime(), frequency.getTime(),
+                                               frequency.getUnit());
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    if (expirationScheduler != null) {
+      expirationScheduler.stop();
+      expirationScheduler = null;
+    }
+    super.stop();
   }
 
   /**
@@ -298,38 +536,4 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
         .map(ob -> ((ConnectionProviderObjectBuilder) ob).providerModel);
   }
 
-  private static class ResolverResultAndEvent {
-
-    private Pair<ResolverSetResult, ResolverSetResult> resolverSetResult;
-    private CoreEvent event;
-
-    ResolverResultAndEvent(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, CoreEvent event) {
-      this.resolverSetResult = resolverSetResult;
-      this.event = event;
-    }
-
-    Pair<ResolverSetResult, ResolverSetResult> getResolverSetResult() {
-      return resolverSetResult;
-    }
-
-    public CoreEvent getEvent() {
-      return event;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o)
-        return true;
-      if (!(o instanceof ResolverResultAndEvent))
-        return false;
-      ResolverResultAndEvent that = (ResolverResultAndEvent) o;
-      return resolverSetResult.equals(that.resolverSetResult);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(resolverSetResult);
-    }
-  }
-
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.apache.commons.lang3.ClassUtils.isAssignable;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.slf4j.Logger;
+
+/**
+ * Invokes a {@link Method} on a given target through a {@link MethodHandle} which is created only once, instead of going through
+ * reflection on each invocation.
+ * <p>
+ * The handle is bound to the target and adapted to take the arguments as an {@code Object[]}, unboxing the ones passed to
+ * primitive parameters and boxing a primitive return value. A {@code void} method returns {@code null}. As with reflection, the
+ * arguments are still boxed by the caller, and since the handle is kept in an instance field rather than a constant, the JIT
+ * doesn't inline the invoked method through it. This only avoids the per-call checks done by {@link Method#invoke}.
+ * <p>
+ * Exceptions are propagated as {@link org.springframework.util.ReflectionUtils#invokeMethod(Method, Object, Object...)} does:
+ * {@link RuntimeException}s and {@link Error}s thrown by the method are rethrown as they are, while checked exceptions are wrapped
+ * in an {@link UndeclaredThrowableException}. Arguments that do not match the parameters of the method cause an
+ * {@link IllegalArgumentException}, as with reflection. If a handle cannot be created for the method, it is invoked through
+ * reflection.
+ *
+ * @since 4.3.0
+ */
+public final class MethodInvoker {
+
+  private static final Logger LOGGER = getLogger(MethodInvoker.class);
+
+  private final Method method;
+  private final Object target;
+  private final MethodHandle methodHandle;
+
+  /**
+   * Creates a new instance
+   *
+   * @param method the {@link Method} to invoke
+   * @param target the instance to invoke the {@code method} on. Ignored if the {@code method} is static
+   */
+  public MethodInvoker(Method method, Object target) {
+    this.method = method;
+    this.target = target;
+    methodHandle = createMethodHandle(method, target);
+  }
+
+  private static MethodHandle createMethodHandle(Method method, Object target) {
+    try {
+      makeAccessible(method);
+      MethodHandle methodHandle = lookup().unreflect(method);
+      if (!isStatic(method.getModifiers())) {
+        methodHandle = methodHandle.bindTo(target);
+      }
+      return methodHandle.asSpreader(Object[].class, method.getParameterCount())
+          .asType(methodType(Object.class, Object[].class));
+    } catch (Exception e) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Could not create a method handle for " + method + ". It will be invoked through reflection.", e);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Invokes the method with the given arguments
+   *
+   * @param args the arguments to pass to the method. Must contain one value for each of its parameters
+   * @return the value returned by the method, or {@code null} if it is {@code void}
+   */
+  public Object invoke(Object[] args) {
+    if (methodHandle == null) {
+      return invokeMethod(method, target, args);
+    }
+
+    try {
+      return (Object) methodHandle.invokeExact(args);
+    } catch (NullPointerException | ClassCastException e) {
+      // The handle fails this way when adapting the arguments, where reflection fails with an IllegalArgumentException
+      if (!argumentsMatch(args)) {
+        throw new IllegalArgumentException("argument type mismatch", e);
+      }
+      throw e;
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new UndeclaredThrowableException(t);
+    }
+  }
+
+  private boolean argumentsMatch(Object[] args) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; ++i) {
+      if (args[i] == null ? parameterTypes[i].isPrimitive() : !isAssignable(args[i].getClass(), parameterTypes[i], true)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return whether the method is invoked through a {@link MethodHandle} rather than reflection
+   */
+  boolean isMethodHandleInvocation() {
+    return methodHandle != null;
+  }
+}
@@ -15,7 +15,6 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.springframework.util.ReflectionUtils.invokeMethod;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -28,6 +27,7 @@ import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 import org.mule.runtime.module.extension.internal.runtime.execution.deprecated.ReactiveReflectiveMethodOperationExecutor;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +62,9 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
   private final Method method;
   private final Object componentInstance;
   private final ClassLoader extensionClassLoader;
+  private final Class<?>[] parameterTypes;
+  private final String[] parameterNames;
+  private final MethodInvoker methodInvoker;
 
   private ArgumentResolverDelegate argumentResolverDelegate;
 
@@ -72,13 +75,20 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
     this.method = method;
     this.componentInstance = componentInstance;
     extensionClassLoader = method.getDeclaringClass().getClassLoader();
+    parameterTypes = method.getParameterTypes();
+    parameterNames = stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new);
+    methodInvoker = new MethodInvoker(method, componentInstance);
   }
 
   public Object execute(ExecutionContext<M> executionContext) {
-    return withContextClassLoader(extensionClassLoader,
-                                  () -> invokeMethod(method, componentInstance,
-                                                     stream(getParameterValues(executionContext, method.getParameterTypes()))
-                                                         .map(Supplier::get).toArray(Object[]::new)));
+    return withContextClassLoader(extensionClassLoader, () -> {
+      final Supplier<Object>[] parameterValues = getParameterValues(executionContext, parameterTypes);
+      final Object[] args = new Object[parameterValues.length];
+      for (int i = 0; i < args.length; ++i) {
+        args[i] = parameterValues[i].get();
+      }
+      return methodInvoker.invoke(args);
+    });
   }
 
   private Supplier<Object>[] getParameterValues(ExecutionContext<M> executionContext, Class<?>[] parameterTypes) {
@@ -90,7 +100,7 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
     initialiseIfNeeded(componentInstance, true, muleContext);
 
     argumentResolverDelegate =
-        isEmpty(method.getParameterTypes()) ? NO_ARGS_DELEGATE : getMethodArgumentResolver(groups, method);
+        isEmpty(parameterTypes) ? NO_ARGS_DELEGATE : getMethodArgumentResolver(groups, method);
   }
 
   private ArgumentResolverDelegate getMethodArgumentResolver(List<ParameterGroupModel> groups, Method method) {
@@ -131,11 +141,11 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
     return ec -> withContextClassLoader(extensionClassLoader,
                                         () -> {
                                           final Object[] resolved =
-                                              getParameterValues(ec, method.getParameterTypes());
+                                              getParameterValues(ec, parameterTypes);
 
                                           final Map<String, Object> resolvedParams = new HashMap<>();
-                                          for (int i = 0; i < method.getParameterCount(); ++i) {
-                                            resolvedParams.put(method.getParameters()[i].getName(), resolved[i]);
+                                          for (int i = 0; i < parameterNames.length; ++i) {
+                                            resolvedParams.put(parameterNames[i], resolved[i]);
                                           }
                                           return resolvedParams;
                                         });
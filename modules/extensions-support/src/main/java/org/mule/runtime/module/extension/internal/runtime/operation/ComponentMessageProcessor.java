@@ -89,6 +89,7 @@ import org.mule.runtime.module.extension.internal.runtime.objectbuilder.DefaultO
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBuilder;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ParameterValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
@@ -153,6 +154,7 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
   private Function<Optional<ConfigurationInstance>, RetryPolicyTemplate> retryPolicyResolver;
   private String resolvedProcessorRepresentation;
   private boolean initialised = false;
+  private ExecutionContextTemplate<T> executionContextTemplate;
 
   protected ExecutionMediator executionMediator;
   protected CompletableComponentExecutor componentExecutor;
@@ -214,13 +216,17 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
   private void onEvent(CoreEvent event, ExecutorCallback executorCallback) {
     try {
 
-      final Optional<ConfigurationInstance> configuration = resolveConfiguration(event);
-      final Map<String, Object> resolutionResult = getResolutionResult(event, configuration);
+      final boolean usePrecalculatedContext = shouldUsePrecalculatedContext(event);
+      final ExecutionContextTemplate<T> template = usePrecalculatedContext ? null : executionContextTemplate;
+      final Optional<ConfigurationInstance> configuration =
+          template != null ? template.getConfiguration() : resolveConfiguration(event);
+      final Map<String, Object> resolutionResult =
+          template != null ? template.getParameters() : getResolutionResult(event, configuration);
       final Scheduler currentScheduler = ((InternalEvent) event).getInternalParameter(PROCESSOR_SCHEDULER_CONTEXT_KEY);
 
       OperationExecutionFunction operationExecutionFunction;
 
-      if (shouldUsePrecalculatedContext(event)) {
+      if (usePrecalculatedContext) {
         ExecutionContextAdapter<T> operationContext = getPrecalculatedContext(event);
 
         operationExecutionFunction = (parameters, operationEvent, callback) -> {
@@ -230,12 +236,11 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
         };
       } else {
         operationExecutionFunction = (parameters, operationEvent, callback) -> {
-          ExecutionContextAdapter<T> operationContext = createExecutionContext(
-                                                                               configuration,
-                                                                               parameters,
-                                                                               operationEvent,
-                                                                               currentScheduler != null ? currentScheduler
-                                                                                   : IMMEDIATE_SCHEDULER);
+          final Scheduler scheduler = currentScheduler != null ? currentScheduler : IMMEDIATE_SCHEDULER;
+          // Policies may have changed the parameters, in which case the template no longer applies
+          ExecutionContextAdapter<T> operationContext = template != null && parameters == template.getParameters()
+              ? template.createExecutionContext(operationEvent, scheduler)
+              : createExecutionContext(configuration, parameters, operationEvent, scheduler);
 
           executeOperation(operationContext, mapped(callback, operationContext, operationEvent));
         };
@@ -537,10 +542,36 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
   @Override
   public void doStart() throws MuleException {
     startIfNeeded(componentExecutor);
+    executionContextTemplate = createExecutionContextTemplate();
+  }
+
+  /**
+   * @return an {@link ExecutionContextTemplate} if neither the configuration nor the parameters of this component depend on the
+   *         event being processed, {@code null} otherwise
+   */
+  private ExecutionContextTemplate<T> createExecutionContextTemplate() {
+    Optional<ResolverSetResult> parameters = resolverSet.getConstantResult();
+    if (!parameters.isPresent()) {
+      return null;
+    }
+
+    Optional<ConfigurationInstance> configuration = getStaticConfiguration();
+    if (requiresConfig() && !configuration.isPresent()) {
+      return null;
+    }
+
+    List<Interceptor> interceptors = executionMediator instanceof DefaultExecutionMediator
+        ? ((DefaultExecutionMediator) executionMediator).collectInterceptors(configuration, componentExecutor)
+        : null;
+
+    return new ExecutionContextTemplate<>(extensionModel, configuration, parameters.get().asMap(), componentModel,
+                                          getCursorProviderFactory(), streamingManager, this,
+                                          getRetryPolicyTemplate(configuration), muleContext, interceptors);
   }
 
   @Override
   public void doStop() throws MuleException {
+    executionContextTemplate = null;
     stopIfNeeded(componentExecutor);
   }
 
@@ -40,6 +40,7 @@ import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContext
 import org.mule.runtime.module.extension.internal.runtime.config.MutableConfigurationStats;
 import org.mule.runtime.module.extension.internal.runtime.exception.ExceptionHandlerManager;
 import org.mule.runtime.module.extension.internal.runtime.exception.ModuleExceptionHandler;
+import org.mule.runtime.module.extension.internal.runtime.operation.ExecutionContextTemplate.TemplateExecutionContext;
 import org.mule.runtime.module.extension.internal.runtime.transaction.ExtensionTransactionKey;
 
 import java.util.ArrayList;
@@ -363,6 +364,13 @@ public final class DefaultExecutionMediator<M extends ComponentModel> implements
   }
 
   private List<Interceptor> collectInterceptors(ExecutionContextAdapter<M> context, CompletableComponentExecutor<M> executor) {
+    if (context instanceof TemplateExecutionContext) {
+      List<Interceptor> interceptors = ((TemplateExecutionContext) context).getInterceptors();
+      if (interceptors != null) {
+        return interceptors;
+      }
+    }
+
     return collectInterceptors(context.getConfiguration(),
                                context instanceof PrecalculatedExecutionContextAdapter
                                    ? ((PrecalculatedExecutionContextAdapter) context).getOperationExecutor()
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.operation;
+
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.meta.model.ComponentModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
+import org.mule.runtime.core.api.streaming.CursorProviderFactory;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.operation.Interceptor;
+import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.runtime.module.extension.internal.runtime.DefaultExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds everything needed to create the {@link ExecutionContextAdapter} of a component which doesn't depend on the event being
+ * processed. This is the case when both the configuration and the parameters of the component are static, so they are resolved
+ * only once, along with the retry policy and the interceptors to apply.
+ * <p>
+ * Instances are immutable. Only the event and the current scheduler are bound to each created context.
+ *
+ * @param <M> the generic type of the executed {@link ComponentModel}
+ * @since 4.3.0
+ */
+final class ExecutionContextTemplate<M extends ComponentModel> {
+
+  private final ExtensionModel extensionModel;
+  private final Optional<ConfigurationInstance> configuration;
+  private final Map<String, Object> parameters;
+  private final M componentModel;
+  private final CursorProviderFactory cursorProviderFactory;
+  private final StreamingManager streamingManager;
+  private final Component component;
+  private final RetryPolicyTemplate retryPolicyTemplate;
+  private final MuleContext muleContext;
+  private final List<Interceptor> interceptors;
+
+  /**
+   * Creates a new instance
+   *
+   * @param interceptors the interceptors of the {@code configuration} and the component's executor, or {@code null} if they have
+   *                     to be collected on each execution
+   */
+  ExecutionContextTemplate(ExtensionModel extensionModel,
+                           Optional<ConfigurationInstance> configuration,
+                           Map<String, Object> parameters,
+                           M componentModel,
+                           CursorProviderFactory cursorProviderFactory,
+                           StreamingManager streamingManager,
+                           Component component,
+                           RetryPolicyTemplate retryPolicyTemplate,
+                           MuleContext muleContext,
+                           List<Interceptor> interceptors) {
+    this.extensionModel = extensionModel;
+    this.configuration = configuration;
+    this.parameters = parameters;
+    this.componentModel = componentModel;
+    this.cursorProviderFactory = cursorProviderFactory;
+    this.streamingManager = streamingManager;
+    this.component = component;
+    this.retryPolicyTemplate = retryPolicyTemplate;
+    this.muleContext = muleContext;
+    this.interceptors = interceptors != null ? unmodifiableList(interceptors) : null;
+  }
+
+  Optional<ConfigurationInstance> getConfiguration() {
+    return configuration;
+  }
+
+  Map<String, Object> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * Creates a new {@link ExecutionContextAdapter} for processing the given {@code event}
+   *
+   * @param event            the event being processed
+   * @param currentScheduler the scheduler in which the component is being executed
+   * @return a new {@link ExecutionContextAdapter}
+   */
+  ExecutionContextAdapter<M> createExecutionContext(CoreEvent event, Scheduler currentScheduler) {
+    return new TemplateExecutionContext<>(this, event, currentScheduler);
+  }
+
+  /**
+   * A {@link DefaultExecutionContext} created from an {@link ExecutionContextTemplate}, which carries its pre collected
+   * interceptors.
+   */
+  static final class TemplateExecutionContext<M extends ComponentModel> extends DefaultExecutionContext<M> {
+
+    private final List<Interceptor> interceptors;
+
+    private TemplateExecutionContext(ExecutionContextTemplate<M> template, CoreEvent event, Scheduler currentScheduler) {
+      super(template.extensionModel, template.configuration, template.parameters, template.componentModel, event,
+            template.cursorProviderFactory, template.streamingManager, template.component, template.retryPolicyTemplate,
+            currentScheduler, template.muleContext);
+      interceptors = template.interceptors;
+    }
+
+    /**
+     * @return the interceptors to apply, or {@code null} if they have to be collected
+     */
+    List<Interceptor> getInterceptors() {
+      return interceptors;
+    }
+  }
+}
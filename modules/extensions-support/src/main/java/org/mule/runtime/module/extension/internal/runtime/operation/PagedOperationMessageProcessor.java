@@ -6,8 +6,13 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.operation;
 
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.module.extension.internal.runtime.streaming.PrefetchingProducer.PAGING_PREFETCH_DEPTH_PROPERTY;
+
+import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.extension.ExtensionManager;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.api.streaming.CursorProviderFactory;
@@ -21,17 +26,23 @@ import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.ExtensionConnectionSupplier;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.streaming.PagingProviderProducer;
+import org.mule.runtime.module.extension.internal.runtime.streaming.PrefetchingProducer;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
 /**
  * A specialization of {@link OperationMessageProcessor} which supports auto paging by the means of a
  * {@link ConsumerStreamingIterator}
+ * <p>
+ * When the {@link PrefetchingProducer#PAGING_PREFETCH_DEPTH_PROPERTY} system property is set, pages are fetched ahead of the
+ * consumer in an IO scheduler, unless the connection takes part of a transaction.
  *
  * @since 4.0
  */
 public class PagedOperationMessageProcessor extends OperationMessageProcessor {
 
   private final ExtensionConnectionSupplier connectionSupplier;
+  private final int prefetchDepth = getInteger(PAGING_PREFETCH_DEPTH_PROPERTY, 0);
+  private volatile Scheduler prefetchScheduler;
 
   public PagedOperationMessageProcessor(ExtensionModel extensionModel,
                                         OperationModel operationModel,
@@ -56,13 +67,36 @@ public class PagedOperationMessageProcessor extends OperationMessageProcessor {
         throw new IllegalStateException("Obtained paging delegate cannot be null");
       }
       ConfigurationInstance config = (ConfigurationInstance) operationContext.getConfiguration().get();
-      Producer<?> producer = new PagingProviderProducer((PagingProvider) value, config, operationContext, connectionSupplier);
+      PagingProviderProducer pagingProducer =
+          new PagingProviderProducer((PagingProvider) value, config, operationContext, connectionSupplier);
+      Producer<?> producer = pagingProducer;
+      Scheduler scheduler = prefetchScheduler;
+      if (scheduler != null && pagingProducer.supportsPrefetch()) {
+        producer = new PrefetchingProducer(pagingProducer, scheduler, prefetchDepth);
+      }
       ListConsumer<?> consumer = new ListConsumer(producer);
       consumer.loadNextPage();
       return new ConsumerStreamingIterator<>(consumer);
     };
   }
 
+  @Override
+  public void doStart() throws MuleException {
+    super.doStart();
+    if (prefetchDepth > 0) {
+      prefetchScheduler = muleContext.getSchedulerService().ioScheduler();
+    }
+  }
+
+  @Override
+  public void doStop() throws MuleException {
+    if (prefetchScheduler != null) {
+      prefetchScheduler.stop();
+      prefetchScheduler = null;
+    }
+    super.doStop();
+  }
+
   @Override
   protected ExecutionMediator createExecutionMediator() {
     return new DefaultExecutionMediator(extensionModel,
@@ -8,6 +8,7 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -20,6 +21,9 @@ public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
 
   private final String parameterName;
 
+  // The position of the parameter in the last seen layout, so it is looked up by name only once per layout
+  private volatile ParameterIndex parameterIndex;
+
   public ByParameterNameArgumentResolver(String parameterName) {
     this.parameterName = parameterName;
   }
@@ -32,7 +36,31 @@ public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
    */
   @Override
   public Supplier<T> resolve(ExecutionContext executionContext) {
-    return () -> (T) executionContext.getParameters().get(parameterName);
+    return () -> (T) getParameter(executionContext.getParameters());
+  }
+
+  private Object getParameter(Map<String, Object> parameters) {
+    if (!(parameters instanceof IndexedParameterMap)) {
+      return parameters.get(parameterName);
+    }
+
+    IndexedParameterMap indexedParameters = (IndexedParameterMap) parameters;
+    ParameterIndex index = parameterIndex;
+    if (index == null || index.layout != indexedParameters.getLayout()) {
+      index = new ParameterIndex(indexedParameters.getLayout(), indexedParameters.indexOf(parameterName));
+      parameterIndex = index;
+    }
+    return index.index >= 0 ? indexedParameters.get(index.index) : null;
+  }
+
+  private static final class ParameterIndex {
+
+    private final IndexedParameterMap.Layout layout;
+    private final int index;
 
+    private ParameterIndex(IndexedParameterMap.Layout layout, int index) {
+      this.layout = layout;
+      this.index = index;
+    }
   }
 }
@@ -118,7 +118,7 @@ public class ExpressionValueResolver<T> implements ExpressionBasedValueResolver<
     if (isMelExpression) {
       return evaluator.resolveTypedValue(context.getEvent());
     } else {
-      if (context.getSession() != null) {
+      if (context.getSession() != null && evaluator.isSessionSupported()) {
         return evaluator.resolveTypedValue(context.getSession());
       } else {
         return evaluator.resolveTypedValue(context.getEvent());
@@ -25,4 +25,9 @@ public class HashedResolverSet extends ResolverSet {
   ResolverSetResult.Builder getResolverSetBuilder() {
     return HashedResolverSetResult.newBuilder();
   }
+
+  @Override
+  ResolverSetResult createResult(IndexedParameterMap values) {
+    return HashedResolverSetResult.of(values);
+  }
 }
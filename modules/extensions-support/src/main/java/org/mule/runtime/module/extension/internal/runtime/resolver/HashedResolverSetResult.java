@@ -61,6 +61,14 @@ public class HashedResolverSetResult extends ResolverSetResult {
     return new Builder();
   }
 
+  static HashedResolverSetResult of(Map<String, Object> evaluationResult) {
+    int hashCode = 1;
+    for (Object value : evaluationResult.values()) {
+      hashCode = calculateValueHash(hashCode, value);
+    }
+    return new HashedResolverSetResult(evaluationResult, hashCode);
+  }
+
   private HashedResolverSetResult(Map<String, Object> evaluationResult, int hashCode) {
     super(evaluationResult);
     this.hashCode = hashCode;
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.IntStream.range;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable {@link Map} of parameter values which keeps them in an array, in the positions given by a {@link Layout} shared
+ * by all the instances created for the same set of parameters.
+ * <p>
+ * Besides the {@link Map} contract, values can be read by their position, which callers may obtain once through
+ * {@link #indexOf(String)} and reuse for every other instance with the same {@link Layout}, avoiding the lookup by name.
+ *
+ * @since 4.3.0
+ */
+public final class IndexedParameterMap extends AbstractMap<String, Object> {
+
+  /**
+   * The names of a set of parameters and the position of each of them, along with which of those positions hold values that may
+   * change from one evaluation of the parameters to the next.
+   */
+  public static final class Layout {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final int[] variableIndexes;
+
+    /**
+     * Creates a new instance in which the values of all the parameters may vary
+     *
+     * @param names the names of the parameters, in the order in which their values are kept
+     */
+    public Layout(String[] names) {
+      this(names, range(0, names.length).toArray());
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param names           the names of the parameters, in the order in which their values are kept
+     * @param variableIndexes the positions of the parameters which values may vary, in ascending order. The rest always have the
+     *                        same value for every instance with this layout
+     */
+    public Layout(String[] names, int[] variableIndexes) {
+      this.names = names.clone();
+      this.variableIndexes = variableIndexes.clone();
+      Map<String, Integer> indexes = new HashMap<>();
+      for (int i = 0; i < names.length; ++i) {
+        indexes.put(names[i], i);
+      }
+      this.indexes = unmodifiableMap(indexes);
+    }
+
+    /**
+     * @param name the name of a parameter
+     * @return the position of the parameter, or {@code -1} if there's no parameter with that name
+     */
+    public int indexOf(String name) {
+      Integer index = indexes.get(name);
+      return index != null ? index : -1;
+    }
+
+    /**
+     * @return the amount of parameters
+     */
+    public int size() {
+      return names.length;
+    }
+  }
+
+  private final Layout layout;
+  private final Object[] values;
+
+  /**
+   * Creates a new instance. The {@code values} array is not copied, so it should not be modified afterwards.
+   *
+   * @param layout the {@link Layout} of the parameters
+   * @param values the value of each parameter, in the position given by the {@code layout}
+   */
+  public IndexedParameterMap(Layout layout, Object[] values) {
+    if (values.length != layout.size()) {
+      throw new IllegalArgumentException("Expected " + layout.size() + " values but got " + values.length);
+    }
+    this.layout = layout;
+    this.values = values;
+  }
+
+  /**
+   * @return the {@link Layout} of the parameters
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * @param name the name of a parameter
+   * @return the position of the parameter, or {@code -1} if there's no parameter with that name
+   */
+  public int indexOf(String name) {
+    return layout.indexOf(name);
+  }
+
+  /**
+   * @param index the position of a parameter, as given by the {@link Layout}
+   * @return the value of the parameter in that position
+   */
+  public Object get(int index) {
+    return values[index];
+  }
+
+  /**
+   * Two instances with the same {@link Layout} are equal if and only if these values are, since the rest are the same for both.
+   *
+   * @return a new array with the values of the parameters which may vary, in the order of their positions
+   */
+  public Object[] getVariableValues() {
+    int[] variableIndexes = layout.variableIndexes;
+    Object[] variableValues = new Object[variableIndexes.length];
+    for (int i = 0; i < variableIndexes.length; ++i) {
+      variableValues[i] = values[variableIndexes[i]];
+    }
+    return variableValues;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = key instanceof String ? layout.indexOf((String) key) : -1;
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && layout.indexOf((String) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new Iterator<Entry<String, Object>>() {
+
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < values.length;
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, Object> entry = new SimpleImmutableEntry<>(layout.names[next], values[next]);
+            next++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return values.length;
+      }
+    };
+  }
+}
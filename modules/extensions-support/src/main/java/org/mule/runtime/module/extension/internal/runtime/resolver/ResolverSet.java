@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Optional.ofNullable;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -15,12 +17,16 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.el.ExpressionManagerSession;
+import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBuilder;
 
 import com.google.common.collect.ImmutableMap;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A {@link ValueResolver} which is based on associating a set of keys -&gt; {@link ValueResolver} pairs. The result of evaluating
@@ -39,7 +45,10 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
 
   private Map<String, ValueResolver<?>> resolvers = new LinkedHashMap<>();
   private boolean dynamic = false;
+  private int dynamicResolvers = 0;
   private final MuleContext muleContext;
+  private CompiledResolvers compiledResolvers;
+  private ResolverSetResult constantResult;
 
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
@@ -61,9 +70,12 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (resolvers.put(key, resolver) != null) {
       throw new IllegalStateException("A value was already given for key " + key);
     }
+    compiledResolvers = null;
+    constantResult = null;
 
-    if (!dynamic && resolver.isDynamic()) {
+    if (resolver.isDynamic()) {
       dynamic = true;
+      dynamicResolvers++;
     }
     return this;
   }
@@ -103,6 +115,38 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
+    CoreEvent event = context.getEvent();
+    if (context.getSession() != null || event == null || dynamicResolvers < 2 || muleContext == null
+        || muleContext.getExpressionManager() == null) {
+      return doResolve(context);
+    }
+
+    // Evaluate all the expressions within one session, so the bindings of the event are only built once
+    ExpressionManagerSession session = muleContext.getExpressionManager()
+        .openSession(event.getContext().getOriginatingLocation(), event, NULL_BINDING_CONTEXT);
+    try (ValueResolvingContext sessionContext = context.withSession(session)) {
+      ResolverSetResult result = doResolve(sessionContext);
+      if (sessionContext.getEvent() != event) {
+        context.changeEvent(sessionContext.getEvent());
+      }
+      return result;
+    }
+  }
+
+  private ResolverSetResult doResolve(ValueResolvingContext context) throws MuleException {
+    if (constantResult != null) {
+      return constantResult;
+    }
+
+    CompiledResolvers compiled = compiledResolvers;
+    if (compiled != null) {
+      Object[] values = compiled.constantValues.clone();
+      for (int index : compiled.variableIndexes) {
+        values[index] = resolveRecursively(compiled.resolvers[index], context);
+      }
+      return createResult(new IndexedParameterMap(compiled.layout, values));
+    }
+
     ResolverSetResult.Builder builder = getResolverSetBuilder();
 
     for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
@@ -135,10 +179,76 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(resolvers.values(), muleContext);
+    compiledResolvers = new CompiledResolvers(resolvers);
+    constantResult = compiledResolvers.variableIndexes.length == 0
+        ? createResult(new IndexedParameterMap(compiledResolvers.layout, compiledResolvers.constantValues))
+        : null;
+  }
+
+  /**
+   * Provides the result of this set when none of its resolvers depend on the event being processed. Such a result is only
+   * available once this set has been initialised.
+   *
+   * @return the result of this set if all its resolvers always return the same value, or an empty value otherwise
+   */
+  public Optional<ResolverSetResult> getConstantResult() {
+    return ofNullable(constantResult);
   }
 
   ResolverSetResult.Builder getResolverSetBuilder() {
     return ResolverSetResult.newBuilder();
   }
 
+  ResolverSetResult createResult(IndexedParameterMap values) {
+    return new ResolverSetResult(values);
+  }
+
+  /**
+   * The resolvers of an initialised {@link ResolverSet}, kept in arrays in the order in which they were added. The values of the
+   * resolvers which always return the same value are resolved only once, so only the rest are resolved for each event.
+   */
+  private static final class CompiledResolvers {
+
+    private final IndexedParameterMap.Layout layout;
+    private final ValueResolver<?>[] resolvers;
+    private final Object[] constantValues;
+    private final int[] variableIndexes;
+
+    private CompiledResolvers(Map<String, ValueResolver<?>> resolversByKey) {
+      resolvers = resolversByKey.values().toArray(new ValueResolver<?>[resolversByKey.size()]);
+      constantValues = new Object[resolvers.length];
+
+      int[] indexes = new int[resolvers.length];
+      int variables = 0;
+      for (int i = 0; i < resolvers.length; ++i) {
+        if (!resolveConstant(i)) {
+          indexes[variables++] = i;
+        }
+      }
+      variableIndexes = Arrays.copyOf(indexes, variables);
+      layout = new IndexedParameterMap.Layout(resolversByKey.keySet().toArray(new String[resolversByKey.size()]),
+                                              variableIndexes);
+    }
+
+    private boolean resolveConstant(int index) {
+      ValueResolver<?> resolver = resolvers[index];
+      if (!(resolver instanceof StaticValueResolver
+          || (resolver instanceof TypeSafeValueResolverWrapper && ((TypeSafeValueResolverWrapper) resolver).isConstant()))) {
+        return false;
+      }
+
+      try {
+        Object value = resolver.resolve(null);
+        if (value instanceof ValueResolver) {
+          return false;
+        }
+        constantValues[index] = value;
+        return true;
+      } catch (Exception e) {
+        // Leave it to be resolved for each event, so the failure is reported there
+        return false;
+      }
+    }
+  }
+
 }
@@ -71,6 +71,13 @@ public class TypeSafeValueResolverWrapper<T> implements ValueResolver<T>, Initia
     }
   }
 
+  /**
+   * @return whether this resolver always returns the same value, regardless of the {@link ValueResolvingContext}
+   */
+  boolean isConstant() {
+    return resolver instanceof CachedResolver && valueResolverDelegate instanceof StaticValueResolver;
+  }
+
   public void setTransformationService(TransformationService transformationService) {
     this.transformationService = transformationService;
   }
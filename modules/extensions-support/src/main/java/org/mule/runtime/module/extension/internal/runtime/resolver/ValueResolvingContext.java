@@ -111,6 +111,18 @@ public class ValueResolvingContext implements AutoCloseable {
     return session;
   }
 
+  /**
+   * Creates a context for the same resolution as this one, which evaluates its expressions within the given {@code session}.
+   * Closing the returned context closes the {@code session}.
+   *
+   * @param session the session to evaluate expressions with
+   * @return a new {@link ValueResolvingContext}
+   * @since 4.3.0
+   */
+  ValueResolvingContext withSession(ExpressionManagerSession session) {
+    return new ValueResolvingContext(event, session, config, resolveCursors);
+  }
+
   @Override
   public void close() {
     if (session != null) {
@@ -68,6 +68,11 @@ import org.slf4j.Logger;
 /**
  * A {@link SourceWrapper} implementation that provides Polling related capabilities to any wrapped {@link Source}, like scheduled
  * polling, watermarking and idempotent processing.
+ * <p>
+ * The changes to the watermark and to the ids of the processed items done during a poll cycle are kept in memory and written
+ * to their object stores once the cycle ends (see {@link StagedObjectStore}). Items are dispatched before that, so if writing the
+ * changes fails they are lost, and the items of that cycle may be dispatched again by the next one. That is, processing is
+ * at-least-once when the object stores fail.
  *
  * @param <T>
  * @param <A>
@@ -78,7 +83,6 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
 
   private static final Logger LOGGER = getLogger(PollingSourceWrapper.class);
   private static final String ITEM_RELEASER_CTX_VAR = "itemReleaser";
-  private static final String UPDATE_PROCESSED_LOCK = "OSClearing";
   private static final String INFLIGHT_IDS_OS_NAME_SUFFIX = "inflight-ids";
 
   private final PollingSource<T, A> delegate;
@@ -181,11 +185,13 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       try {
         delegate.poll(pollContext);
         pollContext.getUpdatedWatermark()
-            .ifPresent(w -> updateWatermark(w, pollContext.getWatermarkComparator()));
+            .ifPresent(w -> updateWatermark(pollContext, w, pollContext.getWatermarkComparator()));
       } catch (Throwable t) {
         LOGGER.error(format("Found exception trying to process item on source at flow '%s'. %s",
                             flowName, t.getMessage()),
                      t);
+      } finally {
+        pollContext.flush();
       }
     });
   }
@@ -208,6 +214,9 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
   private class DefaultPollContext implements PollContext<T, A> {
 
     private final SourceCallback<T, A> sourceCallback;
+    private final StagedObjectStore watermarks = new StagedObjectStore(watermarkObjectStore);
+    private final StagedObjectStore recentlyProcessed = new StagedObjectStore(recentlyProcessedIds);
+    private final StagedObjectStore idsOnWatermark = new StagedObjectStore(idsOnUpdatedWatermark);
     private Serializable currentWatermark;
     private Serializable updatedWatermark;
     private Comparator<Serializable> watermarkComparator = null;
@@ -219,6 +228,26 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       this.updatedWatermark = updatedWatermark;
     }
 
+    /**
+     * Writes the changes done during this poll cycle. The ids are written before the watermark, so that a failure never leaves
+     * an updated watermark without the ids of the items processed on it. No other lock is needed, since this is only invoked
+     * while holding the watermark lock.
+     * <p>
+     * The items of this cycle were already dispatched, so a failure can't fail them. It is logged, and those items may be
+     * dispatched again by the next cycle.
+     */
+    private void flush() {
+      try {
+        recentlyProcessed.flush();
+        idsOnWatermark.flush();
+        watermarks.flush();
+      } catch (ObjectStoreException e) {
+        LOGGER.error(format("Failed to persist the watermark changes of the poll on source at flow '%s'. "
+            + "The items of this poll may be processed again on the next one. %s", flowName, e.getMessage()),
+                     e);
+      }
+    }
+
     @Override
     public PollItemStatus accept(Consumer<PollItem<T, A>> consumer) {
       final SourceCallbackContext callbackContext = sourceCallback.createContext();
@@ -277,23 +306,14 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
 
     private void setUpdatedWatermark(Serializable updatedWatermark) {
-      try {
-        this.updatedWatermark = updatedWatermark;
-        if (watermarkObjectStore.contains(UPDATED_WATERMARK_ITEM_OS_KEY)) {
-          watermarkObjectStore.remove(UPDATED_WATERMARK_ITEM_OS_KEY);
-        }
-        watermarkObjectStore.store(UPDATED_WATERMARK_ITEM_OS_KEY, updatedWatermark);
-      } catch (ObjectStoreException e) {
-        throw new MuleRuntimeException(
-                                       createStaticMessage("An error occurred while trying to update the updatedWatermark in the the object store"),
-                                       e);
-      }
+      this.updatedWatermark = updatedWatermark;
+      watermarks.store(UPDATED_WATERMARK_ITEM_OS_KEY, updatedWatermark);
     }
 
     private void addToIdsOnUpdatedWatermark(String itemId, Serializable itemWatermark) {
       try {
-        if (!idsOnUpdatedWatermark.contains(itemId)) {
-          idsOnUpdatedWatermark.store(itemId, itemWatermark);
+        if (!idsOnWatermark.contains(itemId)) {
+          idsOnWatermark.store(itemId, itemWatermark);
         }
       } catch (ObjectStoreException e) {
         throw new MuleRuntimeException(
@@ -321,8 +341,8 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
         if (compare < 0) {
 
           try {
-            if (itemId != null && recentlyProcessedIds.contains(itemId)) {
-              Serializable previousItemWatermark = recentlyProcessedIds.retrieve(itemId);
+            if (itemId != null && recentlyProcessed.contains(itemId)) {
+              Serializable previousItemWatermark = recentlyProcessed.retrieve(itemId);
               if (compareWatermarks(itemWatermark, previousItemWatermark, watermarkComparator) <= 0) {
                 accept = false;
               }
@@ -346,7 +366,7 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
           }
         } else if (compare == 0 && pollItem.getItemId().isPresent()) {
           try {
-            accept = !(recentlyProcessedIds.contains(itemId) || idsOnUpdatedWatermark.contains(itemId));
+            accept = !(recentlyProcessed.contains(itemId) || idsOnWatermark.contains(itemId));
           } catch (ObjectStoreException e) {
             throw new MuleRuntimeException(
                                            createStaticMessage("An error occurred while checking the existance for Item with ID [%s]",
@@ -359,18 +379,8 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       }
 
       if (accept) {
-        try {
-          if (itemId != null) {
-            if (recentlyProcessedIds.contains(itemId)) {
-              recentlyProcessedIds.remove(itemId);
-            }
-            recentlyProcessedIds.store(itemId, itemWatermark);
-          }
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(
-                                         createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
-                                                             itemId),
-                                         e);
+        if (itemId != null) {
+          recentlyProcessed.store(itemId, itemWatermark);
         }
       } else {
         if (LOGGER.isDebugEnabled()) {
@@ -473,18 +483,18 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     return lockFactory.createLock(formatKey("watermark"));
   }
 
-  private void updateWatermark(Serializable value, Comparator comparator) {
+  private void updateWatermark(DefaultPollContext pollContext, Serializable value, Comparator comparator) {
     try {
-      if (watermarkObjectStore.contains(WATERMARK_ITEM_OS_KEY)) {
-        Serializable currentValue = watermarkObjectStore.retrieve(WATERMARK_ITEM_OS_KEY);
+      StagedObjectStore watermarks = pollContext.watermarks;
+      if (watermarks.contains(WATERMARK_ITEM_OS_KEY)) {
+        Serializable currentValue = watermarks.retrieve(WATERMARK_ITEM_OS_KEY);
         if (compareWatermarks(currentValue, value, comparator) >= 0) {
           return;
         }
-        watermarkObjectStore.remove(WATERMARK_ITEM_OS_KEY);
       }
 
-      updateRecentlyProcessedIds();
-      watermarkObjectStore.store(WATERMARK_ITEM_OS_KEY, value);
+      updateRecentlyProcessedIds(pollContext);
+      watermarks.store(WATERMARK_ITEM_OS_KEY, value);
     } catch (ObjectStoreException e) {
       throw new MuleRuntimeException(
                                      createStaticMessage(format("Failed to update watermark value for message source at location '%s'. %s",
@@ -493,25 +503,15 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
   }
 
-  private void updateRecentlyProcessedIds() throws ObjectStoreException {
-    Lock osClearingLock = lockFactory.createLock(UPDATE_PROCESSED_LOCK);
-    try {
-      osClearingLock.lock();
-      List<String> strings = recentlyProcessedIds.allKeys();
-      idsOnUpdatedWatermark.clear();
-      strings.forEach(key -> {
-        try {
-          idsOnUpdatedWatermark.store(key, recentlyProcessedIds.retrieve(key));
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(createStaticMessage("An error occurred while updating the watermark Ids. Failed to update key '%s' in Watermark-IDs ObjectStore: %s",
-                                                             key, e.getMessage()),
-                                         e);
-        }
-      });
-      recentlyProcessedIds.clear();
-    } finally {
-      safeUnlock(osClearingLock);
+  private void updateRecentlyProcessedIds(DefaultPollContext pollContext) throws ObjectStoreException {
+    StagedObjectStore recentlyProcessed = pollContext.recentlyProcessed;
+    StagedObjectStore idsOnWatermark = pollContext.idsOnWatermark;
+    List<String> keys = recentlyProcessed.allKeys();
+    idsOnWatermark.clear();
+    for (String key : keys) {
+      idsOnWatermark.store(key, recentlyProcessed.retrieve(key));
     }
+    recentlyProcessed.clear();
   }
 
   private Serializable getCurrentWatermark() {
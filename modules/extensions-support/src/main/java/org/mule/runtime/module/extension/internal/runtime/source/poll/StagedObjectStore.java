@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source.poll;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A view over an {@link ObjectStore} which keeps the changes done through it in memory until {@link #flush()} is invoked, so
+ * that all the changes of a poll cycle are written at once. Reads see the pending changes.
+ * <p>
+ * A key which is written several times, or written and then removed or cleared before flushing, only results in its final state
+ * being written. Values read from the store are kept as well, so each key is read at most once.
+ * <p>
+ * This is only meant to be used while no one else modifies the underlying store, as happens with the watermark related stores
+ * of a {@link PollingSourceWrapper} while polling, since the poll cycle holds the watermark lock. Instances are not thread safe.
+ *
+ * @since 4.3.0
+ */
+final class StagedObjectStore {
+
+  private static final Serializable ABSENT = new Serializable() {};
+
+  private final ObjectStore<Serializable> delegate;
+
+  // Keys with pending changes, mapped to their new value or to ABSENT if they were removed
+  private final Map<String, Serializable> pending = new LinkedHashMap<>();
+  // Keys read from the delegate which have no pending changes, mapped to their value or to ABSENT if not present
+  private final Map<String, Serializable> read = new LinkedHashMap<>();
+  private boolean cleared = false;
+
+  StagedObjectStore(ObjectStore<Serializable> delegate) {
+    this.delegate = delegate;
+  }
+
+  boolean contains(String key) throws ObjectStoreException {
+    return lookup(key) != ABSENT;
+  }
+
+  /**
+   * @return the value for the given {@code key}, or {@code null} if there is none
+   */
+  Serializable retrieve(String key) throws ObjectStoreException {
+    Serializable value = lookup(key);
+    return value != ABSENT ? value : null;
+  }
+
+  /**
+   * Sets the value of the given {@code key}, replacing the previous one if any
+   */
+  void store(String key, Serializable value) {
+    read.remove(key);
+    pending.put(key, value);
+  }
+
+  void remove(String key) {
+    read.remove(key);
+    pending.put(key, ABSENT);
+  }
+
+  void clear() {
+    cleared = true;
+    read.clear();
+    pending.clear();
+  }
+
+  List<String> allKeys() throws ObjectStoreException {
+    Set<String> keys = new HashSet<>();
+    if (!cleared) {
+      keys.addAll(delegate.allKeys());
+    }
+    pending.forEach((key, value) -> {
+      if (value == ABSENT) {
+        keys.remove(key);
+      } else {
+        keys.add(key);
+      }
+    });
+    return new ArrayList<>(keys);
+  }
+
+  /**
+   * Writes the pending changes into the underlying store. A failure leaves the changes not yet written pending.
+   */
+  void flush() throws ObjectStoreException {
+    // Right after clearing it, the delegate has none of the keys, so there is nothing to check nor remove
+    boolean empty = cleared;
+    if (cleared) {
+      delegate.clear();
+      cleared = false;
+    }
+
+    for (Map.Entry<String, Serializable> entry : new ArrayList<>(pending.entrySet())) {
+      String key = entry.getKey();
+      if (!empty && delegate.contains(key)) {
+        delegate.remove(key);
+      }
+      if (entry.getValue() != ABSENT) {
+        delegate.store(key, entry.getValue());
+      }
+      pending.remove(key);
+      read.put(key, entry.getValue());
+    }
+  }
+
+  private Serializable lookup(String key) throws ObjectStoreException {
+    Serializable value = pending.get(key);
+    if (value != null) {
+      return value;
+    }
+    if (cleared) {
+      return ABSENT;
+    }
+
+    value = read.get(key);
+    if (value == null) {
+      value = delegate.contains(key) ? delegate.retrieve(key) : ABSENT;
+      read.put(key, value);
+    }
+    return value;
+  }
+}
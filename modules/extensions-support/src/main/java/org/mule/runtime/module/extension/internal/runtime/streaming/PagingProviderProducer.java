@@ -40,6 +40,7 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
   private final ExtensionConnectionSupplier connectionSupplier;
   private final ExecutionContextAdapter executionContext;
   private final ConnectionSupplierFactory connectionSupplierFactory;
+  private final boolean transactional;
 
   public PagingProviderProducer(PagingProvider<Object, T> delegate,
                                 ConfigurationInstance config,
@@ -50,6 +51,7 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
     this.executionContext = executionContext;
     this.connectionSupplier = connectionSupplier;
 
+    this.transactional = isTransactional();
     this.connectionSupplierFactory = createConnectionSupplierFactory();
   }
 
@@ -90,6 +92,17 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
     }
   }
 
+  /**
+   * Pages can't be fetched ahead in a thread other than the one executing the operation when the connection takes part of a
+   * transaction, since transactions are bound to that thread.
+   *
+   * @return whether this producer can be wrapped in a {@link PrefetchingProducer}
+   * @since 4.3.0
+   */
+  public boolean supportsPrefetch() {
+    return !transactional;
+  }
+
   /**
    * Closes the delegate
    */
@@ -110,7 +123,7 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
   }
 
   private ConnectionSupplierFactory createConnectionSupplierFactory() {
-    if (delegate.useStickyConnections() || isTransactional()) {
+    if (delegate.useStickyConnections() || transactional) {
       return new StickyConnectionSupplierFactory();
     }
 
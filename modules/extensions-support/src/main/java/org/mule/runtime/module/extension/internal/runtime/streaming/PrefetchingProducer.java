@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.streaming;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.streaming.iterator.Producer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+
+/**
+ * A {@link Producer} of pages which fetches up to a given amount of pages ahead of its consumer, so that the latency of
+ * obtaining each page overlaps with the processing of the previous ones.
+ * <p>
+ * Pages are fetched one at a time, in order, by tasks submitted to the given {@link Executor}. Once {@code depth} pages are
+ * buffered no more are fetched until the consumer takes one. When the consumer asks for a page and none is buffered nor being
+ * fetched, the page is fetched in the consumer's own thread, since it has to wait for it anyway.
+ * <p>
+ * The delegate is never accessed concurrently, so it may be a {@link PagingProviderProducer} with sticky connections. It must
+ * not depend on the thread in which it is invoked, which is not the case for connections that take part of a transaction. Pages
+ * fetched ahead are fetched with the context classloader of the thread which created this producer.
+ *
+ * @param <T> the type of the elements in the pages
+ * @since 4.3.0
+ */
+public final class PrefetchingProducer<T> implements Producer<List<T>> {
+
+  private static final Logger LOGGER = getLogger(PrefetchingProducer.class);
+
+  /**
+   * System property to set how many pages paged operations fetch ahead of their consumers. By default, pages are only fetched
+   * when they are needed.
+   */
+  public static final String PAGING_PREFETCH_DEPTH_PROPERTY = SYSTEM_PROPERTY_PREFIX + "paging.prefetchDepth";
+
+  private final Producer<List<T>> delegate;
+  private final Executor executor;
+  private final int depth;
+  private final ClassLoader contextClassLoader;
+  private final Lock delegateLock = new ReentrantLock();
+
+  // Guarded by this
+  private final Queue<List<T>> buffer = new ArrayDeque<>();
+  private boolean fetching = false;
+  private boolean exhausted = false;
+  private boolean closed = false;
+  private List<T> lastPage;
+  private RuntimeException failure;
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate the {@link Producer} which actually obtains the pages
+   * @param executor the {@link Executor} in which pages are fetched ahead
+   * @param depth    the maximum amount of pages to fetch ahead. Must be greater than zero
+   */
+  public PrefetchingProducer(Producer<List<T>> delegate, Executor executor, int depth) {
+    checkArgument(depth > 0, "Prefetch depth must be greater than zero");
+    this.delegate = delegate;
+    this.executor = executor;
+    this.depth = depth;
+    this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+  }
+
+  /**
+   * Returns the next buffered page, waiting for it to be fetched if needed. Once the delegate returns an empty page, that page is
+   * returned after all the buffered ones. A failure fetching a page ahead is thrown once the pages fetched before it are consumed.
+   */
+  @Override
+  public List<T> produce() {
+    List<T> page;
+    synchronized (this) {
+      while (true) {
+        if (!buffer.isEmpty()) {
+          page = buffer.poll();
+          break;
+        }
+        if (failure != null) {
+          throw failure;
+        }
+        if (exhausted || closed) {
+          return lastPage;
+        }
+        if (!fetching) {
+          fetching = true;
+          page = null;
+          break;
+        }
+        awaitFetch();
+      }
+    }
+
+    if (page == null) {
+      page = fetchInCurrentThread();
+    }
+    fetchAheadIfNeeded();
+    return page;
+  }
+
+  private List<T> fetchInCurrentThread() {
+    List<T> page;
+    try {
+      page = fetch();
+    } catch (RuntimeException | Error e) {
+      synchronized (this) {
+        fetching = false;
+        notifyAll();
+      }
+      throw e;
+    }
+
+    synchronized (this) {
+      fetching = false;
+      if (isEmpty(page)) {
+        exhausted = true;
+        lastPage = page;
+      }
+      notifyAll();
+    }
+    return page;
+  }
+
+  private void fetchAheadIfNeeded() {
+    synchronized (this) {
+      if (fetching || exhausted || closed || failure != null || buffer.size() >= depth) {
+        return;
+      }
+      fetching = true;
+    }
+
+    try {
+      executor.execute(this::fetchAhead);
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Could not fetch the next page ahead, it will be fetched when requested", e);
+      synchronized (this) {
+        fetching = false;
+        notifyAll();
+      }
+    }
+  }
+
+  private void fetchAhead() {
+    List<T> page = null;
+    RuntimeException error = null;
+    try {
+      page = withContextClassLoader(contextClassLoader, this::fetch);
+    } catch (RuntimeException e) {
+      error = e;
+    } catch (Throwable t) {
+      error = new MuleRuntimeException(createStaticMessage("Could not fetch the next page"), t);
+    }
+
+    synchronized (this) {
+      fetching = false;
+      if (!closed) {
+        if (error != null) {
+          failure = error;
+        } else if (isEmpty(page)) {
+          exhausted = true;
+          lastPage = page;
+        } else {
+          buffer.add(page);
+        }
+      }
+      notifyAll();
+    }
+
+    fetchAheadIfNeeded();
+  }
+
+  private List<T> fetch() {
+    delegateLock.lock();
+    try {
+      return delegate.produce();
+    } finally {
+      delegateLock.unlock();
+    }
+  }
+
+  private void awaitFetch() {
+    try {
+      wait();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MuleRuntimeException(createStaticMessage("Interrupted while waiting for the next page"), e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getSize() {
+    delegateLock.lock();
+    try {
+      return delegate.getSize();
+    } finally {
+      delegateLock.unlock();
+    }
+  }
+
+  /**
+   * Discards the buffered pages and closes the delegate once the page being fetched ahead, if any, is obtained.
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      closed = true;
+      buffer.clear();
+    }
+
+    delegateLock.lock();
+    try {
+      delegate.close();
+    } finally {
+      delegateLock.unlock();
+    }
+  }
+
+  private static boolean isEmpty(List<?> page) {
+    return page == null || page.isEmpty();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.module.extension.internal.runtime.resolver.IndexedParameterMap;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class DynamicConfigurationKeyTestCase extends AbstractMuleTestCase {
+
+  private final IndexedParameterMap.Layout layout =
+      new IndexedParameterMap.Layout(new String[] {"constant", "tenant"}, new int[] {1});
+
+  @Test
+  public void onlyVariableValuesCompared() {
+    DynamicConfigurationKey key = DynamicConfigurationKey.of(indexedResult("Walter", "tenant1"), null);
+
+    assertThat(key, is(DynamicConfigurationKey.of(indexedResult("Jesse", "tenant1"), null)));
+    assertThat(key.hashCode(), is(DynamicConfigurationKey.of(indexedResult("Jesse", "tenant1"), null).hashCode()));
+    assertThat(key, is(not(DynamicConfigurationKey.of(indexedResult("Walter", "tenant2"), null))));
+  }
+
+  @Test
+  public void providerValuesCompared() {
+    DynamicConfigurationKey key = DynamicConfigurationKey.of(indexedResult("Walter", "tenant1"), indexedResult("Walter", "db1"));
+
+    assertThat(key, is(DynamicConfigurationKey.of(indexedResult("Walter", "tenant1"), indexedResult("Walter", "db1"))));
+    assertThat(key, is(not(DynamicConfigurationKey.of(indexedResult("Walter", "tenant1"), indexedResult("Walter", "db2")))));
+    assertThat(key, is(not(DynamicConfigurationKey.of(indexedResult("Walter", "tenant1"), null))));
+  }
+
+  @Test
+  public void notIndexedResultsComparedAsAWhole() {
+    DynamicConfigurationKey key = DynamicConfigurationKey.of(builtResult("Walter", "tenant1"), null);
+
+    assertThat(key, is(DynamicConfigurationKey.of(builtResult("Walter", "tenant1"), null)));
+    assertThat(key, is(not(DynamicConfigurationKey.of(builtResult("Jesse", "tenant1"), null))));
+  }
+
+  private ResolverSetResult indexedResult(String constant, String tenant) {
+    ResolverSetResult result = mock(ResolverSetResult.class);
+    when(result.asMap()).thenReturn(new IndexedParameterMap(layout, new Object[] {constant, tenant}));
+    return result;
+  }
+
+  private ResolverSetResult builtResult(String constant, String tenant) {
+    return ResolverSetResult.newBuilder().add("constant", constant).add("tenant", tenant).build();
+  }
+}
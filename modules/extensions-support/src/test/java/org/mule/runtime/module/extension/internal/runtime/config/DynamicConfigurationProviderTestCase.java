@@ -10,9 +10,11 @@ import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertThat;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
@@ -270,6 +272,75 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(instance.getDispose(), is(1));
   }
 
+  @Test
+  public void hitAndMissCount() throws Exception {
+    final int count = 10;
+    for (int i = 0; i < count; i++) {
+      provider.get(event);
+    }
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    assertThat(provider.getMissCount(), is(1L));
+    assertThat(provider.getHitCount(), is((long) count - 1));
+  }
+
+  @Test
+  public void leastRecentlyUsedIdleInstanceEvictedWhenMaxInstancesExceeded() throws Exception {
+    DynamicConfigurationProvider provider = createBoundedProvider();
+
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    timeSupplier.move(2, SECONDS);
+    HeisenbergExtension instance2 = makeAlternateInstance();
+    assertThat(provider.getEvictionCount(), is(1L));
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance2)));
+
+    timeSupplier.move(2, SECONDS);
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    when(resolverSet.resolve(ValueResolvingContext.builder(event).withExpressionManager(expressionManager).build()))
+        .thenReturn(resolverSetResult);
+    assertThat(provider.get(event).getValue(), is(not(sameInstance(instance1))));
+    assertThat(provider.getMissCount(), is(3L));
+    assertThat(provider.getEvictionCount(), is(2L));
+  }
+
+  @Test
+  public void recentlyUsedInstanceNotEvictedWhenMaxInstancesExceeded() throws Exception {
+    DynamicConfigurationProvider provider = createBoundedProvider();
+
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    makeAlternateInstance();
+    assertThat(provider.getEvictionCount(), is(0L));
+
+    when(resolverSet.resolve(ValueResolvingContext.builder(event).withExpressionManager(expressionManager).build()))
+        .thenReturn(resolverSetResult);
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance1)));
+  }
+
+  @Test
+  public void instanceInUseNotExpired() throws Exception {
+    ConfigurationInstance instance = provider.get(event);
+    ((MutableConfigurationStats) instance.getStatistics()).addInflightOperation();
+
+    timeSupplier.move(10, MINUTES);
+    assertThat(((DynamicConfigurationProvider) provider).getExpired().isEmpty(), is(true));
+
+    ((MutableConfigurationStats) instance.getStatistics()).discountInflightOperation();
+    timeSupplier.move(10, MINUTES);
+    assertThat(((DynamicConfigurationProvider) provider).getExpired(), contains(instance));
+  }
+
+  private DynamicConfigurationProvider createBoundedProvider() throws MuleException {
+    stopIfNecessary();
+    disposeIfNecessary();
+    DynamicConfigurationProvider provider =
+        new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet, connectionProviderResolver,
+                                         expirationPolicy, new ReflectionCache(), expressionManager, muleContext, 1);
+    this.provider = provider;
+    provider.initialise();
+    provider.start();
+    return provider;
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws Exception {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     when(alternateResult.asMap()).thenReturn(new HashMap<>());
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.rules.ExpectedException.none;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class MethodInvokerTestCase extends AbstractMuleTestCase {
+
+  private static final IllegalStateException RUNTIME_EXCEPTION = new IllegalStateException();
+  private static final IOException CHECKED_EXCEPTION = new IOException();
+
+  @Rule
+  public ExpectedException expectedException = none();
+
+  private final Target target = new Target();
+
+  @Test
+  public void primitiveArguments() throws Exception {
+    MethodInvoker invoker = invoker("add", int.class, long.class);
+
+    assertThat(invoker.isMethodHandleInvocation(), is(true));
+    assertThat(invoker.invoke(new Object[] {1, 2L}), is(3L));
+  }
+
+  @Test
+  public void referenceArguments() throws Exception {
+    assertThat(invoker("echo", String.class).invoke(new Object[] {"hello"}), is("hello"));
+    assertThat(invoker("echo", String.class).invoke(new Object[] {null}), is(nullValue()));
+  }
+
+  @Test
+  public void voidMethod() throws Exception {
+    assertThat(invoker("touch").invoke(new Object[0]), is(nullValue()));
+    assertThat(target.touched, is(true));
+  }
+
+  @Test
+  public void staticMethod() throws Exception {
+    assertThat(new MethodInvoker(Target.class.getMethod("constant"), null).invoke(new Object[0]), is("constant"));
+  }
+
+  @Test
+  public void nonPublicMethod() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getDeclaredMethod("secret"), target);
+
+    assertThat(invoker.isMethodHandleInvocation(), is(true));
+    assertThat(invoker.invoke(new Object[0]), is("secret"));
+  }
+
+  @Test
+  public void nullPrimitiveArgument() throws Exception {
+    expectedException.expect(IllegalArgumentException.class);
+    invoker("add", int.class, long.class).invoke(new Object[] {null, 2L});
+  }
+
+  @Test
+  public void wrongArgumentType() throws Exception {
+    expectedException.expect(IllegalArgumentException.class);
+    invoker("echo", String.class).invoke(new Object[] {1});
+  }
+
+  @Test
+  public void methodNullPointerExceptionRethrown() throws Exception {
+    NullPointerException exception = new NullPointerException();
+    expectedException.expect(sameInstance(exception));
+    invoker("fail", Exception.class).invoke(new Object[] {exception});
+  }
+
+  @Test
+  public void runtimeExceptionRethrown() throws Exception {
+    expectedException.expect(sameInstance(RUNTIME_EXCEPTION));
+    invoker("fail", Exception.class).invoke(new Object[] {RUNTIME_EXCEPTION});
+  }
+
+  @Test
+  public void checkedExceptionWrapped() throws Exception {
+    try {
+      invoker("fail", Exception.class).invoke(new Object[] {CHECKED_EXCEPTION});
+      fail("Exception should have been thrown");
+    } catch (UndeclaredThrowableException e) {
+      assertThat(e.getCause(), is(sameInstance(CHECKED_EXCEPTION)));
+    }
+  }
+
+  @Test
+  public void invokesOverridingMethod() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("echo", String.class), new Target() {
+
+      @Override
+      public String echo(String value) {
+        return value + "!";
+      }
+    });
+
+    assertThat(invoker.invoke(new Object[] {"hello"}), is("hello!"));
+  }
+
+  private MethodInvoker invoker(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+    return new MethodInvoker(Target.class.getMethod(methodName, parameterTypes), target);
+  }
+
+  public static class Target {
+
+    private boolean touched = false;
+
+    public static String constant() {
+      return "constant";
+    }
+
+    public long add(int a, long b) {
+      return a + b;
+    }
+
+    public String echo(String value) {
+      return value;
+    }
+
+    public void touch() {
+      touched = true;
+    }
+
+    public void fail(Exception e) throws Exception {
+      throw e;
+    }
+
+    private String secret() {
+      return "secret";
+    }
+  }
+}
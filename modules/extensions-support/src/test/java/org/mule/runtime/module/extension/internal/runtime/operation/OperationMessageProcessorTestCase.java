@@ -13,6 +13,7 @@ import static java.util.Optional.of;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
@@ -143,6 +145,30 @@ public class OperationMessageProcessorTestCase extends AbstractOperationMessageP
     assertThat(executionContextAdapter.getConfiguration().get().getValue(), is(sameInstance(configuration)));
   }
 
+  @Test
+  public void staticParametersAndConfigurationResolvedOnlyOnStart() throws Exception {
+    when(resolverSet.getConstantResult()).thenReturn(of(parameters));
+    messageProcessor.start();
+    try {
+      messageProcessor.process(event);
+      messageProcessor.process(event);
+    } finally {
+      messageProcessor.stop();
+    }
+
+    verify(resolverSet, never()).resolve(any());
+
+    ArgumentCaptor<ExecutionContext> operationContextCaptor = ArgumentCaptor.forClass(ExecutionContext.class);
+    verify(operationExecutor, times(2)).execute(operationContextCaptor.capture(), any());
+    List<ExecutionContext> operationContexts = operationContextCaptor.getAllValues();
+
+    assertThat(operationContexts.get(0), is(not(sameInstance(operationContexts.get(1)))));
+    for (ExecutionContext operationContext : operationContexts) {
+      assertThat(((ExecutionContextAdapter) operationContext).getEvent(), is(sameInstance(event)));
+      assertThat(operationContext.getConfiguration().get(), is(sameInstance(configurationInstance)));
+    }
+  }
+
   @Test
   public void operationExecutorIsInvoked() throws Exception {
     messageProcessor.process(event);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+@SmallTest
+public class IndexedParameterMapTestCase extends AbstractMuleTestCase {
+
+  private final IndexedParameterMap.Layout layout = new IndexedParameterMap.Layout(new String[] {"name", "age", "nothing"});
+  private final IndexedParameterMap parameters = new IndexedParameterMap(layout, new Object[] {"Walter", 50, null});
+
+  @Test
+  public void getByName() {
+    assertThat(parameters.get("name"), is("Walter"));
+    assertThat(parameters.get("age"), is(50));
+    assertThat(parameters.get("nothing"), is(nullValue()));
+    assertThat(parameters.get("other"), is(nullValue()));
+  }
+
+  @Test
+  public void getByIndex() {
+    assertThat(parameters.indexOf("age"), is(1));
+    assertThat(parameters.get(parameters.indexOf("age")), is(50));
+    assertThat(parameters.indexOf("other"), is(-1));
+  }
+
+  @Test
+  public void containsKeyWithNullValue() {
+    assertThat(parameters.containsKey("nothing"), is(true));
+    assertThat(parameters.containsKey("other"), is(false));
+  }
+
+  @Test
+  public void equivalentToMap() {
+    Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put("name", "Walter");
+    expected.put("age", 50);
+    expected.put("nothing", null);
+
+    assertThat(parameters, is(expected));
+    assertThat(parameters.hashCode(), is(expected.hashCode()));
+    assertThat(parameters.keySet(), contains("name", "age", "nothing"));
+  }
+
+  @Test
+  public void variableValues() {
+    assertThat(parameters.getVariableValues(), is(new Object[] {"Walter", 50, null}));
+
+    IndexedParameterMap.Layout partiallyVariable = new IndexedParameterMap.Layout(new String[] {"name", "age"}, new int[] {1});
+    assertThat(new IndexedParameterMap(partiallyVariable, new Object[] {"Walter", 50}).getVariableValues(),
+               is(new Object[] {50}));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutable() {
+    parameters.put("name", "Heisenberg");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void valuesNotMatchingLayout() {
+    new IndexedParameterMap(layout, new Object[] {"Walter"});
+  }
+}
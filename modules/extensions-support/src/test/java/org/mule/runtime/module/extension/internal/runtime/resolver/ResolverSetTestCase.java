@@ -6,21 +6,34 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
+import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.core.api.Injector;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.el.ExpressionManagerSession;
+import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 import org.mule.test.module.extension.internal.util.ExtensionsTestUtils;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -100,6 +113,70 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void resolvesDynamicResolversWithinOneSession() throws Exception {
+    ExtendedExpressionManager expressionManager = mock(ExtendedExpressionManager.class);
+    ExpressionManagerSession session = mock(ExpressionManagerSession.class);
+    when(muleContext.getExpressionManager()).thenReturn(expressionManager);
+    when(expressionManager.openSession(any(), any(), any())).thenReturn(session);
+    when(event.getContext()).thenReturn(mock(EventContext.class));
+
+    List<ExpressionManagerSession> sessions = new ArrayList<>();
+    ResolverSet dynamicSet = new ResolverSet(muleContext);
+    dynamicSet.add("first", getSessionRecordingResolver(sessions));
+    dynamicSet.add("second", getSessionRecordingResolver(sessions));
+
+    dynamicSet.resolve(ValueResolvingContext.builder(event).build());
+
+    assertThat(sessions, contains(session, session));
+    verify(expressionManager, times(1)).openSession(any(), any(), any());
+    verify(session).close();
+  }
+
+  @Test
+  public void resolvesStaticResolversOnlyOnce() throws Exception {
+    ValueResolver staticResolver = spy(new StaticValueResolver<>(NAME));
+    ValueResolver dynamicResolver = getResolver(AGE);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    ResolverSet compiledSet = new ResolverSet(muleContext);
+    compiledSet.add("myName", staticResolver);
+    compiledSet.add("age", dynamicResolver);
+    compiledSet.initialise();
+
+    compiledSet.resolve(resolvingContext);
+    ResolverSetResult result = compiledSet.resolve(resolvingContext);
+
+    assertThat(result.asMap(), is(instanceOf(IndexedParameterMap.class)));
+    assertThat(result.asMap().keySet(), contains("myName", "age"));
+    assertThat(result.get("myName"), is(NAME));
+    assertThat(result.get("age"), is(AGE));
+    verify(staticResolver, times(1)).resolve(any());
+    verify(dynamicResolver, times(2)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void addAfterInitialise() throws Exception {
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    set.initialise();
+    set.add("other", new StaticValueResolver<>("value"));
+
+    ResolverSetResult result = set.resolve(resolvingContext);
+    assertResult(result, mapping);
+    assertThat(result.get("other"), is("value"));
+  }
+
+  private ValueResolver getSessionRecordingResolver(List<ExpressionManagerSession> sessions) throws Exception {
+    ValueResolver resolver = mock(ValueResolver.class);
+    when(resolver.isDynamic()).thenReturn(true);
+    when(resolver.resolve(any())).then(invocation -> {
+      sessions.add(((ValueResolvingContext) invocation.getArgument(0)).getSession());
+      return "value";
+    });
+    return resolver;
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source.poll;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.SimpleMemoryObjectStore;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class StagedObjectStoreTestCase extends AbstractMuleTestCase {
+
+  private ObjectStore<Serializable> objectStore;
+  private StagedObjectStore staged;
+
+  @Before
+  public void before() throws Exception {
+    objectStore = spy(new SimpleMemoryObjectStore<>());
+    objectStore.store("existing", 1);
+    staged = new StagedObjectStore(objectStore);
+  }
+
+  @Test
+  public void changesVisibleBeforeFlush() throws Exception {
+    staged.store("new", 2);
+    staged.store("existing", 3);
+
+    assertThat(staged.retrieve("new"), is(2));
+    assertThat(staged.retrieve("existing"), is(3));
+    assertThat(staged.allKeys(), containsInAnyOrder("existing", "new"));
+
+    assertThat(objectStore.contains("new"), is(false));
+    assertThat(objectStore.retrieve("existing"), is(1));
+  }
+
+  @Test
+  public void changesWrittenOnFlush() throws Exception {
+    staged.store("new", 2);
+    staged.store("existing", 3);
+    staged.flush();
+
+    assertThat(objectStore.retrieve("new"), is(2));
+    assertThat(objectStore.retrieve("existing"), is(3));
+  }
+
+  @Test
+  public void onlyLastValueWritten() throws Exception {
+    for (int i = 0; i < 10; ++i) {
+      staged.store("new", i);
+    }
+    staged.flush();
+
+    assertThat(objectStore.retrieve("new"), is(9));
+    verify(objectStore, times(1)).store("new", 9);
+  }
+
+  @Test
+  public void removed() throws Exception {
+    staged.remove("existing");
+
+    assertThat(staged.contains("existing"), is(false));
+    assertThat(staged.retrieve("existing"), is(nullValue()));
+
+    staged.flush();
+    assertThat(objectStore.contains("existing"), is(false));
+  }
+
+  @Test
+  public void clearedThenStored() throws Exception {
+    staged.store("discarded", 2);
+    staged.clear();
+    staged.store("new", 3);
+
+    assertThat(staged.contains("existing"), is(false));
+    assertThat(staged.allKeys(), containsInAnyOrder("new"));
+
+    staged.flush();
+    assertThat(objectStore.allKeys(), containsInAnyOrder("new"));
+    verify(objectStore, never()).store("discarded", 2);
+    verify(objectStore, never()).contains("new");
+    verify(objectStore, never()).remove("new");
+  }
+
+  @Test
+  public void storedAndClearedNeverWritten() throws Exception {
+    staged.store("new", 2);
+    staged.clear();
+    staged.flush();
+
+    verify(objectStore, never()).store("new", 2);
+    assertThat(objectStore.allKeys().isEmpty(), is(true));
+  }
+
+  @Test
+  public void valuesReadOnlyOnce() throws Exception {
+    staged.retrieve("existing");
+    staged.contains("existing");
+    staged.retrieve("existing");
+
+    verify(objectStore, times(1)).retrieve("existing");
+  }
+}
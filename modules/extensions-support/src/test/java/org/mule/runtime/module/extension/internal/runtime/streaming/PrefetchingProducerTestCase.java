@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.streaming;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+import org.mule.runtime.core.api.streaming.iterator.Producer;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class PrefetchingProducerTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = none();
+
+  private final Queue<Runnable> pendingTasks = new LinkedList<>();
+  private final Executor manualExecutor = pendingTasks::add;
+
+  @Test
+  public void firstPageFetchedInCurrentThreadAndNextOnesAhead() {
+    Pages pages = new Pages(5);
+    PrefetchingProducer<String> producer = new PrefetchingProducer<>(pages, manualExecutor, 2);
+
+    assertThat(producer.produce(), is(singletonList("page1")));
+    assertThat(pages.produced, is(1));
+    assertThat(pendingTasks.size(), is(1));
+
+    runPendingTasks();
+    assertThat(pages.produced, is(3));
+
+    assertThat(producer.produce(), is(singletonList("page2")));
+    assertThat(pendingTasks.size(), is(1));
+  }
+
+  @Test
+  public void pagesInOrderUntilExhausted() {
+    Pages pages = new Pages(3);
+    PrefetchingProducer<String> producer = new PrefetchingProducer<>(pages, Runnable::run, 2);
+
+    assertThat(producer.produce(), is(singletonList("page1")));
+    assertThat(producer.produce(), is(singletonList("page2")));
+    assertThat(producer.produce(), is(singletonList("page3")));
+    assertThat(producer.produce(), is(empty()));
+    assertThat(producer.produce(), is(empty()));
+    assertThat(pages.produced, is(4));
+  }
+
+  @Test
+  public void failureFetchingAheadThrownAfterPreviousPages() {
+    IllegalStateException failure = new IllegalStateException();
+    Pages pages = new Pages(2, failure);
+    PrefetchingProducer<String> producer = new PrefetchingProducer<>(pages, Runnable::run, 2);
+
+    assertThat(producer.produce(), is(singletonList("page1")));
+    assertThat(producer.produce(), is(singletonList("page2")));
+
+    expectedException.expect(sameInstance(failure));
+    producer.produce();
+  }
+
+  @Test
+  public void closeDiscardsFetchedPages() throws Exception {
+    Pages pages = new Pages(5);
+    PrefetchingProducer<String> producer = new PrefetchingProducer<>(pages, manualExecutor, 2);
+
+    producer.produce();
+    runPendingTasks();
+    producer.close();
+
+    assertThat(pages.closed, is(true));
+    assertThat(producer.produce(), is(nullValue()));
+  }
+
+  @Test
+  public void size() {
+    assertThat(new PrefetchingProducer<>(new Pages(5), manualExecutor, 2).getSize(), is(5));
+  }
+
+  @Test
+  public void allPagesConsumedInOrderWithExecutor() throws Exception {
+    final int pageCount = 100;
+    ExecutorService executor = newSingleThreadExecutor();
+    try {
+      PrefetchingProducer<String> producer = new PrefetchingProducer<>(new Pages(pageCount), executor, 3);
+
+      List<String> consumed = new ArrayList<>();
+      for (List<String> page = producer.produce(); !page.isEmpty(); page = producer.produce()) {
+        consumed.addAll(page);
+      }
+
+      assertThat(consumed.size(), is(pageCount));
+      for (int i = 0; i < pageCount; ++i) {
+        assertThat(consumed.get(i), is("page" + (i + 1)));
+      }
+      producer.close();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void pagesFetchedAheadWithCreatorContextClassLoader() {
+    ClassLoader creatorClassLoader = Thread.currentThread().getContextClassLoader();
+    List<ClassLoader> fetchClassLoaders = new ArrayList<>();
+    Pages pages = new Pages(5) {
+
+      @Override
+      public List<String> produce() {
+        fetchClassLoaders.add(Thread.currentThread().getContextClassLoader());
+        return super.produce();
+      }
+    };
+    PrefetchingProducer<String> producer = new PrefetchingProducer<>(pages, manualExecutor, 1);
+    producer.produce();
+
+    ClassLoader otherClassLoader = new ClassLoader(creatorClassLoader) {};
+    Thread.currentThread().setContextClassLoader(otherClassLoader);
+    try {
+      runPendingTasks();
+      assertThat(Thread.currentThread().getContextClassLoader(), is(sameInstance(otherClassLoader)));
+    } finally {
+      Thread.currentThread().setContextClassLoader(creatorClassLoader);
+    }
+
+    assertThat(fetchClassLoaders, contains(sameInstance(creatorClassLoader), sameInstance(creatorClassLoader)));
+  }
+
+  private void runPendingTasks() {
+    Runnable task;
+    while ((task = pendingTasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static class Pages implements Producer<List<String>> {
+
+    private final int pageCount;
+    private final RuntimeException failure;
+    private int produced = 0;
+    private boolean closed = false;
+
+    private Pages(int pageCount) {
+      this(pageCount, null);
+    }
+
+    private Pages(int pageCount, RuntimeException failure) {
+      this.pageCount = pageCount;
+      this.failure = failure;
+    }
+
+    @Override
+    public List<String> produce() {
+      produced++;
+      if (produced > pageCount) {
+        if (failure != null) {
+          throw failure;
+        }
+        return emptyList();
+      }
+      return singletonList("page" + produced);
+    }
+
+    @Override
+    public int getSize() {
+      return pageCount;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -17,6 +17,8 @@ import org.mule.runtime.api.util.CaseInsensitiveMapWrapper;
 import org.mule.runtime.api.util.MultiMap;
 
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
 
 /**
  * {@link MultiMap} where the key's case is not taken into account when looking for it, adding or aggregating it.
@@ -65,6 +67,18 @@ public class CaseInsensitiveMultiMap extends MultiMap<String, String> implements
     this(paramsMap, true);
   }
 
+  /**
+   * Creates an instance backed by the given map, which has to take care of the case of the keys by itself.
+   *
+   * @param paramsMap the map to keep the entries in
+   * @param optimized whether the keys are kept in lower case
+   * @since 4.3.0
+   */
+  protected CaseInsensitiveMultiMap(Map<String, LinkedList<String>> paramsMap, boolean optimized) {
+    this.optimized = optimized;
+    this.paramsMap = paramsMap;
+  }
+
   public CaseInsensitiveMultiMap(MultiMap<String, String> paramsMap, boolean optimized) {
     this.optimized = optimized;
     this.paramsMap = optimized
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.runtime.api.util.MultiMap;
+
+/**
+ * {@link CaseInsensitiveMultiMap} which keeps its keys, along with their precomputed lower case hashes, and values in flat
+ * arrays instead of a linked hash map of wrapped keys. Keys are stored in lower case, as in an optimized
+ * {@link CaseInsensitiveMultiMap}. Its immutable version is a view of it instead of a copy.
+ * <p>
+ * Meant for the headers of a message, which are usually a few and are looked up with different cases.
+ *
+ * @since 4.3.0
+ */
+public final class CompactCaseInsensitiveMultiMap extends CaseInsensitiveMultiMap {
+
+  private static final long serialVersionUID = -6402883327398361420L;
+
+  public CompactCaseInsensitiveMultiMap() {
+    super(new CompactStringKeyMap<>(true), true);
+  }
+
+  public CompactCaseInsensitiveMultiMap(MultiMap<String, String> paramsMap) {
+    this();
+    putAll(paramsMap);
+  }
+
+  /**
+   * @return an unmodifiable view of this map, which is not copied
+   */
+  @Override
+  public CaseInsensitiveMultiMap toImmutableMultiMap() {
+    if (isEmpty()) {
+      return emptyCaseInsensitiveMultiMap();
+    }
+
+    return new UnmodifiableView(this);
+  }
+
+  private static final class UnmodifiableView extends CaseInsensitiveMultiMap {
+
+    private static final long serialVersionUID = 4213869087716043530L;
+
+    private UnmodifiableView(CompactCaseInsensitiveMultiMap multiMap) {
+      super(unmodifiableMap(multiMap.paramsMap), multiMap.optimized);
+    }
+
+    // adding to a key which is already there would modify its list of values otherwise
+    @Override
+    public String put(String key, String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CaseInsensitiveMultiMap toImmutableMultiMap() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import static org.mule.runtime.api.metadata.DataType.MULTI_MAP_STRING_STRING;
+
+import org.mule.runtime.api.el.DataTypeAware;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.util.MultiMap;
+
+/**
+ * {@link MultiMap} of {@link String}s which keeps its keys, along with their precomputed hashes, and values in flat arrays
+ * instead of a linked hash map.
+ * <p>
+ * Meant for the query params of a request, which are usually a few and are case sensitive. For case insensitive keys use
+ * {@link CompactCaseInsensitiveMultiMap}.
+ *
+ * @since 4.3.0
+ */
+public final class CompactMultiMap extends MultiMap<String, String> implements DataTypeAware {
+
+  private static final long serialVersionUID = 4650188021487512309L;
+
+  public CompactMultiMap() {
+    this.paramsMap = new CompactStringKeyMap<>(false);
+  }
+
+  public CompactMultiMap(MultiMap<String, String> paramsMap) {
+    this();
+    putAll(paramsMap);
+  }
+
+  @Override
+  public DataType getDataType() {
+    return MULTI_MAP_STRING_STRING;
+  }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.lang.Integer.highestOneBit;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * {@link java.util.Map} with {@link String} keys, which keeps its entries in insertion order in flat arrays along with the hash of
+ * each key, so that no node is allocated per entry.
+ * <p>
+ * Small maps, as most sets of headers and query params are, are looked up by comparing the stored hashes in order. Once the map
+ * grows past {@link #INDEX_THRESHOLD} entries, an open addressing index of positions is kept as well.
+ * <p>
+ * When case insensitive, keys are stored and hashed folded to lower case character by character, as
+ * {@link String#equalsIgnoreCase(String)} compares them, so that lookups with any case of the key don't need to create a new
+ * {@link String}. Unlike {@link String#toLowerCase()}, that folding never changes the length of the key.
+ *
+ * @since 4.3.0
+ */
+final class CompactStringKeyMap<V> extends AbstractMap<String, V> implements Serializable {
+
+  private static final long serialVersionUID = 2877470893425962637L;
+
+  private static final int INITIAL_CAPACITY = 8;
+  private static final int INDEX_THRESHOLD = 8;
+
+  private final boolean caseInsensitive;
+
+  private String[] keys = new String[INITIAL_CAPACITY];
+  private int[] hashes = new int[INITIAL_CAPACITY];
+  private Object[] values = new Object[INITIAL_CAPACITY];
+  private int size;
+
+  // positions plus one, so that 0 marks an empty slot
+  private int[] index;
+  private transient int modCount;
+
+  CompactStringKeyMap(boolean caseInsensitive) {
+    this.caseInsensitive = caseInsensitive;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && find((String) key) >= 0;
+  }
+
+  @Override
+  public V get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int position = find((String) key);
+    return position >= 0 ? valueAt(position) : null;
+  }
+
+  @Override
+  public V put(String key, V value) {
+    requireNonNull(key, "Key cannot be null.");
+    int hash = hash(key);
+    int position = find(key, hash);
+    if (position >= 0) {
+      V previous = valueAt(position);
+      values[position] = value;
+      return previous;
+    }
+
+    if (size == keys.length) {
+      keys = copyOf(keys, size * 2);
+      hashes = copyOf(hashes, size * 2);
+      values = copyOf(values, size * 2);
+    }
+    keys[size] = caseInsensitive ? fold(key) : key;
+    hashes[size] = hash;
+    values[size] = value;
+    ++size;
+    ++modCount;
+
+    if (size > INDEX_THRESHOLD) {
+      if (index == null || size * 2 > index.length) {
+        rebuildIndex();
+      } else {
+        addToIndex(size - 1);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public V remove(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int position = find((String) key);
+    if (position < 0) {
+      return null;
+    }
+    V previous = valueAt(position);
+    removeAt(position);
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    fill(keys, 0, size, null);
+    fill(values, 0, size, null);
+    size = 0;
+    index = null;
+    ++modCount;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  private int find(String key) {
+    return find(key, hash(key));
+  }
+
+  private int find(String key, int hash) {
+    if (index == null) {
+      for (int i = 0; i < size; ++i) {
+        if (hashes[i] == hash && keyEquals(keys[i], key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    int mask = index.length - 1;
+    for (int slot = spread(hash) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+      int position = index[slot] - 1;
+      if (hashes[position] == hash && keyEquals(keys[position], key)) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  private boolean keyEquals(String storedKey, String key) {
+    return caseInsensitive ? storedKey.equalsIgnoreCase(key) : storedKey.equals(key);
+  }
+
+  private int hash(String key) {
+    if (!caseInsensitive) {
+      return key.hashCode();
+    }
+    int hash = 0;
+    for (int i = 0; i < key.length(); ++i) {
+      hash = 31 * hash + fold(key.charAt(i));
+    }
+    return hash;
+  }
+
+  private static String fold(String key) {
+    for (int i = 0; i < key.length(); ++i) {
+      if (fold(key.charAt(i)) != key.charAt(i)) {
+        char[] folded = key.toCharArray();
+        for (int j = i; j < folded.length; ++j) {
+          folded[j] = fold(folded[j]);
+        }
+        return new String(folded);
+      }
+    }
+    return key;
+  }
+
+  // same folding as String#equalsIgnoreCase
+  private static char fold(char c) {
+    return toLowerCase(toUpperCase(c));
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private void rebuildIndex() {
+    index = new int[highestOneBit(size * 4 - 1) << 1];
+    for (int i = 0; i < size; ++i) {
+      addToIndex(i);
+    }
+  }
+
+  private void addToIndex(int position) {
+    int mask = index.length - 1;
+    int slot = spread(hashes[position]) & mask;
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = position + 1;
+  }
+
+  private void removeAt(int position) {
+    int moved = size - position - 1;
+    if (moved > 0) {
+      arraycopy(keys, position + 1, keys, position, moved);
+      arraycopy(hashes, position + 1, hashes, position, moved);
+      arraycopy(values, position + 1, values, position, moved);
+    }
+    --size;
+    keys[size] = null;
+    values[size] = null;
+    ++modCount;
+
+    // removals are rare for these maps, so positions are just reindexed
+    if (size > INDEX_THRESHOLD) {
+      rebuildIndex();
+    } else {
+      index = null;
+    }
+  }
+
+  private V valueAt(int position) {
+    return (V) values[position];
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, V>> {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      CompactStringKeyMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+      return new EntryIterator();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, V>> {
+
+    private int next;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Entry<String, V> next() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return new PositionEntry(last);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  private final class PositionEntry implements Entry<String, V> {
+
+    private final String key;
+    private final int position;
+
+    private PositionEntry(int position) {
+      this.key = keys[position];
+      this.position = position;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return keys[position] == key ? valueAt(position) : get(key);
+    }
+
+    @Override
+    public V setValue(V value) {
+      return put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> other = (Entry<?, ?>) o;
+      V value = getValue();
+      return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      V value = getValue();
+      return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+
+import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Represents an HTTP body whose content is held in a sequence of buffers, possibly direct ones, which HTTP services may send
+ * with gathering writes through {@link #transferTo(WritableByteChannel)} so that it doesn't have to be copied to the heap.
+ * <p>
+ * The entity keeps read-only views of the remaining content of the given buffers, so their position and limit may be changed
+ * afterwards, but not their content.
+ *
+ * @since 4.3.0
+ */
+public final class ByteBufferHttpEntity implements HttpEntity {
+
+  private final ByteBuffer[] buffers;
+  private final long length;
+
+  public ByteBufferHttpEntity(ByteBuffer buffer) {
+    this(singletonList(buffer));
+  }
+
+  public ByteBufferHttpEntity(List<ByteBuffer> buffers) {
+    checkNotNull(buffers, "HTTP entity buffers cannot be null.");
+    this.buffers = new ByteBuffer[buffers.size()];
+    long length = 0;
+    for (int i = 0; i < this.buffers.length; ++i) {
+      ByteBuffer buffer = buffers.get(i);
+      checkNotNull(buffer, "HTTP entity buffer cannot be null.");
+      this.buffers[i] = buffer.asReadOnlyBuffer();
+      length += buffer.remaining();
+    }
+    this.length = length;
+  }
+
+  /**
+   * Provides the content of this entity as read-only buffers, which may be consumed independently of other calls.
+   *
+   * @return new views of the buffers of this entity, positioned at the beginning of the content
+   */
+  public ByteBuffer[] getBuffers() {
+    ByteBuffer[] duplicates = new ByteBuffer[buffers.length];
+    for (int i = 0; i < buffers.length; ++i) {
+      duplicates[i] = buffers[i].duplicate();
+    }
+    return duplicates;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public boolean isComposed() {
+    return false;
+  }
+
+  @Override
+  public InputStream getContent() {
+    return new ByteBuffersInputStream(getBuffers());
+  }
+
+  @Override
+  public byte[] getBytes() {
+    checkArgument(length <= Integer.MAX_VALUE, "HTTP entity is too large to be held in a byte array.");
+    byte[] content = new byte[(int) length];
+    int position = 0;
+    for (ByteBuffer buffer : getBuffers()) {
+      int remaining = buffer.remaining();
+      buffer.get(content, position, remaining);
+      position += remaining;
+    }
+    return content;
+  }
+
+  @Override
+  public Collection<HttpPart> getParts() {
+    return emptyList();
+  }
+
+  @Override
+  public Optional<Long> getLength() {
+    return of(length);
+  }
+
+  @Override
+  public OptionalLong getBytesLength() {
+    return OptionalLong.of(length);
+  }
+
+  @Override
+  public boolean isTransferable() {
+    return true;
+  }
+
+  @Override
+  public long transferTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer[] content = getBuffers();
+    long written = 0;
+    if (channel instanceof GatheringByteChannel) {
+      GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+      int first = 0;
+      while (written < length) {
+        while (!content[first].hasRemaining()) {
+          ++first;
+        }
+        written += gatheringChannel.write(content, first, content.length - first);
+      }
+    } else {
+      for (ByteBuffer buffer : content) {
+        while (buffer.hasRemaining()) {
+          written += channel.write(buffer);
+        }
+      }
+    }
+    return written;
+  }
+
+  /**
+   * Reads a sequence of buffers one after the other.
+   */
+  private static final class ByteBuffersInputStream extends InputStream {
+
+    private final ByteBuffer[] buffers;
+    private int current;
+
+    private ByteBuffersInputStream(ByteBuffer[] buffers) {
+      this.buffers = buffers;
+    }
+
+    @Override
+    public int read() {
+      ByteBuffer buffer = nextWithRemaining();
+      return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      ByteBuffer buffer = nextWithRemaining();
+      if (buffer == null) {
+        return -1;
+      }
+      int read = min(len, buffer.remaining());
+      buffer.get(b, off, read);
+      return read;
+    }
+
+    @Override
+    public int available() {
+      long available = 0;
+      for (int i = current; i < buffers.length; ++i) {
+        available += buffers[i].remaining();
+      }
+      return (int) min(available, Integer.MAX_VALUE);
+    }
+
+    private ByteBuffer nextWithRemaining() {
+      while (current < buffers.length) {
+        if (buffers[current].hasRemaining()) {
+          return buffers[current];
+        }
+        ++current;
+      }
+      return null;
+    }
+  }
+}
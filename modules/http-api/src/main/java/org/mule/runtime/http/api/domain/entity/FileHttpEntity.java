@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.lang.Math.min;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+
+import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Represents an HTTP body whose content is a region of a file, which HTTP services may send with
+ * {@link #transferTo(WritableByteChannel)} so that it doesn't go through the heap.
+ * <p>
+ * The file is opened each time the content is accessed, so it must not change while the entity is in use.
+ *
+ * @since 4.3.0
+ */
+public final class FileHttpEntity implements HttpEntity {
+
+  private final Path path;
+  private final long offset;
+  private final long length;
+
+  /**
+   * Creates an entity with the whole content of the given file.
+   *
+   * @param path the file with the content
+   * @throws IOException if the size of the file could not be determined
+   */
+  public FileHttpEntity(Path path) throws IOException {
+    this(path, 0, Files.size(requireNonNull(path, "HTTP entity file cannot be null.")));
+  }
+
+  /**
+   * Creates an entity with a region of the given file.
+   *
+   * @param path   the file with the content
+   * @param offset the position in the file where the content starts
+   * @param length the amount of bytes of the content
+   */
+  public FileHttpEntity(Path path, long offset, long length) {
+    checkNotNull(path, "HTTP entity file cannot be null.");
+    checkArgument(offset >= 0, "HTTP entity offset cannot be negative.");
+    checkArgument(length >= 0, "HTTP entity length cannot be negative.");
+    this.path = path;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @return the file with the content
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return the position in the file where the content starts
+   */
+  public long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public boolean isComposed() {
+    return false;
+  }
+
+  @Override
+  public InputStream getContent() {
+    try {
+      return new FileRegionInputStream(FileChannel.open(path, READ), offset, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public byte[] getBytes() throws IOException {
+    checkArgument(length <= Integer.MAX_VALUE, "HTTP entity is too large to be held in a byte array.");
+    ByteBuffer content = ByteBuffer.allocate((int) length);
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      while (content.hasRemaining()) {
+        if (channel.read(content, offset + content.position()) < 0) {
+          throw new EOFException("File " + path + " is shorter than the HTTP entity length.");
+        }
+      }
+    }
+    return content.array();
+  }
+
+  @Override
+  public Collection<HttpPart> getParts() {
+    return emptyList();
+  }
+
+  @Override
+  public Optional<Long> getLength() {
+    return of(length);
+  }
+
+  @Override
+  public OptionalLong getBytesLength() {
+    return OptionalLong.of(length);
+  }
+
+  @Override
+  public boolean isTransferable() {
+    return true;
+  }
+
+  @Override
+  public long transferTo(WritableByteChannel channel) throws IOException {
+    try (FileChannel fileChannel = FileChannel.open(path, READ)) {
+      long transferred = 0;
+      while (transferred < length) {
+        long count = fileChannel.transferTo(offset + transferred, length - transferred, channel);
+        if (count <= 0 && offset + transferred >= fileChannel.size()) {
+          throw new EOFException("File " + path + " is shorter than the HTTP entity length.");
+        }
+        transferred += count;
+      }
+      return transferred;
+    }
+  }
+
+  /**
+   * Reads a region of a file with positional reads, closing the file when closed.
+   */
+  private static final class FileRegionInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    private FileRegionInputStream(FileChannel channel, long offset, long length) {
+      this.channel = channel;
+      this.position = offset;
+      this.end = offset + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (position >= end) {
+        return -1;
+      }
+      int read = channel.read(ByteBuffer.wrap(b, off, (int) min(len, end - position)), position);
+      if (read > 0) {
+        position += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) {
+      long skipped = min(n, end - position);
+      if (skipped <= 0) {
+        return 0;
+      }
+      position += skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return (int) min(end - position, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
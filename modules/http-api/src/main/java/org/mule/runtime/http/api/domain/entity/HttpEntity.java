@@ -13,6 +13,7 @@ import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -100,4 +101,30 @@ public interface HttpEntity {
     return getLength().map(l -> of(l)).orElse(empty());
   }
 
+  /**
+   * Tells whether this entity's content can be written with {@link #transferTo(WritableByteChannel)}, which lets HTTP services
+   * send it without copying it to the heap first, as is the case for {@link FileHttpEntity} and {@link ByteBufferHttpEntity}.
+   *
+   * @return {@code true} if the content can be transferred directly to a channel, {@code false} otherwise
+   * @since 4.3.0
+   */
+  default boolean isTransferable() {
+    return false;
+  }
+
+  /**
+   * Writes the whole content of this entity to the given {@code channel}, which is expected to be in blocking mode. Entities
+   * backed by a file use {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)} and those backed by
+   * buffers use gathering writes when the channel supports them. Unlike streamed content, it may be transferred several times.
+   *
+   * @param channel the channel to write the content to
+   * @return the amount of bytes written
+   * @throws IOException                   if an error occurs writing the content
+   * @throws UnsupportedOperationException if this entity is not {@link #isTransferable() transferable}
+   * @since 4.3.0
+   */
+  default long transferTo(WritableByteChannel channel) throws IOException {
+    throw new UnsupportedOperationException("Entity of type " + getClass().getName() + " is not transferable");
+  }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@link PartContent} of a part which is buffered by the default cursor provider of a {@link StreamingManager}, so that it
+ * uses the streaming buffers and strategy configured for the application and its resources are released once the event is
+ * completed.
+ * <p>
+ * The provider only reads the body of the part from the multipart stream as its cursors need it. Moving to the next part reads
+ * the rest of it through a cursor, so that it is kept by the provider.
+ *
+ * @since 4.3.0
+ */
+final class ManagedPartContent implements PartContent {
+
+  private final MultipartStreamReader reader;
+  private final CursorStreamProvider contentProvider;
+  private volatile long size;
+  private volatile boolean complete;
+
+  ManagedPartContent(MultipartStreamReader reader, StreamingManager streamingManager, EventContext eventContext) {
+    this.reader = reader;
+    // the default factory always provides repeatable streams, and manages them for the event
+    this.contentProvider = (CursorStreamProvider) streamingManager.forBytes().getDefaultCursorProviderFactory()
+        .of(eventContext, new PartBodyStream());
+  }
+
+  @Override
+  public CursorStreamProvider getContentProvider() {
+    return contentProvider;
+  }
+
+  /**
+   * Must not be called holding the reader lock, since the cursors of the provider take their buffer lock before it.
+   */
+  @Override
+  public void spoolRemaining() throws IOException {
+    if (complete) {
+      return;
+    }
+    if (contentProvider.isClosed()) {
+      // nobody can read it anymore, so there is no need to keep it
+      byte[] skipped = new byte[8 * 1024];
+      InputStream body = new PartBodyStream();
+      while (body.read(skipped, 0, skipped.length) >= 0) {
+        // just consume it
+      }
+      return;
+    }
+
+    try (CursorStream cursor = contentProvider.openCursor()) {
+      // what was already read from the multipart stream is in the buffer of the provider
+      cursor.seek(size);
+      byte[] spooled = new byte[8 * 1024];
+      while (cursor.read(spooled, 0, spooled.length) >= 0) {
+        // just have the provider keep it
+      }
+    }
+  }
+
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * The source of the provider, reading the body of the part from the multipart stream.
+   */
+  private final class PartBodyStream extends InputStream {
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (complete) {
+        return -1;
+      }
+      synchronized (reader) {
+        if (complete) {
+          return -1;
+        }
+        int read = reader.readBody(b, off, len);
+        if (read < 0) {
+          complete = true;
+        } else {
+          size += read;
+        }
+        return read;
+      }
+    }
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a multipart body from a stream one part at a time, without buffering more than a fixed amount of bytes. The headers of
+ * each part are read when moving to it and its body is read on demand, so it must be consumed (or skipped) before moving to the
+ * next part.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @since 4.3.0
+ */
+final class MultipartStreamReader {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final int MAX_HEADERS_SIZE = 16 * 1024;
+
+  private final InputStream in;
+  // CRLF, followed by the dash-boundary
+  private final byte[] delimiter;
+  private final byte[] buffer;
+  private int head;
+  private int tail;
+  // the bytes before this index, from head on, are known not to start a delimiter
+  private int scanFrom;
+  private boolean endOfInput;
+
+  private boolean inBody;
+  private boolean finished;
+
+  MultipartStreamReader(InputStream in, String boundary) {
+    this.in = in;
+    this.delimiter = ("\r\n--" + boundary).getBytes(US_ASCII);
+    this.buffer = new byte[max(BUFFER_SIZE, delimiter.length * 2)];
+    // The first delimiter may not be preceded by a line break, so the preamble is handled as if it were a body
+    buffer[tail++] = '\r';
+    buffer[tail++] = '\n';
+    inBody = true;
+  }
+
+  /**
+   * Skips what remains of the current part and moves to the next one, if any.
+   *
+   * @return {@code true} if there is a next part, which headers can now be read with {@link #readHeaders()}
+   * @throws IOException if the stream could not be read or is not a well formed multipart body
+   */
+  boolean nextPart() throws IOException {
+    if (finished) {
+      return false;
+    }
+    if (inBody) {
+      skipBody();
+    }
+
+    int first = readByte();
+    int second = readByte();
+    if (first == '-' && second == '-') {
+      finished = true;
+      return false;
+    }
+    // transport padding may follow the delimiter
+    while (first == ' ' || first == '\t') {
+      first = second;
+      second = readByte();
+    }
+    if (first != '\r' || second != '\n') {
+      throw new IOException("Malformed multipart body, expected a line break after the boundary");
+    }
+    inBody = true;
+    return true;
+  }
+
+  /**
+   * Reads the headers of the part the reader is positioned on, leaving it positioned on its body.
+   *
+   * @return the headers of the current part
+   * @throws IOException if the stream could not be read or the headers are too large
+   */
+  CaseInsensitiveMultiMap readHeaders() throws IOException {
+    CaseInsensitiveMultiMap headers = new CaseInsensitiveMultiMap();
+    ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+    int headersSize = 0;
+    while (true) {
+      int current = readByte();
+      if (++headersSize > MAX_HEADERS_SIZE) {
+        throw new IOException("Multipart part headers exceed the maximum size of " + MAX_HEADERS_SIZE + " bytes");
+      }
+      if (current != '\n') {
+        line.write(current);
+        continue;
+      }
+
+      String headerLine = new String(line.toByteArray(), UTF_8).trim();
+      line.reset();
+      if (headerLine.isEmpty()) {
+        return headers;
+      }
+      int separator = headerLine.indexOf(':');
+      if (separator > 0) {
+        headers.put(headerLine.substring(0, separator).trim(), headerLine.substring(separator + 1).trim());
+      }
+    }
+  }
+
+  /**
+   * Reads from the body of the current part.
+   *
+   * @return the amount of bytes read, or {@code -1} if the body of the current part has been fully read
+   * @throws IOException if the stream could not be read or ended before the closing boundary
+   */
+  int readBody(byte[] b, int off, int len) throws IOException {
+    if (!inBody) {
+      return -1;
+    }
+    if (len == 0) {
+      return 0;
+    }
+
+    while (true) {
+      int delimiterIndex = indexOfDelimiter();
+      if (delimiterIndex == head) {
+        head += delimiter.length;
+        inBody = false;
+        return -1;
+      }
+
+      // bytes which can't be part of a delimiter may be safely returned
+      int safe = delimiterIndex >= 0 ? delimiterIndex - head : tail - head - (delimiter.length - 1);
+      if (safe > 0) {
+        int read = min(len, safe);
+        arraycopy(buffer, head, b, off, read);
+        head += read;
+        return read;
+      }
+
+      fill();
+    }
+  }
+
+  private void skipBody() throws IOException {
+    byte[] skipped = new byte[1024];
+    while (readBody(skipped, 0, skipped.length) >= 0) {
+      // just consume it
+    }
+  }
+
+  private int readByte() throws IOException {
+    while (head == tail) {
+      fill();
+    }
+    return buffer[head++] & 0xFF;
+  }
+
+  private int indexOfDelimiter() {
+    int last = tail - delimiter.length;
+    for (int i = max(head, scanFrom); i <= last; ++i) {
+      if (buffer[i] == delimiter[0] && matchesDelimiterAt(i)) {
+        scanFrom = i;
+        return i;
+      }
+    }
+    // a delimiter may still start in the last bytes, once more are read
+    scanFrom = max(head, last + 1);
+    return -1;
+  }
+
+  private boolean matchesDelimiterAt(int index) {
+    for (int j = 1; j < delimiter.length; ++j) {
+      if (buffer[index + j] != delimiter[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Moves the unread bytes to the beginning of the buffer and reads more bytes after them.
+   */
+  private void fill() throws IOException {
+    if (endOfInput) {
+      throw new EOFException("Multipart body ended before its closing boundary");
+    }
+    if (head > 0) {
+      arraycopy(buffer, head, buffer, 0, tail - head);
+      tail -= head;
+      scanFrom = max(0, scanFrom - head);
+      head = 0;
+    }
+    int read = in.read(buffer, tail, buffer.length - tail);
+    if (read < 0) {
+      endOfInput = true;
+      throw new EOFException("Multipart body ended before its closing boundary");
+    }
+    tail += read;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+import java.io.IOException;
+
+/**
+ * The body of a part read by a {@link MultipartStreamReader}, which is read from the multipart stream as the cursors of its
+ * provider need it and kept so that it can be read again.
+ *
+ * @since 4.3.0
+ */
+interface PartContent {
+
+  /**
+   * @return the provider of cursors over the content
+   */
+  CursorStreamProvider getContentProvider();
+
+  /**
+   * Reads what remains of the content from the multipart stream, so that it can move to the next part.
+   */
+  void spoolRemaining() throws IOException;
+
+  /**
+   * @return whether the whole content was read from the multipart stream
+   */
+  boolean isComplete();
+
+  /**
+   * @return the amount of bytes read so far from the multipart stream
+   */
+  long getSize();
+}
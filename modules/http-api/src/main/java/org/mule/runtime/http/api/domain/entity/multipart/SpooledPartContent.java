@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Arrays.copyOf;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkState;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * The {@link PartContent} of a part which resources are released by its user. It is kept in memory until it exceeds a given
+ * size and in a temporary file from then on.
+ * <p>
+ * All the parts of an entity share the same reader, which is used as the lock to read from it.
+ *
+ * @since 4.3.0
+ */
+final class SpooledPartContent implements PartContent {
+
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  private final MultipartStreamReader reader;
+  private final int maxInMemorySize;
+  private final CursorStreamProvider contentProvider = new PartContentCursorStreamProvider(this);
+
+  private byte[] chunk;
+  private byte[] memory = new byte[0];
+  private Path file;
+  private FileChannel fileChannel;
+  private volatile long size;
+  private volatile boolean complete;
+  private boolean released;
+
+  SpooledPartContent(MultipartStreamReader reader, int maxInMemorySize) {
+    this.reader = reader;
+    this.maxInMemorySize = maxInMemorySize;
+  }
+
+  @Override
+  public CursorStreamProvider getContentProvider() {
+    return contentProvider;
+  }
+
+  /**
+   * Reads from the content at the given {@code position}, reading it from the multipart stream if it was not read yet.
+   *
+   * @return the amount of bytes read, or {@code -1} if there are no more bytes after {@code position}
+   */
+  int read(long position, byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (position >= size && !complete) {
+      synchronized (reader) {
+        while (position >= size && !complete) {
+          spoolChunk();
+        }
+      }
+    }
+
+    synchronized (this) {
+      if (released) {
+        throw new IOException("Multipart part content has already been released");
+      }
+      if (position >= size) {
+        return -1;
+      }
+      int read = (int) min(len, size - position);
+      if (fileChannel == null) {
+        arraycopy(memory, (int) position, b, off, read);
+        return read;
+      }
+      return fileChannel.read(ByteBuffer.wrap(b, off, read), position);
+    }
+  }
+
+  /**
+   * Skips up to {@code n} bytes of the content from the given {@code position}, reading them from the multipart stream if they
+   * were not read yet.
+   *
+   * @return the amount of bytes skipped, which is less than {@code n} only if the content ends before
+   */
+  long skip(long position, long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    if (size - position < n && !complete) {
+      synchronized (reader) {
+        while (size - position < n && !complete) {
+          spoolChunk();
+        }
+      }
+    }
+    return max(0, min(n, size - position));
+  }
+
+  @Override
+  public void spoolRemaining() throws IOException {
+    synchronized (reader) {
+      while (!complete) {
+        spoolChunk();
+      }
+    }
+  }
+
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Discards the content, deleting the temporary file if one was created.
+   */
+  synchronized void release() {
+    if (released) {
+      return;
+    }
+    released = true;
+    memory = null;
+    if (fileChannel != null) {
+      try {
+        fileChannel.close();
+        deleteIfExists(file);
+      } catch (IOException e) {
+        // nothing else to do about it
+      }
+    }
+  }
+
+  // must hold the reader lock
+  private void spoolChunk() throws IOException {
+    if (chunk == null) {
+      chunk = new byte[CHUNK_SIZE];
+    }
+    int read = reader.readBody(chunk, 0, chunk.length);
+    if (read < 0) {
+      complete = true;
+      chunk = null;
+      return;
+    }
+
+    synchronized (this) {
+      if (released) {
+        return;
+      }
+      if (fileChannel == null && size + read > maxInMemorySize) {
+        spill();
+      }
+      if (fileChannel == null) {
+        if (size + read > memory.length) {
+          memory = copyOf(memory, (int) min(maxInMemorySize, max(memory.length * 2, size + read)));
+        }
+        arraycopy(chunk, 0, memory, (int) size, read);
+      } else {
+        ByteBuffer written = ByteBuffer.wrap(chunk, 0, read);
+        while (written.hasRemaining()) {
+          fileChannel.write(written, size + written.position());
+        }
+      }
+      size += read;
+    }
+  }
+
+  private void spill() throws IOException {
+    file = createTempFile("mule-multipart-", ".part");
+    fileChannel = FileChannel.open(file, READ, WRITE);
+    ByteBuffer spilled = ByteBuffer.wrap(memory, 0, (int) size);
+    while (spilled.hasRemaining()) {
+      fileChannel.write(spilled, spilled.position());
+    }
+    memory = null;
+  }
+
+  private static final class PartContentCursorStreamProvider implements CursorStreamProvider {
+
+    private final SpooledPartContent content;
+    private volatile boolean closed;
+
+    private PartContentCursorStreamProvider(SpooledPartContent content) {
+      this.content = content;
+    }
+
+    @Override
+    public CursorStream openCursor() {
+      checkState(!closed, "Cannot open a new cursor on a closed stream");
+      return new PartContentCursorStream(this, content);
+    }
+
+    @Override
+    public void releaseResources() {
+      content.release();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+      return closed;
+    }
+  }
+
+  private static final class PartContentCursorStream extends CursorStream {
+
+    private final CursorStreamProvider provider;
+    private final SpooledPartContent content;
+    private long position;
+    private long mark;
+    private boolean released;
+
+    private PartContentCursorStream(CursorStreamProvider provider, SpooledPartContent content) {
+      this.provider = provider;
+      this.content = content;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      assertNotReleased();
+      int read = content.read(position, b, off, len);
+      if (read > 0) {
+        position += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      assertNotReleased();
+      long skipped = content.skip(position, n);
+      position += skipped;
+      return skipped;
+    }
+
+    @Override
+    public long getPosition() {
+      return position;
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+      checkArgument(position >= 0, "Cannot seek to a negative position");
+      assertNotReleased();
+      this.position = position;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+      mark = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+      seek(mark);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return true;
+    }
+
+    @Override
+    public void release() {
+      released = true;
+    }
+
+    @Override
+    public boolean isReleased() {
+      return released;
+    }
+
+    @Override
+    public CursorStreamProvider getProvider() {
+      return provider;
+    }
+
+    @Override
+    public void close() {
+      release();
+    }
+
+    private void assertNotReleased() throws IOException {
+      if (released) {
+        throw new IOException("Stream is closed");
+      }
+    }
+  }
+}
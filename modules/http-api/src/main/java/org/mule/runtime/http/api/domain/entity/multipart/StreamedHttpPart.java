@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import static java.util.Collections.unmodifiableCollection;
+import static org.mule.runtime.http.api.domain.entity.multipart.HttpPart.NO_SIZE;
+
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * A {@link Part} of a {@link StreamedMultipartHttpEntity}, which headers are available as soon as it is reached in the
+ * multipart stream, while its content is read from that stream only as it is consumed.
+ * <p>
+ * The content is provided through a {@link CursorStreamProvider}, so it can be read several times. It is buffered by the
+ * streaming strategy of the {@link org.mule.runtime.core.api.streaming.StreamingManager} given to the entity or, if none, in
+ * memory up to a given size and in a temporary file after that, until the resources of the provider are released.
+ *
+ * @since 4.3.0
+ */
+public final class StreamedHttpPart implements Part {
+
+  private static final String CONTENT_DISPOSITION = "Content-Disposition";
+  private static final String CONTENT_TYPE = "Content-Type";
+
+  private final String name;
+  private final String fileName;
+  private final CaseInsensitiveMultiMap headers;
+  private final PartContent content;
+
+  StreamedHttpPart(CaseInsensitiveMultiMap headers, PartContent content) {
+    String contentDisposition = headers.get(CONTENT_DISPOSITION);
+    this.name = getDispositionParameter(contentDisposition, "name");
+    this.fileName = getDispositionParameter(contentDisposition, "filename");
+    this.headers = headers.toImmutableMultiMap();
+    this.content = content;
+  }
+
+  /**
+   * @return the provider of cursors over the content of this part
+   */
+  public CursorStreamProvider getContentProvider() {
+    return content.getContentProvider();
+  }
+
+  /**
+   * @return a new cursor over the content of this part
+   */
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return content.getContentProvider().openCursor();
+  }
+
+  @Override
+  public String getContentType() {
+    return headers.get(CONTENT_TYPE);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the name of the file sent in this part, or {@code null} if it is not a file
+   */
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return the size of the content, or {@link HttpPart#NO_SIZE} if it was not fully read from the multipart stream yet
+   */
+  @Override
+  public long getSize() {
+    return content.isComplete() ? content.getSize() : NO_SIZE;
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return headers.get(name);
+  }
+
+  @Override
+  public Collection<String> getHeaders(String name) {
+    return new ArrayList<>(headers.getAll(name));
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return unmodifiableCollection(headers.keySet());
+  }
+
+  /**
+   * Extracts a parameter of a {@code Content-Disposition} header value, such as {@code form-data; name="field"}.
+   */
+  private static String getDispositionParameter(String contentDisposition, String parameterName) {
+    if (contentDisposition == null) {
+      return null;
+    }
+    for (String parameter : contentDisposition.split(";")) {
+      int separator = parameter.indexOf('=');
+      if (separator > 0 && parameter.substring(0, separator).trim().equalsIgnoreCase(parameterName)) {
+        String value = parameter.substring(separator + 1).trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+          value = value.substring(1, value.length() - 1);
+        }
+        return value;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import static java.util.Objects.requireNonNull;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkState;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Represents a multipart HTTP body which parts are read from the underlying stream as they are requested, instead of reading
+ * the whole body before it can be processed.
+ * <p>
+ * The parts are obtained through {@link #getStreamedParts()}. Each {@link StreamedHttpPart} has its headers available as soon as
+ * it is reached, while its content is read only as it is consumed. Since the parts come one after the other in the stream,
+ * moving to the next part reads what remains of the current one. When a {@link StreamingManager} is given, the content of each
+ * part is buffered by its default cursor provider, following the streaming strategy of the application, and released once the
+ * event is completed. Otherwise, it is kept in memory up to the given size and in a temporary file after that, and it is up to
+ * the user of the parts to release it.
+ *
+ * @since 4.3.0
+ */
+public final class StreamedMultipartHttpEntity implements HttpEntity {
+
+  private final MultipartStreamReader reader;
+  private final Supplier<PartContent> partContentFactory;
+  private boolean partsRequested;
+
+  /**
+   * Creates an entity which parts have to be released by its user.
+   *
+   * @param content         the multipart body
+   * @param boundary        the boundary of the parts, as set in the {@code Content-Type} of the body
+   * @param maxInMemorySize the maximum amount of bytes of a part to keep in memory before writing it to a temporary file
+   */
+  public StreamedMultipartHttpEntity(InputStream content, String boundary, int maxInMemorySize) {
+    requireNonNull(content, "HTTP entity stream cannot be null.");
+    checkArgument(boundary != null && !boundary.isEmpty(), "Multipart boundary cannot be empty.");
+    checkArgument(maxInMemorySize >= 0, "Max in memory size cannot be negative.");
+    this.reader = new MultipartStreamReader(content, boundary);
+    this.partContentFactory = () -> new SpooledPartContent(reader, maxInMemorySize);
+  }
+
+  /**
+   * Creates an entity which parts are buffered and managed by the given {@code streamingManager}.
+   *
+   * @param content          the multipart body
+   * @param boundary         the boundary of the parts, as set in the {@code Content-Type} of the body
+   * @param streamingManager the manager to buffer and track the content of the parts
+   * @param eventContext     the context of the event the body was received in
+   */
+  public StreamedMultipartHttpEntity(InputStream content, String boundary, StreamingManager streamingManager,
+                                     EventContext eventContext) {
+    requireNonNull(content, "HTTP entity stream cannot be null.");
+    checkArgument(boundary != null && !boundary.isEmpty(), "Multipart boundary cannot be empty.");
+    requireNonNull(streamingManager, "Streaming manager cannot be null.");
+    requireNonNull(eventContext, "Event context cannot be null.");
+    this.reader = new MultipartStreamReader(content, boundary);
+    this.partContentFactory = () -> new ManagedPartContent(reader, streamingManager, eventContext);
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return true;
+  }
+
+  @Override
+  public boolean isComposed() {
+    return true;
+  }
+
+  @Override
+  public InputStream getContent() {
+    return null;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    return null;
+  }
+
+  /**
+   * Provides the parts of this entity as they are read from the stream. This can only be done once.
+   * <p>
+   * The iterator throws {@link UncheckedIOException} if the stream could not be read or is not a well formed multipart body.
+   *
+   * @return an {@link Iterator} of the parts of this entity
+   */
+  public synchronized Iterator<StreamedHttpPart> getStreamedParts() {
+    checkState(!partsRequested, "The parts of a streamed multipart entity can only be read once");
+    partsRequested = true;
+    return new StreamedPartsIterator();
+  }
+
+  /**
+   * Reads all the parts of this entity, keeping their whole content in memory. Prefer {@link #getStreamedParts()}.
+   */
+  @Override
+  public Collection<HttpPart> getParts() throws IOException {
+    List<HttpPart> parts = new ArrayList<>();
+    try {
+      Iterator<StreamedHttpPart> streamedParts = getStreamedParts();
+      while (streamedParts.hasNext()) {
+        parts.add(toHttpPart(streamedParts.next()));
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return parts;
+  }
+
+  @Override
+  public Optional<Long> getLength() {
+    return Optional.empty();
+  }
+
+  @Override
+  public OptionalLong getBytesLength() {
+    return OptionalLong.empty();
+  }
+
+  private HttpPart toHttpPart(StreamedHttpPart streamedPart) throws IOException {
+    ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+    try (InputStream partContent = streamedPart.getInputStream()) {
+      byte[] buffer = new byte[8 * 1024];
+      int read;
+      while ((read = partContent.read(buffer)) >= 0) {
+        contentBytes.write(buffer, 0, read);
+      }
+    } finally {
+      streamedPart.getContentProvider().releaseResources();
+    }
+
+    byte[] content = contentBytes.toByteArray();
+    HttpPart part = new HttpPart(streamedPart.getName(), streamedPart.getFileName(), content, streamedPart.getContentType(),
+                                 content.length);
+    for (String headerName : streamedPart.getHeaderNames()) {
+      for (String headerValue : streamedPart.getHeaders(headerName)) {
+        part.addHeader(headerName, headerValue);
+      }
+    }
+    return part;
+  }
+
+  private final class StreamedPartsIterator implements Iterator<StreamedHttpPart> {
+
+    private PartContent currentContent;
+    private StreamedHttpPart next;
+    private boolean finished;
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !finished) {
+        next = readNext();
+      }
+      return next != null;
+    }
+
+    @Override
+    public StreamedHttpPart next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      StreamedHttpPart part = next;
+      next = null;
+      return part;
+    }
+
+    private StreamedHttpPart readNext() {
+      try {
+        // the content takes the reader lock as needed, a managed one is read through its cursors which lock before it
+        if (currentContent != null) {
+          currentContent.spoolRemaining();
+        }
+        synchronized (reader) {
+          if (!reader.nextPart()) {
+            finished = true;
+            return null;
+          }
+          CaseInsensitiveMultiMap headers = reader.readHeaders();
+          currentContent = partContentFactory.get();
+          return new StreamedHttpPart(headers, currentContent);
+        }
+      } catch (IOException e) {
+        finished = true;
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.api.util.MultiMap.StringMultiMap;
 import org.mule.runtime.http.api.HttpConstants.Method;
 import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
 import org.mule.runtime.http.api.domain.HttpProtocol;
 import org.mule.runtime.http.api.domain.message.HttpMessage;
 import org.mule.runtime.http.api.domain.message.HttpMessageBuilder;
@@ -36,7 +37,7 @@ public final class HttpRequestBuilder extends HttpMessageBuilder<HttpRequestBuil
   private HttpProtocol protocol = HTTP_1_1;
 
   HttpRequestBuilder(boolean preserveHeadersCase) {
-    headers = new CaseInsensitiveMultiMap(!preserveHeadersCase);
+    headers = preserveHeadersCase ? new CaseInsensitiveMultiMap(false) : new CompactCaseInsensitiveMultiMap();
   }
 
   /**
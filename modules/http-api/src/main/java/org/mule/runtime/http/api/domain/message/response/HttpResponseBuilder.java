@@ -9,6 +9,7 @@ package org.mule.runtime.http.api.domain.message.response;
 import static org.mule.runtime.http.api.server.HttpServerProperties.PRESERVE_HEADER_CASE;
 
 import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
 import org.mule.runtime.http.api.domain.message.HttpMessageBuilder;
 
 /**
@@ -35,7 +36,7 @@ public final class HttpResponseBuilder extends HttpMessageBuilder<HttpResponseBu
 
   @Override
   protected void initHeaders() {
-    headers = new CaseInsensitiveMultiMap(!PRESERVE_HEADER_CASE);
+    headers = PRESERVE_HEADER_CASE ? new CaseInsensitiveMultiMap(false) : new CompactCaseInsensitiveMultiMap();
   }
 
   private void responseStatus(HttpResponse httpResponse) {
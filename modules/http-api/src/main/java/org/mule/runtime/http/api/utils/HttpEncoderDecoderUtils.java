@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.http.api.utils;
 
+import static java.lang.Character.digit;
 import static java.net.URLEncoder.encode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
@@ -14,7 +15,7 @@ import static org.mule.runtime.api.util.MultiMap.emptyMultiMap;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.MultiMap;
-import org.mule.runtime.api.util.MultiMap.StringMultiMap;
+import org.mule.runtime.http.api.domain.CompactMultiMap;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -38,6 +39,7 @@ public final class HttpEncoderDecoderUtils {
 
   private static final Pattern SPACES_MATCHER = compile(" ");
   private static final String SPACE_ENTITY = "%20";
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
   /**
    * Extracts the path (what's left of the {@code ?} character) from the passed uri.
@@ -104,23 +106,186 @@ public final class HttpEncoderDecoderUtils {
    */
   public static MultiMap<String, String> decodeUrlEncodedBody(String queryString, Charset encoding) {
     if (queryString != null && queryString.trim().length() > 0) {
-      MultiMap<String, String> queryParams = new StringMultiMap();
+      return decodeUrlEncoded(queryString, 0, queryString.length(), encoding, new CompactMultiMap());
+    } else {
+      return emptyMultiMap();
+    }
+  }
+
+  /**
+   * Decodes the url-encoded pairs in a range of {@code source}, such as a query string or an url-encoded body, into
+   * {@code target} in a single pass. Only the names and values containing escapes are decoded, the rest are just copied.
+   * <p>
+   * The pairs are decoded as done by {@link #decodeUrlEncodedBody(String, Charset)}.
+   *
+   * @param source the chars to parse
+   * @param start the index of the first char to parse
+   * @param end the index after the last char to parse
+   * @param encoding the encoding of the escaped bytes
+   * @param target the map to put the decoded pairs into
+   * @return {@code target}
+   * @since 4.3.0
+   */
+  public static <M extends MultiMap<String, String>> M decodeUrlEncoded(CharSequence source, int start, int end,
+                                                                        Charset encoding, M target) {
+    while (end > start && source.charAt(end - 1) == '&') {
+      --end;
+    }
 
-      String[] pairs = queryString.split("&");
-      for (String pair : pairs) {
-        int idx = pair.indexOf("=");
+    int pairStart = start;
+    while (pairStart < end) {
+      int separator = -1;
+      boolean escapedName = false;
+      boolean escapedValue = false;
+      int pairEnd = pairStart;
+      for (; pairEnd < end; ++pairEnd) {
+        char c = source.charAt(pairEnd);
+        if (c == '&') {
+          break;
+        } else if (c == '=' && separator < 0) {
+          separator = pairEnd;
+        } else if (c == '%' || c == '+') {
+          if (separator < 0) {
+            escapedName = true;
+          } else {
+            escapedValue = true;
+          }
+        }
+      }
 
-        if (idx != -1) {
-          addParam(queryParams, pair.substring(0, idx), pair.substring(idx + 1), encoding);
-        } else {
-          addParam(queryParams, pair, null, encoding);
+      if (separator < 0) {
+        target.put(decode(source, pairStart, pairEnd, escapedName, encoding), null);
+      } else {
+        target.put(decode(source, pairStart, separator, escapedName, encoding),
+                   decode(source, separator + 1, pairEnd, escapedValue, encoding));
+      }
+      pairStart = pairEnd + 1;
+    }
+    return target;
+  }
 
+  /**
+   * Decodes the url-encoded pairs in a range of {@code source}, such as an url-encoded body, into {@code target} in a single
+   * pass. Only the names and values containing escapes are decoded, the rest are just converted to {@link String}s.
+   * <p>
+   * The pairs are decoded as done by {@link #decodeUrlEncodedBody(String, Charset)}. The {@code encoding} has to be compatible
+   * with ASCII, as the separators are looked for in the raw bytes.
+   *
+   * @param source the bytes to parse
+   * @param offset the index of the first byte to parse
+   * @param length the amount of bytes to parse
+   * @param encoding the encoding of the bytes
+   * @param target the map to put the decoded pairs into
+   * @return {@code target}
+   * @since 4.3.0
+   */
+  public static <M extends MultiMap<String, String>> M decodeUrlEncoded(byte[] source, int offset, int length,
+                                                                        Charset encoding, M target) {
+    int end = offset + length;
+    while (end > offset && source[end - 1] == '&') {
+      --end;
+    }
+
+    int pairStart = offset;
+    while (pairStart < end) {
+      int separator = -1;
+      boolean escapedName = false;
+      boolean escapedValue = false;
+      int pairEnd = pairStart;
+      for (; pairEnd < end; ++pairEnd) {
+        byte b = source[pairEnd];
+        if (b == '&') {
+          break;
+        } else if (b == '=' && separator < 0) {
+          separator = pairEnd;
+        } else if (b == '%' || b == '+') {
+          if (separator < 0) {
+            escapedName = true;
+          } else {
+            escapedValue = true;
+          }
         }
       }
-      return queryParams;
-    } else {
-      return emptyMultiMap();
+
+      if (separator < 0) {
+        target.put(decode(source, pairStart, pairEnd, escapedName, encoding), null);
+      } else {
+        target.put(decode(source, pairStart, separator, escapedName, encoding),
+                   decode(source, separator + 1, pairEnd, escapedValue, encoding));
+      }
+      pairStart = pairEnd + 1;
+    }
+    return target;
+  }
+
+  private static String decode(CharSequence source, int start, int end, boolean escaped, Charset encoding) {
+    if (!escaped) {
+      return source.subSequence(start, end).toString();
+    }
+
+    StringBuilder decoded = new StringBuilder(end - start);
+    byte[] bytes = null;
+    int i = start;
+    while (i < end) {
+      char c = source.charAt(i);
+      if (c == '+') {
+        decoded.append(' ');
+        ++i;
+      } else if (c == '%') {
+        if (bytes == null) {
+          bytes = new byte[(end - i) / 3];
+        }
+        int length = 0;
+        while (i + 2 < end && source.charAt(i) == '%') {
+          bytes[length++] = (byte) escapedByte(source.charAt(i + 1), source.charAt(i + 2));
+          i += 3;
+        }
+        if (i < end && source.charAt(i) == '%') {
+          throw new IllegalArgumentException("URLDecoder: Incomplete trailing escape (%) pattern");
+        }
+        decoded.append(new String(bytes, 0, length, encoding));
+      } else {
+        decoded.append(c);
+        ++i;
+      }
+    }
+    return decoded.toString();
+  }
+
+  private static String decode(byte[] source, int start, int end, boolean escaped, Charset encoding) {
+    if (!escaped) {
+      return new String(source, start, end - start, encoding);
+    }
+
+    byte[] decoded = new byte[end - start];
+    int length = 0;
+    int i = start;
+    while (i < end) {
+      byte b = source[i];
+      if (b == '+') {
+        decoded[length++] = ' ';
+        ++i;
+      } else if (b == '%') {
+        if (i + 2 >= end) {
+          throw new IllegalArgumentException("URLDecoder: Incomplete trailing escape (%) pattern");
+        }
+        decoded[length++] = (byte) escapedByte((char) source[i + 1], (char) source[i + 2]);
+        i += 3;
+      } else {
+        decoded[length++] = b;
+        ++i;
+      }
+    }
+    return new String(decoded, 0, length, encoding);
+  }
+
+  private static int escapedByte(char high, char low) {
+    int highValue = digit(high, 16);
+    int lowValue = digit(low, 16);
+    if (highValue < 0 || lowValue < 0) {
+      throw new IllegalArgumentException("URLDecoder: Illegal hex characters in escape (%) pattern - " + high + low);
     }
+    return highValue << 4 | lowValue;
   }
 
   /**
@@ -131,29 +296,41 @@ public final class HttpEncoderDecoderUtils {
    * @return a map with the uri params present in the request path with the values decoded.
    */
   public static Map<String, String> decodeUriParams(String pathWithUriParams, String requestPath) {
-    if (pathWithUriParams.contains("{")) {
-      Map<String, String> uriParams = new HashMap<>();
-
-      final String[] requestPathParts = requestPath.split("/");
-      final String[] listenerPathParts = pathWithUriParams.split("/");
-      int longerPathSize = Math.min(requestPathParts.length, listenerPathParts.length);
-      // split will return an empty string as first path before /
-      for (int i = 1; i < longerPathSize; i++) {
-        final String listenerPart = listenerPathParts[i];
-        if (listenerPart.startsWith("{") && listenerPart.endsWith("}")) {
-          String parameterName = listenerPart.substring(1, listenerPart.length() - 1);
-          String parameterValue = requestPathParts[i];
-          uriParams.put(parameterName, decode(parameterValue, UTF_8));
-        }
-      }
-      return uriParams;
-    } else {
+    if (pathWithUriParams.indexOf('{') < 0) {
       return emptyMap();
     }
+
+    Map<String, String> uriParams = new HashMap<>();
+    // the segments are walked in both paths at once, ignoring what is before the first slash and the trailing slashes
+    int listenerEnd = lastNonSlash(pathWithUriParams);
+    int requestEnd = lastNonSlash(requestPath);
+    int listenerStart = pathWithUriParams.indexOf('/') + 1;
+    int requestStart = requestPath.indexOf('/') + 1;
+    while (listenerStart > 0 && requestStart > 0 && listenerStart <= listenerEnd && requestStart <= requestEnd) {
+      int listenerSegmentEnd = segmentEnd(pathWithUriParams, listenerStart);
+      int requestSegmentEnd = segmentEnd(requestPath, requestStart);
+      if (listenerSegmentEnd - listenerStart >= 2 && pathWithUriParams.charAt(listenerStart) == '{'
+          && pathWithUriParams.charAt(listenerSegmentEnd - 1) == '}') {
+        uriParams.put(pathWithUriParams.substring(listenerStart + 1, listenerSegmentEnd - 1),
+                      decode(requestPath.substring(requestStart, requestSegmentEnd), UTF_8));
+      }
+      listenerStart = listenerSegmentEnd + 1;
+      requestStart = requestSegmentEnd + 1;
+    }
+    return uriParams;
   }
 
-  private static void addParam(MultiMap<String, String> queryParams, String name, String value, Charset encoding) {
-    queryParams.put(decode(name, encoding), decode(value, encoding));
+  private static int segmentEnd(String path, int start) {
+    int slash = path.indexOf('/', start);
+    return slash < 0 ? path.length() : slash;
+  }
+
+  private static int lastNonSlash(String path) {
+    int last = path.length() - 1;
+    while (last >= 0 && path.charAt(last) == '/') {
+      --last;
+    }
+    return last;
   }
 
   private static String decode(String text, Charset encoding) {
@@ -208,6 +385,86 @@ public final class HttpEncoderDecoderUtils {
     return body;
   }
 
+  /**
+   * Appends the url-encoded form of {@code parameters} to {@code target}, so that the same builder can be reused for several
+   * messages. Only the names and values containing chars that have to be escaped are encoded, the rest are just copied.
+   * <p>
+   * All the values of a {@link MultiMap} are appended, as well as all the values of an {@link Iterable} value. A name with a
+   * {@code null} value is appended with no value assigned.
+   * <p>
+   * This is the inverse of {@link #decodeUrlEncoded(CharSequence, int, int, Charset, MultiMap)}.
+   *
+   * @param parameters a map representation of the pairs to encode
+   * @param encoding the encoding of the escaped bytes
+   * @param target the builder to append the pairs to
+   * @return {@code target}
+   * @since 4.3.0
+   */
+  public static StringBuilder encodeUrlEncoded(Map<String, ?> parameters, Charset encoding, StringBuilder target) {
+    boolean first = true;
+    if (parameters instanceof MultiMap) {
+      for (Map.Entry<String, ?> entry : ((MultiMap<String, ?>) parameters).entryList()) {
+        appendPair(entry.getKey(), entry.getValue(), first, encoding, target);
+        first = false;
+      }
+      return target;
+    }
+
+    for (Map.Entry<String, ?> entry : parameters.entrySet()) {
+      if (entry.getValue() instanceof Iterable) {
+        for (Object value : (Iterable<?>) entry.getValue()) {
+          appendPair(entry.getKey(), value, first, encoding, target);
+          first = false;
+        }
+      } else {
+        appendPair(entry.getKey(), entry.getValue(), first, encoding, target);
+        first = false;
+      }
+    }
+    return target;
+  }
+
+  private static void appendPair(String name, Object value, boolean first, Charset encoding, StringBuilder target) {
+    if (!first) {
+      target.append('&');
+    }
+    appendEncoded(name, encoding, target);
+    if (value != null) {
+      // Allowing parameters name with no value assigned
+      target.append('=');
+      appendEncoded(value.toString(), encoding, target);
+    }
+  }
+
+  private static void appendEncoded(String text, Charset encoding, StringBuilder target) {
+    int i = 0;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (isUnreserved(c)) {
+        target.append(c);
+        ++i;
+      } else if (c == ' ') {
+        target.append('+');
+        ++i;
+      } else {
+        // chars to escape are converted together, so that surrogate pairs are kept
+        int runEnd = i + 1;
+        while (runEnd < text.length() && !isUnreserved(text.charAt(runEnd)) && text.charAt(runEnd) != ' ') {
+          ++runEnd;
+        }
+        for (byte b : text.substring(i, runEnd).getBytes(encoding)) {
+          target.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        i = runEnd;
+      }
+    }
+  }
+
+  private static boolean isUnreserved(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+        || c == '-' || c == '_' || c == '.' || c == '*';
+  }
+
   /**
    * Encodes spaces in a path, replacing them by %20.
    *
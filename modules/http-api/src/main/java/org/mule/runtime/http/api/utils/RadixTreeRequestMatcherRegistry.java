@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+import static java.util.Collections.emptyMap;
+import static java.util.Locale.ROOT;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link RequestMatcherRegistry} which keeps the registered paths in a tree with a level per path segment, so that finding the
+ * entry for a request only depends on the amount of segments of its path and not on the amount of registered paths.
+ * <p>
+ * Each node of the tree has its literal children indexed by segment, plus an optional child for a {@code {param}} segment and
+ * another one for a {@code *} segment, and the entries registered for its path indexed by method. When looking for a match,
+ * literal segments are preferred over parameters, and those over wildcards. A {@code *} segment matches a single segment,
+ * unless it is the last one of the path, in which case it matches any remaining segments.
+ * <p>
+ * The URI params of the matched path are extracted while matching, see {@link #find(String, String, Map)}.
+ * <p>
+ * Lookups don't lock, while changes to the registry are serialized.
+ *
+ * @param <T> the type of object associated to the registry
+ * @since 4.3.0
+ */
+public final class RadixTreeRequestMatcherRegistry<T> implements RequestMatcherRegistry<T> {
+
+  private static final String WILDCARD = "*";
+  private static final String ANY_METHOD = "*";
+
+  private final Node<T> root = new Node<>(null, null);
+  private final Supplier<T> onMethodMismatch;
+  private final Supplier<T> onNotFound;
+  private final Supplier<T> onInvalidRequest;
+  private final Supplier<T> onDisabled;
+
+  /**
+   * @param <T> the type of object associated to the registry
+   * @return a new builder of {@link RadixTreeRequestMatcherRegistry} instances
+   */
+  public static <T> RequestMatcherRegistryBuilder<T> builder() {
+    return new Builder<>();
+  }
+
+  private RadixTreeRequestMatcherRegistry(Supplier<T> onMethodMismatch, Supplier<T> onNotFound, Supplier<T> onInvalidRequest,
+                                          Supplier<T> onDisabled) {
+    this.onMethodMismatch = onMethodMismatch;
+    this.onNotFound = onNotFound;
+    this.onInvalidRequest = onInvalidRequest;
+    this.onDisabled = onDisabled;
+  }
+
+  @Override
+  public synchronized RequestMatcherRegistryEntry add(PathAndMethodRequestMatcher matcher, T item) {
+    checkArgument(matcher != null, "matcher cannot be null");
+    String path = matcher.getPath();
+    checkArgument(path != null && path.startsWith("/"), "path must start with '/'");
+
+    List<String> paramNames = new ArrayList<>();
+    List<Integer> paramDepths = new ArrayList<>();
+    Node<T> node = root;
+    int depth = 0;
+    for (String segment : segments(path)) {
+      Node<T> child;
+      if (WILDCARD.equals(segment)) {
+        child = node.wildcardChild;
+        if (child == null) {
+          child = node.wildcardChild = new Node<>(node, segment);
+        }
+      } else if (segment.startsWith("{") && segment.endsWith("}")) {
+        paramNames.add(segment.substring(1, segment.length() - 1));
+        paramDepths.add(depth);
+        child = node.paramChild;
+        if (child == null) {
+          child = node.paramChild = new Node<>(node, segment);
+        }
+      } else {
+        child = node.literalChildren.get(segment);
+        if (child == null) {
+          child = new Node<>(node, segment);
+          node.literalChildren.put(segment, child);
+        }
+      }
+      node = child;
+      ++depth;
+    }
+
+    MethodRequestMatcher methodMatcher = matcher.getMethodRequestMatcher();
+    List<String> methods = methodMatcher.acceptsAll() ? null : methodMatcher.getMethods();
+    Map<String, Entry<T>> entries = node.entries;
+    boolean collides = methods == null ? !entries.isEmpty() : methods.stream().anyMatch(entries::containsKey);
+    if (collides || entries.containsKey(ANY_METHOD)) {
+      throw new MatcherCollisionException(createStaticMessage(format("Already registered a matcher colliding with %s", matcher)));
+    }
+
+    int[] depths = new int[paramDepths.size()];
+    for (int i = 0; i < depths.length; ++i) {
+      depths[i] = paramDepths.get(i);
+    }
+    Entry<T> entry = new Entry<>(this, node, matcher, item, paramNames.toArray(new String[0]), depths);
+
+    Map<String, Entry<T>> newEntries = new HashMap<>(entries);
+    if (methods == null) {
+      newEntries.put(ANY_METHOD, entry);
+    } else {
+      for (String method : methods) {
+        newEntries.put(method, entry);
+      }
+    }
+    node.entries = newEntries;
+    return entry;
+  }
+
+  @Override
+  public T find(HttpRequest request) {
+    return find(request.getMethod(), request.getPath(), null);
+  }
+
+  @Override
+  public T find(String method, String path) {
+    return find(method, path, null);
+  }
+
+  /**
+   * Searches this registry for the most specific match for the given {@code method} and {@code path}, as
+   * {@link #find(String, String)} does, extracting the URI params of the matched path along the way.
+   *
+   * @param method    the HTTP method to match against
+   * @param path      the full path to match against
+   * @param uriParams the map to put the decoded URI params of the matched path into, if any. May be {@code null}.
+   * @return the matching registered object
+   */
+  public T find(String method, String path, Map<String, String> uriParams) {
+    if (method == null || path == null || !path.startsWith("/")) {
+      return onInvalidRequest.get();
+    }
+
+    Search<T> search = new Search<>(method.toUpperCase(ROOT), path);
+    Entry<T> entry = search.search(root, 1, 0);
+    if (entry == null) {
+      return search.methodMismatch ? onMethodMismatch.get() : onNotFound.get();
+    }
+    if (!entry.enabled) {
+      return onDisabled.get();
+    }
+    if (uriParams != null) {
+      for (int i = 0; i < entry.paramNames.length; ++i) {
+        uriParams.put(entry.paramNames[i], search.segment(entry.paramDepths[i]));
+      }
+    }
+    return entry.item;
+  }
+
+  private synchronized void remove(Entry<T> entry) {
+    Node<T> node = entry.node;
+    Map<String, Entry<T>> newEntries = new HashMap<>(node.entries);
+    if (!newEntries.values().removeIf(e -> e == entry)) {
+      return;
+    }
+    node.entries = newEntries.isEmpty() ? emptyMap() : newEntries;
+
+    // prune the branch if nothing else hangs from it
+    while (node.parent != null && node.isEmpty()) {
+      Node<T> parent = node.parent;
+      if (parent.wildcardChild == node) {
+        parent.wildcardChild = null;
+      } else if (parent.paramChild == node) {
+        parent.paramChild = null;
+      } else {
+        parent.literalChildren.remove(node.segment, node);
+      }
+      node = parent;
+    }
+  }
+
+  /**
+   * Splits a registered path into its segments, ignoring the trailing slash.
+   */
+  private static List<String> segments(String path) {
+    List<String> segments = new ArrayList<>();
+    int start = 1;
+    while (start < path.length()) {
+      int slash = path.indexOf('/', start);
+      int end = slash < 0 ? path.length() : slash;
+      segments.add(path.substring(start, end));
+      start = end + 1;
+    }
+    return segments;
+  }
+
+  private static String decode(String segment) {
+    if (segment.indexOf('%') < 0 && segment.indexOf('+') < 0) {
+      return segment;
+    }
+    try {
+      return URLDecoder.decode(segment, UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private static final class Node<T> {
+
+    private final Node<T> parent;
+    private final String segment;
+    private final Map<String, Node<T>> literalChildren = new ConcurrentHashMap<>(4);
+    private volatile Node<T> paramChild;
+    private volatile Node<T> wildcardChild;
+    // replaced on each change, keyed by method or ANY_METHOD
+    private volatile Map<String, Entry<T>> entries = emptyMap();
+
+    private Node(Node<T> parent, String segment) {
+      this.parent = parent;
+      this.segment = segment;
+    }
+
+    private boolean isEmpty() {
+      return entries.isEmpty() && literalChildren.isEmpty() && paramChild == null && wildcardChild == null;
+    }
+  }
+
+  /**
+   * The state of a single lookup, which keeps the bounds of the segments of the path it went through.
+   */
+  private static final class Search<T> {
+
+    private final String method;
+    private final String path;
+    private int[] segmentStarts = new int[8];
+    private int[] segmentEnds = new int[8];
+    private boolean methodMismatch;
+
+    private Search(String method, String path) {
+      this.method = method;
+      this.path = path;
+    }
+
+    private Entry<T> search(Node<T> node, int start, int depth) {
+      if (start >= path.length()) {
+        Entry<T> entry = select(node);
+        // a trailing wildcard also matches no segments at all
+        return entry == null && node.wildcardChild != null ? select(node.wildcardChild) : entry;
+      }
+
+      int slash = path.indexOf('/', start);
+      int end = slash < 0 ? path.length() : slash;
+      int next = slash < 0 ? path.length() : slash + 1;
+      if (depth == segmentStarts.length) {
+        segmentStarts = copyOf(segmentStarts, depth * 2);
+        segmentEnds = copyOf(segmentEnds, depth * 2);
+      }
+      segmentStarts[depth] = start;
+      segmentEnds[depth] = end;
+
+      Entry<T> entry = null;
+      if (!node.literalChildren.isEmpty()) {
+        Node<T> literalChild = node.literalChildren.get(path.substring(start, end));
+        if (literalChild != null) {
+          entry = search(literalChild, next, depth + 1);
+        }
+      }
+      Node<T> paramChild = node.paramChild;
+      if (entry == null && paramChild != null) {
+        entry = search(paramChild, next, depth + 1);
+      }
+      Node<T> wildcardChild = node.wildcardChild;
+      if (entry == null && wildcardChild != null) {
+        entry = search(wildcardChild, next, depth + 1);
+        if (entry == null) {
+          // a trailing wildcard matches all the remaining segments
+          entry = select(wildcardChild);
+        }
+      }
+      return entry;
+    }
+
+    private Entry<T> select(Node<T> node) {
+      Map<String, Entry<T>> entries = node.entries;
+      if (entries.isEmpty()) {
+        return null;
+      }
+      Entry<T> entry = entries.get(method);
+      if (entry == null) {
+        entry = entries.get(ANY_METHOD);
+      }
+      if (entry == null) {
+        methodMismatch = true;
+      }
+      return entry;
+    }
+
+    private String segment(int depth) {
+      return decode(path.substring(segmentStarts[depth], segmentEnds[depth]));
+    }
+  }
+
+  private static final class Entry<T> implements RequestMatcherRegistryEntry {
+
+    private final RadixTreeRequestMatcherRegistry<T> registry;
+    private final Node<T> node;
+    private final PathAndMethodRequestMatcher matcher;
+    private final T item;
+    private final String[] paramNames;
+    private final int[] paramDepths;
+    private volatile boolean enabled = true;
+
+    private Entry(RadixTreeRequestMatcherRegistry<T> registry, Node<T> node, PathAndMethodRequestMatcher matcher, T item,
+                  String[] paramNames, int[] paramDepths) {
+      this.registry = registry;
+      this.node = node;
+      this.matcher = matcher;
+      this.item = item;
+      this.paramNames = paramNames;
+      this.paramDepths = paramDepths;
+    }
+
+    @Override
+    public void disable() {
+      enabled = false;
+    }
+
+    @Override
+    public void enable() {
+      enabled = true;
+    }
+
+    @Override
+    public void remove() {
+      registry.remove(this);
+    }
+
+    @Override
+    public String toString() {
+      return format("%s{matcher=%s, enabled=%s}", getClass().getSimpleName(), matcher, enabled);
+    }
+  }
+
+  private static final class Builder<T> implements RequestMatcherRegistryBuilder<T> {
+
+    private Supplier<T> onMethodMismatch = () -> null;
+    private Supplier<T> onNotFound = () -> null;
+    private Supplier<T> onInvalidRequest = () -> null;
+    private Supplier<T> onDisabled = () -> null;
+
+    @Override
+    public RequestMatcherRegistryBuilder<T> onMethodMismatch(Supplier<T> itemSupplier) {
+      this.onMethodMismatch = itemSupplier;
+      return this;
+    }
+
+    @Override
+    public RequestMatcherRegistryBuilder<T> onNotFound(Supplier<T> itemSupplier) {
+      this.onNotFound = itemSupplier;
+      return this;
+    }
+
+    @Override
+    public RequestMatcherRegistryBuilder<T> onInvalidRequest(Supplier<T> itemSupplier) {
+      this.onInvalidRequest = itemSupplier;
+      return this;
+    }
+
+    @Override
+    public RequestMatcherRegistryBuilder<T> onDisabled(Supplier<T> itemSupplier) {
+      this.onDisabled = itemSupplier;
+      return this;
+    }
+
+    @Override
+    public RequestMatcherRegistry<T> build() {
+      return new RadixTreeRequestMatcherRegistry<>(onMethodMismatch, onNotFound, onInvalidRequest, onDisabled);
+    }
+  }
+}
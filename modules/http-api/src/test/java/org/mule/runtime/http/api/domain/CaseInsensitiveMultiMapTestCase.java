@@ -42,7 +42,9 @@ public class CaseInsensitiveMultiMapTestCase extends MultiMapTestCase {
   public static Collection<Object[]> data() {
     return asList(new Object[][] {
         {(Supplier<MultiMap<String, String>>) (() -> new CaseInsensitiveMultiMap(new MultiMap<>())),
-            (Function<MultiMap<String, String>, MultiMap<String, String>>) (m -> new CaseInsensitiveMultiMap(m))}
+            (Function<MultiMap<String, String>, MultiMap<String, String>>) (m -> new CaseInsensitiveMultiMap(m))},
+        {(Supplier<MultiMap<String, String>>) (() -> new CompactCaseInsensitiveMultiMap()),
+            (Function<MultiMap<String, String>, MultiMap<String, String>>) (m -> new CompactCaseInsensitiveMultiMap(m))}
     });
   }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.http.api.domain;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.MULTI_MAP;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(MULTI_MAP)
+public class CompactCaseInsensitiveMultiMapTestCase {
+
+  // LATIN CAPITAL LETTER I WITH DOT ABOVE, which lower case String has two chars
+  private static final String DOTTED_KEY = "\u0130d";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final CaseInsensitiveMultiMap multiMap = new CompactCaseInsensitiveMultiMap();
+
+  @Test
+  public void keyChangingLengthInLowerCase() {
+    multiMap.put(DOTTED_KEY, "value1");
+    multiMap.put("\u0130D", "value2");
+
+    assertThat(multiMap.size(), is(1));
+    assertThat(multiMap.getAll("\u0130D"), is(asList("value1", "value2")));
+  }
+
+  @Test
+  public void immutableIsView() {
+    multiMap.put("key", "value1");
+    CaseInsensitiveMultiMap immutable = multiMap.toImmutableMultiMap();
+    multiMap.put("other", "value2");
+
+    assertThat(immutable.get("OTHER"), is("value2"));
+    assertThat(immutable.toImmutableMultiMap(), is(sameInstance(immutable)));
+  }
+
+  @Test
+  public void immutableCannotAddToKey() {
+    multiMap.put("key", "value1");
+
+    expectedException.expect(UnsupportedOperationException.class);
+    multiMap.toImmutableMultiMap().put("KEY", "value2");
+  }
+
+  @Test
+  public void immutableCannotRemoveKey() {
+    multiMap.put("key", "value1");
+
+    expectedException.expect(UnsupportedOperationException.class);
+    multiMap.toImmutableMultiMap().remove("KEY");
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.http.api.domain;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.MULTI_MAP;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMapTestCase;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(MULTI_MAP)
+public class CompactMultiMapTestCase extends MultiMapTestCase {
+
+  private static final int MANY_KEYS = 50;
+
+  public CompactMultiMapTestCase(Supplier<MultiMap<String, String>> mapSupplier,
+                                 Function<MultiMap<String, String>, MultiMap<String, String>> mapCopier) {
+    super(mapSupplier, mapCopier);
+  }
+
+  @Parameters
+  public static Collection<Object[]> data() {
+    return asList(new Object[][] {
+        {(Supplier<MultiMap<String, String>>) (() -> new CompactMultiMap()),
+            (Function<MultiMap<String, String>, MultiMap<String, String>>) (m -> new CompactMultiMap(m))}
+    });
+  }
+
+  @Test
+  public void caseSensitive() {
+    multiMap.put("key", VALUE_1);
+    multiMap.put("KEY", VALUE_2);
+
+    assertThat(multiMap.get("key"), is(VALUE_1));
+    assertThat(multiMap.get("KEY"), is(VALUE_2));
+    assertThat(multiMap.get("Key"), is(nullValue()));
+  }
+
+  @Test
+  public void manyKeys() {
+    for (int i = 0; i < MANY_KEYS; ++i) {
+      multiMap.put("key" + i, "value" + i);
+    }
+    multiMap.put("key7", VALUE_1);
+
+    assertThat(multiMap.size(), is(MANY_KEYS));
+    assertThat(multiMap.getAll("key7"), contains("value7", VALUE_1));
+    assertThat(multiMap.get("key" + (MANY_KEYS - 1)), is("value" + (MANY_KEYS - 1)));
+    assertThat(multiMap.keySet().iterator().next(), is("key0"));
+  }
+
+  @Test
+  public void removeKeepsOrder() {
+    for (int i = 0; i < MANY_KEYS; ++i) {
+      multiMap.put("key" + i, "value" + i);
+    }
+
+    multiMap.remove("key0");
+    Iterator<String> keys = multiMap.keySet().iterator();
+    while (keys.hasNext()) {
+      if (keys.next().endsWith("5")) {
+        keys.remove();
+      }
+    }
+
+    assertThat(multiMap.size(), is(MANY_KEYS - 6));
+    assertThat(multiMap.get("key15"), is(nullValue()));
+    assertThat(multiMap.get("key16"), is("value16"));
+    assertThat(multiMap.keySet().iterator().next(), is("key1"));
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.channels.Channels.newChannel;
+import static java.nio.channels.Channels.newInputStream;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.IOUtils.toByteArray;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story("Entities")
+public class ByteBufferHttpEntityTestCase {
+
+  private byte[] content = "TEST".getBytes();
+  private ByteBuffer direct = (ByteBuffer) allocateDirect(2).put("ST".getBytes()).flip();
+  private HttpEntity entity = new ByteBufferHttpEntity(asList(wrap("TE".getBytes()), wrap(new byte[0]), direct));
+
+  @Test
+  public void nonComposed() {
+    assertThat(entity.isComposed(), is(false));
+  }
+
+  @Test
+  public void nonStreaming() {
+    assertThat(entity.isStreaming(), is(false));
+  }
+
+  @Test
+  public void providesArray() throws IOException {
+    assertThat(entity.getBytes(), equalTo(content));
+  }
+
+  @Test
+  public void providesNewStream() throws IOException {
+    assertThat(toByteArray(entity.getContent()), equalTo(content));
+    assertThat(toByteArray(entity.getContent()), equalTo(content));
+  }
+
+  @Test
+  public void hasNoParts() throws IOException {
+    assertThat(entity.getParts(), is(empty()));
+  }
+
+  @Test
+  public void providesSize() {
+    assertThat(entity.getBytesLength().getAsLong(), is((long) content.length));
+  }
+
+  @Test
+  public void notAffectedByBufferChanges() throws IOException {
+    direct.position(2);
+    assertThat(entity.getBytes(), equalTo(content));
+  }
+
+  @Test
+  public void transferable() throws IOException {
+    assertThat(entity.isTransferable(), is(true));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThat(entity.transferTo(newChannel(out)), is((long) content.length));
+    assertThat(entity.transferTo(newChannel(out)), is((long) content.length));
+    assertThat(out.toByteArray(), equalTo("TESTTEST".getBytes()));
+  }
+
+  @Test
+  public void gatheringTransfer() throws IOException {
+    Pipe pipe = Pipe.open();
+    assertThat(entity.transferTo(pipe.sink()), is((long) content.length));
+    pipe.sink().close();
+    assertThat(toByteArray(newInputStream(pipe.source())), equalTo(content));
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.nio.channels.Channels.newChannel;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.util.IOUtils.toByteArray;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story("Entities")
+public class FileHttpEntityTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private byte[] content = "TEST".getBytes();
+  private File file;
+  private HttpEntity entity;
+
+  @Before
+  public void setUp() throws IOException {
+    file = temporaryFolder.newFile();
+    Files.write(file.toPath(), "<TEST>".getBytes());
+    entity = new FileHttpEntity(file.toPath(), 1, content.length);
+  }
+
+  @Test
+  public void nonComposed() {
+    assertThat(entity.isComposed(), is(false));
+  }
+
+  @Test
+  public void nonStreaming() {
+    assertThat(entity.isStreaming(), is(false));
+  }
+
+  @Test
+  public void providesArray() throws IOException {
+    assertThat(entity.getBytes(), equalTo(content));
+  }
+
+  @Test
+  public void providesNewStream() throws IOException {
+    assertThat(toByteArray(entity.getContent()), equalTo(content));
+    assertThat(toByteArray(entity.getContent()), equalTo(content));
+  }
+
+  @Test
+  public void hasNoParts() throws IOException {
+    assertThat(entity.getParts(), is(empty()));
+  }
+
+  @Test
+  public void providesSize() {
+    assertThat(entity.getBytesLength().getAsLong(), is((long) content.length));
+  }
+
+  @Test
+  public void providesWholeFile() throws IOException {
+    HttpEntity wholeFileEntity = new FileHttpEntity(file.toPath());
+    assertThat(wholeFileEntity.getBytesLength().getAsLong(), is(6L));
+    assertThat(wholeFileEntity.getBytes(), equalTo("<TEST>".getBytes()));
+  }
+
+  @Test
+  public void transferable() throws IOException {
+    assertThat(entity.isTransferable(), is(true));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThat(entity.transferTo(newChannel(out)), is((long) content.length));
+    assertThat(entity.transferTo(newChannel(out)), is((long) content.length));
+    assertThat(out.toByteArray(), equalTo("TESTTEST".getBytes()));
+  }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity.multipart;
+
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.util.IOUtils.toByteArray;
+import static org.mule.runtime.http.api.domain.entity.multipart.HttpPart.NO_SIZE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.api.streaming.bytes.ByteStreamingManager;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.runtime.core.api.streaming.bytes.factory.InMemoryCursorStreamProviderFactory;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story("Entities")
+public class StreamedMultipartHttpEntityTestCase {
+
+  private static final String BOUNDARY = "my-boundary";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private String fileContent = largeContent();
+  private HttpEntity entity = new StreamedMultipartHttpEntity(body(fileContent), BOUNDARY, 1024);
+
+  @Test
+  public void composed() {
+    assertThat(entity.isComposed(), is(true));
+  }
+
+  @Test
+  public void streaming() {
+    assertThat(entity.isStreaming(), is(true));
+  }
+
+  @Test
+  public void doesNotProvideArray() throws IOException {
+    assertThat(entity.getBytes(), is(nullValue()));
+  }
+
+  @Test
+  public void doesNotProvideStream() throws IOException {
+    assertThat(entity.getContent(), is(nullValue()));
+  }
+
+  @Test
+  public void hasNoSize() {
+    assertThat(entity.getBytesLength().isPresent(), is(false));
+  }
+
+  @Test
+  public void providesHeadersBeforeContent() {
+    Iterator<StreamedHttpPart> parts = ((StreamedMultipartHttpEntity) entity).getStreamedParts();
+
+    StreamedHttpPart field = parts.next();
+    assertThat(field.getName(), is("field"));
+    assertThat(field.getFileName(), is(nullValue()));
+    assertThat(field.getSize(), is((long) NO_SIZE));
+
+    StreamedHttpPart file = parts.next();
+    assertThat(file.getName(), is("file"));
+    assertThat(file.getFileName(), is("file.txt"));
+    assertThat(file.getContentType(), is("text/plain"));
+    assertThat(file.getHeader("x-custom"), is("value"));
+    assertThat(file.getSize(), is((long) NO_SIZE));
+    assertThat(field.getSize(), is(5L));
+  }
+
+  @Test
+  public void providesRepeatableContent() throws IOException {
+    Iterator<StreamedHttpPart> parts = ((StreamedMultipartHttpEntity) entity).getStreamedParts();
+    StreamedHttpPart field = parts.next();
+    StreamedHttpPart file = parts.next();
+
+    assertThat(new String(toByteArray(file.getInputStream()), UTF_8), equalTo(fileContent));
+    assertThat(new String(toByteArray(file.getInputStream()), UTF_8), equalTo(fileContent));
+    assertThat(new String(toByteArray(field.getInputStream()), UTF_8), equalTo("value"));
+    assertThat(parts.hasNext(), is(false));
+    assertThat(file.getSize(), is((long) fileContent.length()));
+
+    file.getContentProvider().releaseResources();
+    field.getContentProvider().releaseResources();
+  }
+
+  @Test
+  public void skipStopsAtEndOfContent() throws IOException {
+    Iterator<StreamedHttpPart> parts = ((StreamedMultipartHttpEntity) entity).getStreamedParts();
+    parts.next();
+    StreamedHttpPart file = parts.next();
+
+    try (InputStream content = file.getInputStream()) {
+      assertThat(content.skip(10), is(10L));
+      assertThat(content.skip(Long.MAX_VALUE), is((long) fileContent.length() - 10));
+      assertThat(content.skip(10), is(0L));
+      assertThat(content.read(), is(-1));
+    }
+  }
+
+  @Test
+  public void partsCanOnlyBeReadOnce() {
+    ((StreamedMultipartHttpEntity) entity).getStreamedParts();
+
+    expectedException.expect(IllegalStateException.class);
+    ((StreamedMultipartHttpEntity) entity).getStreamedParts();
+  }
+
+  @Test
+  public void providesInMemoryParts() throws IOException {
+    Collection<HttpPart> parts = entity.getParts();
+    assertThat(parts, hasSize(2));
+
+    List<String> contents = new ArrayList<>();
+    for (HttpPart part : parts) {
+      contents.add(new String(toByteArray(part.getInputStream()), UTF_8));
+    }
+    assertThat(contents, contains("value", fileContent));
+  }
+
+  @Test
+  public void partsBufferedByStreamingManager() throws IOException {
+    StreamingManager streamingManager = mock(StreamingManager.class);
+    ByteStreamingManager byteStreamingManager = mock(ByteStreamingManager.class);
+    EventContext eventContext = mock(EventContext.class);
+    when(streamingManager.forBytes()).thenReturn(byteStreamingManager);
+    when(streamingManager.manage(any(CursorStreamProvider.class), same(eventContext)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(byteStreamingManager.getDefaultCursorProviderFactory())
+        .thenReturn(new InMemoryCursorStreamProviderFactory(new HeapByteBufferManager(), InMemoryCursorStreamConfig.getDefault(),
+                                                            streamingManager));
+
+    Iterator<StreamedHttpPart> parts =
+        new StreamedMultipartHttpEntity(body(fileContent), BOUNDARY, streamingManager, eventContext).getStreamedParts();
+    StreamedHttpPart field = parts.next();
+    StreamedHttpPart file = parts.next();
+    assertThat(field.getSize(), is(5L));
+
+    assertThat(new String(toByteArray(file.getInputStream()), UTF_8), equalTo(fileContent));
+    assertThat(new String(toByteArray(file.getInputStream()), UTF_8), equalTo(fileContent));
+    assertThat(new String(toByteArray(field.getInputStream()), UTF_8), equalTo("value"));
+    assertThat(parts.hasNext(), is(false));
+    assertThat(file.getSize(), is((long) fileContent.length()));
+    verify(streamingManager, times(2)).manage(any(CursorStreamProvider.class), same(eventContext));
+  }
+
+  @Test
+  public void cannotSeekToNegativePosition() throws IOException {
+    StreamedHttpPart field = ((StreamedMultipartHttpEntity) entity).getStreamedParts().next();
+
+    try (CursorStream content = field.getContentProvider().openCursor()) {
+      expectedException.expect(IllegalArgumentException.class);
+      content.seek(-1);
+    }
+  }
+
+  @Test
+  public void readsBodyArrivingInSmallChunks() throws IOException {
+    // the delimiter is only complete after several reads, so its search has to resume where it left off
+    InputStream slow = new FilterInputStream(body(fileContent)) {
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return super.read(b, off, min(len, 3));
+      }
+    };
+
+    List<String> contents = new ArrayList<>();
+    for (HttpPart part : new StreamedMultipartHttpEntity(slow, BOUNDARY, 1024).getParts()) {
+      contents.add(new String(toByteArray(part.getInputStream()), UTF_8));
+    }
+    assertThat(contents, contains("value", fileContent));
+  }
+
+  @Test
+  public void failsOnTruncatedBody() throws IOException {
+    InputStream truncated = new ByteArrayInputStream(("--" + BOUNDARY + "\r\n\r\nvalue").getBytes(UTF_8));
+
+    expectedException.expect(IOException.class);
+    new StreamedMultipartHttpEntity(truncated, BOUNDARY, 1024).getParts();
+  }
+
+  private static InputStream body(String fileContent) {
+    String body = "preamble\r\n"
+        + "--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"field\"\r\n"
+        + "\r\n"
+        + "value\r\n"
+        + "--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n"
+        + "Content-Type: text/plain\r\n"
+        + "X-Custom: value\r\n"
+        + "\r\n"
+        + fileContent + "\r\n"
+        + "--" + BOUNDARY + "--\r\n";
+    return new ByteArrayInputStream(body.getBytes(UTF_8));
+  }
+
+  // larger than the in memory size, with lines which resemble the boundary
+  private static String largeContent() {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 1000; ++i) {
+      content.append("line ").append(i).append("\r\n--").append(BOUNDARY.substring(0, i % BOUNDARY.length()));
+    }
+    return content.toString();
+  }
+
+  private static final class HeapByteBufferManager implements ByteBufferManager {
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+      return ByteBuffer.allocate(capacity);
+    }
+
+    @Override
+    public void deallocate(ByteBuffer byteBuffer) {
+      // nothing to release
+    }
+  }
+}
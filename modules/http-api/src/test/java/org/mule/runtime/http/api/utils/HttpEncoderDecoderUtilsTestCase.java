@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncoded;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.encodeUrlEncoded;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactMultiMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story("Url encoding")
+public class HttpEncoderDecoderUtilsTestCase {
+
+  private static final String QUERY_STRING = "name=John+Doe&city=S%C3%A3o%20Paulo&tag=a&tag=b&flag&empty=";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void decodeQueryStringParams() {
+    assertDecoded(decodeQueryString(QUERY_STRING));
+  }
+
+  @Test
+  public void decodeCharRange() {
+    String uri = "/path?" + QUERY_STRING + "#fragment";
+    int start = uri.indexOf('?') + 1;
+
+    assertDecoded(decodeUrlEncoded(uri, start, uri.indexOf('#'), UTF_8, new CompactMultiMap()));
+  }
+
+  @Test
+  public void decodeByteRange() {
+    byte[] body = ("ignored" + QUERY_STRING).getBytes(UTF_8);
+
+    assertDecoded(decodeUrlEncoded(body, "ignored".length(), body.length - "ignored".length(), UTF_8, new CompactMultiMap()));
+  }
+
+  @Test
+  public void decodeEmptyPairsAsSplit() {
+    MultiMap<String, String> params = decodeQueryString("&a=1&&b=2&&");
+
+    assertThat(params.keySet(), contains("", "a", "b"));
+    assertThat(params.get(""), is(nullValue()));
+  }
+
+  @Test
+  public void decodeIntoCaseInsensitiveMap() {
+    MultiMap<String, String> params = decodeUrlEncoded("Accept=a&accept=b", 0, 17, UTF_8, new CompactCaseInsensitiveMultiMap());
+
+    assertThat(params.getAll("ACCEPT"), contains("a", "b"));
+  }
+
+  @Test
+  public void decodeIncompleteEscape() {
+    expectedException.expect(IllegalArgumentException.class);
+    decodeQueryString("a=%2");
+  }
+
+  @Test
+  public void decodeIllegalEscape() {
+    expectedException.expect(IllegalArgumentException.class);
+    decodeQueryString("a=%zz");
+  }
+
+  @Test
+  public void encodeAllMultiMapValues() {
+    MultiMap<String, String> params = new MultiMap<>();
+    params.put("name", "John Doe");
+    params.put("city", "S\u00e3o Paulo");
+    params.put("tag", "a");
+    params.put("tag", "b");
+    params.put("flag", null);
+
+    assertThat(encodeUrlEncoded(params, UTF_8, new StringBuilder()).toString(),
+               is("name=John+Doe&city=S%C3%A3o+Paulo&tag=a&tag=b&flag"));
+  }
+
+  @Test
+  public void encodeIterableValues() {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("tag", asList("a", "b"));
+    params.put("q", "1+1=2");
+
+    assertThat(encodeUrlEncoded(params, UTF_8, new StringBuilder()).toString(), is("tag=a&tag=b&q=1%2B1%3D2"));
+  }
+
+  @Test
+  public void encodeAppendsToBuilder() {
+    StringBuilder builder = new StringBuilder("http://localhost/path?");
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("a", "1");
+
+    assertThat(encodeUrlEncoded(params, UTF_8, builder).toString(), is("http://localhost/path?a=1"));
+  }
+
+  @Test
+  public void encodeAndDecode() {
+    MultiMap<String, String> params = decodeQueryString(QUERY_STRING);
+
+    assertDecoded(decodeQueryString(encodeUrlEncoded(params, UTF_8, new StringBuilder()).toString()));
+  }
+
+  private static void assertDecoded(MultiMap<String, String> params) {
+    assertThat(params.keySet(), contains("name", "city", "tag", "flag", "empty"));
+    assertThat(params.get("name"), is("John Doe"));
+    assertThat(params.get("city"), is("S\u00e3o Paulo"));
+    assertThat(params.getAll("tag"), contains("a", "b"));
+    assertThat(params.get("flag"), is(nullValue()));
+    assertThat(params.get("empty"), is(""));
+  }
+}
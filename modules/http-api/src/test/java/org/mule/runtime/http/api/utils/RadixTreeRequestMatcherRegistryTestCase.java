@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.MethodRequestMatcherBuilder;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+import org.mule.runtime.http.api.utils.RequestMatcherRegistry.RequestMatcherRegistryEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story("Request matching")
+public class RadixTreeRequestMatcherRegistryTestCase {
+
+  private static final String NOT_FOUND = "not found";
+  private static final String METHOD_MISMATCH = "method mismatch";
+  private static final String DISABLED = "disabled";
+  private static final String INVALID = "invalid";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private RadixTreeRequestMatcherRegistry<String> registry =
+      (RadixTreeRequestMatcherRegistry<String>) RadixTreeRequestMatcherRegistry.<String>builder()
+          .onNotFound(() -> NOT_FOUND)
+          .onMethodMismatch(() -> METHOD_MISMATCH)
+          .onDisabled(() -> DISABLED)
+          .onInvalidRequest(() -> INVALID)
+          .build();
+
+  @Test
+  public void literalPath() {
+    registry.add(matcher("/api/users", "GET"), "users");
+
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+    assertThat(registry.find("get", "/api/users/"), is("users"));
+    assertThat(registry.find("GET", "/api"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/users/other"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void methodMismatch() {
+    registry.add(matcher("/api/users", "GET"), "users");
+
+    assertThat(registry.find("POST", "/api/users"), is(METHOD_MISMATCH));
+  }
+
+  @Test
+  public void perMethodEntries() {
+    registry.add(matcher("/api/users/{id}", "GET"), "get");
+    registry.add(matcher("/api/users/{userId}", "PUT"), "put");
+
+    Map<String, String> uriParams = new HashMap<>();
+    assertThat(registry.find("PUT", "/api/users/5", uriParams), is("put"));
+    assertThat(uriParams, hasEntry("userId", "5"));
+    assertThat(registry.find("GET", "/api/users/5"), is("get"));
+  }
+
+  @Test
+  public void extractsDecodedUriParams() {
+    registry.add(matcher("/api/users/{id}/orders/{orderId}", "GET"), "order");
+
+    Map<String, String> uriParams = new HashMap<>();
+    assertThat(registry.find("GET", "/api/users/john%20doe/orders/7", uriParams), is("order"));
+    assertThat(uriParams.size(), is(2));
+    assertThat(uriParams, hasEntry("id", "john doe"));
+    assertThat(uriParams, hasEntry("orderId", "7"));
+  }
+
+  @Test
+  public void literalPreferredOverParamAndWildcard() {
+    registry.add(matcher("/api/*"), "wildcard");
+    registry.add(matcher("/api/users/{id}", "GET"), "param");
+    registry.add(matcher("/api/users/me", "GET"), "literal");
+
+    Map<String, String> uriParams = new HashMap<>();
+    assertThat(registry.find("GET", "/api/users/me", uriParams), is("literal"));
+    assertThat(uriParams.isEmpty(), is(true));
+    assertThat(registry.find("GET", "/api/users/5"), is("param"));
+    assertThat(registry.find("DELETE", "/api/users/5"), is("wildcard"));
+    assertThat(registry.find("GET", "/api/users/5/orders"), is("wildcard"));
+  }
+
+  @Test
+  public void trailingWildcard() {
+    registry.add(matcher("/static/*", "GET"), "static");
+    registry.add(matcher("/*"), "all");
+
+    assertThat(registry.find("GET", "/static"), is("static"));
+    assertThat(registry.find("GET", "/static/css/site.css"), is("static"));
+    assertThat(registry.find("GET", "/"), is("all"));
+    assertThat(registry.find("GET", "/other/path"), is("all"));
+  }
+
+  @Test
+  public void middleWildcardMatchesSingleSegment() {
+    registry.add(matcher("/api/*/status", "GET"), "status");
+
+    assertThat(registry.find("GET", "/api/v1/status"), is("status"));
+    assertThat(registry.find("GET", "/api/v1/v2/status"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void invalidRequest() {
+    registry.add(matcher("/*"), "all");
+
+    assertThat(registry.find("GET", "api"), is(INVALID));
+  }
+
+  @Test
+  public void collision() {
+    registry.add(matcher("/api/users/{id}", "GET", "POST"), "first");
+
+    expectedException.expect(MatcherCollisionException.class);
+    registry.add(matcher("/api/users/{userId}", "POST"), "second");
+  }
+
+  @Test
+  public void collisionWithAllMethods() {
+    registry.add(matcher("/api/users", "GET"), "first");
+
+    expectedException.expect(MatcherCollisionException.class);
+    registry.add(matcher("/api/users"), "second");
+  }
+
+  @Test
+  public void disableEnableAndRemove() {
+    registry.add(matcher("/*"), "all");
+    RequestMatcherRegistryEntry entry = registry.add(matcher("/api/users", "GET"), "users");
+
+    entry.disable();
+    assertThat(registry.find("GET", "/api/users"), is(DISABLED));
+    entry.enable();
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+    entry.remove();
+    assertThat(registry.find("GET", "/api/users"), is("all"));
+
+    registry.add(matcher("/api/users", "GET"), "users again");
+    assertThat(registry.find("GET", "/api/users"), is("users again"));
+  }
+
+  private static PathAndMethodRequestMatcher matcher(String path, String... methods) {
+    MethodRequestMatcher methodMatcher;
+    if (methods.length == 0) {
+      methodMatcher = MethodRequestMatcher.acceptAll();
+    } else {
+      MethodRequestMatcherBuilder builder = MethodRequestMatcher.builder();
+      for (String method : methods) {
+        builder.add(method);
+      }
+      methodMatcher = builder.build();
+    }
+    return PathAndMethodRequestMatcher.builder().path(path).methodRequestMatcher(methodMatcher).build();
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.lang.Math.max;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
+/**
+ * Applies a lifecycle phase over a list of components sorted by their dependencies, applying it concurrently over the components
+ * that do not depend on each other.
+ * <p>
+ * Components are grouped in layers, where every component of a layer only depends on components from previous layers. A layer is
+ * processed once all the components from the previous one have been processed. If the phase fails for any component, the
+ * components of the next layers are not processed and the failure of the first failing component, following the original order
+ * of the components, is the one reported.
+ *
+ * @since 4.3.0
+ */
+class LayeredLifecycleApplier {
+
+  private static final Logger LOGGER = getLogger(LayeredLifecycleApplier.class);
+
+  private final Executor executor;
+  private final ClassLoader executionClassLoader;
+
+  /**
+   * Creates a new applier.
+   *
+   * @param executor where the lifecycle phase is applied over each component
+   * @param executionClassLoader class loader to set as the context class loader while applying the lifecycle phase
+   */
+  LayeredLifecycleApplier(Executor executor, ClassLoader executionClassLoader) {
+    this.executor = executor;
+    this.executionClassLoader = executionClassLoader;
+  }
+
+  /**
+   * Groups the given components in layers, where each component only depends on components from previous layers.
+   * <p>
+   * A component which dependencies are unknown is placed after every previous component, and every following component is placed
+   * after it.
+   *
+   * @param components the components, sorted so that every component comes after the ones it depends on
+   * @param dependencies the components the given one depends on, or {@code null} if they are unknown
+   * @return the layers of components, each one keeping the relative order of the given components
+   */
+  static <T> List<List<T>> layers(List<T> components, Function<T, Collection<T>> dependencies) {
+    final List<List<T>> layers = new ArrayList<>();
+    final Map<T, Integer> layerByComponent = new IdentityHashMap<>();
+    int minLayer = 0;
+
+    for (T component : components) {
+      final Collection<T> componentDependencies = dependencies.apply(component);
+      int layer = minLayer;
+      if (componentDependencies == null) {
+        layer = layers.size();
+        minLayer = layer + 1;
+      } else {
+        for (T dependency : componentDependencies) {
+          // only the components before this one are taken into account, as the order of the given components is kept
+          final Integer dependencyLayer = layerByComponent.get(dependency);
+          if (dependencyLayer != null) {
+            layer = max(layer, dependencyLayer + 1);
+          }
+        }
+      }
+
+      layerByComponent.put(component, layer);
+      if (layer == layers.size()) {
+        layers.add(new ArrayList<>());
+      }
+      layers.get(layer).add(component);
+    }
+
+    return layers;
+  }
+
+  /**
+   * Applies the given {@code lifecycle} over every component of every layer.
+   *
+   * @param layers the components grouped as returned by {@link #layers(List, Function)}
+   * @param lifecycle the lifecycle phase to apply
+   * @throws MuleException the failure of the first component, in the original order, for which the lifecycle phase failed
+   */
+  void apply(List<List<Object>> layers, ComponentLifecycle lifecycle) throws MuleException {
+    for (List<Object> layer : layers) {
+      if (layer.size() == 1) {
+        lifecycle.apply(layer.get(0));
+        continue;
+      }
+
+      final List<CompletableFuture<Void>> futures = new ArrayList<>(layer.size());
+      for (Object component : layer) {
+        futures.add(CompletableFuture.runAsync(() -> withContextClassLoader(executionClassLoader, () -> {
+          try {
+            lifecycle.apply(component);
+          } catch (MuleException e) {
+            throw new CompletionException(e);
+          }
+        }), executor));
+      }
+
+      // Wait for every component of the layer so no lifecycle phase is left running, then report the first failure in order
+      Throwable failure = null;
+      for (CompletableFuture<Void> future : futures) {
+        try {
+          future.join();
+        } catch (CompletionException e) {
+          if (failure == null) {
+            failure = e.getCause();
+          } else {
+            LOGGER.debug("Additional lifecycle failure in the same layer of components", e.getCause());
+          }
+        }
+      }
+
+      if (failure instanceof MuleException) {
+        throw (MuleException) failure;
+      } else if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure != null) {
+        throw new MuleRuntimeException(failure);
+      }
+    }
+  }
+
+  /**
+   * A lifecycle phase to apply over a component.
+   */
+  @FunctionalInterface
+  interface ComponentLifecycle {
+
+    void apply(Object component) throws MuleException;
+  }
+}
@@ -8,8 +8,11 @@ package org.mule.runtime.config.internal;
 
 import static com.google.common.collect.ImmutableSet.copyOf;
 import static com.google.common.collect.Sets.newHashSet;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Runtime.getRuntime;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.sort;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -34,6 +37,7 @@ import static org.mule.runtime.config.internal.LazyConnectivityTestingService.NO
 import static org.mule.runtime.config.internal.LazyValueProviderService.NON_LAZY_VALUE_PROVIDER_SERVICE;
 import static org.mule.runtime.config.internal.parsers.generic.AutoIdUtils.uniqueValue;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_PARALLEL_LIFECYCLE_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_SECURITY_MANAGER;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -53,6 +57,7 @@ import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MetadataService;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.api.value.ValueProviderService;
@@ -60,6 +65,7 @@ import org.mule.runtime.app.declaration.api.ArtifactDeclaration;
 import org.mule.runtime.ast.api.ArtifactAst;
 import org.mule.runtime.ast.api.ComponentAst;
 import org.mule.runtime.ast.graph.api.ArtifactAstDependencyGraph;
+import org.mule.runtime.config.internal.LayeredLifecycleApplier.ComponentLifecycle;
 import org.mule.runtime.config.internal.dsl.model.NoSuchComponentModelException;
 import org.mule.runtime.config.internal.dsl.model.SpringComponentModel;
 import org.mule.runtime.config.internal.dsl.processor.ObjectTypeVisitor;
@@ -86,13 +92,16 @@ import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -126,6 +135,9 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
   private final ArtifactAstDependencyGraph graph;
 
+  private final boolean parallelLifecycle;
+  private final Map<Object, ComponentAst> componentsByObject = new IdentityHashMap<>();
+
   private final Set<String> currentComponentLocationsRequested = new HashSet<>();
   private boolean appliedStartedPhaseRequest = false;
 
@@ -161,6 +173,8 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
     graph = generateFor(applicationModel);
 
+    parallelLifecycle = parseBoolean(artifactProperties.get(MULE_LAZY_INIT_PARALLEL_LIFECYCLE_DEPLOYMENT_PROPERTY));
+
     this.parentComponentModelInitializer = parentComponentModelInitializer;
 
     final CustomizationService customizationService = muleContext.getCustomizationService();
@@ -262,33 +276,135 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
   }
 
   private void initializeComponents(List<Object> components) {
-    for (Object object : components) {
-      LOGGER.debug("Initializing component '{}'...", object.toString());
-      try {
-        if (object instanceof MessageProcessorChain) {
-          // When created it will be initialized
-        } else {
-          getMuleRegistry().applyLifecycle(object, Initialisable.PHASE_NAME);
-        }
-      } catch (MuleException e) {
-        throw new RuntimeException(e);
+    applyLifecycle(components, "Initializing",
+                   object -> getMuleRegistry().applyLifecycle(object, Initialisable.PHASE_NAME));
+  }
+
+  private void startComponent(List<Object> components) {
+    applyLifecycle(components, "Starting",
+                   object -> getMuleRegistry().applyLifecycle(object, Initialisable.PHASE_NAME, Startable.PHASE_NAME));
+  }
+
+  private void applyLifecycle(List<Object> components, String action, ComponentLifecycle lifecycle) {
+    // MessageProcessorChains are initialised when created and started when registered
+    final List<Object> targetComponents = components.stream()
+        .filter(object -> !(object instanceof MessageProcessorChain))
+        .collect(toList());
+
+    try {
+      if (parallelLifecycle && targetComponents.size() > 1) {
+        applyLifecycleInParallel(targetComponents, action, lifecycle);
+        return;
+      }
+
+      for (Object object : targetComponents) {
+        LOGGER.debug("{} component '{}'...", action, object);
+        lifecycle.apply(object);
       }
+    } catch (MuleException e) {
+      throw new RuntimeException(e);
     }
   }
 
-  private void startComponent(List<Object> components) {
-    for (Object object : components) {
-      LOGGER.debug("Starting component '{}'...", object.toString());
-      try {
-        if (object instanceof MessageProcessorChain) {
-          // Has to be ignored as when it is registered it will be started too
-        } else {
-          getMuleRegistry().applyLifecycle(object, Initialisable.PHASE_NAME, Startable.PHASE_NAME);
+  private void applyLifecycleInParallel(List<Object> components, String action, ComponentLifecycle lifecycle)
+      throws MuleException {
+    final Map<ComponentAst, List<Object>> objectsByComponent = new IdentityHashMap<>();
+    for (Object component : components) {
+      final ComponentAst componentAst = componentsByObject.get(component);
+      if (componentAst != null) {
+        objectsByComponent.computeIfAbsent(componentAst, ast -> new ArrayList<>()).add(component);
+      }
+    }
+
+    final Map<ComponentAst, Set<ComponentAst>> dependenciesByComponent = resolveDependencies(objectsByComponent.keySet());
+    final List<List<Object>> layers = LayeredLifecycleApplier
+        .layers(components, component -> lifecycleDependencies(component, objectsByComponent, dependenciesByComponent));
+    LOGGER.debug("{} {} components in {} layers...", action, components.size(), layers.size());
+
+    final Scheduler scheduler = getMuleContext().getSchedulerService()
+        .ioScheduler(getMuleContext().getSchedulerBaseConfig().withName("lazy-components-lifecycle")
+            .withMaxConcurrentTasks(getRuntime().availableProcessors()));
+    try {
+      new LayeredLifecycleApplier(scheduler, getMuleContext().getExecutionClassLoader()).apply(layers, object -> {
+        LOGGER.debug("{} component '{}'...", action, object);
+        lifecycle.apply(object);
+      });
+    } finally {
+      scheduler.stop();
+    }
+  }
+
+  /**
+   * @return the objects among the given ones that the given component depends on, or {@code null} if the component is not in
+   *         the graph
+   */
+  private Collection<Object> lifecycleDependencies(Object component, Map<ComponentAst, List<Object>> objectsByComponent,
+                                                   Map<ComponentAst, Set<ComponentAst>> dependenciesByComponent) {
+    final ComponentAst componentAst = componentsByObject.get(component);
+    if (componentAst == null) {
+      return null;
+    }
+
+    return dependenciesByComponent.get(componentAst).stream()
+        .map(objectsByComponent::get)
+        .flatMap(List::stream)
+        .filter(dependency -> dependency != component)
+        .collect(toList());
+  }
+
+  /**
+   * Resolves which of the given components each one of them depends on, with a single walk over the minimal artifact the
+   * dependency graph resolves for all of them.
+   * <p>
+   * A component depends on the given ones nested in it and in the top level components referenced by name from its parameters
+   * or the ones of its children. Those references are followed through the components which are not among the given ones, so
+   * that the dependencies of a component are transitive. The dependencies of each top level component are resolved once.
+   */
+  private Map<ComponentAst, Set<ComponentAst>> resolveDependencies(Set<ComponentAst> components) {
+    final Map<String, ComponentAst> topLevelByName = new HashMap<>();
+    graph.minimalArtifactFor(components::contains).topLevelComponentsStream()
+        .forEach(topLevel -> topLevel.getName().ifPresent(name -> topLevelByName.put(name, topLevel)));
+
+    final Map<ComponentAst, Set<ComponentAst>> reachableByTopLevel = new IdentityHashMap<>();
+    final Map<ComponentAst, Set<ComponentAst>> dependenciesByComponent = new IdentityHashMap<>();
+    for (ComponentAst component : components) {
+      final Set<ComponentAst> dependencies = newSetFromMap(new IdentityHashMap<>());
+      collectDependencies(component, components, topLevelByName, reachableByTopLevel, dependencies);
+      dependencies.remove(component);
+      dependenciesByComponent.put(component, dependencies);
+    }
+    return dependenciesByComponent;
+  }
+
+  private void collectDependencies(ComponentAst component, Set<ComponentAst> components,
+                                   Map<String, ComponentAst> topLevelByName,
+                                   Map<ComponentAst, Set<ComponentAst>> reachableByTopLevel, Set<ComponentAst> dependencies) {
+    component.recursiveStream().forEach(nested -> {
+      if (components.contains(nested)) {
+        dependencies.add(nested);
+      }
+      if (nested instanceof ComponentModel) {
+        for (String value : ((ComponentModel) nested).getParameters().values()) {
+          final ComponentAst referenced = value != null ? topLevelByName.get(value) : null;
+          if (referenced != null && referenced != component) {
+            dependencies.addAll(reachableFrom(referenced, components, topLevelByName, reachableByTopLevel));
+          }
         }
-      } catch (MuleException e) {
-        throw new RuntimeException(e);
       }
+    });
+  }
+
+  private Set<ComponentAst> reachableFrom(ComponentAst topLevel, Set<ComponentAst> components,
+                                          Map<String, ComponentAst> topLevelByName,
+                                          Map<ComponentAst, Set<ComponentAst>> reachableByTopLevel) {
+    Set<ComponentAst> reachable = reachableByTopLevel.get(topLevel);
+    if (reachable == null) {
+      reachable = newSetFromMap(new IdentityHashMap<>());
+      // Registered before it is filled, so that circular references end
+      reachableByTopLevel.put(topLevel, reachable);
+      collectDependencies(topLevel, components, topLevelByName, reachableByTopLevel, reachable);
     }
+    return reachable;
   }
 
   @Override
@@ -411,6 +527,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
       // Clean up resources...
       beansCreated.clear();
+      componentsByObject.clear();
       objectProviders.clear();
       resetMuleSecurityManager();
 
@@ -515,7 +632,10 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     List<Object> sortedObjects = new ArrayList<>(objects.values());
     sort(sortedObjects, (o1, o2) -> graph.dependencyComparator().compare(componentNames.get(o1).getSecond(),
                                                                          componentNames.get(o2).getSecond()));
-    sortedObjects.forEach(object -> beansCreated.add(componentNames.get(object).getFirst()));
+    sortedObjects.forEach(object -> {
+      beansCreated.add(componentNames.get(object).getFirst());
+      componentsByObject.put(object, componentNames.get(object).getSecond());
+    });
     return sortedObjects;
   }
 
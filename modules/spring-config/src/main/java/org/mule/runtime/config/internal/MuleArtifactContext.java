@@ -61,6 +61,7 @@ import org.mule.runtime.config.internal.dsl.model.SpringComponentModel;
 import org.mule.runtime.config.internal.dsl.model.config.DefaultConfigurationPropertiesResolver;
 import org.mule.runtime.config.internal.dsl.model.config.EnvironmentPropertiesConfigurationProvider;
 import org.mule.runtime.config.internal.dsl.spring.BeanDefinitionFactory;
+import org.mule.runtime.config.internal.dsl.xml.XmlConfigFilesCache;
 import org.mule.runtime.config.internal.dsl.xml.XmlNamespaceInfoProviderSupplier;
 import org.mule.runtime.config.internal.editors.MulePropertyEditorRegistrar;
 import org.mule.runtime.config.internal.model.ApplicationModel;
@@ -140,12 +141,15 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
 
   public static final String INNER_BEAN_PREFIX = "(inner bean)";
 
+  private static final XmlConfigFilesCache XML_CONFIG_FILES_CACHE = new XmlConfigFilesCache();
+
   protected final ComponentBuildingDefinitionRegistry componentBuildingDefinitionRegistry =
       new ComponentBuildingDefinitionRegistry();
   private final OptionalObjectsController optionalObjectsController;
   private final Map<String, String> artifactProperties;
   private final ArtifactDeclaration artifactDeclaration;
   private final XmlConfigurationDocumentLoader xmlConfigurationDocumentLoader;
+  private final boolean disableXmlValidations;
   private final Optional<ConfigurationProperties> parentConfigurationProperties;
   private final DefaultRegistry serviceDiscoverer;
   private final ConfigurationDependencyResolver configurationDependencyResolver;
@@ -213,6 +217,7 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     this.artifactType = artifactType;
     this.artifactDeclaration = artifactDeclaration;
     this.parentConfigurationProperties = parentConfigurationProperties;
+    this.disableXmlValidations = disableXmlValidations;
     this.xmlConfigurationDocumentLoader = disableXmlValidations ? noValidationDocumentLoader() : schemaValidatingDocumentLoader();
     this.serviceDiscoverer = new DefaultRegistry(muleContext);
     this.resourceLocator = new DefaultResourceLocator();
@@ -261,44 +266,11 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     try {
       DefaultConfigurationPropertiesResolver propertyResolver =
           new DefaultConfigurationPropertiesResolver(empty(), new EnvironmentPropertiesConfigurationProvider());
-      List<ConfigFile> configFiles = processXmlConfiguration(new XmlParsingConfiguration() {
-
-        @Override
-        public ParsingPropertyResolver getParsingPropertyResolver() {
-          return propertyKey -> (String) propertyResolver.resolveValue(propertyKey);
-        }
-
-        @Override
-        public ConfigResource[] getArtifactConfigResources() {
-          return MuleArtifactContext.this.getArtifactConfigResources();
-        }
-
-        @Override
-        public ResourceLocator getResourceLocator() {
-          return MuleArtifactContext.this.resourceLocator;
-        }
-
-        @Override
-        public Supplier<SAXParserFactory> getSaxParserFactory() {
-          return () -> XMLSecureFactories.createDefault().getSAXParserFactory();
-        }
-
-        @Override
-        public XmlConfigurationDocumentLoader getXmlConfigurationDocumentLoader() {
-          return xmlConfigurationDocumentLoader;
-        }
-
-        @Override
-        public EntityResolver getEntityResolver() {
-          return new ModuleDelegatingEntityResolver(getExtensions());
-        }
-
-        @Override
-        public List<XmlNamespaceInfoProvider> getXmlNamespaceInfoProvider() {
-          return XmlNamespaceInfoProviderSupplier.createFromExtensionModels(getExtensions(), Optional.of(cl -> serviceRegistry
-              .lookupProviders(XmlNamespaceInfoProvider.class, cl).stream().collect(toList())));
-        }
-      });
+      List<ConfigFile> configFiles = XML_CONFIG_FILES_CACHE
+          .get(artifactType.getAsString() + "/" + getArtifactName(), getArtifactConfigResources(), getExtensions(),
+               !disableXmlValidations, propertyKey -> (String) propertyResolver.resolveValue(propertyKey), resourceLocator,
+               (parsingResolver, parsingLocator) -> processXmlConfiguration(createXmlParsingConfiguration(parsingResolver::apply,
+                                                                                                          parsingLocator)));
 
       ArtifactConfig artifactConfig = new ArtifactConfig.Builder()
           .setApplicationName(getArtifactName())
@@ -318,6 +290,48 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     }
   }
 
+  private XmlParsingConfiguration createXmlParsingConfiguration(ParsingPropertyResolver parsingPropertyResolver,
+                                                                ResourceLocator parsingResourceLocator) {
+    return new XmlParsingConfiguration() {
+
+      @Override
+      public ParsingPropertyResolver getParsingPropertyResolver() {
+        return parsingPropertyResolver;
+      }
+
+      @Override
+      public ConfigResource[] getArtifactConfigResources() {
+        return MuleArtifactContext.this.getArtifactConfigResources();
+      }
+
+      @Override
+      public ResourceLocator getResourceLocator() {
+        return parsingResourceLocator;
+      }
+
+      @Override
+      public Supplier<SAXParserFactory> getSaxParserFactory() {
+        return () -> XMLSecureFactories.createDefault().getSAXParserFactory();
+      }
+
+      @Override
+      public XmlConfigurationDocumentLoader getXmlConfigurationDocumentLoader() {
+        return xmlConfigurationDocumentLoader;
+      }
+
+      @Override
+      public EntityResolver getEntityResolver() {
+        return new ModuleDelegatingEntityResolver(getExtensions());
+      }
+
+      @Override
+      public List<XmlNamespaceInfoProvider> getXmlNamespaceInfoProvider() {
+        return XmlNamespaceInfoProviderSupplier.createFromExtensionModels(getExtensions(), Optional.of(cl -> serviceRegistry
+            .lookupProviders(XmlNamespaceInfoProvider.class, cl).stream().collect(toList())));
+      }
+    };
+  }
+
   public void initialize() {
     Set<ExtensionModel> extensions =
         muleContext.getExtensionManager() != null ? muleContext.getExtensionManager().getExtensions() : emptySet();
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.dsl.xml;
+
+import static java.lang.Boolean.getBoolean;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toSet;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.util.ResourceLocator;
+import org.mule.runtime.dsl.api.ConfigResource;
+import org.mule.runtime.dsl.api.xml.parser.ConfigFile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+
+/**
+ * Keeps the {@link ConfigFile}s parsed from the XML configuration of each artifact, so an artifact whose configuration did not
+ * change since it was last parsed (for instance, on a redeploy) skips the XML parsing and schema validation.
+ * <p>
+ * A cached entry is only reused when all of these remain the same:
+ * <ul>
+ * <li>the content of the artifact config resources</li>
+ * <li>the content of every resource imported while parsing</li>
+ * <li>the values of every property resolved while parsing</li>
+ * <li>the names and versions of the {@link ExtensionModel}s available to the artifact</li>
+ * <li>whether XML validations are enabled</li>
+ * </ul>
+ * Entries are softly referenced so they never prevent the memory from being reclaimed.
+ *
+ * @since 4.3.0
+ */
+public class XmlConfigFilesCache {
+
+  /**
+   * When {@code true}, the parsed {@link ConfigFile}s are never reused.
+   */
+  public static final String DISABLE_XML_CONFIG_FILES_CACHE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "xmlConfigFilesCache.disable";
+
+  private static final Logger LOGGER = getLogger(XmlConfigFilesCache.class);
+
+  private static final int MAX_CACHED_ARTIFACTS = 256;
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final boolean enabled;
+  private final Cache<String, CachedConfigFiles> cache = Caffeine.newBuilder()
+      .maximumSize(MAX_CACHED_ARTIFACTS)
+      .softValues()
+      .build();
+
+  public XmlConfigFilesCache() {
+    this(!getBoolean(DISABLE_XML_CONFIG_FILES_CACHE_PROPERTY));
+  }
+
+  public XmlConfigFilesCache(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Provides the {@link ConfigFile}s of an artifact, parsing them only if there is no valid cached entry for it.
+   *
+   * @param artifactId identifies the artifact that owns the config resources
+   * @param configResources the config resources of the artifact
+   * @param extensionModels the {@link ExtensionModel}s available to the artifact
+   * @param validationsEnabled whether the XML is validated while parsed
+   * @param propertyResolver resolves the properties found while parsing
+   * @param resourceLocator locates the resources imported while parsing
+   * @param parser parses the config resources, with the property resolver and {@link ResourceLocator} it is given
+   * @return the parsed {@link ConfigFile}s
+   */
+  public List<ConfigFile> get(String artifactId, ConfigResource[] configResources, Set<ExtensionModel> extensionModels,
+                              boolean validationsEnabled, Function<String, String> propertyResolver,
+                              ResourceLocator resourceLocator,
+                              BiFunction<Function<String, String>, ResourceLocator, List<ConfigFile>> parser) {
+    if (!enabled) {
+      return parser.apply(propertyResolver, resourceLocator);
+    }
+
+    final Optional<String> configResourcesDigest = digest(configResources);
+    if (!configResourcesDigest.isPresent()) {
+      return parser.apply(propertyResolver, resourceLocator);
+    }
+
+    final Set<String> extensions = extensionModels.stream()
+        .map(extensionModel -> extensionModel.getName() + ":" + extensionModel.getVersion())
+        .collect(toSet());
+
+    final CachedConfigFiles cached = cache.getIfPresent(artifactId);
+    if (cached != null
+        && cached.isValid(configResourcesDigest.get(), extensions, validationsEnabled, propertyResolver, resourceLocator)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Reusing parsed configuration files for artifact '{}'", artifactId);
+      }
+      return cached.configFiles;
+    }
+
+    final Map<String, String> resolvedProperties = new LinkedHashMap<>();
+    final Map<ResourceLookup, String> importedResources = new LinkedHashMap<>();
+    final List<ConfigFile> configFiles = parser.apply(propertyKey -> {
+      String value = propertyResolver.apply(propertyKey);
+      synchronized (resolvedProperties) {
+        resolvedProperties.put(propertyKey, value);
+      }
+      return value;
+    }, new RecordingResourceLocator(resourceLocator, importedResources));
+
+    cache.put(artifactId, new CachedConfigFiles(configResourcesDigest.get(), extensions, validationsEnabled,
+                                                resolvedProperties, importedResources, configFiles));
+    return configFiles;
+  }
+
+  /**
+   * Removes all the cached entries.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static Optional<String> digest(ConfigResource[] configResources) {
+    final MessageDigest digest = newDigest();
+    for (ConfigResource configResource : configResources) {
+      // Resources that are not backed by an URL can only be read once, so those are left to the parser
+      final URL url = configResource.getUrl();
+      if (url == null) {
+        return empty();
+      }
+
+      digest.update(url.toExternalForm().getBytes());
+      try (InputStream content = url.openStream()) {
+        digest.update(IOUtils.toByteArray(content));
+      } catch (IOException e) {
+        return empty();
+      }
+    }
+    return of(toHex(digest.digest()));
+  }
+
+  private static String digest(byte[] content) {
+    return toHex(newDigest().digest(content));
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    final StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  private static final class CachedConfigFiles {
+
+    private final String configResourcesDigest;
+    private final Set<String> extensions;
+    private final boolean validationsEnabled;
+    private final Map<String, String> resolvedProperties;
+    private final Map<ResourceLookup, String> importedResources;
+    private final List<ConfigFile> configFiles;
+
+    private CachedConfigFiles(String configResourcesDigest, Set<String> extensions, boolean validationsEnabled,
+                              Map<String, String> resolvedProperties, Map<ResourceLookup, String> importedResources,
+                              List<ConfigFile> configFiles) {
+      this.configResourcesDigest = configResourcesDigest;
+      this.extensions = extensions;
+      this.validationsEnabled = validationsEnabled;
+      this.resolvedProperties = unmodifiableMap(new HashMap<>(resolvedProperties));
+      this.importedResources = unmodifiableMap(new HashMap<>(importedResources));
+      this.configFiles = unmodifiableList(configFiles);
+    }
+
+    private boolean isValid(String configResourcesDigest, Set<String> extensions, boolean validationsEnabled,
+                            Function<String, String> propertyResolver, ResourceLocator resourceLocator) {
+      if (!this.configResourcesDigest.equals(configResourcesDigest) || !this.extensions.equals(extensions)
+          || this.validationsEnabled != validationsEnabled) {
+        return false;
+      }
+
+      for (Map.Entry<String, String> property : resolvedProperties.entrySet()) {
+        if (!Objects.equals(property.getValue(), propertyResolver.apply(property.getKey()))) {
+          return false;
+        }
+      }
+
+      for (Map.Entry<ResourceLookup, String> importedResource : importedResources.entrySet()) {
+        if (!Objects.equals(importedResource.getValue(), importedResource.getKey().digest(resourceLocator, this))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Describes a lookup performed on a {@link ResourceLocator} so it can be performed again to check if the resource changed.
+   */
+  private static final class ResourceLookup {
+
+    private final String resource;
+    private final String[] coordinates;
+    private final Optional<String> version;
+
+    private ResourceLookup(String resource) {
+      this(resource, null, empty());
+    }
+
+    private ResourceLookup(String resource, String[] coordinates, Optional<String> version) {
+      this.resource = resource;
+      this.coordinates = coordinates;
+      this.version = version;
+    }
+
+    private Optional<InputStream> load(ResourceLocator resourceLocator, Object caller) {
+      if (coordinates == null) {
+        return resourceLocator.load(resource, caller);
+      }
+      return resourceLocator.loadFrom(resource, coordinates[0], coordinates[1], version, coordinates[2], coordinates[3],
+                                      caller);
+    }
+
+    private String digest(ResourceLocator resourceLocator, Object caller) {
+      return load(resourceLocator, caller).map(content -> {
+        try (InputStream input = content) {
+          return XmlConfigFilesCache.digest(IOUtils.toByteArray(input));
+        } catch (IOException e) {
+          return null;
+        }
+      }).orElse(null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      ResourceLookup that = (ResourceLookup) o;
+      return resource.equals(that.resource) && Arrays.equals(coordinates, that.coordinates) && version.equals(that.version);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(resource, Arrays.hashCode(coordinates), version);
+    }
+  }
+
+  /**
+   * {@link ResourceLocator} decorator that keeps a digest of every resource loaded through it.
+   */
+  private static final class RecordingResourceLocator implements ResourceLocator {
+
+    private final ResourceLocator delegate;
+    private final Map<ResourceLookup, String> importedResources;
+
+    private RecordingResourceLocator(ResourceLocator delegate, Map<ResourceLookup, String> importedResources) {
+      this.delegate = delegate;
+      this.importedResources = importedResources;
+    }
+
+    @Override
+    public Optional<InputStream> load(String resource, Object caller) {
+      return record(new ResourceLookup(resource), delegate.load(resource, caller));
+    }
+
+    @Override
+    public Optional<URL> find(String resource, Object caller) {
+      final Optional<URL> url = delegate.find(resource, caller);
+      recordUrl(new ResourceLookup(resource), url);
+      return url;
+    }
+
+    @Override
+    public Optional<InputStream> loadFrom(String resource, String groupId, String artifactId, Optional<String> version,
+                                          String classifier, String type, Object caller) {
+      return record(new ResourceLookup(resource, new String[] {groupId, artifactId, classifier, type}, version),
+                    delegate.loadFrom(resource, groupId, artifactId, version, classifier, type, caller));
+    }
+
+    @Override
+    public Optional<URL> findIn(String resource, String groupId, String artifactId, Optional<String> version,
+                                String classifier, String type, Object caller) {
+      final Optional<URL> url = delegate.findIn(resource, groupId, artifactId, version, classifier, type, caller);
+      recordUrl(new ResourceLookup(resource, new String[] {groupId, artifactId, classifier, type}, version), url);
+      return url;
+    }
+
+    private Optional<InputStream> record(ResourceLookup lookup, Optional<InputStream> content) {
+      if (!content.isPresent()) {
+        put(lookup, null);
+        return content;
+      }
+
+      try (InputStream input = content.get()) {
+        final byte[] bytes = IOUtils.toByteArray(input);
+        put(lookup, digest(bytes));
+        return of(new ByteArrayInputStream(bytes));
+      } catch (IOException e) {
+        throw new MuleRuntimeException(e);
+      }
+    }
+
+    private void recordUrl(ResourceLookup lookup, Optional<URL> url) {
+      if (!url.isPresent()) {
+        put(lookup, null);
+        return;
+      }
+
+      try (InputStream input = url.get().openStream()) {
+        put(lookup, digest(IOUtils.toByteArray(input)));
+      } catch (IOException e) {
+        put(lookup, null);
+      }
+    }
+
+    private void put(ResourceLookup lookup, String digest) {
+      synchronized (importedResources) {
+        importedResources.put(lookup, digest);
+      }
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.exception.DefaultMuleException;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class LayeredLifecycleApplierTestCase extends AbstractMuleTestCase {
+
+  private final ExecutorService executor = newFixedThreadPool(4);
+  private final Map<String, List<String>> dependencies = new HashMap<>();
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void independentComponentsShareLayer() {
+    dependencies.put("config", emptyList());
+    dependencies.put("otherConfig", emptyList());
+    dependencies.put("flow", asList("config"));
+
+    List<List<String>> layers = LayeredLifecycleApplier.layers(asList("config", "otherConfig", "flow"), dependencies::get);
+
+    assertThat(layers, hasSize(2));
+    assertThat(layers.get(0), contains("config", "otherConfig"));
+    assertThat(layers.get(1), contains("flow"));
+  }
+
+  @Test
+  public void dependencyChainKeepsOrder() {
+    dependencies.put("a", emptyList());
+    dependencies.put("b", asList("a"));
+    dependencies.put("c", asList("b"));
+
+    List<List<String>> layers = LayeredLifecycleApplier.layers(asList("a", "b", "c"), dependencies::get);
+
+    assertThat(layers, hasSize(3));
+  }
+
+  @Test
+  public void appliesLayersInOrder() throws MuleException {
+    List<Object> applied = synchronizedList(new ArrayList<>());
+    List<List<Object>> layers = asList(asList("a", "b", "c"), asList("d"));
+
+    new LayeredLifecycleApplier(executor, getClass().getClassLoader()).apply(layers, applied::add);
+
+    assertThat(applied, hasSize(4));
+    assertThat(applied.get(3), is("d"));
+  }
+
+  @Test
+  public void reportsFirstFailureInOrder() {
+    List<Object> applied = synchronizedList(new ArrayList<>());
+    List<List<Object>> layers = asList(asList("a", "b", "c"), asList("d"));
+
+    try {
+      new LayeredLifecycleApplier(executor, getClass().getClassLoader()).apply(layers, component -> {
+        if (!component.equals("a")) {
+          throw new DefaultMuleException(createStaticMessage("Failed " + component));
+        }
+        applied.add(component);
+      });
+      fail("Expected failure");
+    } catch (MuleException e) {
+      assertThat(e.getMessage(), is("Failed b"));
+    }
+
+    assertThat(applied, contains("a"));
+  }
+
+  @Test
+  public void onlyPreviousComponentsAreDependencies() {
+    dependencies.put("a", asList("b"));
+    dependencies.put("b", emptyList());
+
+    List<List<String>> layers = LayeredLifecycleApplier.layers(asList("a", "b"), dependencies::get);
+
+    assertThat(layers, hasSize(1));
+    assertThat(layers.get(0), contains("a", "b"));
+  }
+
+  @Test
+  public void unknownDependenciesSplitLayers() {
+    dependencies.put("a", emptyList());
+    dependencies.put("c", emptyList());
+    dependencies.put("d", asList("a"));
+
+    List<List<String>> layers = LayeredLifecycleApplier.layers(asList("a", "unknown", "c", "d"), dependencies::get);
+
+    assertThat(layers, hasSize(3));
+    assertThat(layers.get(0), contains("a"));
+    assertThat(layers.get(1), contains("unknown"));
+    assertThat(layers.get(2), contains("c", "d"));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.dsl.xml;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.util.ResourceLocator;
+import org.mule.runtime.dsl.api.ConfigResource;
+import org.mule.runtime.dsl.api.xml.parser.ConfigFile;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class XmlConfigFilesCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String ARTIFACT_ID = "app/test-app";
+  private static final String IMPORT_PROPERTY = "import.file";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final XmlConfigFilesCache cache = new XmlConfigFilesCache(true);
+  private final ResourceLocator resourceLocator = mock(ResourceLocator.class);
+  private final Map<String, String> properties = new HashMap<>();
+  private final AtomicInteger parsings = new AtomicInteger();
+
+  private File configFile;
+
+  @Before
+  public void before() throws Exception {
+    configFile = temporaryFolder.newFile("mule-config.xml");
+    writeStringToFile(configFile, "<mule/>");
+    properties.put(IMPORT_PROPERTY, "imported.xml");
+  }
+
+  @Test
+  public void reusesParsedFilesWhenNothingChanged() throws Exception {
+    get(emptySet());
+    get(emptySet());
+
+    assertThat(parsings.get(), is(1));
+  }
+
+  @Test
+  public void parsesAgainWhenConfigChanges() throws Exception {
+    get(emptySet());
+    writeStringToFile(configFile, "<mule><flow name=\"flow\"/></mule>");
+    get(emptySet());
+
+    assertThat(parsings.get(), is(2));
+  }
+
+  @Test
+  public void parsesAgainWhenResolvedPropertyChanges() throws Exception {
+    get(emptySet());
+    properties.put(IMPORT_PROPERTY, "other.xml");
+    get(emptySet());
+
+    assertThat(parsings.get(), is(2));
+  }
+
+  @Test
+  public void parsesAgainWhenExtensionsChange() throws Exception {
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    when(extensionModel.getName()).thenReturn("test");
+    when(extensionModel.getVersion()).thenReturn("1.0.0");
+
+    get(emptySet());
+    get(singleton(extensionModel));
+
+    assertThat(parsings.get(), is(2));
+  }
+
+  @Test
+  public void disabledCacheAlwaysParses() throws Exception {
+    XmlConfigFilesCache disabledCache = new XmlConfigFilesCache(false);
+    ConfigResource[] configResources = {new ConfigResource(configFile.toURI().toURL())};
+
+    disabledCache.get(ARTIFACT_ID, configResources, emptySet(), true, properties::get, resourceLocator, parser());
+    disabledCache.get(ARTIFACT_ID, configResources, emptySet(), true, properties::get, resourceLocator, parser());
+
+    assertThat(parsings.get(), is(2));
+  }
+
+  private List<ConfigFile> get(Set<ExtensionModel> extensionModels) throws Exception {
+    ConfigResource[] configResources = {new ConfigResource(configFile.toURI().toURL())};
+    return cache.get(ARTIFACT_ID, configResources, extensionModels, true, properties::get, resourceLocator, parser());
+  }
+
+  private BiFunction<Function<String, String>, ResourceLocator, List<ConfigFile>> parser() {
+    return (propertyResolver, locator) -> {
+      parsings.incrementAndGet();
+      propertyResolver.apply(IMPORT_PROPERTY);
+      return emptyList();
+    };
+  }
+}
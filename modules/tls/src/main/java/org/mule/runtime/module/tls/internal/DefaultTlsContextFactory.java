@@ -23,6 +23,7 @@ import org.mule.runtime.core.internal.security.tls.RestrictedSSLSocketFactory;
 import org.mule.runtime.core.internal.util.ArrayUtils;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 import org.mule.runtime.core.privileged.security.tls.TlsConfiguration;
+import org.mule.runtime.core.privileged.security.tls.TlsHandshakeStatistics;
 
 import com.google.common.base.Joiner;
 
@@ -50,6 +51,8 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
 
   private static final Logger logger = LoggerFactory.getLogger(DefaultTlsContextFactory.class);
   private static final String DEFAULT = "default";
+  // shared so that the configurations of equal insecure factories are equal too
+  private static final TrustManager INSECURE_TRUST_MANAGER = new InsecureTrustManager();
 
   private String name;
 
@@ -212,21 +215,71 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
                                 name == null ? StringUtils.EMPTY : name));
     }
     this.trustStoreInsecure = insecure;
+    tlsConfiguration.setTrustManagers(insecure ? new TrustManager[] {INSECURE_TRUST_MANAGER} : null);
   }
 
   public void setRevocationCheck(RevocationCheck revocationCheck) {
     tlsConfiguration.setRevocationCheck(revocationCheck);
   }
 
+  public int getClientSessionCacheSize() {
+    return tlsConfiguration.getClientSessionCacheSize();
+  }
+
+  public void setClientSessionCacheSize(int clientSessionCacheSize) {
+    tlsConfiguration.setClientSessionCacheSize(clientSessionCacheSize);
+  }
+
+  public int getClientSessionTimeout() {
+    return tlsConfiguration.getClientSessionTimeout();
+  }
+
+  public void setClientSessionTimeout(int clientSessionTimeout) {
+    tlsConfiguration.setClientSessionTimeout(clientSessionTimeout);
+  }
+
+  public int getServerSessionCacheSize() {
+    return tlsConfiguration.getServerSessionCacheSize();
+  }
+
+  public void setServerSessionCacheSize(int serverSessionCacheSize) {
+    tlsConfiguration.setServerSessionCacheSize(serverSessionCacheSize);
+  }
+
+  public int getServerSessionTimeout() {
+    return tlsConfiguration.getServerSessionTimeout();
+  }
+
+  public void setServerSessionTimeout(int serverSessionTimeout) {
+    tlsConfiguration.setServerSessionTimeout(serverSessionTimeout);
+  }
+
+  public long getStoresReloadInterval() {
+    return tlsConfiguration.getStoresReloadInterval();
+  }
+
+  public void setStoresReloadInterval(long storesReloadInterval) {
+    tlsConfiguration.setStoresReloadInterval(storesReloadInterval);
+  }
+
+  /**
+   * @return the statistics of the handshakes performed with the contexts created by this factory
+   */
+  public TlsHandshakeStatistics getHandshakeStatistics() {
+    return tlsConfiguration.getHandshakeStatistics();
+  }
+
+  /**
+   * Returns the {@link SSLContext} of this factory. Despite the name of this method, a new context is not created on each call:
+   * the same instance is shared by all the callers and by the sockets and engines created from this factory, so that they can
+   * resume each other's sessions. Callers must not change its session contexts, since that would affect all of them; the
+   * session cache size and timeout are set through this factory instead.
+   * <p>
+   * A new instance is returned when the stores change, or when this factory is configured again.
+   */
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
-    if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
-    } else {
-      sslContext = tlsConfiguration.getSslContext();
-    }
-    return sslContext;
+    return tlsConfiguration.getSslContext();
   }
 
   @Override
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.PKIXCertPathChecker;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Keeps the certificates which were recently found not to be revoked, so that the revocation checks done by an OCSP responder
+ * are not repeated on each handshake with the same peers.
+ * <p>
+ * When a certificate is not in the cache, the path up to it is validated with an {@link OcspPathValidator}, and the
+ * certificates of that path are cached for the given time to live, or until the {@code nextUpdate} of their OCSP responses if
+ * that comes earlier. That path ends at the last cached certificate, which is not validated again. Revoked certificates are never
+ * cached.
+ * <p>
+ * The checker used by the JVM for OCSP has to be initialised by the validator with the state of the whole path, so it can't be
+ * wrapped and invoked only for some certificates. That's why partial paths are validated instead.
+ *
+ * @since 4.3.0
+ */
+final class CachingOcspChecker extends PKIXCertPathChecker {
+
+  private final OcspPathValidator validator;
+  private final long timeToLive;
+  // The values are the nanoseconds for which each certificate is kept
+  private final Cache<X509Certificate, Long> notRevoked;
+
+  // The certificates checked so far, starting from the one issued by the trust anchor
+  private List<X509Certificate> checked;
+
+  /**
+   * @param validator  the validator of the paths of the certificates not in the cache
+   * @param timeToLive the milliseconds for which a certificate is considered not revoked after being checked
+   * @param maxSize    the maximum amount of certificates to keep
+   */
+  CachingOcspChecker(OcspPathValidator validator, long timeToLive, long maxSize) {
+    this(validator, timeToLive, maxSize, Ticker.systemTicker());
+  }
+
+  CachingOcspChecker(OcspPathValidator validator, long timeToLive, long maxSize, Ticker ticker) {
+    this.validator = validator;
+    this.timeToLive = timeToLive;
+    this.notRevoked = Caffeine.newBuilder().expireAfter(new Expiry<X509Certificate, Long>() {
+
+      @Override
+      public long expireAfterCreate(X509Certificate key, Long value, long currentTime) {
+        return value;
+      }
+
+      @Override
+      public long expireAfterUpdate(X509Certificate key, Long value, long currentTime, long currentDuration) {
+        return value;
+      }
+
+      @Override
+      public long expireAfterRead(X509Certificate key, Long value, long currentTime, long currentDuration) {
+        return currentDuration;
+      }
+    }).maximumSize(maxSize).ticker(ticker).build();
+  }
+
+  @Override
+  public void init(boolean forward) throws CertPathValidatorException {
+    if (forward) {
+      throw new CertPathValidatorException("Forward checking is not supported");
+    }
+    checked = new ArrayList<>(4);
+  }
+
+  @Override
+  public boolean isForwardCheckingSupported() {
+    return false;
+  }
+
+  @Override
+  public Set<String> getSupportedExtensions() {
+    return null;
+  }
+
+  @Override
+  public void check(Certificate cert, Collection<String> unresolvedCritExts) throws CertPathValidatorException {
+    X509Certificate certificate = (X509Certificate) cert;
+    checked.add(certificate);
+    if (notRevoked.getIfPresent(certificate) != null) {
+      return;
+    }
+
+    // The path goes from this certificate up to the one issued by the last cached certificate, or by the trust anchor
+    List<X509Certificate> path = new ArrayList<>(checked.size());
+    path.add(certificate);
+    X509Certificate issuer = null;
+    for (int i = checked.size() - 2; i >= 0 && issuer == null; --i) {
+      if (notRevoked.getIfPresent(checked.get(i)) != null) {
+        issuer = checked.get(i);
+      } else {
+        path.add(checked.get(i));
+      }
+    }
+    Map<X509Certificate, Date> nextUpdates = validator.validate(path, issuer);
+
+    long now = currentTimeMillis();
+    for (X509Certificate validated : path) {
+      Date nextUpdate = nextUpdates.get(validated);
+      long keepFor = nextUpdate != null ? min(timeToLive, nextUpdate.getTime() - now) : timeToLive;
+      if (keepFor > 0) {
+        notRevoked.put(validated, MILLISECONDS.toNanos(keepFor));
+      }
+    }
+  }
+}
@@ -6,33 +6,48 @@
  */
 package org.mule.runtime.module.tls.internal.revocation;
 
+import static java.lang.Long.getLong;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
-import java.security.cert.CRL;
+import java.security.PublicKey;
 import java.security.cert.CRLException;
-import java.security.cert.CertStore;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.CollectionCertStoreParameters;
 import java.security.cert.PKIXBuilderParameters;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
 import java.security.cert.X509Certificate;
-import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.ManagerFactoryParameters;
+import javax.security.auth.x500.X500Principal;
+
+import org.slf4j.Logger;
 
 /**
  * Local file based certificate revocation checker, which requires a CRL file to be accessible and ignores
@@ -41,12 +56,33 @@ import javax.net.ssl.ManagerFactoryParameters;
  * Note that the signer of the CRL must be the client certificate's CA, in case that's not possible consider
  * using {@link CustomOcspResponder}.
  *
+ * The CRL file is parsed once into a {@link CrlIndex}, which is checked by an {@link IndexedCrlChecker} instead of the PKIX
+ * revocation checking, so that handshakes don't scan the CRLs. The file is checked for changes periodically and, when it
+ * changes, it is parsed in the background and the new index replaces the previous one once ready. The parsing runs on a single
+ * thread owned by this component, created on the first change and stopped when it is disposed.
+ *
  * @since 4.1
  */
-public class CrlFile extends AbstractComponent implements RevocationCheck {
+public class CrlFile extends AbstractComponent implements RevocationCheck, Disposable {
+
+  private static final Logger LOGGER = getLogger(CrlFile.class);
+
+  /**
+   * System property to set the interval in milliseconds at which CRL files are checked for changes. Zero or a negative value
+   * disables the checks.
+   */
+  public static final String CRL_REFRESH_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.crlRefreshInterval";
 
   private String path;
 
+  private final long refreshInterval = getLong(CRL_REFRESH_INTERVAL_PROPERTY, 60000L);
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+  private volatile CrlIndex crlIndex;
+  private volatile long crlLastModified;
+  private volatile long lastRefreshCheck;
+  private ExecutorService refreshExecutor;
+  private boolean disposed;
+
   public void setPath(String path) {
     this.path = path;
   }
@@ -60,13 +96,11 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
       Set<TrustAnchor> trustAnchors = getTrustAnchorsFromKeyStore(trustStore);
       PKIXBuilderParameters pbParams = new PKIXBuilderParameters(trustAnchors, new X509CertSelector());
 
-      // Make sure revocation checking is enabled (com.sun.net.ssl.checkRevocation)
-      pbParams.setRevocationEnabled(true);
+      // The revocation checking is done by the indexed checker instead
+      pbParams.setRevocationEnabled(false);
 
-      Collection<? extends CRL> crls = loadCRL(path);
-      if (crls != null && !crls.isEmpty()) {
-        pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls)));
-      }
+      loadIfNeeded();
+      pbParams.addCertPathChecker(new IndexedCrlChecker(this::getCrlIndex, getTrustAnchorKeys(trustAnchors)));
 
       return new CertPathTrustManagerParameters(pbParams);
     } catch (IOException | GeneralSecurityException e) {
@@ -74,22 +108,104 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     }
   }
 
-  private Collection<? extends CRL> loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
-    Collection<? extends CRL> crlList = null;
-
-    if (crlPath != null) {
-      InputStream in = null;
-      try {
-        in = IOUtils.getResourceAsStream(crlPath, getClass());
-        crlList = CertificateFactory.getInstance("X.509").generateCRLs(in);
-      } finally {
-        if (in != null) {
-          in.close();
-        }
+  private synchronized void loadIfNeeded() throws CertificateException, IOException, CRLException {
+    if (crlIndex == null) {
+      lastRefreshCheck = currentTimeMillis();
+      crlLastModified = lastModified();
+      crlIndex = loadCRL(path);
+    }
+  }
+
+  private CrlIndex loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
+    try (InputStream in = IOUtils.getResourceAsStream(crlPath, getClass())) {
+      if (in == null) {
+        throw new FileNotFoundException("Could not find CRL file: " + crlPath);
       }
+      return CrlIndex.parse(in);
+    }
+  }
+
+  /**
+   * @return the current index, triggering its refresh in the background if the file changed since it was loaded
+   */
+  private CrlIndex getCrlIndex() {
+    if (refreshInterval > 0 && currentTimeMillis() - lastRefreshCheck >= refreshInterval
+        && refreshing.compareAndSet(false, true)) {
+      lastRefreshCheck = currentTimeMillis();
+      long modified = lastModified();
+      if (modified == crlLastModified || !submitRefresh(modified)) {
+        refreshing.set(false);
+      }
+    }
+    return crlIndex;
+  }
+
+  private synchronized boolean submitRefresh(long modified) {
+    if (disposed) {
+      return false;
+    }
+    if (refreshExecutor == null) {
+      refreshExecutor = newSingleThreadExecutor(new NamedThreadFactory("crl-refresh") {
+
+        @Override
+        protected void doConfigureThread(Thread t) {
+          super.doConfigureThread(t);
+          t.setDaemon(true);
+        }
+      });
+    }
+    try {
+      refreshExecutor.execute(() -> refresh(modified));
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void refresh(long modified) {
+    try {
+      crlIndex = loadCRL(path);
+      crlLastModified = modified;
+      LOGGER.info("Reloaded CRL file {}", path);
+    } catch (Exception e) {
+      // it may be half written, it will be loaded again on the next check
+      LOGGER.warn("Could not reload CRL file " + path + ", keeping the previous one", e);
+    } finally {
+      refreshing.set(false);
+    }
+  }
+
+  @Override
+  public synchronized void dispose() {
+    disposed = true;
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+      refreshExecutor = null;
+    }
+  }
+
+  /**
+   * @return the last modification time of the CRL file, or zero if it is not a file
+   */
+  private long lastModified() {
+    URL url = IOUtils.getResourceAsUrl(path, getClass());
+    if (url == null || !"file".equals(url.getProtocol())) {
+      return 0;
+    }
+    try {
+      return new File(url.toURI()).lastModified();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return 0;
     }
+  }
 
-    return crlList;
+  private static Map<X500Principal, PublicKey> getTrustAnchorKeys(Set<TrustAnchor> trustAnchors) {
+    Map<X500Principal, PublicKey> keys = new HashMap<>();
+    for (TrustAnchor trustAnchor : trustAnchors) {
+      X509Certificate certificate = trustAnchor.getTrustedCert();
+      keys.put(certificate.getSubjectX500Principal(), certificate.getPublicKey());
+    }
+    return keys;
   }
 
   private static Set<TrustAnchor> getTrustAnchorsFromKeyStore(KeyStore keyStore) throws GeneralSecurityException {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.cert.CRLReason.REMOVE_FROM_CRL;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CRL;
+import java.security.cert.CRLException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * The CRLs parsed from a file, indexed by issuer, with the serial numbers of the certificates revoked by each of them kept in a
+ * hashed set so that checking a certificate doesn't depend on the size of the CRL.
+ * <p>
+ * Instances are immutable, so a new one is created when the file changes.
+ *
+ * @since 4.3.0
+ */
+final class CrlIndex {
+
+  private final Map<X500Principal, List<IndexedCrl>> crlsByIssuer;
+
+  private CrlIndex(Map<X500Principal, List<IndexedCrl>> crlsByIssuer) {
+    this.crlsByIssuer = crlsByIssuer;
+  }
+
+  /**
+   * Parses the CRLs from the given stream, in DER or PEM format.
+   */
+  static CrlIndex parse(InputStream in) throws CertificateException, CRLException {
+    Map<X500Principal, List<IndexedCrl>> crlsByIssuer = new HashMap<>();
+    for (CRL crl : CertificateFactory.getInstance("X.509").generateCRLs(in)) {
+      X509CRL x509Crl = (X509CRL) crl;
+      crlsByIssuer.computeIfAbsent(x509Crl.getIssuerX500Principal(), issuer -> new ArrayList<>(1))
+          .add(new IndexedCrl(x509Crl));
+    }
+    return new CrlIndex(crlsByIssuer);
+  }
+
+  /**
+   * @return the CRLs issued by the given {@code issuer}, or an empty list if there are none
+   */
+  List<IndexedCrl> getCrls(X500Principal issuer) {
+    return crlsByIssuer.getOrDefault(issuer, emptyList());
+  }
+
+  /**
+   * A single CRL along with the serial numbers it revokes.
+   */
+  static final class IndexedCrl {
+
+    private final X509CRL crl;
+    private final Set<BigInteger> revokedSerialNumbers;
+    // The last key the signature of the CRL was verified with
+    private volatile PublicKey verifiedKey;
+
+    private IndexedCrl(X509CRL crl) {
+      this.crl = crl;
+
+      Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+      if (entries == null) {
+        revokedSerialNumbers = emptySet();
+      } else {
+        revokedSerialNumbers = new HashSet<>(entries.size() * 4 / 3 + 1);
+        for (X509CRLEntry entry : entries) {
+          if (entry.getRevocationReason() != REMOVE_FROM_CRL) {
+            revokedSerialNumbers.add(entry.getSerialNumber());
+          }
+        }
+      }
+    }
+
+    /**
+     * Verifies the signature of the CRL, unless it was already verified with the same key.
+     *
+     * @param issuerKey the public key of the issuer of the CRL
+     * @throws GeneralSecurityException if the CRL was not signed with the given key
+     */
+    void verify(PublicKey issuerKey) throws GeneralSecurityException {
+      if (!issuerKey.equals(verifiedKey)) {
+        crl.verify(issuerKey);
+        verifiedKey = issuerKey;
+      }
+    }
+
+    /**
+     * @return whether a newer CRL should have been issued at the given {@code date}
+     */
+    boolean isExpired(Date date) {
+      Date nextUpdate = crl.getNextUpdate();
+      return nextUpdate != null && date.after(nextUpdate);
+    }
+
+    boolean isRevoked(BigInteger serialNumber) {
+      return revokedSerialNumbers.contains(serialNumber);
+    }
+  }
+}
@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.module.tls.internal.revocation;
 
+import static java.lang.Long.getLong;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
@@ -17,6 +19,7 @@ import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.cert.CertPathBuilder;
 import java.security.cert.PKIXBuilderParameters;
+import java.security.cert.PKIXParameters;
 import java.security.cert.PKIXRevocationChecker;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
@@ -32,10 +35,25 @@ import javax.net.ssl.ManagerFactoryParameters;
  * revocating other keys. This ignores extension points (additional tags for CRLDP or OCSP) present in the
  * certificate, if any.
  *
+ * If {@link #OCSP_CACHE_TTL_PROPERTY} is set, the certificates found not to be revoked are cached for a while by a
+ * {@link CachingOcspChecker}, so that the responder is not queried on each handshake with the same peers.
+ *
  * @since 4.1
  */
 public class CustomOcspResponder extends AbstractComponent implements RevocationCheck {
 
+  /**
+   * System property to set for how many milliseconds at most a certificate found not to be revoked is not checked again. A
+   * certificate is checked again once the {@code nextUpdate} of its OCSP response is reached, even before that. The cache is
+   * disabled unless this is set to a positive value.
+   */
+  public static final String OCSP_CACHE_TTL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.ocspCacheTtl";
+
+  /**
+   * System property to set the maximum amount of certificates found not to be revoked to keep.
+   */
+  public static final String OCSP_CACHE_MAX_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.ocspCacheMaxSize";
+
   private String url;
   private String certAlias;
 
@@ -69,7 +87,18 @@ public class CustomOcspResponder extends AbstractComponent implements Revocation
       }
 
       PKIXBuilderParameters pkixParams = new PKIXBuilderParameters(trustStore, new X509CertSelector());
-      pkixParams.addCertPathChecker(rc);
+
+      long cacheTtl = getLong(OCSP_CACHE_TTL_PROPERTY, 0L);
+      if (cacheTtl > 0) {
+        OcspPathValidator validator = new ResponderOcspPathValidator(new URI(url), rc, new PKIXParameters(trustStore));
+
+        // The revocation checking is done by the caching checker instead
+        pkixParams.setRevocationEnabled(false);
+        pkixParams.addCertPathChecker(new CachingOcspChecker(validator, cacheTtl,
+                                                             getLong(OCSP_CACHE_MAX_SIZE_PROPERTY, 10000L)));
+      } else {
+        pkixParams.addCertPathChecker(rc);
+      }
 
       return new CertPathTrustManagerParameters(pkixParams);
     } catch (GeneralSecurityException | URISyntaxException e) {
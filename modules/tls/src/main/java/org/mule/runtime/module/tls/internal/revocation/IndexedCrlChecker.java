@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.security.cert.CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS;
+
+import org.mule.runtime.module.tls.internal.revocation.CrlIndex.IndexedCrl;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.PKIXCertPathChecker;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * Checks the revocation status of the certificates of a path against the CRLs of a {@link CrlIndex}, as the PKIX revocation
+ * checking would do with those CRLs in a cert store, but without scanning them on each check.
+ * <p>
+ * The certificates are checked from the one issued by the trust anchor to the target one, so the key of the issuer of each
+ * certificate, which signed its CRL, is either the key of the trust anchor or that of the previous certificate.
+ *
+ * @since 4.3.0
+ */
+final class IndexedCrlChecker extends PKIXCertPathChecker {
+
+  private final Supplier<CrlIndex> crlIndex;
+  private final Map<X500Principal, PublicKey> trustAnchorKeys;
+
+  private PublicKey previousKey;
+
+  /**
+   * @param crlIndex        supplies the current CRLs
+   * @param trustAnchorKeys the public keys of the trust anchors, by subject
+   */
+  IndexedCrlChecker(Supplier<CrlIndex> crlIndex, Map<X500Principal, PublicKey> trustAnchorKeys) {
+    this.crlIndex = crlIndex;
+    this.trustAnchorKeys = trustAnchorKeys;
+  }
+
+  @Override
+  public void init(boolean forward) throws CertPathValidatorException {
+    if (forward) {
+      throw new CertPathValidatorException("Forward checking is not supported");
+    }
+    previousKey = null;
+  }
+
+  @Override
+  public boolean isForwardCheckingSupported() {
+    return false;
+  }
+
+  @Override
+  public Set<String> getSupportedExtensions() {
+    return null;
+  }
+
+  @Override
+  public void check(Certificate cert, Collection<String> unresolvedCritExts) throws CertPathValidatorException {
+    X509Certificate certificate = (X509Certificate) cert;
+    X500Principal issuer = certificate.getIssuerX500Principal();
+    PublicKey issuerKey = previousKey != null ? previousKey : trustAnchorKeys.get(issuer);
+    previousKey = certificate.getPublicKey();
+
+    List<IndexedCrl> crls = crlIndex.get().getCrls(issuer);
+    if (issuerKey == null || crls.isEmpty()) {
+      throw undeterminedStatus("No CRL found for issuer " + issuer);
+    }
+
+    Date now = new Date();
+    boolean checked = false;
+    for (IndexedCrl crl : crls) {
+      if (crl.isExpired(now)) {
+        continue;
+      }
+      try {
+        crl.verify(issuerKey);
+      } catch (GeneralSecurityException e) {
+        continue;
+      }
+
+      checked = true;
+      if (crl.isRevoked(certificate.getSerialNumber())) {
+        throw new CertPathValidatorException("Certificate has been revoked", null, null, -1, REVOKED);
+      }
+    }
+
+    if (!checked) {
+      throw undeterminedStatus("No valid CRL found for issuer " + issuer);
+    }
+  }
+
+  private static CertPathValidatorException undeterminedStatus(String message) {
+    return new CertPathValidatorException(message, null, null, -1, UNDETERMINED_REVOCATION_STATUS);
+  }
+}
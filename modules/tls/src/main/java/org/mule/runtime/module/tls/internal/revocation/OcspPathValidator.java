@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates certificate paths checking the revocation status of their certificates with an OCSP responder.
+ *
+ * @since 4.3.0
+ */
+@FunctionalInterface
+interface OcspPathValidator {
+
+  /**
+   * @param path   the certificates to validate, starting from the target one
+   * @param issuer the certificate which issued the last one of the {@code path}, already known not to be revoked, or
+   *               {@code null} if that one is issued by a trust anchor
+   * @return the {@code nextUpdate} of the OCSP responses of the certificates of the path, for those which tell it
+   * @throws CertPathValidatorException if the path is not valid, in particular if any of its certificates is revoked
+   */
+  Map<X509Certificate, Date> validate(List<X509Certificate> path, X509Certificate issuer) throws CertPathValidatorException;
+}
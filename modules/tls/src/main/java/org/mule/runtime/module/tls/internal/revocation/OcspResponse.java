@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.lang.Integer.getInteger;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Arrays.copyOfRange;
+
+import static org.apache.commons.io.IOUtils.toByteArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * A response of an OCSP responder for a single certificate, as defined by RFC 6960.
+ * <p>
+ * Only the parts needed to know until when the response is valid are parsed here. The response is meant to be handed to the
+ * {@link java.security.cert.PKIXRevocationChecker} of the JVM, which verifies it.
+ *
+ * @since 4.3.0
+ */
+final class OcspResponse {
+
+  // The same timeout used by the JVM for OCSP requests, in seconds
+  private static final int TIMEOUT = getInteger("com.sun.security.ocsp.timeout", 15) * 1000;
+
+  private static final int SEQUENCE = 0x30;
+  private static final int INTEGER = 0x02;
+  private static final int BIT_STRING = 0x03;
+  private static final int OCTET_STRING = 0x04;
+  private static final int OBJECT_IDENTIFIER = 0x06;
+  private static final int ENUMERATED = 0x0A;
+  private static final int GENERALIZED_TIME = 0x18;
+  private static final int EXPLICIT_0 = 0xA0;
+
+  private static final int SUCCESSFUL = 0;
+
+  // AlgorithmIdentifier of SHA-1, the one used by the JVM for the CertID
+  private static final byte[] SHA1_ALGORITHM = {SEQUENCE, 0x09, 0x06, 0x05, 0x2B, 0x0E, 0x03, 0x02, 0x1A, 0x05, 0x00};
+
+  private final byte[] encoded;
+  private final Date nextUpdate;
+
+  private OcspResponse(byte[] encoded, Date nextUpdate) {
+    this.encoded = encoded;
+    this.nextUpdate = nextUpdate;
+  }
+
+  /**
+   * Requests the status of a certificate to an OCSP responder.
+   *
+   * @param responder   the URI of the responder
+   * @param certificate the certificate to check
+   * @param issuer      the certificate of the issuer of {@code certificate}
+   * @return the response, successful or not
+   * @throws IOException if the responder could not be reached or the response is malformed
+   */
+  static OcspResponse fetch(URI responder, X509Certificate certificate, X509Certificate issuer) throws IOException {
+    byte[] certId = certId(certificate, issuer);
+
+    HttpURLConnection connection = (HttpURLConnection) responder.toURL().openConnection();
+    try {
+      connection.setConnectTimeout(TIMEOUT);
+      connection.setReadTimeout(TIMEOUT);
+      connection.setDoOutput(true);
+      connection.setRequestMethod("POST");
+      connection.setRequestProperty("Content-Type", "application/ocsp-request");
+      connection.setRequestProperty("Accept", "application/ocsp-response");
+
+      // OCSPRequest ::= SEQUENCE { tbsRequest SEQUENCE { requestList SEQUENCE OF SEQUENCE { reqCert CertID } } }
+      byte[] request = encode(SEQUENCE, encode(SEQUENCE, encode(SEQUENCE, encode(SEQUENCE, certId))));
+      try (OutputStream out = connection.getOutputStream()) {
+        out.write(request);
+      }
+
+      if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+        throw new IOException("OCSP responder " + responder + " returned HTTP status " + connection.getResponseCode());
+      }
+
+      byte[] encoded;
+      try (InputStream in = connection.getInputStream()) {
+        encoded = toByteArray(in);
+      }
+      return new OcspResponse(encoded, parseNextUpdate(encoded, certId));
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  /**
+   * Reads a response of an OCSP responder.
+   *
+   * @param encoded     the DER encoding of the response
+   * @param certificate the certificate whose status was requested
+   * @param issuer      the certificate of the issuer of {@code certificate}
+   * @return the response, successful or not
+   * @throws IOException if the response is malformed
+   */
+  static OcspResponse parse(byte[] encoded, X509Certificate certificate, X509Certificate issuer) throws IOException {
+    return new OcspResponse(encoded, parseNextUpdate(encoded, certId(certificate, issuer)));
+  }
+
+  /**
+   * @return the DER encoding of this response
+   */
+  byte[] getEncoded() {
+    return encoded;
+  }
+
+  /**
+   * @return the time at or before which newer information about the status of the certificate will be available, or
+   *         {@code null} if the response is not successful or doesn't tell
+   */
+  Date getNextUpdate() {
+    return nextUpdate;
+  }
+
+  private static byte[] certId(X509Certificate certificate, X509Certificate issuer) throws IOException {
+    // SubjectPublicKeyInfo ::= SEQUENCE { algorithm AlgorithmIdentifier, subjectPublicKey BIT STRING }
+    DerReader publicKeyInfo = new DerReader(issuer.getPublicKey().getEncoded()).readNested(SEQUENCE);
+    publicKeyInfo.skip();
+    byte[] publicKey = publicKeyInfo.readContent(BIT_STRING);
+
+    MessageDigest sha1;
+    try {
+      sha1 = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+    byte[] issuerNameHash = sha1.digest(issuer.getSubjectX500Principal().getEncoded());
+    // The first byte of the bit string is the amount of unused bits
+    sha1.update(publicKey, 1, publicKey.length - 1);
+    byte[] issuerKeyHash = sha1.digest();
+
+    // CertID ::= SEQUENCE { hashAlgorithm, issuerNameHash, issuerKeyHash, serialNumber }
+    return encode(SEQUENCE, SHA1_ALGORITHM, encode(OCTET_STRING, issuerNameHash), encode(OCTET_STRING, issuerKeyHash),
+                  encode(INTEGER, certificate.getSerialNumber().toByteArray()));
+  }
+
+  private static Date parseNextUpdate(byte[] encoded, byte[] requestedCertId) throws IOException {
+    // OCSPResponse ::= SEQUENCE { responseStatus ENUMERATED, responseBytes [0] EXPLICIT SEQUENCE OPTIONAL }
+    DerReader ocspResponse = new DerReader(encoded).readNested(SEQUENCE);
+    byte[] status = ocspResponse.readContent(ENUMERATED);
+    if (status.length != 1 || status[0] != SUCCESSFUL || !ocspResponse.hasMore()) {
+      return null;
+    }
+
+    // ResponseBytes ::= SEQUENCE { responseType OBJECT IDENTIFIER, response OCTET STRING }
+    DerReader responseBytes = ocspResponse.readNested(EXPLICIT_0).readNested(SEQUENCE);
+    responseBytes.skip();
+
+    // BasicOCSPResponse ::= SEQUENCE { tbsResponseData ResponseData, signatureAlgorithm, signature, certs OPTIONAL }
+    // ResponseData ::= SEQUENCE { version [0] OPTIONAL, responderID, producedAt, responses SEQUENCE OF, extensions OPTIONAL }
+    DerReader responseData = new DerReader(responseBytes.readContent(OCTET_STRING)).readNested(SEQUENCE).readNested(SEQUENCE);
+    if (responseData.peekTag() == EXPLICIT_0) {
+      responseData.skip();
+    }
+    responseData.skip();
+    responseData.skip();
+
+    DerReader responses = responseData.readNested(SEQUENCE);
+    while (responses.hasMore()) {
+      // SingleResponse ::= SEQUENCE { certID, certStatus, thisUpdate, nextUpdate [0] EXPLICIT OPTIONAL, extensions OPTIONAL }
+      DerReader singleResponse = responses.readNested(SEQUENCE);
+      if (!sameCertId(new DerReader(requestedCertId).readNested(SEQUENCE), singleResponse.readNested(SEQUENCE))) {
+        continue;
+      }
+
+      singleResponse.skip();
+      singleResponse.skip();
+      if (singleResponse.hasMore() && singleResponse.peekTag() == EXPLICIT_0) {
+        return parseGeneralizedTime(singleResponse.readNested(EXPLICIT_0).readContent(GENERALIZED_TIME));
+      }
+      return null;
+    }
+    return null;
+  }
+
+  /**
+   * Compares two CertIDs. The hash algorithms are compared by their OID only, since their parameters may be either absent or
+   * NULL.
+   */
+  private static boolean sameCertId(DerReader expected, DerReader actual) throws IOException {
+    return Arrays.equals(expected.readNested(SEQUENCE).readContent(OBJECT_IDENTIFIER),
+                         actual.readNested(SEQUENCE).readContent(OBJECT_IDENTIFIER))
+        && Arrays.equals(expected.readContent(OCTET_STRING), actual.readContent(OCTET_STRING))
+        && Arrays.equals(expected.readContent(OCTET_STRING), actual.readContent(OCTET_STRING))
+        && Arrays.equals(expected.readContent(INTEGER), actual.readContent(INTEGER));
+  }
+
+  private static Date parseGeneralizedTime(byte[] content) throws IOException {
+    // YYYYMMDDHHMMSS[.fff]Z, fractions of a second are not relevant here
+    String time = new String(content, US_ASCII);
+    if (time.length() < 15 || !time.endsWith("Z")) {
+      throw new IOException("Unsupported GeneralizedTime: " + time);
+    }
+    SimpleDateFormat format = new SimpleDateFormat("yyyyMMddHHmmss");
+    format.setTimeZone(TimeZone.getTimeZone("UTC"));
+    try {
+      return format.parse(time.substring(0, 14));
+    } catch (ParseException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static byte[] encode(int tag, byte[]... contents) {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    for (byte[] part : contents) {
+      content.write(part, 0, part.length);
+    }
+
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream(content.size() + 6);
+    encoded.write(tag);
+    int length = content.size();
+    if (length < 0x80) {
+      encoded.write(length);
+    } else {
+      int lengthBytes = (32 - Integer.numberOfLeadingZeros(length) + 7) / 8;
+      encoded.write(0x80 | lengthBytes);
+      for (int i = lengthBytes - 1; i >= 0; --i) {
+        encoded.write(length >>> (i * 8));
+      }
+    }
+    encoded.write(content.toByteArray(), 0, length);
+    return encoded.toByteArray();
+  }
+
+  /**
+   * Reads the DER encoded values of a constructed one, one after the other.
+   */
+  private static final class DerReader {
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+
+    private DerReader(byte[] data) {
+      this(data, 0, data.length);
+    }
+
+    private DerReader(byte[] data, int position, int end) {
+      this.data = data;
+      this.position = position;
+      this.end = end;
+    }
+
+    private boolean hasMore() {
+      return position < end;
+    }
+
+    private int peekTag() throws IOException {
+      if (!hasMore()) {
+        throw new IOException("Unexpected end of DER value");
+      }
+      return data[position] & 0xFF;
+    }
+
+    private DerReader readNested(int tag) throws IOException {
+      int length = readHeader(tag);
+      DerReader nested = new DerReader(data, position, position + length);
+      position += length;
+      return nested;
+    }
+
+    private byte[] readContent(int tag) throws IOException {
+      int length = readHeader(tag);
+      byte[] content = copyOfRange(data, position, position + length);
+      position += length;
+      return content;
+    }
+
+    private void skip() throws IOException {
+      // The header has to be read before adding the length, since reading it moves the position
+      int length = readHeader(peekTag());
+      position += length;
+    }
+
+    private int readHeader(int tag) throws IOException {
+      if (peekTag() != tag) {
+        throw new IOException("Unexpected DER tag " + peekTag() + ", expected " + tag);
+      }
+      ++position;
+
+      int length = nextByte();
+      if (length >= 0x80) {
+        int lengthBytes = length & 0x7F;
+        if (lengthBytes == 0 || lengthBytes > 3) {
+          throw new IOException("Unsupported DER length");
+        }
+        length = 0;
+        for (int i = 0; i < lengthBytes; ++i) {
+          length = (length << 8) | nextByte();
+        }
+      }
+      if (length > end - position) {
+        throw new IOException("DER value exceeds its container");
+      }
+      return length;
+    }
+
+    private int nextByte() throws IOException {
+      if (!hasMore()) {
+        throw new IOException("Unexpected end of DER value");
+      }
+      return data[position++] & 0xFF;
+    }
+  }
+}
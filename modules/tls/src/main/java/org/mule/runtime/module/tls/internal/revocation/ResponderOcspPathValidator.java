@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.cert.CertPath;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.PKIXRevocationChecker;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches the OCSP responses for the certificates of a path from a given responder, and hands them to the
+ * {@link PKIXRevocationChecker} of the JVM, which verifies them while validating the path. Fetching them here is what allows
+ * to know until when each of them is valid.
+ * <p>
+ * When the path ends with a certificate issued by one already known not to be revoked, the path is validated taking that one as
+ * its trust anchor, so that its status is not requested again.
+ *
+ * @since 4.3.0
+ */
+final class ResponderOcspPathValidator implements OcspPathValidator {
+
+  private final URI responder;
+  private final PKIXRevocationChecker revocationChecker;
+  private final PKIXParameters parameters;
+
+  /**
+   * @param responder         the URI of the OCSP responder
+   * @param revocationChecker the configured revocation checker, a copy of which is used for each validation
+   * @param parameters        the parameters to validate the paths with, their checkers are replaced
+   */
+  ResponderOcspPathValidator(URI responder, PKIXRevocationChecker revocationChecker, PKIXParameters parameters) {
+    this.responder = responder;
+    this.revocationChecker = revocationChecker;
+    this.parameters = parameters;
+  }
+
+  @Override
+  public Map<X509Certificate, Date> validate(List<X509Certificate> path, X509Certificate pathIssuer)
+      throws CertPathValidatorException {
+    Map<X509Certificate, byte[]> responses = new HashMap<>();
+    Map<X509Certificate, Date> nextUpdates = new HashMap<>();
+    for (int i = 0; i < path.size(); ++i) {
+      X509Certificate certificate = path.get(i);
+      X509Certificate issuer;
+      if (i + 1 < path.size()) {
+        issuer = path.get(i + 1);
+      } else {
+        issuer = pathIssuer != null ? pathIssuer : findAnchorIssuer(certificate);
+      }
+      try {
+        OcspResponse response = OcspResponse.fetch(responder, certificate, issuer);
+        responses.put(certificate, response.getEncoded());
+        if (response.getNextUpdate() != null) {
+          nextUpdates.put(certificate, response.getNextUpdate());
+        }
+      } catch (IOException e) {
+        throw new CertPathValidatorException("Unable to get the OCSP response for "
+            + certificate.getSubjectX500Principal(), e);
+      }
+    }
+
+    // The configured checker and parameters are shared, so copies are given the responses for this path
+    PKIXRevocationChecker checker = revocationChecker.clone();
+    checker.setOcspResponses(responses);
+    PKIXParameters validationParameters = (PKIXParameters) parameters.clone();
+    validationParameters.setCertPathCheckers(singletonList(checker));
+    if (pathIssuer != null) {
+      try {
+        validationParameters.setTrustAnchors(singleton(new TrustAnchor(pathIssuer, null)));
+      } catch (InvalidAlgorithmParameterException e) {
+        throw new CertPathValidatorException(e);
+      }
+    }
+
+    try {
+      CertPath certPath = CertificateFactory.getInstance("X.509").generateCertPath(path);
+      CertPathValidator.getInstance("PKIX").validate(certPath, validationParameters);
+    } catch (CertPathValidatorException e) {
+      throw e;
+    } catch (GeneralSecurityException e) {
+      throw new CertPathValidatorException(e);
+    }
+    return nextUpdates;
+  }
+
+  private X509Certificate findAnchorIssuer(X509Certificate certificate) throws CertPathValidatorException {
+    for (TrustAnchor anchor : parameters.getTrustAnchors()) {
+      X509Certificate trustedCert = anchor.getTrustedCert();
+      if (trustedCert != null && trustedCert.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+        return trustedCert;
+      }
+    }
+    throw new CertPathValidatorException("No trust anchor found for " + certificate.getIssuerX500Principal());
+  }
+}
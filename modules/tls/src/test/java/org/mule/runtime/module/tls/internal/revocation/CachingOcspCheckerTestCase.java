@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.lang.System.currentTimeMillis;
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.InputStream;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertPathValidatorException.Reason;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class CachingOcspCheckerTestCase extends AbstractMuleTestCase {
+
+  private static final long TIME_TO_LIVE = MINUTES.toMillis(5);
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<List<X509Certificate>> validatedPaths = new ArrayList<>();
+  private final List<X509Certificate> validatedPathIssuers = new ArrayList<>();
+
+  private X509Certificate caCertificate;
+  private X509Certificate validCertificate;
+  private X509Certificate revokedCertificate;
+  private Map<X509Certificate, Date> nextUpdates = emptyMap();
+
+  @Before
+  public void before() throws Exception {
+    CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+    caCertificate = loadCertificate(certificateFactory, "ca.crt");
+    validCertificate = loadCertificate(certificateFactory, "valid.crt");
+    revokedCertificate = loadCertificate(certificateFactory, "revoked.crt");
+  }
+
+  @Test
+  public void notRevokedCertificateCached() throws Exception {
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, validCertificate);
+    check(checker, validCertificate);
+
+    assertThat(validatedPaths.size(), is(1));
+  }
+
+  @Test
+  public void pathEndsAtCachedIssuer() throws Exception {
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, caCertificate);
+    checker.init(false);
+    checker.check(caCertificate, emptySet());
+    checker.check(validCertificate, emptySet());
+
+    assertThat(validatedPaths.size(), is(2));
+    assertThat(validatedPathIssuers.get(0), is(nullValue()));
+    assertThat(validatedPaths.get(1), is(singletonList(validCertificate)));
+    assertThat(validatedPathIssuers.get(1), is(caCertificate));
+  }
+
+  @Test
+  public void notRevokedCertificateCheckedAgainAfterTimeToLive() throws Exception {
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, validCertificate);
+    nanoTime.addAndGet(MINUTES.toNanos(4));
+    check(checker, validCertificate);
+    assertThat(validatedPaths.size(), is(1));
+
+    nanoTime.addAndGet(MINUTES.toNanos(2));
+    check(checker, validCertificate);
+    assertThat(validatedPaths.size(), is(2));
+  }
+
+  @Test
+  public void notRevokedCertificateCheckedAgainAfterNextUpdate() throws Exception {
+    nextUpdates = singletonMap(validCertificate, new Date(currentTimeMillis() + MINUTES.toMillis(1)));
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, validCertificate);
+    nanoTime.addAndGet(SECONDS.toNanos(30));
+    check(checker, validCertificate);
+    assertThat(validatedPaths.size(), is(1));
+
+    nanoTime.addAndGet(MINUTES.toNanos(1));
+    check(checker, validCertificate);
+    assertThat(validatedPaths.size(), is(2));
+  }
+
+  @Test
+  public void laterNextUpdateDoesNotExtendTimeToLive() throws Exception {
+    nextUpdates = singletonMap(validCertificate, new Date(currentTimeMillis() + HOURS.toMillis(1)));
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, validCertificate);
+    nanoTime.addAndGet(MINUTES.toNanos(6));
+    check(checker, validCertificate);
+
+    assertThat(validatedPaths.size(), is(2));
+  }
+
+  @Test
+  public void passedNextUpdateNotCached() throws Exception {
+    nextUpdates = singletonMap(validCertificate, new Date(currentTimeMillis() - 1));
+    CachingOcspChecker checker = createChecker();
+
+    check(checker, validCertificate);
+    check(checker, validCertificate);
+
+    assertThat(validatedPaths.size(), is(2));
+  }
+
+  @Test
+  public void revokedCertificateNotCached() throws Exception {
+    CachingOcspChecker checker = createChecker();
+
+    for (int i = 0; i < 2; ++i) {
+      try {
+        check(checker, revokedCertificate);
+        fail("Revoked certificate should have been rejected");
+      } catch (CertPathValidatorException e) {
+        assertThat(e.getReason(), is((Reason) REVOKED));
+      }
+    }
+
+    assertThat(validatedPaths.size(), is(2));
+  }
+
+  private CachingOcspChecker createChecker() {
+    return new CachingOcspChecker((path, issuer) -> {
+      validatedPaths.add(path);
+      validatedPathIssuers.add(issuer);
+      if (path.contains(revokedCertificate)) {
+        throw new CertPathValidatorException("Certificate has been revoked", null, null, -1, REVOKED);
+      }
+      return nextUpdates;
+    }, TIME_TO_LIVE, 100, nanoTime::get);
+  }
+
+  private static void check(CachingOcspChecker checker, X509Certificate certificate) throws CertPathValidatorException {
+    checker.init(false);
+    checker.check(certificate, emptySet());
+  }
+
+  private static X509Certificate loadCertificate(CertificateFactory certificateFactory, String name) throws Exception {
+    try (InputStream in = CachingOcspCheckerTestCase.class.getClassLoader().getResourceAsStream("revocation/" + name)) {
+      return (X509Certificate) certificateFactory.generateCertificate(in);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.time.Instant.parse;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.InputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The responses were generated by {@code openssl ocsp} signing with the key of {@code ca.crt}, the one of {@code valid.ocsp}
+ * and {@code revoked.ocsp} with {@code -ndays 36500} and the one of {@code valid-no-next-update.ocsp} without it.
+ */
+@SmallTest
+public class OcspResponseTestCase extends AbstractMuleTestCase {
+
+  static final Date NEXT_UPDATE = Date.from(parse("2126-09-25T02:09:53Z"));
+
+  private X509Certificate caCertificate;
+  private X509Certificate validCertificate;
+  private X509Certificate revokedCertificate;
+
+  @Before
+  public void before() throws Exception {
+    CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+    caCertificate = loadCertificate(certificateFactory, "ca.crt");
+    validCertificate = loadCertificate(certificateFactory, "valid.crt");
+    revokedCertificate = loadCertificate(certificateFactory, "revoked.crt");
+  }
+
+  @Test
+  public void nextUpdateOfGoodStatus() throws Exception {
+    byte[] encoded = load("valid.ocsp");
+    OcspResponse response = OcspResponse.parse(encoded, validCertificate, caCertificate);
+
+    assertThat(response.getNextUpdate(), is(NEXT_UPDATE));
+    assertThat(response.getEncoded(), is(encoded));
+  }
+
+  @Test
+  public void nextUpdateOfRevokedStatus() throws Exception {
+    OcspResponse response = OcspResponse.parse(load("revoked.ocsp"), revokedCertificate, caCertificate);
+
+    assertThat(response.getNextUpdate(), is(NEXT_UPDATE));
+  }
+
+  @Test
+  public void noNextUpdate() throws Exception {
+    OcspResponse response = OcspResponse.parse(load("valid-no-next-update.ocsp"), validCertificate, caCertificate);
+
+    assertThat(response.getNextUpdate(), is(nullValue()));
+  }
+
+  @Test
+  public void noNextUpdateForAnotherSerialNumber() throws Exception {
+    OcspResponse response = OcspResponse.parse(load("valid.ocsp"), revokedCertificate, caCertificate);
+
+    assertThat(response.getNextUpdate(), is(nullValue()));
+  }
+
+  @Test
+  public void noNextUpdateForAnotherIssuer() throws Exception {
+    OcspResponse response = OcspResponse.parse(load("valid.ocsp"), validCertificate, validCertificate);
+
+    assertThat(response.getNextUpdate(), is(nullValue()));
+  }
+
+  @Test
+  public void noNextUpdateForUnsuccessfulResponse() throws Exception {
+    // OCSPResponse ::= SEQUENCE { responseStatus ENUMERATED { tryLater (3) } }
+    byte[] tryLater = {0x30, 0x03, 0x0A, 0x01, 0x03};
+    OcspResponse response = OcspResponse.parse(tryLater, validCertificate, caCertificate);
+
+    assertThat(response.getNextUpdate(), is(nullValue()));
+  }
+
+  static X509Certificate loadCertificate(CertificateFactory certificateFactory, String name) throws Exception {
+    try (InputStream in = OcspResponseTestCase.class.getClassLoader().getResourceAsStream("revocation/" + name)) {
+      return (X509Certificate) certificateFactory.generateCertificate(in);
+    }
+  }
+
+  static byte[] load(String name) throws Exception {
+    try (InputStream in = OcspResponseTestCase.class.getClassLoader().getResourceAsStream("revocation/" + name)) {
+      return toByteArray(in);
+    }
+  }
+}
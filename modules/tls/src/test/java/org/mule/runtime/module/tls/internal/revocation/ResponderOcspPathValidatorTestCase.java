@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.security.cert.PKIXRevocationChecker.Option.NO_FALLBACK;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.module.tls.internal.revocation.OcspResponseTestCase.NEXT_UPDATE;
+import static org.mule.runtime.module.tls.internal.revocation.OcspResponseTestCase.load;
+import static org.mule.runtime.module.tls.internal.revocation.OcspResponseTestCase.loadCertificate;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertPathValidatorException.Reason;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.PKIXRevocationChecker;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ResponderOcspPathValidatorTestCase extends AbstractMuleTestCase {
+
+  private final List<byte[]> requests = new ArrayList<>();
+
+  private HttpServer responder;
+  private byte[] response;
+
+  private X509Certificate caCertificate;
+  private X509Certificate validCertificate;
+  private X509Certificate revokedCertificate;
+  private ResponderOcspPathValidator validator;
+
+  @Before
+  public void before() throws Exception {
+    CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+    caCertificate = loadCertificate(certificateFactory, "ca.crt");
+    validCertificate = loadCertificate(certificateFactory, "valid.crt");
+    revokedCertificate = loadCertificate(certificateFactory, "revoked.crt");
+
+    responder = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    responder.createContext("/", exchange -> {
+      try (InputStream in = exchange.getRequestBody()) {
+        requests.add(toByteArray(in));
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/ocsp-response");
+      exchange.sendResponseHeaders(200, response.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(response);
+      }
+    });
+    responder.start();
+
+    URI responderUri = new URI("http://localhost:" + responder.getAddress().getPort() + "/");
+    PKIXRevocationChecker revocationChecker =
+        (PKIXRevocationChecker) CertPathValidator.getInstance("PKIX").getRevocationChecker();
+    revocationChecker.setOptions(singleton(NO_FALLBACK));
+    revocationChecker.setOcspResponder(responderUri);
+    validator = new ResponderOcspPathValidator(responderUri, revocationChecker,
+                                               new PKIXParameters(singleton(new TrustAnchor(caCertificate, null))));
+  }
+
+  @After
+  public void after() {
+    responder.stop(0);
+  }
+
+  @Test
+  public void notRevokedCertificateValidUntilNextUpdate() throws Exception {
+    response = load("valid.ocsp");
+
+    assertThat(validator.validate(singletonList(validCertificate), null), is(singletonMap(validCertificate, NEXT_UPDATE)));
+    assertThat(requests.size(), is(1));
+  }
+
+  @Test
+  public void notRevokedCertificateIssuedByCachedIssuer() throws Exception {
+    response = load("valid.ocsp");
+
+    assertThat(validator.validate(singletonList(validCertificate), caCertificate),
+               is(singletonMap(validCertificate, NEXT_UPDATE)));
+    assertThat(requests.size(), is(1));
+  }
+
+  @Test
+  public void revokedCertificateRejected() throws Exception {
+    response = load("revoked.ocsp");
+
+    try {
+      validator.validate(singletonList(revokedCertificate), null);
+      fail("Revoked certificate should have been rejected");
+    } catch (CertPathValidatorException e) {
+      assertThat(e.getReason(), is((Reason) REVOKED));
+    }
+  }
+}
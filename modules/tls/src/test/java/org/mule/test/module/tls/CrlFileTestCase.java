@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.module.tls;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.mule.runtime.module.tls.internal.revocation.CrlFile.CRL_REFRESH_INTERVAL_PROPERTY;
+
+import org.mule.runtime.module.tls.internal.revocation.CrlFile;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.CertPathTrustManagerParameters;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class CrlFileTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public SystemProperty refreshInterval = new SystemProperty(CRL_REFRESH_INTERVAL_PROPERTY, "1");
+
+  private CertificateFactory certificateFactory;
+  private KeyStore trustStore;
+  private X509Certificate validCertificate;
+  private X509Certificate revokedCertificate;
+
+  @Before
+  public void before() throws Exception {
+    certificateFactory = CertificateFactory.getInstance("X.509");
+    validCertificate = loadCertificate("valid.crt");
+    revokedCertificate = loadCertificate("revoked.crt");
+
+    trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    trustStore.load(null, null);
+    trustStore.setCertificateEntry("ca", loadCertificate("ca.crt"));
+  }
+
+  @Test
+  public void validCertificateAccepted() throws Exception {
+    PKIXParameters parameters = configFor("revocation/revoked.crl");
+
+    validate(parameters, validCertificate);
+  }
+
+  @Test
+  public void revokedCertificateRejected() throws Exception {
+    PKIXParameters parameters = configFor("revocation/revoked.crl");
+
+    expectedException.expect(CertPathValidatorException.class);
+    expectedException.expectMessage("revoked");
+    validate(parameters, revokedCertificate);
+  }
+
+  @Test
+  public void crlReloadedWhenFileChanges() throws Exception {
+    File crl = temporaryFolder.newFile("crl");
+    FileUtils.copyURLToFile(getClass().getClassLoader().getResource("revocation/empty.crl"), crl);
+
+    PKIXParameters parameters = configFor(crl.getAbsolutePath());
+    validate(parameters, revokedCertificate);
+
+    FileUtils.copyURLToFile(getClass().getClassLoader().getResource("revocation/revoked.crl"), crl);
+    crl.setLastModified(crl.lastModified() + 10000);
+
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      try {
+        validate(parameters, revokedCertificate);
+        return false;
+      } catch (CertPathValidatorException e) {
+        return true;
+      }
+    }));
+    validate(parameters, validCertificate);
+  }
+
+  private PKIXParameters configFor(String path) {
+    CrlFile crlFile = new CrlFile();
+    crlFile.setPath(path);
+    CertPathTrustManagerParameters parameters = (CertPathTrustManagerParameters) crlFile.configFor(trustStore, emptySet());
+    return (PKIXParameters) parameters.getParameters();
+  }
+
+  private void validate(PKIXParameters parameters, X509Certificate certificate) throws Exception {
+    CertPathValidator.getInstance("PKIX").validate(certificateFactory.generateCertPath(singletonList(certificate)),
+                                                   parameters);
+  }
+
+  private X509Certificate loadCertificate(String name) throws Exception {
+    try (InputStream in = getClass().getClassLoader().getResourceAsStream("revocation/" + name)) {
+      return (X509Certificate) certificateFactory.generateCertificate(in);
+    }
+  }
+}
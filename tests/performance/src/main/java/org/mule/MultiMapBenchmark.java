@@ -6,10 +6,21 @@
  */
 package org.mule;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncoded;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.encodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.encodeUrlEncoded;
+
 import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMap.StringMultiMap;
 import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactMultiMap;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -18,7 +29,15 @@ import org.openjdk.jmh.annotations.Setup;
 
 public class MultiMapBenchmark extends AbstractBenchmark {
 
+  private static final String QUERY_STRING = "name=John+Doe&city=S%C3%A3o%20Paulo&page=1&size=20&sort=name&sort=city&flag";
+
   private MultiMap<String, String> multiMap;
+  private MultiMap<String, String> headers;
+  private CaseInsensitiveMultiMap caseInsensitiveHeaders;
+  private CaseInsensitiveMultiMap compactHeaders;
+  private MultiMap<String, String> queryParams;
+  private byte[] queryStringBytes;
+  private StringBuilder encodeBuilder;
 
   @Setup
   public void setup() throws Exception {
@@ -26,6 +45,21 @@ public class MultiMapBenchmark extends AbstractBenchmark {
     multiMap.put("key1", "value");
     multiMap.put("key10",
                  asList("value1", "value2", "value3", "value4", "value5", "value6", "value7", "value8", "value9", "value10"));
+
+    headers = new MultiMap<>();
+    headers.put("Host", "localhost:8081");
+    headers.put("User-Agent", "Mozilla/5.0");
+    headers.put("Accept", asList("text/html", "application/json"));
+    headers.put("Accept-Encoding", "gzip, deflate");
+    headers.put("Content-Type", "application/json");
+    headers.put("Content-Length", "128");
+    headers.put("Connection", "keep-alive");
+    caseInsensitiveHeaders = new CaseInsensitiveMultiMap(headers);
+    compactHeaders = new CompactCaseInsensitiveMultiMap(headers);
+
+    queryParams = decodeQueryString(QUERY_STRING);
+    queryStringBytes = QUERY_STRING.getBytes(UTF_8);
+    encodeBuilder = new StringBuilder();
   }
 
   @Benchmark
@@ -76,4 +110,55 @@ public class MultiMapBenchmark extends AbstractBenchmark {
     return mm;
   }
 
+  @Benchmark
+  public CaseInsensitiveMultiMap compactCopy() {
+    return new CompactCaseInsensitiveMultiMap(headers);
+  }
+
+  @Benchmark
+  public String getIgnoringCase() {
+    return caseInsensitiveHeaders.get("content-type");
+  }
+
+  @Benchmark
+  public String compactGetIgnoringCase() {
+    return compactHeaders.get("content-type");
+  }
+
+  @Benchmark
+  public MultiMap<String, String> decodeQueryStringWithSplit() throws UnsupportedEncodingException {
+    MultiMap<String, String> params = new StringMultiMap();
+    for (String pair : QUERY_STRING.split("&")) {
+      int idx = pair.indexOf("=");
+      if (idx != -1) {
+        params.put(URLDecoder.decode(pair.substring(0, idx), UTF_8.name()),
+                   URLDecoder.decode(pair.substring(idx + 1), UTF_8.name()));
+      } else {
+        params.put(URLDecoder.decode(pair, UTF_8.name()), null);
+      }
+    }
+    return params;
+  }
+
+  @Benchmark
+  public MultiMap<String, String> decodeQueryStringSinglePass() {
+    return decodeQueryString(QUERY_STRING);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> decodeQueryStringBytes() {
+    return decodeUrlEncoded(queryStringBytes, 0, queryStringBytes.length, UTF_8, new CompactMultiMap());
+  }
+
+  @Benchmark
+  public String encodeQueryStringWithUrlEncoder() {
+    return encodeQueryString(queryParams);
+  }
+
+  @Benchmark
+  public StringBuilder encodeQueryStringToBuilder() {
+    encodeBuilder.setLength(0);
+    return encodeUrlEncoded(queryParams, UTF_8, encodeBuilder);
+  }
+
 }
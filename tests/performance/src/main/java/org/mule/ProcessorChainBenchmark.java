@@ -10,6 +10,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.event.CoreEvent.builder;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.privileged.processor.chain.DefaultMessageProcessorChainBuilder.FUSE_NON_BLOCKING_PROCESSORS_PROPERTY;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.util.Reference;
@@ -24,7 +25,9 @@ import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import reactor.core.publisher.FluxProcessor;
 import reactor.core.publisher.FluxSink;
@@ -36,12 +39,17 @@ public class ProcessorChainBenchmark extends AbstractBenchmark {
 
   private static final int NUM_PROCESSORS = 20;
   private static final int STREAM_SIZE = 1000;
+
+  @Param({"false", "true"})
+  public boolean fuseProcessors;
+
   private MessageProcessorChain chain;
 
   private CoreEvent event;
 
   @Setup
   public void setup() throws Exception {
+    System.setProperty(FUSE_NON_BLOCKING_PROCESSORS_PROPERTY, Boolean.toString(fuseProcessors));
     DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
     for (int i = 0; i < NUM_PROCESSORS; i++) {
       builder.chain(event -> event);
@@ -52,6 +60,11 @@ public class ProcessorChainBenchmark extends AbstractBenchmark {
         .message(of(PAYLOAD)).build();
   }
 
+  @TearDown
+  public void teardown() {
+    System.clearProperty(FUSE_NON_BLOCKING_PROCESSORS_PROPERTY);
+  }
+
   @Benchmark
   public CoreEvent blocking() throws MuleException {
     return chain.process(event);
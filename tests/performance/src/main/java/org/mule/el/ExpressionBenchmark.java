@@ -7,6 +7,7 @@
 package org.mule.el;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
@@ -79,4 +80,26 @@ public class ExpressionBenchmark extends AbstractBenchmark {
     return expressionManager.evaluate("java!java::util::Locale::getDefault().language", event.asBindingContext()).getValue();
   }
 
+  @Benchmark
+  public String literalLogTemplate() {
+    return expressionManager.parseLogTemplate("Processing the request", event, CONNECTOR_LOCATION, NULL_BINDING_CONTEXT);
+  }
+
+  @Benchmark
+  public String melLogTemplate() {
+    return expressionManager.parseLogTemplate("Received #[mel:payload] with foo #[mel:flowVars['foo']]", event,
+                                              CONNECTOR_LOCATION, NULL_BINDING_CONTEXT);
+  }
+
+  @Benchmark
+  public String dwLogTemplate() {
+    return expressionManager.parseLogTemplate("Received #[payload] with foo #[vars.foo]", event, CONNECTOR_LOCATION,
+                                              NULL_BINDING_CONTEXT);
+  }
+
+  @Benchmark
+  public String dwParse() {
+    return expressionManager.parse("Received #[payload] with foo #[vars.foo]", event, CONNECTOR_LOCATION);
+  }
+
 }
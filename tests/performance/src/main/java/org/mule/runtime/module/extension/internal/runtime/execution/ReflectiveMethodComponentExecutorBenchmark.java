@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
+import org.mule.test.heisenberg.extension.HeisenbergOperations;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the invocation of operations from the heisenberg extension through reflection with the one done by
+ * {@link ReflectiveMethodComponentExecutor}.
+ */
+@OutputTimeUnit(NANOSECONDS)
+public class ReflectiveMethodComponentExecutorBenchmark extends AbstractBenchmark {
+
+  private static final Object[] NO_ARGS = new Object[0];
+  private static final String MESSAGE = "Say my name";
+
+  private MuleContext muleContext;
+  private HeisenbergOperations operations;
+  private Method noOpMethod;
+  private MethodInvoker noOpInvoker;
+  private ReflectiveMethodComponentExecutor<OperationModel> noOpExecutor;
+  private ReflectiveMethodComponentExecutor<OperationModel> echoExecutor;
+  private ExecutionContext<OperationModel> executionContext;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+
+    operations = new HeisenbergOperations();
+    noOpMethod = HeisenbergOperations.class.getMethod("colorizeMeth");
+    noOpInvoker = new MethodInvoker(noOpMethod, operations);
+    noOpExecutor = createExecutor(noOpMethod);
+    echoExecutor = createExecutor(HeisenbergOperations.class.getMethod("echoStaticMessage", String.class));
+    executionContext = createExecutionContext(singletonMap("message", MESSAGE));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws MuleException {
+    noOpExecutor.dispose();
+    echoExecutor.dispose();
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Object reflectiveNoOp() {
+    return invokeMethod(noOpMethod, operations);
+  }
+
+  @Benchmark
+  public Object methodInvokerNoOp() {
+    return noOpInvoker.invoke(NO_ARGS);
+  }
+
+  @Benchmark
+  public Object executeNoOp() {
+    return noOpExecutor.execute(executionContext);
+  }
+
+  @Benchmark
+  public Object executeWithArgument() {
+    return echoExecutor.execute(executionContext);
+  }
+
+  private ReflectiveMethodComponentExecutor<OperationModel> createExecutor(Method method) throws MuleException {
+    ReflectiveMethodComponentExecutor<OperationModel> executor =
+        new ReflectiveMethodComponentExecutor<>(emptyList(), method, operations);
+    executor.setMuleContext(muleContext);
+    executor.initialise();
+    executor.start();
+    return executor;
+  }
+
+  /**
+   * @return an {@link ExecutionContext} which only provides the given parameters, since that is all these operations use
+   */
+  private ExecutionContext<OperationModel> createExecutionContext(Map<String, Object> parameters) {
+    return (ExecutionContext<OperationModel>) newProxyInstance(getClass().getClassLoader(),
+                                                               new Class<?>[] {ExecutionContext.class},
+                                                               (proxy, method, args) -> {
+                                                                 switch (method.getName()) {
+                                                                   case "getParameters":
+                                                                     return parameters;
+                                                                   case "getParameter":
+                                                                     return parameters.get(args[0]);
+                                                                   case "hasParameter":
+                                                                     return parameters.containsKey(args[0]);
+                                                                   default:
+                                                                     return null;
+                                                                 }
+                                                               });
+  }
+}